@@ -0,0 +1,25 @@
+package com.tenacy.logpulse.actuator;
+
+import com.tenacy.logpulse.service.AdaptiveBatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 컨슈머 유효 배치 크기, JDBC 청크 크기, 플러시 간격 조회 (/actuator/adaptivebatch)
+ */
+@Component
+@Endpoint(id = "adaptivebatch")
+@RequiredArgsConstructor
+public class AdaptiveBatchEndpoint {
+
+    private final AdaptiveBatchService adaptiveBatchService;
+
+    @ReadOperation
+    public Map<String, Object> adaptiveBatch() {
+        return adaptiveBatchService.snapshot();
+    }
+}
@@ -4,14 +4,19 @@ import com.tenacy.logpulse.api.dto.DashboardStatsResponse;
 import com.tenacy.logpulse.api.dto.LogCountResponse;
 import com.tenacy.logpulse.api.dto.SystemStatusResponse;
 import com.tenacy.logpulse.service.DashboardService;
+import com.tenacy.logpulse.service.DashboardSnapshotService;
+import com.tenacy.logpulse.service.LiveDashboardService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -24,6 +29,8 @@ import java.util.Map;
 public class DashboardController {
 
     private final DashboardService dashboardService;
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final LiveDashboardService liveDashboardService;
 
     @GetMapping("/stats")
     public ResponseEntity<DashboardStatsResponse> getDashboardStats(
@@ -31,10 +38,20 @@ public class DashboardController {
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime end,
             @RequestParam(required = false) String source) {
 
-        DashboardStatsResponse stats = dashboardService.getDashboardStats(start, end, source);
+        DashboardStatsResponse stats = dashboardSnapshotService.getDashboardStats(start, end, source);
         return ResponseEntity.ok(stats);
     }
 
+    // 실시간 대시보드 (snapshot 이벤트 후 update 이벤트로 증가분 전송)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamDashboard() {
+        SseEmitter emitter = liveDashboardService.subscribe();
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        return ResponseEntity.ok(emitter);
+    }
+
     @GetMapping("/log-counts")
     public ResponseEntity<LogCountResponse> getLogCounts(
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
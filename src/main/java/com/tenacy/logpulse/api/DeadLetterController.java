@@ -0,0 +1,31 @@
+package com.tenacy.logpulse.api;
+
+import com.tenacy.logpulse.api.dto.DeadLetterReplayResponse;
+import com.tenacy.logpulse.service.DeadLetterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/dlq")
+@RequiredArgsConstructor
+public class DeadLetterController {
+
+    private final DeadLetterService deadLetterService;
+
+    /**
+     * 데드레터 토픽의 레코드를 raw-logs 토픽으로 재전송
+     * 재전송에 실패해 중단되면 503으로 응답한다.
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<DeadLetterReplayResponse> replay(
+            @RequestParam(defaultValue = "100") int maxRecords) {
+        DeadLetterReplayResponse response = deadLetterService.replay(maxRecords);
+        HttpStatus status = "failed".equals(response.getStatus()) ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response);
+    }
+}
@@ -1,8 +1,12 @@
 package com.tenacy.logpulse.api;
 
+import com.tenacy.logpulse.api.dto.CursorPageResponse;
+import com.tenacy.logpulse.api.dto.LogAcceptedResponse;
 import com.tenacy.logpulse.api.dto.LogEntryRequest;
 import com.tenacy.logpulse.api.dto.LogEntryResponse;
+import com.tenacy.logpulse.service.LogArchiveService;
 import com.tenacy.logpulse.service.LogService;
+import com.tenacy.logpulse.service.LogWriteBehindService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -16,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -24,9 +29,22 @@ import java.time.ZonedDateTime;
 public class LogController {
 
     private final LogService logService;
+    private final LogWriteBehindService logWriteBehindService;
+    private final LogArchiveService logArchiveService;
 
     @PostMapping
-    public ResponseEntity<LogEntryResponse> createLog(@RequestBody LogEntryRequest request) {
+    public ResponseEntity<?> createLog(
+            @RequestBody LogEntryRequest request,
+            @RequestHeader(value = "Prefer", required = false) String prefer) {
+
+        if (logWriteBehindService.isRequested(prefer)) {
+            Optional<LogAcceptedResponse> accepted = logWriteBehindService.submit(request);
+            if (accepted.isPresent()) {
+                return ResponseEntity.accepted().body(accepted.get());
+            }
+            // 큐잉 실패 시 동기 처리로 대체
+        }
+
         return ResponseEntity.ok(logService.createLog(request));
     }
 
@@ -49,4 +67,36 @@ public class LogController {
 
         return ResponseEntity.ok(logService.retrieveLogsWith(null, level, source, null, startLocal, endLocal, pageable));
     }
-}
\ No newline at end of file
+
+    // 키셋 페이지네이션 (COUNT 없이 nextCursor로 다음 페이지 조회, 정렬은 createdAt, id 고정)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<LogEntryResponse>> getLogsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String level,
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime end) {
+
+        LocalDateTime startLocal = start != null ? start.withZoneSameInstant(ZoneId.of("Asia/Seoul")).toLocalDateTime() : null;
+        LocalDateTime endLocal = end != null ? end.withZoneSameInstant(ZoneId.of("Asia/Seoul")).toLocalDateTime() : null;
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+
+        try {
+            return ResponseEntity.ok(logService.retrieveLogsByCursor(
+                    null, level, source, null, startLocal, endLocal, cursor, size, direction));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 커서 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/archive/{id}")
+    public ResponseEntity<LogEntryResponse> getArchivedLog(@PathVariable Long id) {
+        return logArchiveService.findArchivedLog(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+}
@@ -1,15 +1,21 @@
 package com.tenacy.logpulse.api;
 
+import com.tenacy.logpulse.api.dto.BulkIngestResponse;
 import com.tenacy.logpulse.api.dto.LogEventDto;
 import com.tenacy.logpulse.api.dto.LogEventResponse;
+import com.tenacy.logpulse.service.BulkLogIngestService;
 import com.tenacy.logpulse.service.IntegrationLogService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 
 @RestController
@@ -18,6 +24,7 @@ import java.time.LocalDateTime;
 public class LogIntegrationController {
 
     private final IntegrationLogService integrationLogService;
+    private final BulkLogIngestService bulkLogIngestService;
 
     @PostMapping
     public ResponseEntity<LogEventResponse> submitLog(@RequestBody LogEventDto logEventDto) {
@@ -33,4 +40,18 @@ public class LogIntegrationController {
                 .timestamp(LocalDateTime.now())
                 .build());
     }
-}
\ No newline at end of file
+
+    /**
+     * NDJSON 벌크 수집 (Content-Encoding: gzip 지원)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkIngestResponse> submitBulk(HttpServletRequest request) throws IOException {
+        String contentEncoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        boolean gzipEncoded = contentEncoding != null && contentEncoding.toLowerCase().contains("gzip");
+
+        BulkIngestResponse response = bulkLogIngestService.ingest(request.getInputStream(), gzipEncoded);
+
+        HttpStatus status = "failed".equals(response.getStatus()) ? HttpStatus.BAD_REQUEST : HttpStatus.OK;
+        return ResponseEntity.status(status).body(response);
+    }
+}
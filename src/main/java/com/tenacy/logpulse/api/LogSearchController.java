@@ -1,5 +1,6 @@
 package com.tenacy.logpulse.api;
 
+import com.tenacy.logpulse.api.dto.CursorPageResponse;
 import com.tenacy.logpulse.api.dto.LogSearchResponse;
 import com.tenacy.logpulse.elasticsearch.document.LogDocument;
 import com.tenacy.logpulse.elasticsearch.service.ElasticsearchService;
@@ -85,4 +86,40 @@ public class LogSearchController {
 
         return ResponseEntity.ok(result);
     }
-}
\ No newline at end of file
+
+    // 키셋 페이지네이션 검색 (DB, COUNT 없이 nextCursor로 다음 페이지 조회)
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageResponse<LogSearchResponse>> searchByCursor(
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) String level,
+            @RequestParam(required = false) String source,
+            @RequestParam(required = false) String content,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime start,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) ZonedDateTime end,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+
+        LocalDateTime startLocal = start != null ? start.withZoneSameInstant(ZoneId.of("Asia/Seoul")).toLocalDateTime() : null;
+        LocalDateTime endLocal = end != null ? end.withZoneSameInstant(ZoneId.of("Asia/Seoul")).toLocalDateTime() : null;
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+
+        try {
+            CursorPageResponse<LogSearchResponse> result = logService.retrieveLogsByCursor(
+                            keyword, level, source, content, startLocal, endLocal, cursor, size, direction)
+                    .map(dto -> LogSearchResponse.builder()
+                            .id(dto.getId().toString())
+                            .source(dto.getSource())
+                            .content(dto.getContent())
+                            .logLevel(dto.getLogLevel())
+                            .timestamp(dto.getCreatedAt())
+                            .build());
+
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 커서 요청: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
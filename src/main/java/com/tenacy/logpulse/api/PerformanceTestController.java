@@ -3,6 +3,7 @@ package com.tenacy.logpulse.api;
 import com.tenacy.logpulse.api.dto.LogEventDto;
 import com.tenacy.logpulse.api.dto.PerformanceTestRequest;
 import com.tenacy.logpulse.api.dto.PerformanceTestResponse;
+import com.tenacy.logpulse.compression.CompressedContent;
 import com.tenacy.logpulse.service.IntegrationLogService;
 import com.tenacy.logpulse.service.LogCompressionService;
 import lombok.RequiredArgsConstructor;
@@ -169,9 +170,8 @@ public class PerformanceTestController {
                 // LogCompressionService 활용
                 boolean shouldCompress = logCompressionService.shouldCompress(logContent);
                 if (shouldCompress) {
-                    String compressed = logCompressionService.compressContent(logContent);
-                    byte[] compressedBytes = compressed.getBytes(StandardCharsets.UTF_8);
-                    compressedSize += compressedBytes.length;
+                    CompressedContent compressed = logCompressionService.compress("performance-test", logContent);
+                    compressedSize += compressed != null ? compressed.getData().length : originalBytes.length;
                     compressedCount++;
                 } else {
                     // 압축되지 않은 경우 원본 크기 그대로 추가
@@ -9,8 +9,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.time.LocalDateTime;
-
 @RestController
 @RequestMapping("/api/v1/metrics")
 @RequiredArgsConstructor
@@ -21,16 +19,6 @@ public class SystemMetricsController {
 
     @GetMapping("/current")
     public ResponseEntity<SystemMetricsResponse> getCurrentMetrics() {
-        SystemMetricsResponse response = SystemMetricsResponse.builder()
-                .timestamp(LocalDateTime.now())
-                .currentProcessedRate(systemMetricsService.getCurrentProcessedRate())
-                .averageProcessedRate(systemMetricsService.getAverageProcessedRate())
-                .currentErrorRate(systemMetricsService.getCurrentErrorRate())
-                .averageErrorRate(systemMetricsService.getAverageErrorRate())
-                .currentResponseTime(systemMetricsService.getCurrentAvgResponseTime())
-                .averageResponseTime(systemMetricsService.getAverageResponseTime())
-                .build();
-
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(systemMetricsService.getCurrentMetrics());
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.tenacy.logpulse.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkIngestResponse {
+    private String status;          // success, partial, failed
+    private long totalLines;        // 빈 줄을 제외한 처리 대상 라인 수
+    private long accepted;          // 파이프라인에 전달된 이벤트 수
+    private long filtered;          // 필터 조건(제외 소스, 최소 레벨)으로 저장하지 않은 이벤트 수
+    private long rejected;
+    private List<LineError> errors; // 최대 max-reported-errors 개까지만 포함
+    private String message;
+    private LocalDateTime timestamp;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LineError {
+        private long line;
+        private String reason;
+    }
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -21,5 +22,6 @@ public class DashboardStatsResponse {
     private SystemStatusResponse systemStatus;
     private Map<String, Object> recentErrors;
     private Map<String, Object> errorTrends;
+    private List<String> degradedSections;    // 시간 초과나 실패로 이전 값(또는 빈 값)으로 대체된 구간
     private LocalDateTime timestamp;
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.tenacy.logpulse.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardStreamFrame {
+    private LocalDateTime timestamp;
+
+    // 직전 프레임 이후 증가분
+    private Map<String, Long> levelCounts;
+    private Map<String, Long> sourceCounts;
+    private List<LogEntryResponse> recentErrors; // 새 오류 로그 (최신순)
+
+    // 현재 상태
+    private SystemStatusResponse systemStatus;
+    private SystemMetricsResponse metrics;
+}
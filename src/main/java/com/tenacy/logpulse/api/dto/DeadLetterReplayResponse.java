@@ -0,0 +1,19 @@
+package com.tenacy.logpulse.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayResponse {
+    private String status;
+    private int replayed;
+    private int skipped;
+    private LocalDateTime timestamp;
+}
@@ -20,10 +20,14 @@ public class LogEntryResponse {
     private LocalDateTime createdAt;
 
     public static LogEntryResponse of(LogEntry logEntry) {
+        return of(logEntry, logEntry.getContent());
+    }
+
+    public static LogEntryResponse of(LogEntry logEntry, String content) {
         return LogEntryResponse.builder()
                 .id(logEntry.getId())
                 .source(logEntry.getSource())
-                .content(logEntry.getContent())
+                .content(content)
                 .logLevel(logEntry.getLogLevel())
                 .createdAt(logEntry.getCreatedAt())
                 .build();
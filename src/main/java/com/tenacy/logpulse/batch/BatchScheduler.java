@@ -1,12 +1,20 @@
 package com.tenacy.logpulse.batch;
 
+import com.tenacy.logpulse.config.ContentBlobMigrationJobConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -17,44 +25,65 @@ import java.time.LocalDateTime;
 @Slf4j
 public class BatchScheduler {
 
+    // 변환 잡 인스턴스 식별자, 변환 대상이 바뀌어 다시 실행해야 할 때만 올린다
+    private static final String CONTENT_MIGRATION_VERSION = "1";
+
     private final JobLauncher jobLauncher;
+    private final JobRepository jobRepository;
 
     @Qualifier("logArchiveJob")
     private final Job logArchiveJob;
 
-    @Qualifier("logStatisticsJob")
-    private final Job logStatisticsJob;
+    @Qualifier("contentBlobMigrationJob")
+    private final Job contentBlobMigrationJob;
+
+    @Value("${logpulse.compression.migration.enabled:true}")
+    private boolean contentMigrationEnabled;
 
     // 매일 자정에 실행
     @Scheduled(cron = "0 0 0 * * ?")
     public void runDailyBatchJobs() {
         runArchiveJob();
-        runStatisticsJob();
     }
 
-    private void runArchiveJob() {
+    // 시작 후 백그라운드에서 Base64로 저장된 이전 압축 내용을 content_blob으로 변환
+    // 완료 기록은 배치 메타 테이블에 남으므로 이후 재시작에서는 건너뛴다
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void runContentMigrationJob() {
+        if (!contentMigrationEnabled) {
+            return;
+        }
+
         try {
             JobParameters jobParameters = new JobParametersBuilder()
-                    .addString("time", LocalDateTime.now().toString())
+                    .addString("version", CONTENT_MIGRATION_VERSION)
                     .toJobParameters();
 
-            jobLauncher.run(logArchiveJob, jobParameters);
-            log.info("로그 아카이브 작업이 성공적으로 완료되었습니다");
+            JobExecution lastExecution = jobRepository.getLastJobExecution(
+                    ContentBlobMigrationJobConfig.JOB_NAME, jobParameters);
+            if (lastExecution != null && lastExecution.getStatus() == BatchStatus.COMPLETED) {
+                log.debug("압축 내용 변환 작업이 이미 완료되어 건너뜁니다: {}", lastExecution.getEndTime());
+                return;
+            }
+
+            jobLauncher.run(contentBlobMigrationJob, jobParameters);
+            log.info("압축 내용 변환 작업이 성공적으로 완료되었습니다");
         } catch (Exception e) {
-            log.error("로그 아카이브 작업 실행 중 오류 발생", e);
+            log.error("압축 내용 변환 작업 실행 중 오류 발생", e);
         }
     }
 
-    private void runStatisticsJob() {
+    private void runArchiveJob() {
         try {
             JobParameters jobParameters = new JobParametersBuilder()
                     .addString("time", LocalDateTime.now().toString())
                     .toJobParameters();
 
-            jobLauncher.run(logStatisticsJob, jobParameters);
-            log.info("로그 통계 작업이 성공적으로 완료되었습니다");
+            jobLauncher.run(logArchiveJob, jobParameters);
+            log.info("로그 아카이브 작업이 성공적으로 완료되었습니다");
         } catch (Exception e) {
-            log.error("로그 통계 작업 실행 중 오류 발생", e);
+            log.error("로그 아카이브 작업 실행 중 오류 발생", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.tenacy.logpulse.batch;
+
+import com.tenacy.logpulse.domain.ContentCodec;
+import com.tenacy.logpulse.domain.LogEntry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.Base64;
+
+/**
+ * Base64 텍스트로 저장된 gzip 내용을 content_blob으로 옮긴다.
+ * 이미 gzip 바이트이므로 다시 압축하지 않고 디코딩만 한다.
+ */
+@Slf4j
+public class ContentBlobMigrationProcessor implements ItemProcessor<LogEntry, LogEntry> {
+
+    @Override
+    public LogEntry process(LogEntry item) {
+        String content = item.getContent();
+        byte[] decoded = decode(content);
+
+        if (decoded != null && decoded.length >= 2 && decoded[0] == (byte) 0x1f && decoded[1] == (byte) 0x8b) {
+            item.setContent(null);
+            item.setContentBlob(decoded);
+            item.setCodec(ContentCodec.GZIP.getId());
+            item.setCompressed(true);
+            item.setCompressedSize(decoded.length);
+        } else {
+            // compressed로 표시되었지만 압축 형식이 아닌 행은 원문으로 표시
+            log.debug("로그 ID: {}는 압축 형식이 아니므로 원문으로 표시", item.getId());
+            item.setContentBlob(null);
+            item.setCodec(ContentCodec.NONE.getId());
+            item.setCompressed(false);
+        }
+
+        return item;
+    }
+
+    private byte[] decode(String content) {
+        if (content == null || content.isEmpty()) {
+            return null;
+        }
+
+        try {
+            return Base64.getDecoder().decode(content);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
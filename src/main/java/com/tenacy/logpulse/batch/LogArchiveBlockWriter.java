@@ -0,0 +1,133 @@
+package com.tenacy.logpulse.batch;
+
+import com.tenacy.logpulse.compression.CompressionCodec;
+import com.tenacy.logpulse.compression.LogBlockFormat;
+import com.tenacy.logpulse.domain.ContentCodec;
+import com.tenacy.logpulse.domain.LogArchiveBlock;
+import com.tenacy.logpulse.domain.LogArchiveBlockRepository;
+import com.tenacy.logpulse.domain.LogEntry;
+import com.tenacy.logpulse.service.LogCompressionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 아카이브 대상 로그를 소스, 시간대별로 묶어 압축 블록(log_archive_blocks)으로 저장
+ *
+ * 청크 안에서 (source, 정시) 단위로 묶고, 블록당 max-entries / max-bytes를 넘으면 나눈다.
+ * 행마다 저장된 압축 형식은 풀어서 원문을 이어 붙인 뒤 블록 코덱으로 한 번에 압축한다.
+ * 내용이 있는 행을 풀지 못하면 빈 내용으로 아카이브하지 않고 청크를 실패시킨다 (다음 실행에서 같은 위치부터 다시 읽음).
+ */
+@Slf4j
+public class LogArchiveBlockWriter implements ItemWriter<LogEntry> {
+
+    private final LogArchiveBlockRepository blockRepository;
+    private final LogCompressionService compressionService;
+    private final ContentCodec blockCodec;
+    private final int maxEntries;
+    private final int maxBytes;
+
+    public LogArchiveBlockWriter(LogArchiveBlockRepository blockRepository, LogCompressionService compressionService,
+                                 ContentCodec blockCodec, int maxEntries, int maxBytes) {
+        this.blockRepository = blockRepository;
+        this.compressionService = compressionService;
+        this.blockCodec = blockCodec;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public void write(Chunk<? extends LogEntry> chunk) throws Exception {
+        Map<BlockKey, List<LogEntry>> groups = new LinkedHashMap<>();
+        for (LogEntry entry : chunk) {
+            BlockKey key = new BlockKey(entry.getSource(), entry.getCreatedAt().truncatedTo(ChronoUnit.HOURS));
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(entry);
+        }
+
+        List<LogArchiveBlock> blocks = new ArrayList<>();
+        for (Map.Entry<BlockKey, List<LogEntry>> group : groups.entrySet()) {
+            List<LogEntry> entries = new ArrayList<>();
+            List<String> contents = new ArrayList<>();
+            int bytes = 0;
+
+            for (LogEntry entry : group.getValue()) {
+                String content = readContent(entry);
+                int size = content != null ? content.getBytes(StandardCharsets.UTF_8).length : 0;
+                if (!entries.isEmpty() && (entries.size() >= maxEntries || bytes + size > maxBytes)) {
+                    blocks.add(toBlock(group.getKey(), entries, contents));
+                    entries = new ArrayList<>();
+                    contents = new ArrayList<>();
+                    bytes = 0;
+                }
+                entries.add(entry);
+                contents.add(content);
+                bytes += size;
+            }
+            blocks.add(toBlock(group.getKey(), entries, contents));
+        }
+
+        blockRepository.saveAll(blocks);
+
+        if (log.isDebugEnabled()) {
+            long original = blocks.stream().mapToLong(LogArchiveBlock::getOriginalSize).sum();
+            long compressed = blocks.stream().mapToLong(LogArchiveBlock::getCompressedSize).sum();
+            log.debug("아카이브 블록 {}개 저장 - 로그 {}개, 원본 크기: {}, 압축 크기: {}",
+                    blocks.size(), chunk.size(), original, compressed);
+        }
+    }
+
+    private String readContent(LogEntry entry) {
+        String content = compressionService.readContent(entry);
+        if (content == null && (entry.getContent() != null || entry.getContentBlob() != null)) {
+            throw new IllegalStateException("아카이브 대상 로그 내용 복원 실패: id=" + entry.getId()
+                    + ", codec=" + entry.getCodec());
+        }
+        return content;
+    }
+
+    private LogArchiveBlock toBlock(BlockKey key, List<LogEntry> entries, List<String> contents) throws IOException {
+        LogBlockFormat.EncodedBlock encoded = LogBlockFormat.encode(entries, contents);
+        CompressionCodec codec = compressionService.getCodec(blockCodec);
+        byte[] data = codec.compress(encoded.getPayload());
+
+        return LogArchiveBlock.builder()
+                .source(key.source())
+                .hourBucket(key.hour())
+                .minCreatedAt(encoded.getMinCreatedAt())
+                .maxCreatedAt(encoded.getMaxCreatedAt())
+                .minLogId(encoded.getMinLogId())
+                .maxLogId(encoded.getMaxLogId())
+                .lastLogId(encoded.getLastLogId())
+                .entryCount(entries.size())
+                .levelMask(encoded.getLevelMask())
+                .codec(blockCodec.getId())
+                .entryIndex(encoded.getIndex())
+                .data(data)
+                .originalSize(encoded.getPayload().length)
+                .compressedSize(data.length)
+                .idBuckets(idBuckets(entries))
+                .build();
+    }
+
+    private Set<Long> idBuckets(List<LogEntry> entries) {
+        Set<Long> buckets = new HashSet<>();
+        for (LogEntry entry : entries) {
+            buckets.add(LogArchiveBlock.idBucket(entry.getId()));
+        }
+        return buckets;
+    }
+
+    private record BlockKey(String source, LocalDateTime hour) {
+    }
+}
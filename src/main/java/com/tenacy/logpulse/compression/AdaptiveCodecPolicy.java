@@ -0,0 +1,152 @@
+package com.tenacy.logpulse.compression;
+
+import com.tenacy.logpulse.domain.ContentCodec;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 소스별 압축 코덱 선택
+ *
+ * 소스마다 코덱별 압축률(압축 크기 / 원본 크기)과 바이트당 CPU 시간(ns)을 지수 이동 평균으로 기록하고
+ * 점수(압축률 + cpu-weight × 바이트당 ns)가 가장 낮은 코덱을 고른다.
+ * 가장 좋은 압축률도 skip-ratio를 넘으면 압축하지 않는다 (NONE).
+ *
+ * 처음 warmup-samples번과 이후 sample-interval번마다 한 번은 모든 코덱으로 압축해 보고 기록을 갱신하므로
+ * 소스의 내용 특성이 바뀌어도 선택이 따라간다. 소스 수가 max-sources를 넘으면 이후 소스는 공용 기록을 사용한다.
+ */
+@Component
+@Slf4j
+public class AdaptiveCodecPolicy {
+
+    static final String SHARED_SOURCE = "*";
+    private static final double EWMA_ALPHA = 0.2;
+
+    private final Map<String, SourceStats> sources = new ConcurrentHashMap<>();
+
+    @Value("${logpulse.compression.adaptive.enabled:true}")
+    private boolean adaptiveEnabled;
+
+    @Value("${logpulse.compression.algorithm:gzip}")
+    private String defaultAlgorithm;
+
+    @Value("${logpulse.compression.adaptive.warmup-samples:3}")
+    private int warmupSamples;
+
+    @Value("${logpulse.compression.adaptive.sample-interval:64}")
+    private int sampleInterval;
+
+    @Value("${logpulse.compression.adaptive.skip-ratio:0.9}")
+    private double skipRatio;
+
+    @Value("${logpulse.compression.adaptive.cpu-weight:0.02}")
+    private double cpuWeight;
+
+    @Value("${logpulse.compression.adaptive.max-sources:1000}")
+    private int maxSources;
+
+    private ContentCodec defaultCodec;
+
+    @PostConstruct
+    public void init() {
+        defaultCodec = ContentCodec.valueOf(defaultAlgorithm.trim().toUpperCase());
+        log.info("압축 코덱 정책: 기본 코덱={}, 적응형 선택={}", defaultCodec, adaptiveEnabled);
+    }
+
+    /**
+     * 이번 압축을 모든 코덱으로 시험해야 하는지 여부
+     */
+    public boolean shouldSample(String source) {
+        if (!adaptiveEnabled) {
+            return false;
+        }
+
+        long count = statsFor(source).compressions.getAndIncrement();
+        return count < warmupSamples || (sampleInterval > 0 && count % sampleInterval == 0);
+    }
+
+    /**
+     * 소스에 사용할 코덱, 압축하지 않아야 하면 NONE
+     */
+    public ContentCodec select(String source) {
+        if (!adaptiveEnabled) {
+            return defaultCodec;
+        }
+
+        SourceStats stats = statsFor(source);
+        ContentCodec best = null;
+        double bestScore = Double.MAX_VALUE;
+        double bestRatio = 1.0;
+
+        synchronized (stats) {
+            for (ContentCodec codec : ContentCodec.values()) {
+                int i = codec.ordinal();
+                if (codec == ContentCodec.NONE || stats.samples[i] == 0) {
+                    continue;
+                }
+
+                double score = stats.ratio[i] + cpuWeight * stats.nanosPerByte[i];
+                if (score < bestScore) {
+                    best = codec;
+                    bestScore = score;
+                    bestRatio = stats.ratio[i];
+                }
+            }
+        }
+
+        if (best == null) {
+            return defaultCodec;
+        }
+        return bestRatio > skipRatio ? ContentCodec.NONE : best;
+    }
+
+    public void record(String source, ContentCodec codec, int originalBytes, int compressedBytes, long nanos) {
+        if (!adaptiveEnabled || originalBytes <= 0) {
+            return;
+        }
+
+        SourceStats stats = statsFor(source);
+        double ratio = (double) compressedBytes / originalBytes;
+        double nanosPerByte = (double) nanos / originalBytes;
+        int i = codec.ordinal();
+
+        synchronized (stats) {
+            if (stats.samples[i] == 0) {
+                stats.ratio[i] = ratio;
+                stats.nanosPerByte[i] = nanosPerByte;
+            } else {
+                stats.ratio[i] += EWMA_ALPHA * (ratio - stats.ratio[i]);
+                stats.nanosPerByte[i] += EWMA_ALPHA * (nanosPerByte - stats.nanosPerByte[i]);
+            }
+            stats.samples[i]++;
+        }
+    }
+
+    public int getTrackedSourceCount() {
+        return sources.size();
+    }
+
+    private SourceStats statsFor(String source) {
+        String key = source != null ? source : SHARED_SOURCE;
+        SourceStats stats = sources.get(key);
+        if (stats != null) {
+            return stats;
+        }
+        if (sources.size() >= maxSources) {
+            key = SHARED_SOURCE;
+        }
+        return sources.computeIfAbsent(key, k -> new SourceStats());
+    }
+
+    private static final class SourceStats {
+        private final AtomicLong compressions = new AtomicLong();
+        private final double[] ratio = new double[ContentCodec.values().length];
+        private final double[] nanosPerByte = new double[ContentCodec.values().length];
+        private final long[] samples = new long[ContentCodec.values().length];
+    }
+}
@@ -0,0 +1,51 @@
+package com.tenacy.logpulse.compression;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 재사용 가능한 압축기 풀 (Deflater, Zstd 컨텍스트 등 생성 비용이 큰 객체)
+ * 최대 maxIdle개까지 보관하고 넘치는 객체는 destroy로 정리한다.
+ */
+public class CodecPool<T> {
+
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final Consumer<T> destroy;
+    private final int maxIdle;
+
+    public CodecPool(Supplier<T> factory, Consumer<T> reset, Consumer<T> destroy, int maxIdle) {
+        this.factory = factory;
+        this.reset = reset;
+        this.destroy = destroy;
+        this.maxIdle = maxIdle;
+    }
+
+    public T borrow() {
+        T instance = idle.poll();
+        if (instance == null) {
+            return factory.get();
+        }
+        idleCount.decrementAndGet();
+        return instance;
+    }
+
+    public void release(T instance) {
+        reset.accept(instance);
+        if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(instance);
+        } else {
+            idleCount.decrementAndGet();
+            destroy.accept(instance);
+        }
+    }
+
+    public int getIdleCount() {
+        return idleCount.get();
+    }
+}
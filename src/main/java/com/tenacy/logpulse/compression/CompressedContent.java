@@ -0,0 +1,17 @@
+package com.tenacy.logpulse.compression;
+
+import com.tenacy.logpulse.domain.ContentCodec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CompressedContent {
+    private final ContentCodec codec;
+    private final byte[] data;  // content_blob에 저장할 압축 바이트
+    private final Long dictionaryId;  // ZSTD_DICT인 경우에만 값이 있음
+
+    public CompressedContent(ContentCodec codec, byte[] data) {
+        this(codec, data, null);
+    }
+}
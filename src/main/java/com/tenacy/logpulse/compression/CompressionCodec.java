@@ -0,0 +1,17 @@
+package com.tenacy.logpulse.compression;
+
+import com.tenacy.logpulse.domain.ContentCodec;
+
+import java.io.IOException;
+
+/**
+ * 로그 내용 압축 코덱
+ *
+ * 압축 결과는 그 자체로 해제할 수 있어야 한다 (원본 길이 등 해제에 필요한 정보를 결과에 포함).
+ * 구현체는 여러 스레드에서 동시에 호출되므로 상태를 가지는 압축기는 풀에서 빌려 쓴다.
+ */
+public interface CompressionCodec {
+    ContentCodec getCodec();
+    byte[] compress(byte[] data) throws IOException;
+    byte[] decompress(byte[] data) throws IOException;
+}
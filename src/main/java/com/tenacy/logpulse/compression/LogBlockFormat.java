@@ -0,0 +1,215 @@
+package com.tenacy.logpulse.compression;
+
+import com.tenacy.logpulse.domain.LogEntry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 아카이브 블록(log_archive_blocks) 직렬화 형식
+ *
+ * - 색인 (압축하지 않음): [버전 1B][항목 수 4B][추가 레벨 수 1B] 이후 추가 레벨마다 [길이 2B][UTF-8 이름],
+ *   이어서 항목마다 [로그 id 8B][생성 시각 epoch 마이크로초 8B][레벨 코드 1B][data 내 시작 위치 4B][길이 4B]
+ *   레벨 코드는 LEVELS 순서, LEVELS 외의 레벨은 LEVELS.size()부터 추가 레벨 순서, 레벨이 null이면 -1
+ *   내용이 null인 항목은 길이 -1
+ *   버전 1 색인은 추가 레벨 목록이 없고 LEVELS 외의 레벨을 구분하지 않는다 (null로 읽음)
+ * - data: 항목 내용(UTF-8)을 이어 붙인 뒤 블록 코덱으로 한 번에 압축
+ *
+ * 같은 소스, 같은 시간대의 비슷한 줄을 함께 압축하므로 행 단위 압축보다 압축률이 높고,
+ * 로그 하나는 색인에서 위치를 찾은 뒤 data를 한 번만 해제해 꺼낸다.
+ */
+public final class LogBlockFormat {
+
+    public static final byte VERSION = 2;
+    public static final List<String> LEVELS = List.of("TRACE", "DEBUG", "INFO", "WARN", "ERROR");
+
+    private static final byte VERSION_1 = 1;
+    private static final int VERSION_1_HEADER_SIZE = 5;
+    private static final int ENTRY_SIZE = 25;
+    private static final byte NULL_LEVEL = -1;
+    private static final int OTHER_LEVEL = LEVELS.size();
+    private static final int MAX_OTHER_LEVELS = Byte.MAX_VALUE - LEVELS.size();
+    private static final int MAX_LEVEL_NAME_BYTES = Short.MAX_VALUE;
+
+    private LogBlockFormat() {
+    }
+
+    /**
+     * entries와 같은 순서의 원문 contents로 블록 색인과 압축 전 data 생성
+     */
+    public static EncodedBlock encode(List<LogEntry> entries, List<String> contents) {
+        List<String> otherLevels = new ArrayList<>();
+        int otherLevelBytes = 0;
+        for (LogEntry entry : entries) {
+            String level = entry.getLogLevel();
+            if (level == null || knownLevelCode(level) >= 0 || otherLevels.contains(level)
+                    || otherLevels.size() >= MAX_OTHER_LEVELS) {
+                continue;
+            }
+            int length = level.getBytes(StandardCharsets.UTF_8).length;
+            if (length <= MAX_LEVEL_NAME_BYTES) {
+                otherLevels.add(level);
+                otherLevelBytes += 2 + length;
+            }
+        }
+
+        ByteBuffer index = ByteBuffer.allocate(VERSION_1_HEADER_SIZE + 1 + otherLevelBytes + ENTRY_SIZE * entries.size());
+        index.put(VERSION).putInt(entries.size()).put((byte) otherLevels.size());
+        for (String level : otherLevels) {
+            byte[] name = level.getBytes(StandardCharsets.UTF_8);
+            index.putShort((short) name.length).put(name);
+        }
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        int levelMask = 0;
+        long minLogId = Long.MAX_VALUE;
+        long maxLogId = Long.MIN_VALUE;
+        LocalDateTime minCreatedAt = null;
+        LocalDateTime maxCreatedAt = null;
+
+        for (int i = 0; i < entries.size(); i++) {
+            LogEntry entry = entries.get(i);
+            String content = contents.get(i);
+            byte[] bytes = content != null ? content.getBytes(StandardCharsets.UTF_8) : null;
+            byte level = levelCode(entry.getLogLevel(), otherLevels);
+
+            index.putLong(entry.getId())
+                    .putLong(toMicros(entry.getCreatedAt()))
+                    .put(level)
+                    .putInt(payload.size())
+                    .putInt(bytes != null ? bytes.length : -1);
+            if (bytes != null) {
+                payload.writeBytes(bytes);
+            }
+
+            levelMask |= levelBit(entry.getLogLevel());
+            minLogId = Math.min(minLogId, entry.getId());
+            maxLogId = Math.max(maxLogId, entry.getId());
+            if (minCreatedAt == null || entry.getCreatedAt().isBefore(minCreatedAt)) {
+                minCreatedAt = entry.getCreatedAt();
+            }
+            if (maxCreatedAt == null || entry.getCreatedAt().isAfter(maxCreatedAt)) {
+                maxCreatedAt = entry.getCreatedAt();
+            }
+        }
+
+        long lastLogId = entries.get(entries.size() - 1).getId();
+        return new EncodedBlock(index.array(), payload.toByteArray(), levelMask,
+                minLogId, maxLogId, lastLogId, minCreatedAt, maxCreatedAt);
+    }
+
+    /**
+     * 색인에서 로그 id에 해당하는 항목 검색
+     */
+    public static Optional<IndexEntry> find(byte[] index, long logId) {
+        ByteBuffer buffer = ByteBuffer.wrap(index);
+        byte version = buffer.get();
+        if (version != VERSION && version != VERSION_1) {
+            throw new IllegalStateException("지원하지 않는 블록 형식 버전: " + version);
+        }
+
+        int count = buffer.getInt();
+        List<String> otherLevels = new ArrayList<>();
+        if (version != VERSION_1) {
+            int otherCount = buffer.get();
+            for (int i = 0; i < otherCount; i++) {
+                byte[] name = new byte[buffer.getShort()];
+                buffer.get(name);
+                otherLevels.add(new String(name, StandardCharsets.UTF_8));
+            }
+        }
+
+        int entriesStart = buffer.position();
+        for (int i = 0; i < count; i++) {
+            int position = entriesStart + i * ENTRY_SIZE;
+            if (buffer.getLong(position) == logId) {
+                return Optional.of(new IndexEntry(
+                        logId,
+                        fromMicros(buffer.getLong(position + 8)),
+                        levelName(buffer.get(position + 16), otherLevels),
+                        buffer.getInt(position + 17),
+                        buffer.getInt(position + 21)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 압축 해제된 data에서 항목 원문 추출
+     */
+    public static String content(byte[] payload, IndexEntry entry) {
+        if (entry.getLength() < 0) {
+            return null;
+        }
+        return new String(payload, entry.getOffset(), entry.getLength(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * level_mask에서 레벨이 차지하는 비트 (LEVELS 외의 레벨과 null은 모두 같은 비트)
+     */
+    public static int levelBit(String level) {
+        int code = level != null ? LEVELS.indexOf(level.toUpperCase()) : -1;
+        return 1 << (code >= 0 ? code : OTHER_LEVEL);
+    }
+
+    private static int knownLevelCode(String level) {
+        return level != null ? LEVELS.indexOf(level) : -1;
+    }
+
+    private static byte levelCode(String level, List<String> otherLevels) {
+        int code = knownLevelCode(level);
+        if (code >= 0) {
+            return (byte) code;
+        }
+        int other = level != null ? otherLevels.indexOf(level) : -1;
+        return other >= 0 ? (byte) (OTHER_LEVEL + other) : NULL_LEVEL;
+    }
+
+    private static String levelName(byte code, List<String> otherLevels) {
+        if (code >= 0 && code < LEVELS.size()) {
+            return LEVELS.get(code);
+        }
+        int other = code - OTHER_LEVEL;
+        return other >= 0 && other < otherLevels.size() ? otherLevels.get(other) : null;
+    }
+
+    private static long toMicros(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class EncodedBlock {
+        private final byte[] index;
+        private final byte[] payload;   // 압축 전 data
+        private final int levelMask;
+        private final long minLogId;
+        private final long maxLogId;
+        private final long lastLogId;   // (created_at, id) 순서로 마지막 항목의 id
+        private final LocalDateTime minCreatedAt;
+        private final LocalDateTime maxCreatedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class IndexEntry {
+        private final long logId;
+        private final LocalDateTime createdAt;
+        private final String logLevel;  // 저장된 레벨 그대로 (레벨이 없었으면 null)
+        private final int offset;
+        private final int length;
+    }
+}
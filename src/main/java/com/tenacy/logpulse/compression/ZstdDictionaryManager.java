@@ -0,0 +1,312 @@
+package com.tenacy.logpulse.compression;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdDictCompress;
+import com.github.luben.zstd.ZstdDictDecompress;
+import com.github.luben.zstd.ZstdDictTrainer;
+import com.github.luben.zstd.ZstdException;
+import com.tenacy.logpulse.domain.CompressionDictionary;
+import com.tenacy.logpulse.domain.CompressionDictionaryRepository;
+import com.tenacy.logpulse.domain.ContentCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 소스별 Zstd 사전 학습과 사전 압축
+ *
+ * min-size 이상 logpulse.compression.min-size 이하의 짧은 메시지는 단독으로는 압축 효과가 없으므로
+ * 소스별로 샘플을 모아(reservoir sampling, 소스당 max-samples개) 주기적으로 사전을 학습하고
+ * compression_dictionaries에 새 버전으로 저장한다. 압축된 행은 사용한 사전의 id를 dictionary_id로 기록하며,
+ * 해제할 때 메모리에 없는 사전은 DB에서 읽어 온다.
+ *
+ * 이전 학습 이후 retrain-min-new-samples개 이상 새 샘플이 모인 소스만 다시 학습한다.
+ *
+ * 압축용 사전은 소스별 최신 버전만 유지하고, 해제용 사전은 최근 사용한 decompress-cache-size개만
+ * LRU로 유지한다 (오래된 버전으로 압축된 행을 읽을 때는 DB에서 다시 읽어 온다).
+ */
+@Component
+@Slf4j
+public class ZstdDictionaryManager {
+
+    private final CompressionDictionaryRepository dictionaryRepository;
+    private final Map<String, SampleReservoir> reservoirs = new ConcurrentHashMap<>();
+    private final Map<String, ActiveDictionary> activeDictionaries = new ConcurrentHashMap<>();
+    private final Map<Long, ZstdDictDecompress> decompressDictionaries;
+    private final CodecPool<ZstdCompressCtx> compressors;
+    private final CodecPool<ZstdDecompressCtx> decompressors;
+
+    @Value("${logpulse.compression.dictionary.enabled:true}")
+    private boolean dictionaryEnabled;
+
+    @Value("${logpulse.compression.dictionary.min-size:64}")
+    private int minSize;
+
+    @Value("${logpulse.compression.dictionary.max-samples:2000}")
+    private int maxSamples;
+
+    @Value("${logpulse.compression.dictionary.min-samples:500}")
+    private int minSamples;
+
+    @Value("${logpulse.compression.dictionary.retrain-min-new-samples:1000}")
+    private int retrainMinNewSamples;
+
+    @Value("${logpulse.compression.dictionary.dictionary-size:16384}")
+    private int dictionarySize;
+
+    @Value("${logpulse.compression.dictionary.level:3}")
+    private int level;
+
+    @Value("${logpulse.compression.dictionary.max-sources:200}")
+    private int maxSources;
+
+    public ZstdDictionaryManager(CompressionDictionaryRepository dictionaryRepository,
+                                 @Value("${logpulse.compression.pool-size:16}") int poolSize,
+                                 @Value("${logpulse.compression.dictionary.decompress-cache-size:64}") int decompressCacheSize) {
+        this.dictionaryRepository = dictionaryRepository;
+        this.decompressDictionaries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, ZstdDictDecompress> eldest) {
+                return size() > decompressCacheSize;
+            }
+        };
+        this.compressors = new CodecPool<>(ZstdCompressCtx::new, ZstdCompressCtx::reset, ZstdCompressCtx::close, poolSize);
+        this.decompressors = new CodecPool<>(ZstdDecompressCtx::new, ZstdDecompressCtx::reset, ZstdDecompressCtx::close,
+                poolSize);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadActiveDictionaries() {
+        if (!dictionaryEnabled) {
+            return;
+        }
+
+        try {
+            for (CompressionDictionary dictionary : dictionaryRepository.findLatestPerSource()) {
+                register(dictionary);
+            }
+            log.info("압축 사전 {}개 로드", activeDictionaries.size());
+        } catch (Exception e) {
+            log.error("압축 사전 로드 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    public boolean isEnabled() {
+        return dictionaryEnabled;
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public void addSample(String source, byte[] content) {
+        if (!dictionaryEnabled || source == null) {
+            return;
+        }
+
+        SampleReservoir reservoir = reservoirs.get(source);
+        if (reservoir == null) {
+            if (reservoirs.size() >= maxSources) {
+                return;
+            }
+            reservoir = reservoirs.computeIfAbsent(source, k -> new SampleReservoir(maxSamples));
+        }
+        reservoir.add(content);
+    }
+
+    /**
+     * 소스의 최신 사전으로 압축, 사전이 없으면 null
+     */
+    public CompressedContent compress(String source, byte[] content) {
+        ActiveDictionary dictionary = source != null ? activeDictionaries.get(source) : null;
+        if (!dictionaryEnabled || dictionary == null) {
+            return null;
+        }
+
+        ZstdCompressCtx ctx = compressors.borrow();
+        try {
+            ctx.setLevel(level).setContentSize(true).loadDict(dictionary.compress);
+            return new CompressedContent(ContentCodec.ZSTD_DICT, ctx.compress(content), dictionary.id);
+        } finally {
+            compressors.release(ctx);
+        }
+    }
+
+    public byte[] decompress(Long dictionaryId, byte[] data) throws IOException {
+        if (dictionaryId == null) {
+            throw new IOException("사전 id가 없습니다");
+        }
+
+        ZstdDictDecompress dictionary = decompressDictionary(dictionaryId);
+
+        long originalLength = Zstd.getFrameContentSize(data);
+        if (originalLength < 0 || originalLength > Integer.MAX_VALUE) {
+            throw new IOException("Zstd 프레임에 원본 크기가 없습니다");
+        }
+
+        ZstdDecompressCtx ctx = decompressors.borrow();
+        try {
+            ctx.loadDict(dictionary);
+            return ctx.decompress(data, (int) originalLength);
+        } catch (ZstdException e) {
+            throw new IOException("Zstd 사전 해제 실패: " + e.getMessage(), e);
+        } finally {
+            decompressors.release(ctx);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${logpulse.compression.dictionary.train-interval-ms:3600000}",
+            initialDelayString = "${logpulse.compression.dictionary.train-initial-delay-ms:600000}")
+    public void trainDictionaries() {
+        if (!dictionaryEnabled) {
+            return;
+        }
+
+        for (Map.Entry<String, SampleReservoir> entry : reservoirs.entrySet()) {
+            try {
+                train(entry.getKey());
+            } catch (Exception e) {
+                log.error("{} 소스 압축 사전 학습 중 오류 발생: {}", entry.getKey(), e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 새 샘플이 충분하면 사전을 학습하고 새 버전으로 저장, 학습하지 않았으면 null
+     */
+    CompressionDictionary train(String source) {
+        SampleReservoir reservoir = reservoirs.get(source);
+        if (reservoir == null) {
+            return null;
+        }
+
+        boolean firstTraining = !activeDictionaries.containsKey(source);
+        List<byte[]> samples = reservoir.takeForTraining(minSamples, firstTraining ? 0 : retrainMinNewSamples);
+        if (samples == null) {
+            return null;
+        }
+
+        long sampleBytes = 0;
+        for (byte[] sample : samples) {
+            sampleBytes += sample.length;
+        }
+
+        ZstdDictTrainer trainer = new ZstdDictTrainer((int) Math.min(sampleBytes, Integer.MAX_VALUE), dictionarySize);
+        for (byte[] sample : samples) {
+            trainer.addSample(sample);
+        }
+        byte[] trained = trainer.trainSamples();
+
+        int version = dictionaryRepository.findTopBySourceOrderByVersionDesc(source)
+                .map(dictionary -> dictionary.getVersion() + 1)
+                .orElse(1);
+        CompressionDictionary saved;
+        try {
+            saved = dictionaryRepository.save(CompressionDictionary.builder()
+                    .source(source)
+                    .version(version)
+                    .dictionary(trained)
+                    .sampleCount(samples.size())
+                    .sampleBytes(sampleBytes)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 버전을 먼저 저장한 경우 그 사전을 사용
+            log.info("{} 소스 압축 사전 버전 {}이 이미 저장되어 있어 최신 버전을 사용합니다", source, version);
+            dictionaryRepository.findTopBySourceOrderByVersionDesc(source).ifPresent(this::register);
+            return null;
+        }
+        register(saved);
+
+        log.info("{} 소스 압축 사전 학습 완료: 버전={}, 샘플 {}개({}바이트), 사전 크기={}",
+                source, version, samples.size(), sampleBytes, trained.length);
+        return saved;
+    }
+
+    /**
+     * 소스의 압축용 사전을 이 버전으로 교체 (이전 버전의 압축용 사전은 참조를 끊어 정리되도록 둔다)
+     */
+    private void register(CompressionDictionary dictionary) {
+        activeDictionaries.compute(dictionary.getSource(), (source, current) ->
+                current != null && current.version >= dictionary.getVersion()
+                        ? current : new ActiveDictionary(dictionary, level));
+        synchronized (decompressDictionaries) {
+            decompressDictionaries.putIfAbsent(dictionary.getId(), new ZstdDictDecompress(dictionary.getDictionary()));
+        }
+    }
+
+    private ZstdDictDecompress decompressDictionary(Long dictionaryId) throws IOException {
+        synchronized (decompressDictionaries) {
+            ZstdDictDecompress cached = decompressDictionaries.get(dictionaryId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        CompressionDictionary stored = dictionaryRepository.findById(dictionaryId)
+                .orElseThrow(() -> new IOException("압축 사전을 찾을 수 없습니다: " + dictionaryId));
+        ZstdDictDecompress loaded = new ZstdDictDecompress(stored.getDictionary());
+        synchronized (decompressDictionaries) {
+            ZstdDictDecompress existing = decompressDictionaries.putIfAbsent(dictionaryId, loaded);
+            return existing != null ? existing : loaded;
+        }
+    }
+
+    private static final class ActiveDictionary {
+        private final long id;
+        private final int version;
+        private final ZstdDictCompress compress;
+
+        private ActiveDictionary(CompressionDictionary dictionary, int level) {
+            this.id = dictionary.getId();
+            this.version = dictionary.getVersion();
+            this.compress = new ZstdDictCompress(dictionary.getDictionary(), level);
+        }
+    }
+
+    private static final class SampleReservoir {
+        private final List<byte[]> samples;
+        private final int capacity;
+        private long seen;
+        private long newSinceTraining;
+
+        private SampleReservoir(int capacity) {
+            this.capacity = capacity;
+            this.samples = new ArrayList<>(Math.min(capacity, 256));
+        }
+
+        private synchronized void add(byte[] sample) {
+            seen++;
+            newSinceTraining++;
+            if (samples.size() < capacity) {
+                samples.add(sample);
+            } else {
+                long slot = ThreadLocalRandom.current().nextLong(seen);
+                if (slot < capacity) {
+                    samples.set((int) slot, sample);
+                }
+            }
+        }
+
+        private synchronized List<byte[]> takeForTraining(int minSamples, int minNewSamples) {
+            if (samples.size() < minSamples || newSinceTraining < minNewSamples) {
+                return null;
+            }
+            newSinceTraining = 0;
+            return new ArrayList<>(samples);
+        }
+    }
+}
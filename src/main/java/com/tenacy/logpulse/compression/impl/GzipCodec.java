@@ -0,0 +1,158 @@
+package com.tenacy.logpulse.compression.impl;
+
+import com.tenacy.logpulse.compression.CodecPool;
+import com.tenacy.logpulse.compression.CompressionCodec;
+import com.tenacy.logpulse.domain.ContentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+
+/**
+ * gzip 코덱 (GZIPOutputStream과 같은 형식이므로 이전에 저장된 content_blob도 그대로 해제)
+ *
+ * 호출마다 Deflater/Inflater와 버퍼를 새로 만들지 않도록 풀에서 빌려 쓴다.
+ * 트레일러의 원본 길이는 저장된 데이터에서 읽으므로 max-decompressed-size를 넘으면 버퍼를 만들지 않고 거부한다.
+ */
+@Component
+public class GzipCodec implements CompressionCodec {
+
+    // 매직(1f 8b), deflate(08), 플래그 없음, 시간 0, 추가 플래그 0, OS 알 수 없음(ff)
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, 0x08, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int HEADER_LENGTH = 10;
+    private static final int TRAILER_LENGTH = 8;
+    private static final int FLAGS_OFFSET = 3;
+    private static final int BUFFER_SIZE = 8192;
+
+    private final CodecPool<Deflating> deflaters;
+    private final CodecPool<Inflater> inflaters;
+    private final int maxDecompressedSize;
+
+    public GzipCodec(@Value("${logpulse.compression.gzip.level:6}") int level,
+                     @Value("${logpulse.compression.pool-size:16}") int poolSize,
+                     @Value("${logpulse.compression.max-decompressed-size:67108864}") int maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+        this.deflaters = new CodecPool<>(() -> new Deflating(level), Deflating::reset, Deflating::end, poolSize);
+        this.inflaters = new CodecPool<>(() -> new Inflater(true), Inflater::reset, Inflater::end, poolSize);
+    }
+
+    @Override
+    public ContentCodec getCodec() {
+        return ContentCodec.GZIP;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        Deflating deflating = deflaters.borrow();
+        try {
+            Deflater deflater = deflating.deflater;
+            ByteArrayOutputStream out = deflating.out;
+            byte[] buffer = deflating.buffer;
+
+            out.write(HEADER, 0, HEADER.length);
+            deflater.setInput(data);
+            deflater.finish();
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+
+            deflating.crc.update(data);
+            writeIntLE(out, (int) deflating.crc.getValue());
+            writeIntLE(out, data.length);
+            return out.toByteArray();
+        } finally {
+            deflaters.release(deflating);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] data) throws IOException {
+        if (data.length < HEADER_LENGTH + TRAILER_LENGTH || data[0] != HEADER[0] || data[1] != HEADER[1]) {
+            throw new IOException("gzip 형식이 아닙니다");
+        }
+        if (data[FLAGS_OFFSET] != 0) {
+            // 파일 이름 등 추가 헤더가 있는 형식은 표준 스트림으로 해제
+            try (GZIPInputStream gzipIn = new GZIPInputStream(new ByteArrayInputStream(data))) {
+                byte[] result = gzipIn.readNBytes(maxDecompressedSize);
+                if (gzipIn.read() != -1) {
+                    throw new IOException("gzip 원본 길이가 허용 범위를 벗어났습니다");
+                }
+                return result;
+            }
+        }
+
+        int originalLength = readIntLE(data, data.length - 4);
+        if (originalLength < 0 || originalLength > maxDecompressedSize) {
+            throw new IOException("gzip 원본 길이가 허용 범위를 벗어났습니다: " + originalLength);
+        }
+
+        byte[] result = new byte[originalLength];
+
+        Inflater inflater = inflaters.borrow();
+        try {
+            inflater.setInput(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+            int offset = 0;
+            while (offset < originalLength && !inflater.finished()) {
+                int length = inflater.inflate(result, offset, originalLength - offset);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("gzip 데이터가 잘렸습니다");
+                }
+                offset += length;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("gzip 데이터 해제 실패: " + e.getMessage(), e);
+        } finally {
+            inflaters.release(inflater);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(result);
+        if ((int) crc.getValue() != readIntLE(data, data.length - TRAILER_LENGTH)) {
+            throw new IOException("gzip CRC 불일치");
+        }
+        return result;
+    }
+
+    private static void writeIntLE(ByteArrayOutputStream out, int value) {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    private static int readIntLE(byte[] data, int offset) {
+        return (data[offset] & 0xff)
+                | (data[offset + 1] & 0xff) << 8
+                | (data[offset + 2] & 0xff) << 16
+                | (data[offset + 3] & 0xff) << 24;
+    }
+
+    private static final class Deflating {
+        private final Deflater deflater;
+        private final CRC32 crc = new CRC32();
+        private final ByteArrayOutputStream out = new ByteArrayOutputStream(BUFFER_SIZE);
+        private final byte[] buffer = new byte[BUFFER_SIZE];
+
+        private Deflating(int level) {
+            this.deflater = new Deflater(level, true);
+        }
+
+        private void reset() {
+            deflater.reset();
+            crc.reset();
+            out.reset();
+        }
+
+        private void end() {
+            deflater.end();
+        }
+    }
+}
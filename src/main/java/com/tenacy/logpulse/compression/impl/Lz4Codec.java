@@ -0,0 +1,78 @@
+package com.tenacy.logpulse.compression.impl;
+
+import com.tenacy.logpulse.compression.CompressionCodec;
+import com.tenacy.logpulse.domain.ContentCodec;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * LZ4 블록 코덱 (압축률보다 속도 우선)
+ *
+ * 결과 형식: 원본 길이(4바이트, big-endian) + LZ4 블록
+ * LZ4 압축기/해제기는 상태가 없어 스레드 간에 공유한다.
+ * 길이 헤더는 저장된 데이터에서 읽으므로 max-decompressed-size를 넘으면 버퍼를 만들지 않고 거부하며,
+ * 입력 범위를 검사하는 safe 해제기로 실제 해제된 길이가 헤더와 같은지 확인한다.
+ */
+@Component
+public class Lz4Codec implements CompressionCodec {
+
+    private static final int LENGTH_PREFIX = 4;
+
+    private final LZ4Compressor compressor;
+    private final LZ4SafeDecompressor decompressor;
+    private final int maxDecompressedSize;
+
+    public Lz4Codec(@Value("${logpulse.compression.max-decompressed-size:67108864}") int maxDecompressedSize) {
+        LZ4Factory factory = LZ4Factory.fastestInstance();
+        this.compressor = factory.fastCompressor();
+        this.decompressor = factory.safeDecompressor();
+        this.maxDecompressedSize = maxDecompressedSize;
+    }
+
+    @Override
+    public ContentCodec getCodec() {
+        return ContentCodec.LZ4;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        byte[] out = new byte[LENGTH_PREFIX + compressor.maxCompressedLength(data.length)];
+        out[0] = (byte) (data.length >>> 24);
+        out[1] = (byte) (data.length >>> 16);
+        out[2] = (byte) (data.length >>> 8);
+        out[3] = (byte) data.length;
+
+        int length = compressor.compress(data, 0, data.length, out, LENGTH_PREFIX, out.length - LENGTH_PREFIX);
+        return Arrays.copyOf(out, LENGTH_PREFIX + length);
+    }
+
+    @Override
+    public byte[] decompress(byte[] data) throws IOException {
+        if (data.length < LENGTH_PREFIX) {
+            throw new IOException("LZ4 데이터가 잘렸습니다");
+        }
+
+        int originalLength = (data[0] & 0xff) << 24 | (data[1] & 0xff) << 16 | (data[2] & 0xff) << 8 | (data[3] & 0xff);
+        if (originalLength < 0 || originalLength > maxDecompressedSize) {
+            throw new IOException("LZ4 원본 길이가 허용 범위를 벗어났습니다: " + originalLength);
+        }
+
+        try {
+            byte[] result = new byte[originalLength];
+            int length = decompressor.decompress(data, LENGTH_PREFIX, data.length - LENGTH_PREFIX, result, 0, originalLength);
+            if (length != originalLength) {
+                throw new IOException("LZ4 데이터가 잘렸습니다");
+            }
+            return result;
+        } catch (LZ4Exception e) {
+            throw new IOException("LZ4 데이터 해제 실패: " + e.getMessage(), e);
+        }
+    }
+}
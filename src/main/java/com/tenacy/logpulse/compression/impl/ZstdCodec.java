@@ -0,0 +1,72 @@
+package com.tenacy.logpulse.compression.impl;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdCompressCtx;
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdException;
+import com.tenacy.logpulse.compression.CodecPool;
+import com.tenacy.logpulse.compression.CompressionCodec;
+import com.tenacy.logpulse.domain.ContentCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Zstandard 코덱 (프레임에 원본 크기를 기록)
+ *
+ * 압축/해제 컨텍스트는 스레드 안전하지 않고 생성 비용이 커서 풀에서 빌려 쓴다.
+ * 프레임의 원본 크기가 max-decompressed-size를 넘으면 버퍼를 만들지 않고 거부한다.
+ */
+@Component
+public class ZstdCodec implements CompressionCodec {
+
+    private final CodecPool<ZstdCompressCtx> compressors;
+    private final CodecPool<ZstdDecompressCtx> decompressors;
+    private final int maxDecompressedSize;
+
+    public ZstdCodec(@Value("${logpulse.compression.zstd.level:3}") int level,
+                     @Value("${logpulse.compression.pool-size:16}") int poolSize,
+                     @Value("${logpulse.compression.max-decompressed-size:67108864}") int maxDecompressedSize) {
+        this.maxDecompressedSize = maxDecompressedSize;
+        this.compressors = new CodecPool<>(
+                () -> new ZstdCompressCtx().setLevel(level).setContentSize(true),
+                ctx -> { }, ZstdCompressCtx::close, poolSize);
+        this.decompressors = new CodecPool<>(ZstdDecompressCtx::new, ctx -> { }, ZstdDecompressCtx::close, poolSize);
+    }
+
+    @Override
+    public ContentCodec getCodec() {
+        return ContentCodec.ZSTD;
+    }
+
+    @Override
+    public byte[] compress(byte[] data) {
+        ZstdCompressCtx ctx = compressors.borrow();
+        try {
+            return ctx.compress(data);
+        } finally {
+            compressors.release(ctx);
+        }
+    }
+
+    @Override
+    public byte[] decompress(byte[] data) throws IOException {
+        long originalLength = Zstd.getFrameContentSize(data);
+        if (originalLength < 0) {
+            throw new IOException("Zstd 프레임에 원본 크기가 없습니다");
+        }
+        if (originalLength > maxDecompressedSize) {
+            throw new IOException("Zstd 원본 길이가 허용 범위를 벗어났습니다: " + originalLength);
+        }
+
+        ZstdDecompressCtx ctx = decompressors.borrow();
+        try {
+            return ctx.decompress(data, (int) originalLength);
+        } catch (ZstdException e) {
+            throw new IOException("Zstd 데이터 해제 실패: " + e.getMessage(), e);
+        } finally {
+            decompressors.release(ctx);
+        }
+    }
+}
@@ -22,6 +22,33 @@ public class AsyncConfig {
     @Value("${logpulse.async.queue-capacity:500}")
     private int queueCapacity;
 
+    @Value("${logpulse.consumer.pipeline.jdbc-threads:3}")
+    private int jdbcSinkThreads;
+
+    @Value("${logpulse.consumer.pipeline.queue-capacity:16}")
+    private int sinkQueueCapacity;
+
+    @Value("${logpulse.jdbc.parallel.writers:4}")
+    private int jdbcWriters;
+
+    @Value("${logpulse.dashboard.query.threads:6}")
+    private int dashboardQueryThreads;
+
+    @Value("${logpulse.dashboard.query.queue-capacity:32}")
+    private int dashboardQueryQueueCapacity;
+
+    @Value("${logpulse.spool.write-queue-capacity:1000}")
+    private int spoolWriteQueueCapacity;
+
+    @Value("${logpulse.kafka.priority-lane.fallback-queue-capacity:1000}")
+    private int alertFallbackQueueCapacity;
+
+    @Value("${logpulse.dashboard.stream.send-threads:4}")
+    private int dashboardStreamThreads;
+
+    @Value("${logpulse.dashboard.stream.max-connections:200}")
+    private int dashboardStreamMaxConnections;
+
     @Bean(name = "emailTaskExecutor")
     public Executor emailTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -46,6 +73,18 @@ public class AsyncConfig {
         return executor;
     }
 
+    // 우선순위 토픽 전송 실패 이벤트의 직접 알림 판단 (프로듀서 콜백 스레드가 실행하지 않도록 포화 시 거부)
+    @Bean(name = "alertFallbackExecutor")
+    public ThreadPoolTaskExecutor alertFallbackExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(alertFallbackQueueCapacity);
+        executor.setThreadNamePrefix("alert-fallback-");
+        executor.initialize();
+        return executor;
+    }
+
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -57,4 +96,88 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
-}
\ No newline at end of file
+
+    // 컨슈머 파이프라인 MySQL 저장 단계 (큐가 가득 차면 리스너 스레드가 직접 실행하여 역압 전달)
+    @Bean(name = "jdbcSinkExecutor")
+    public ThreadPoolTaskExecutor jdbcSinkExecutor() {
+        return sinkExecutor(jdbcSinkThreads, "jdbc-sink-");
+    }
+
+    // 분할 저장 샤드 실행 (스레드 수만큼만 커넥션을 추가로 사용, 포화 시 호출 스레드가 직접 저장)
+    @Bean(name = "jdbcWriterExecutor")
+    public ThreadPoolTaskExecutor jdbcWriterExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(jdbcWriters);
+        executor.setMaxPoolSize(jdbcWriters);
+        executor.setQueueCapacity(jdbcWriters);
+        executor.setThreadNamePrefix("jdbc-writer-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 대시보드 구간별 조회 (스레드 수만큼만 커넥션을 추가로 사용, 포화 시 거부하여 구간을 이전 값으로 대체)
+    @Bean(name = "dashboardQueryExecutor")
+    public ThreadPoolTaskExecutor dashboardQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dashboardQueryThreads);
+        executor.setMaxPoolSize(dashboardQueryThreads);
+        executor.setQueueCapacity(dashboardQueryQueueCapacity);
+        executor.setThreadNamePrefix("dashboard-query-");
+        executor.initialize();
+        return executor;
+    }
+
+    // 대시보드 스트림 구독자별 전송 (구독자마다 전송 작업은 최대 하나이므로 대기열은 최대 구독 수, 포화 시 거부)
+    @Bean(name = "dashboardStreamExecutor")
+    public ThreadPoolTaskExecutor dashboardStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(dashboardStreamThreads);
+        executor.setMaxPoolSize(dashboardStreamThreads);
+        executor.setQueueCapacity(dashboardStreamMaxConnections);
+        executor.setThreadNamePrefix("dashboard-stream-send-");
+        executor.initialize();
+        return executor;
+    }
+
+    // Kafka 전송 실패 이벤트의 스풀 기록 (프로듀서 콜백 스레드에서 디스크 기록을 하지 않도록 분리, 포화 시 거부)
+    @Bean(name = "spoolWriteExecutor")
+    public ThreadPoolTaskExecutor spoolWriteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(spoolWriteQueueCapacity);
+        executor.setThreadNamePrefix("spool-write-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // 스풀 재처리 (싱크 응답을 기다리는 동안 공용 @Scheduled 스레드를 점유하지 않도록 분리, 한 번에 하나만 실행)
+    @Bean(name = "spoolReplayExecutor")
+    public ThreadPoolTaskExecutor spoolReplayExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("spool-replay-");
+        executor.initialize();
+        return executor;
+    }
+
+    private ThreadPoolTaskExecutor sinkExecutor(int threads, String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(sinkQueueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
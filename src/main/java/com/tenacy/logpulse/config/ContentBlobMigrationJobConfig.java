@@ -0,0 +1,139 @@
+package com.tenacy.logpulse.config;
+
+import com.tenacy.logpulse.batch.ContentBlobMigrationProcessor;
+import com.tenacy.logpulse.domain.LogEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.item.database.support.MySqlPagingQueryProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.DataClassRowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Base64 TEXT로 저장된 압축 내용을 content_blob(MEDIUMBLOB) + codec으로 옮기는 잡 (logs, log_archives)
+ * 옮겨진 행은 codec이 채워지므로 잡을 다시 실행하면 남은 행만 처리한다.
+ *
+ * codec 컬럼에는 인덱스가 없으므로 기본 키(id) 순서로 chunk 크기만큼 페이지를 나누어 읽는다.
+ * 한 번에 전체 결과를 드라이버 메모리에 담거나 긴 커서를 유지하지 않으며,
+ * 재시작 시 읽은 건수로 건너뛰면 이미 옮겨진 행 때문에 남은 행을 놓치므로 상태를 저장하지 않고 처음부터 다시 읽는다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ContentBlobMigrationJobConfig {
+
+    public static final String JOB_NAME = "contentBlobMigrationJob";
+
+    private static final String LEGACY_ROWS_SELECT = "SELECT id, content, created_at, compressed, original_size, compressed_size";
+    private static final String LEGACY_ROWS_WHERE = "compressed = 1 AND codec IS NULL";
+    private static final String UPDATE_SQL =
+            "UPDATE %s SET content = :content, content_blob = :contentBlob, codec = :codec, " +
+                    "compressed = :compressed, compressed_size = :compressedSize " +
+                    "WHERE id = :id AND created_at = :createdAt";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+
+    @Value("${logpulse.compression.migration.chunk-size:500}")
+    private int chunkSize;
+
+    @Bean
+    public Job contentBlobMigrationJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(migrateLogsContentStep())
+                .next(migrateArchivesContentStep())
+                .build();
+    }
+
+    @Bean
+    public Step migrateLogsContentStep() {
+        return new StepBuilder("migrateLogsContentStep", jobRepository)
+                .<LogEntry, LogEntry>chunk(chunkSize, transactionManager)
+                .reader(legacyLogsReader())
+                .processor(contentBlobMigrationProcessor())
+                .writer(migratedLogsWriter())
+                .build();
+    }
+
+    @Bean
+    public Step migrateArchivesContentStep() {
+        return new StepBuilder("migrateArchivesContentStep", jobRepository)
+                .<LogEntry, LogEntry>chunk(chunkSize, transactionManager)
+                .reader(legacyArchivesReader())
+                .processor(contentBlobMigrationProcessor())
+                .writer(migratedArchivesWriter())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<LogEntry> legacyLogsReader() {
+        return legacyRowsReader("legacyLogsReader", "logs");
+    }
+
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<LogEntry> legacyArchivesReader() {
+        return legacyRowsReader("legacyArchivesReader", "log_archives");
+    }
+
+    @Bean
+    @StepScope
+    public ContentBlobMigrationProcessor contentBlobMigrationProcessor() {
+        return new ContentBlobMigrationProcessor();
+    }
+
+    @Bean
+    @StepScope
+    public JdbcBatchItemWriter<LogEntry> migratedLogsWriter() {
+        return migratedRowsWriter("logs");
+    }
+
+    @Bean
+    @StepScope
+    public JdbcBatchItemWriter<LogEntry> migratedArchivesWriter() {
+        return migratedRowsWriter("log_archives");
+    }
+
+    private JdbcPagingItemReader<LogEntry> legacyRowsReader(String name, String table) {
+        MySqlPagingQueryProvider queryProvider = new MySqlPagingQueryProvider();
+        queryProvider.setSelectClause(LEGACY_ROWS_SELECT);
+        queryProvider.setFromClause(table);
+        queryProvider.setWhereClause(LEGACY_ROWS_WHERE);
+        queryProvider.setSortKeys(Map.of("id", Order.ASCENDING));
+
+        return new JdbcPagingItemReaderBuilder<LogEntry>()
+                .name(name)
+                .dataSource(dataSource)
+                .queryProvider(queryProvider)
+                .pageSize(chunkSize)
+                .fetchSize(chunkSize)
+                .rowMapper(new DataClassRowMapper<>(LogEntry.class))
+                .saveState(false)
+                .build();
+    }
+
+    private JdbcBatchItemWriter<LogEntry> migratedRowsWriter(String table) {
+        return new JdbcBatchItemWriterBuilder<LogEntry>()
+                .dataSource(dataSource)
+                .sql(String.format(UPDATE_SQL, table))
+                .beanMapped()
+                .assertUpdates(false)
+                .build();
+    }
+}
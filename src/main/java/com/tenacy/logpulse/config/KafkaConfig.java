@@ -1,14 +1,31 @@
 package com.tenacy.logpulse.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.kafka.LogEventDeserializer;
+import com.tenacy.logpulse.kafka.LogEventFormat;
+import com.tenacy.logpulse.kafka.LogEventSerializer;
+import com.tenacy.logpulse.service.BatchLogConsumerService;
+import com.tenacy.logpulse.service.DeadLetterService;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
 import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.util.backoff.FixedBackOff;
 
 @Configuration
@@ -17,6 +34,18 @@ public class KafkaConfig {
     @Value("${logpulse.kafka.topics.raw-logs}")
     private String rawLogsTopic;
 
+    @Value("${logpulse.kafka.topics.priority-logs}")
+    private String priorityLogsTopic;
+
+    @Value("${logpulse.kafka.topics.dead-letter}")
+    private String deadLetterTopic;
+
+    @Value("${logpulse.kafka.wire-format:json}")
+    private String wireFormat;
+
+    @Value("${logpulse.consumer.pipeline.rewind-idle-interval-ms:5000}")
+    private long rewindIdleIntervalMs;
+
     @Bean
     public NewTopic rawLogsTopic() {
         return TopicBuilder.name(rawLogsTopic)
@@ -25,22 +54,100 @@ public class KafkaConfig {
                 .build();
     }
 
+    // ERROR/WARN 전용 토픽 - 처리량이 적으므로 파티션 하나로 순서를 유지
     @Bean
-    public CommonErrorHandler kafkaCommonErrorHandler() {
-        return new DefaultErrorHandler(
-                new FixedBackOff(1000L, 3)  // 3번 재시도, 1초 간격
+    public NewTopic priorityLogsTopic() {
+        return TopicBuilder.name(priorityLogsTopic)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public NewTopic deadLetterTopic() {
+        return TopicBuilder.name(deadLetterTopic)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * 문자열 템플릿 (LogEventDto 템플릿을 등록하면 자동 구성 템플릿이 생성되지 않으므로 직접 등록)
+     */
+    @Bean
+    public KafkaTemplate<String, String> kafkaTemplate(ProducerFactory<String, String> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
+    }
+
+    /**
+     * raw-logs 토픽 전송용 템플릿
+     * 자동 구성 프로듀서 설정을 그대로 사용하고 값 직렬화기만 LogEventSerializer로 교체한다.
+     */
+    @Bean
+    public KafkaTemplate<String, LogEventDto> logEventKafkaTemplate(
+            ProducerFactory<String, String> producerFactory,
+            ObjectMapper objectMapper) {
+
+        DefaultKafkaProducerFactory<String, LogEventDto> logEventProducerFactory =
+                new DefaultKafkaProducerFactory<>(
+                        producerFactory.getConfigurationProperties(),
+                        new StringSerializer(),
+                        new LogEventSerializer(objectMapper, LogEventFormat.from(wireFormat)));
+        return new KafkaTemplate<>(logEventProducerFactory);
+    }
+
+    /**
+     * 데드레터 토픽 전송용 템플릿 (역직렬화 실패 레코드의 원본 바이트를 그대로 기록)
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> deadLetterKafkaTemplate(ProducerFactory<String, String> producerFactory) {
+        DefaultKafkaProducerFactory<String, byte[]> deadLetterProducerFactory =
+                new DefaultKafkaProducerFactory<>(
+                        producerFactory.getConfigurationProperties(),
+                        new StringSerializer(),
+                        new ByteArraySerializer());
+        return new KafkaTemplate<>(deadLetterProducerFactory);
+    }
+
+    /**
+     * 레코드 단위 실패는 리스너가 데드레터 토픽으로 격리하므로, 여기까지 전파된 예외만 처리
+     * 일시적 장애를 고려해 한 번만 재시도한 뒤 배치 레코드를 데드레터 토픽으로 보낸다.
+     */
+    @Bean
+    public CommonErrorHandler kafkaCommonErrorHandler(DeadLetterService deadLetterService) {
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(
+                (record, ex) -> deadLetterService.publish(record, DeadLetterService.STAGE_LISTENER, ex).join(),
+                new FixedBackOff(1000L, 1)  // 1번 재시도, 1초 간격
         );
+        errorHandler.addNotRetryableExceptions(DeserializationException.class);
+        return errorHandler;
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
+    public ConcurrentKafkaListenerContainerFactory<String, LogEventDto> kafkaListenerContainerFactory(
             ConsumerFactory<String, String> consumerFactory,
-            CommonErrorHandler kafkaCommonErrorHandler) {
+            CommonErrorHandler kafkaCommonErrorHandler,
+            ObjectMapper objectMapper) {
+
+        // 역직렬화 실패 레코드는 값이 null인 레코드로 전달되어 배치 전체가 막히지 않음
+        DefaultKafkaConsumerFactory<String, LogEventDto> logEventConsumerFactory =
+                new DefaultKafkaConsumerFactory<>(
+                        consumerFactory.getConfigurationProperties(),
+                        new StringDeserializer(),
+                        new ErrorHandlingDeserializer<>(new LogEventDeserializer(objectMapper)));
 
-        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+        ConcurrentKafkaListenerContainerFactory<String, LogEventDto> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory);
+        factory.setConsumerFactory(logEventConsumerFactory);
         factory.setCommonErrorHandler(kafkaCommonErrorHandler);
+        // 오프셋은 모든 저장 단계가 완료된 뒤 리스너가 직접 커밋
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        // 새 레코드가 없어도 저장 단계가 실패한 배치를 유휴 이벤트에서 되돌려 다시 읽음
+        factory.setContainerCustomizer(container -> {
+            if (BatchLogConsumerService.LISTENER_ID.equals(container.getListenerId())) {
+                container.getContainerProperties().setIdleEventInterval(rewindIdleIntervalMs);
+            }
+        });
         return factory;
     }
-}
\ No newline at end of file
+}
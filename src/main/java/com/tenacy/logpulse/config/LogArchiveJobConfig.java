@@ -1,7 +1,10 @@
 package com.tenacy.logpulse.config;
 
-import com.tenacy.logpulse.batch.LogArchiveProcessor;
+import com.tenacy.logpulse.batch.LogArchiveBlockWriter;
+import com.tenacy.logpulse.domain.ContentCodec;
+import com.tenacy.logpulse.domain.LogArchiveBlockRepository;
 import com.tenacy.logpulse.domain.LogEntry;
+import com.tenacy.logpulse.service.LogCompressionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -10,9 +13,7 @@ import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.database.JdbcBatchItemWriter;
 import org.springframework.batch.item.database.JdbcCursorItemReader;
-import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
 import org.springframework.batch.item.database.builder.JdbcCursorItemReaderBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -31,9 +32,17 @@ public class LogArchiveJobConfig {
     private final JobRepository jobRepository;
     private final PlatformTransactionManager transactionManager;
     private final DataSource dataSource;
+    private final LogArchiveBlockRepository blockRepository;
+    private final LogCompressionService compressionService;
 
-    @Value("${logpulse.batch.chunk-size:100}")
-    private int chunkSize;
+    @Value("${logpulse.batch.archive-block.max-entries:1000}")
+    private int blockMaxEntries;
+
+    @Value("${logpulse.batch.archive-block.max-bytes:1048576}")
+    private int blockMaxBytes;
+
+    @Value("${logpulse.batch.archive-block.codec:zstd}")
+    private String blockCodec;
 
     @Value("${logpulse.batch.archive-days:30}")
     private int archiveDays;
@@ -48,13 +57,21 @@ public class LogArchiveJobConfig {
     @Bean
     public Step archiveOldLogsStep() {
         return new StepBuilder("archiveOldLogsStep", jobRepository)
-                .<LogEntry, LogEntry>chunk(chunkSize, transactionManager)
+                .<LogEntry, LogEntry>chunk(blockMaxEntries, transactionManager)
                 .reader(oldLogsReader())
-                .processor(logArchiveProcessor())
-                .writer(archiveLogsWriter())
+                .writer(archiveBlockWriter())
                 .build();
     }
 
+    /**
+     * 소스별로 이미 블록에 담긴 마지막 (created_at, id) 이후의 로그만 읽는다.
+     * 한 소스의 로그는 (created_at, id) 순으로 블록에 담기므로 중간에 실패해도 다음 실행이 이어서 처리하며,
+     * 마지막 블록과 같은 시각의 로그가 청크 경계에서 나뉘어도 id로 이어서 읽는다.
+     *
+     * 기준은 created_at이므로, 블록에 담긴 마지막 시각보다 이른 발생 시각으로 뒤늦게 저장된 로그
+     * (archive-days보다 오래된 이벤트의 스풀/데드레터 재처리 등)는 아카이브되지 않는다.
+     * 이런 로그는 logs 테이블에 남아 보관 기간(cleanup.retention-days) 동안 조회되며, 아카이브 블록에는 담기지 않는다.
+     */
     @Bean
     @StepScope
     public JdbcCursorItemReader<LogEntry> oldLogsReader() {
@@ -63,8 +80,18 @@ public class LogArchiveJobConfig {
         return new JdbcCursorItemReaderBuilder<LogEntry>()
                 .name("oldLogsReader")
                 .dataSource(dataSource)
-                .sql("SELECT id, source, content, log_level, created_at, compressed, original_size, compressed_size " +
-                        "FROM logs WHERE created_at < ?")
+                .sql("SELECT l.id, l.source, l.content, l.content_blob, l.codec, l.dictionary_id, l.log_level, " +
+                        "l.created_at, l.compressed, l.original_size, l.compressed_size " +
+                        "FROM logs l " +
+                        "LEFT JOIN (SELECT b.source, b.max_created_at AS archived_until, " +
+                        "MAX(b.last_log_id) AS archived_until_id FROM log_archive_blocks b " +
+                        "JOIN (SELECT source, MAX(max_created_at) AS max_created_at " +
+                        "FROM log_archive_blocks GROUP BY source) m " +
+                        "ON m.source <=> b.source AND m.max_created_at = b.max_created_at " +
+                        "GROUP BY b.source, b.max_created_at) a ON a.source <=> l.source " +
+                        "WHERE l.created_at < ? AND (a.archived_until IS NULL OR l.created_at > a.archived_until " +
+                        "OR (l.created_at = a.archived_until AND l.id > a.archived_until_id)) " +
+                        "ORDER BY l.source, l.created_at, l.id")
                 .preparedStatementSetter(ps -> ps.setObject(1, cutoffDate))
                 .rowMapper(new DataClassRowMapper<>(LogEntry.class))
                 .build();
@@ -72,20 +99,8 @@ public class LogArchiveJobConfig {
 
     @Bean
     @StepScope
-    public LogArchiveProcessor logArchiveProcessor() {
-        return new LogArchiveProcessor();
-    }
-
-    @Bean
-    @StepScope
-    public JdbcBatchItemWriter<LogEntry> archiveLogsWriter() {
-        return new JdbcBatchItemWriterBuilder<LogEntry>()
-                .dataSource(dataSource)
-                .sql("INSERT INTO log_archives (id, source, content, log_level, created_at, archived_at, " +
-                        "compressed, original_size, compressed_size) " +
-                        "VALUES (:id, :source, :content, :logLevel, :createdAt, NOW(), " +
-                        ":compressed, :originalSize, :compressedSize)")
-                .beanMapped()
-                .build();
+    public LogArchiveBlockWriter archiveBlockWriter() {
+        return new LogArchiveBlockWriter(blockRepository, compressionService,
+                ContentCodec.valueOf(blockCodec.trim().toUpperCase()), blockMaxEntries, blockMaxBytes);
     }
-}
\ No newline at end of file
+}
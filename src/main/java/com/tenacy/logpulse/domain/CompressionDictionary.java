@@ -0,0 +1,41 @@
+package com.tenacy.logpulse.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 소스별 Zstd 압축 사전
+ *
+ * 사전으로 압축된 행은 dictionary_id로 이 테이블을 참조하므로 새 버전을 학습해도 이전 버전은 삭제하지 않는다.
+ */
+@Entity
+@Table(name = "compression_dictionaries", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_compression_dict_source_version", columnNames = {"source", "version"})
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompressionDictionary {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String source;        // 로그 소스
+    private Integer version;      // 소스별 버전 (1부터 증가)
+
+    @Column(columnDefinition = "MEDIUMBLOB")
+    private byte[] dictionary;    // Zstd 사전 바이트
+
+    private Integer sampleCount;  // 학습에 사용한 샘플 수
+    private Long sampleBytes;     // 학습에 사용한 샘플 총 크기
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.tenacy.logpulse.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CompressionDictionaryRepository extends JpaRepository<CompressionDictionary, Long> {
+    Optional<CompressionDictionary> findTopBySourceOrderByVersionDesc(String source);
+
+    // 소스별 최신 버전
+    @Query("SELECT d FROM CompressionDictionary d WHERE d.version = " +
+            "(SELECT MAX(d2.version) FROM CompressionDictionary d2 WHERE d2.source = d.source)")
+    List<CompressionDictionary> findLatestPerSource();
+}
@@ -0,0 +1,36 @@
+package com.tenacy.logpulse.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그 내용 저장 형식 (logs.codec / log_archives.codec 컬럼 값)
+ *
+ * NONE이면 content(TEXT)에 원문을, 그 외에는 content_blob(MEDIUMBLOB)에 압축 바이트를 저장한다.
+ * 값이 없는 행은 codec 컬럼 추가 이전에 저장된 행으로, compressed=true이면 content에 Base64 gzip이 들어 있다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ContentCodec {
+    NONE((byte) 0),
+    GZIP((byte) 1),
+    LZ4((byte) 2),
+    ZSTD((byte) 3),
+    // 소스별로 학습한 사전을 사용하는 Zstd (dictionary_id 컬럼이 사전을 가리킴)
+    ZSTD_DICT((byte) 4);
+
+    private final byte id;
+
+    public static ContentCodec fromId(Byte id) {
+        if (id == null) {
+            return null;
+        }
+
+        for (ContentCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 코덱: " + id);
+    }
+}
@@ -0,0 +1,77 @@
+package com.tenacy.logpulse.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 같은 소스, 같은 시간대의 아카이브 로그를 묶어 압축한 블록
+ *
+ * entry_index는 압축하지 않은 항목 색인(로그 id, 생성 시각, 레벨, 압축 해제된 data 안의 위치)이며
+ * 로그 하나를 조회할 때는 색인으로 블록을 찾은 뒤 data를 한 번만 해제한다 (LogBlockFormat).
+ *
+ * 블록은 소스별로 묶이므로 여러 블록의 id 범위가 서로 겹친다. 조회할 블록을 좁히도록
+ * 블록에 담긴 로그 id를 ID_BUCKET_SIZE 단위 구간으로 나눈 번호를 log_archive_block_buckets에 기록한다.
+ */
+@Entity
+@Table(name = "log_archive_blocks", indexes = {
+        @Index(name = "idx_archive_blocks_source_hour", columnList = "source,hourBucket"),
+        @Index(name = "idx_archive_blocks_max_created_at", columnList = "maxCreatedAt")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogArchiveBlock {
+
+    public static final long ID_BUCKET_SIZE = 1 << 16;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String source;
+    private LocalDateTime hourBucket;     // 블록 시간대 (정시)
+    private LocalDateTime minCreatedAt;
+    private LocalDateTime maxCreatedAt;
+    private Long minLogId;
+    private Long maxLogId;
+    private Long lastLogId;               // (created_at, id) 순서로 마지막 로그 id (아카이브 재개 위치)
+    private Integer entryCount;
+    private Integer levelMask;            // 블록에 포함된 레벨 비트 (LogBlockFormat.levelBit)
+
+    @Column(name = "codec", columnDefinition = "TINYINT")
+    private Byte codec;                   // data 압축 코덱 (ContentCodec)
+
+    @Column(name = "entry_index", columnDefinition = "MEDIUMBLOB")
+    private byte[] entryIndex;
+
+    @Column(name = "data", columnDefinition = "MEDIUMBLOB")
+    private byte[] data;
+
+    private Integer originalSize;         // 압축 전 data 크기
+    private Integer compressedSize;
+
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    @ElementCollection
+    @CollectionTable(name = "log_archive_block_buckets", joinColumns = @JoinColumn(name = "block_id"),
+            indexes = @Index(name = "idx_archive_block_buckets_bucket", columnList = "id_bucket,block_id"))
+    @Column(name = "id_bucket")
+    private Set<Long> idBuckets;          // 블록에 담긴 로그 id의 구간 번호 (idBucket)
+
+    @CreationTimestamp
+    private LocalDateTime archivedAt;
+
+    public static long idBucket(long logId) {
+        return Math.floorDiv(logId, ID_BUCKET_SIZE);
+    }
+}
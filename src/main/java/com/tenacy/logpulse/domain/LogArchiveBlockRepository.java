@@ -0,0 +1,31 @@
+package com.tenacy.logpulse.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface LogArchiveBlockRepository extends JpaRepository<LogArchiveBlock, Long> {
+
+    // 로그 id 구간(LogArchiveBlock.idBucket)에 로그가 담긴 블록의 id와 색인 (압축된 data는 읽지 않음)
+    @Query("SELECT b.id, b.entryIndex FROM LogArchiveBlock b JOIN b.idBuckets k " +
+            "WHERE k = :idBucket AND b.minLogId <= :logId AND b.maxLogId >= :logId")
+    List<Object[]> findIndexesContaining(@Param("idBucket") Long idBucket, @Param("logId") Long logId);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE k FROM log_archive_block_buckets k " +
+            "JOIN log_archive_blocks b ON b.id = k.block_id WHERE b.max_created_at < :threshold", nativeQuery = true)
+    int deleteBucketsOfBlocksOlderThan(@Param("threshold") LocalDateTime threshold);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM LogArchiveBlock b WHERE b.maxCreatedAt < :threshold")
+    int deleteBlocksOlderThan(@Param("threshold") LocalDateTime threshold);
+}
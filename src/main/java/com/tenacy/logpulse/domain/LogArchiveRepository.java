@@ -0,0 +1,8 @@
+package com.tenacy.logpulse.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LogArchiveRepository extends JpaRepository<LogArchive, Long> {
+}
@@ -30,6 +30,18 @@ public class LogEntry {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    // 압축된 내용 (codec이 NONE이 아닌 경우, content는 비어 있음)
+    @Column(name = "content_blob", columnDefinition = "MEDIUMBLOB")
+    private byte[] contentBlob;
+
+    // ContentCodec 식별자
+    @Column(name = "codec", columnDefinition = "TINYINT")
+    private Byte codec;
+
+    // ZSTD_DICT로 압축된 경우 사용한 compression_dictionaries.id
+    @Column(name = "dictionary_id")
+    private Long dictionaryId;
+
     private String logLevel;
 
     @CreationTimestamp
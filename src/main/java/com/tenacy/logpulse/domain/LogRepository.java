@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,7 +15,8 @@ import java.util.List;
 
 @Repository
 public interface LogRepository extends JpaRepository<LogEntry, Long> {
-    List<LogEntry> findByLogLevelOrderByCreatedAtDesc(String logLevel, Pageable pageable);
+    List<LogEntry> findByLogLevelAndCreatedAtAfterOrderByCreatedAtDesc(
+            String logLevel, LocalDateTime after, Pageable pageable);
 
     long countByLogLevelAndCreatedAtBetween(String logLevel, LocalDateTime start, LocalDateTime end);
     long countByLogLevelAndSourceContainingAndCreatedAtBetween(
@@ -23,6 +25,15 @@ public interface LogRepository extends JpaRepository<LogEntry, Long> {
             String source, LocalDateTime start, LocalDateTime end);
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
+    /**
+     * [start, end) 구간의 분 단위(start로부터 지난 분), 로그 레벨별 로그 수
+     */
+    @Query(value = "SELECT TIMESTAMPDIFF(MINUTE, :start, created_at) AS minute_offset, log_level, COUNT(*) " +
+            "FROM logs WHERE created_at >= :start AND created_at < :end " +
+            "GROUP BY minute_offset, log_level", nativeQuery = true)
+    List<Object[]> countByMinuteAndLevel(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Transactional
     @Modifying
     @Query("DELETE FROM LogEntry l WHERE l.createdAt < :threshold")
     int deleteLogEntriesOlderThan(@Param("threshold") LocalDateTime threshold);
@@ -36,13 +47,25 @@ public interface LogRepository extends JpaRepository<LogEntry, Long> {
             @Param("startTime") LocalDateTime startTime,
             @Param("endTime") LocalDateTime endTime);
 
+    /**
+     * 기간이 모두 주어지면 created_at 범위 조건을 항상 포함하는 쿼리를 사용한다.
+     * (:start IS NULL OR ...) 형태는 파티션 프루닝이 되지 않아 전체 파티션을 읽게 된다.
+     */
+    default Page<LogEntry> searchWithMultipleCriteria(String keyword, String level, String source, String content,
+                                                      LocalDateTime start, LocalDateTime end, Pageable pageable) {
+        if (start != null && end != null) {
+            return searchWithMultipleCriteriaBetween(keyword, level, source, content, start, end, pageable);
+        }
+        return searchWithMultipleCriteriaAnyTime(keyword, level, source, content, pageable);
+    }
+
     @Query("SELECT l FROM LogEntry l WHERE " +
+            "l.createdAt BETWEEN :start AND :end AND " +
             "(:keyword IS NULL OR LOWER(l.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(l.source) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
             "(:level IS NULL OR l.logLevel = :level) AND " +
             "(:source IS NULL OR LOWER(l.source) LIKE LOWER(CONCAT('%', :source, '%'))) AND " +
-            "(:content IS NULL OR LOWER(l.content) LIKE LOWER(CONCAT('%', :content, '%'))) AND " +
-            "(:start IS NULL OR :end IS NULL OR l.createdAt BETWEEN :start AND :end)")
-    Page<LogEntry> searchWithMultipleCriteria(
+            "(:content IS NULL OR LOWER(l.content) LIKE LOWER(CONCAT('%', :content, '%')))")
+    Page<LogEntry> searchWithMultipleCriteriaBetween(
             @Param("keyword") String keyword,
             @Param("level") String level,
             @Param("source") String source,
@@ -50,4 +73,59 @@ public interface LogRepository extends JpaRepository<LogEntry, Long> {
             @Param("start") LocalDateTime start,
             @Param("end") LocalDateTime end,
             Pageable pageable);
-}
\ No newline at end of file
+
+    @Query("SELECT l FROM LogEntry l WHERE " +
+            "(:keyword IS NULL OR LOWER(l.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(l.source) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+            "(:level IS NULL OR l.logLevel = :level) AND " +
+            "(:source IS NULL OR LOWER(l.source) LIKE LOWER(CONCAT('%', :source, '%'))) AND " +
+            "(:content IS NULL OR LOWER(l.content) LIKE LOWER(CONCAT('%', :content, '%')))")
+    Page<LogEntry> searchWithMultipleCriteriaAnyTime(
+            @Param("keyword") String keyword,
+            @Param("level") String level,
+            @Param("source") String source,
+            @Param("content") String content,
+            Pageable pageable);
+
+    /**
+     * 키셋 페이지네이션 (created_at, id 내림차순) - 커서 위치 다음 행부터 limit 크기만큼 조회하며 COUNT 쿼리는 실행하지 않는다.
+     * 기간은 항상 BETWEEN으로 주어야 파티션 프루닝이 되므로 조건이 없으면 LogCursor의 경계값을 넘긴다.
+     */
+    @Query("SELECT l FROM LogEntry l WHERE " +
+            "l.createdAt BETWEEN :start AND :end AND " +
+            "l.createdAt <= :cursorTime AND (l.createdAt < :cursorTime OR l.id < :cursorId) AND " +
+            "(:keyword IS NULL OR LOWER(l.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(l.source) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+            "(:level IS NULL OR l.logLevel = :level) AND " +
+            "(:source IS NULL OR LOWER(l.source) LIKE LOWER(CONCAT('%', :source, '%'))) AND " +
+            "(:content IS NULL OR LOWER(l.content) LIKE LOWER(CONCAT('%', :content, '%'))) " +
+            "ORDER BY l.createdAt DESC, l.id DESC")
+    List<LogEntry> searchBeforeCursor(
+            @Param("keyword") String keyword,
+            @Param("level") String level,
+            @Param("source") String source,
+            @Param("content") String content,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") long cursorId,
+            Pageable limit);
+
+    // 키셋 페이지네이션 (created_at, id 오름차순)
+    @Query("SELECT l FROM LogEntry l WHERE " +
+            "l.createdAt BETWEEN :start AND :end AND " +
+            "l.createdAt >= :cursorTime AND (l.createdAt > :cursorTime OR l.id > :cursorId) AND " +
+            "(:keyword IS NULL OR LOWER(l.content) LIKE LOWER(CONCAT('%', :keyword, '%')) OR LOWER(l.source) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+            "(:level IS NULL OR l.logLevel = :level) AND " +
+            "(:source IS NULL OR LOWER(l.source) LIKE LOWER(CONCAT('%', :source, '%'))) AND " +
+            "(:content IS NULL OR LOWER(l.content) LIKE LOWER(CONCAT('%', :content, '%'))) " +
+            "ORDER BY l.createdAt ASC, l.id ASC")
+    List<LogEntry> searchAfterCursor(
+            @Param("keyword") String keyword,
+            @Param("level") String level,
+            @Param("source") String source,
+            @Param("content") String content,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") long cursorId,
+            Pageable limit);
+}
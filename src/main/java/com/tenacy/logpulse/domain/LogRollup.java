@@ -0,0 +1,41 @@
+package com.tenacy.logpulse.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분 / 시간 / 일 단위 로그 수 집계 (수집 시 세 단위를 함께 갱신하고, 보관 기간이 지난 세밀한 단위부터 정리)
+ */
+@Entity
+@Table(name = "log_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_log_rollups_key", columnNames = {"resolution", "bucketStart", "source", "logLevel"})
+}, indexes = {
+        @Index(name = "idx_log_rollups_bucket", columnList = "resolution,bucketStart")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LogRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private RollupResolution resolution;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;    // 구간 시작 (단위로 절삭된 시각)
+
+    private String source;
+    private String logLevel;
+    private Long count;
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,60 @@
+package com.tenacy.logpulse.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface LogRollupRepository extends JpaRepository<LogRollup, Long> {
+
+    // 구간의 로그 레벨별 합계
+    @Query("SELECT r.logLevel, SUM(r.count) FROM LogRollup r " +
+            "WHERE r.resolution = :resolution AND r.bucketStart >= :start AND r.bucketStart < :end " +
+            "GROUP BY r.logLevel")
+    List<Object[]> findLevelCounts(
+            @Param("resolution") RollupResolution resolution,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // 구간의 로그 레벨별 합계 (소스 필터)
+    @Query("SELECT r.logLevel, SUM(r.count) FROM LogRollup r " +
+            "WHERE r.resolution = :resolution AND r.bucketStart >= :start AND r.bucketStart < :end " +
+            "AND r.source LIKE %:source% " +
+            "GROUP BY r.logLevel")
+    List<Object[]> findLevelCountsBySource(
+            @Param("resolution") RollupResolution resolution,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end,
+            @Param("source") String source);
+
+    // 구간의 소스별 합계
+    @Query("SELECT r.source, SUM(r.count) FROM LogRollup r " +
+            "WHERE r.resolution = :resolution AND r.bucketStart >= :start AND r.bucketStart < :end " +
+            "GROUP BY r.source ORDER BY SUM(r.count) DESC")
+    List<Object[]> findSourceCounts(
+            @Param("resolution") RollupResolution resolution,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    // 구간 내 집계 단위별, 로그 레벨별 합계
+    @Query("SELECT r.bucketStart, r.logLevel, SUM(r.count) FROM LogRollup r " +
+            "WHERE r.resolution = :resolution AND r.bucketStart >= :start AND r.bucketStart < :end " +
+            "GROUP BY r.bucketStart, r.logLevel ORDER BY r.bucketStart")
+    List<Object[]> findBucketLevelCounts(
+            @Param("resolution") RollupResolution resolution,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM LogRollup r WHERE r.resolution = :resolution AND r.bucketStart < :threshold")
+    int deleteByResolutionOlderThan(
+            @Param("resolution") RollupResolution resolution,
+            @Param("threshold") LocalDateTime threshold);
+}
@@ -11,7 +11,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "log_statistics", indexes = {
+@Table(name = "log_statistics", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_log_stats_key", columnNames = {"logDate", "hour", "source", "logLevel"})
+}, indexes = {
         @Index(name = "idx_log_stats_date", columnList = "logDate"),
         @Index(name = "idx_log_stats_hour", columnList = "hour"),
         @Index(name = "idx_log_stats_source_level", columnList = "source,logLevel")
@@ -1,7 +1,6 @@
 package com.tenacy.logpulse.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,10 +11,6 @@ import java.util.List;
 @Repository
 public interface LogStatisticsRepository extends JpaRepository<LogStatistics, Long> {
 
-    // 특정 날짜, 소스, 레벨, 시간에 해당하는 통계 찾기
-    LogStatistics findByLogDateAndSourceAndLogLevelAndHour(
-            LocalDate date, String source, String logLevel, Integer hour);
-
     // 날짜 범위의 소스별 통계 조회
     @Query("SELECT ls.source, SUM(ls.count) FROM LogStatistics ls " +
             "WHERE ls.logDate BETWEEN :startDate AND :endDate " +
@@ -39,16 +34,12 @@ public interface LogStatisticsRepository extends JpaRepository<LogStatistics, Lo
             "ORDER BY ls.hour")
     List<Object[]> findHourlyStatsByDate(@Param("date") LocalDate date);
 
-    // 통계 레코드 갱신 (count 증가)
-    @Modifying
-    @Query("UPDATE LogStatistics ls SET ls.count = ls.count + 1, ls.updatedAt = CURRENT_TIMESTAMP " +
-            "WHERE ls.logDate = :date AND ls.hour = :hour " +
-            "AND ls.source = :source AND ls.logLevel = :logLevel")
-    int incrementCount(
-            @Param("date") LocalDate date,
-            @Param("hour") Integer hour,
-            @Param("source") String source,
-            @Param("logLevel") String logLevel);
+    // 날짜의 fromHour 이후 시간별 통계 조회
+    @Query("SELECT ls.hour, ls.logLevel, SUM(ls.count) FROM LogStatistics ls " +
+            "WHERE ls.logDate = :date AND ls.hour >= :fromHour " +
+            "GROUP BY ls.hour, ls.logLevel " +
+            "ORDER BY ls.hour")
+    List<Object[]> findHourlyStatsByDateFromHour(@Param("date") LocalDate date, @Param("fromHour") Integer fromHour);
 
     @Query("SELECT ls.logLevel, SUM(ls.count) FROM LogStatistics ls " +
             "WHERE ls.logDate BETWEEN :startDate AND :endDate " +
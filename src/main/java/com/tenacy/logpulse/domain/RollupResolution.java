@@ -0,0 +1,31 @@
+package com.tenacy.logpulse.domain;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * log_rollups 집계 단위 (세밀한 순서)
+ */
+public enum RollupResolution {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupResolution(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public boolean isAligned(LocalDateTime time) {
+        return truncate(time).equals(time);
+    }
+
+    public boolean isCoarserThan(RollupResolution other) {
+        return ordinal() > other.ordinal();
+    }
+}
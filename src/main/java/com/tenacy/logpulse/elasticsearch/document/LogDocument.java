@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.*;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
 
 @Document(indexName = "logs")
 @Setting(settingPath = "elasticsearch/settings.json")
@@ -42,4 +45,17 @@ public class LogDocument {
 
     @Field(type = FieldType.Date, format = DateFormat.date_hour_minute_second)
     private LocalDateTime timestamp;
+
+    /**
+     * 문서 ID (동기 저장 경로와 raw-logs 인덱싱 컨슈머가 같은 규칙 사용)
+     * 로그 자체의 소스/레벨/발생 시각/내용으로 만들므로 어느 경로로 인덱싱되든, 데드레터 재처리로
+     * 다른 오프셋에 다시 기록되든 같은 로그는 같은 문서가 된다. (시각은 MySQL 저장 정밀도인 마이크로초까지 사용)
+     * Kafka 위치(토픽/파티션/오프셋)는 재처리 시 달라지므로 키에 넣지 않으며, 그 대가로 네 값이 모두 같은
+     * 서로 다른 이벤트는 한 문서로 합쳐진다. 건수 집계는 MySQL(log_statistics)을 기준으로 한다.
+     */
+    public static String idOf(String source, String logLevel, LocalDateTime timestamp, String content) {
+        String key = source + '\u0000' + logLevel + '\u0000' +
+                (timestamp != null ? timestamp.truncatedTo(ChronoUnit.MICROS) : "") + '\u0000' + content;
+        return UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)).toString();
+    }
 }
\ No newline at end of file
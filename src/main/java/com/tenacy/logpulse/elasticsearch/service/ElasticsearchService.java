@@ -7,6 +7,7 @@ import com.tenacy.logpulse.elasticsearch.repository.LogDocumentRepository;
 import com.tenacy.logpulse.service.LogCompressionService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.elasticsearch.BulkFailureException;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.elasticsearch.client.elc.NativeQuery;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
@@ -17,7 +18,9 @@ import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -78,10 +81,7 @@ public class ElasticsearchService {
 
             // 명시적 콘텐츠가 없고 압축된 경우 압축 해제
             if (contentToUse == null) {
-                contentToUse = logEntry.getContent();
-                if (Boolean.TRUE.equals(logEntry.getCompressed()) && contentToUse != null) {
-                    contentToUse = compressionService.decompressContent(contentToUse);
-                }
+                contentToUse = compressionService.readContent(logEntry);
             }
 
             // 최종적으로 사용할 콘텐츠로 LogDocument 생성
@@ -110,14 +110,8 @@ public class ElasticsearchService {
                 int toIndex = Math.min(i + effectiveBulkSize, totalSize);
 
                 List<LogDocument> chunk = logEntries.subList(i, toIndex).stream()
-                        .map(entry -> {
-                            String contentToUse = entry.getContent();
-                            // 압축된 경우 압축 해제
-                            if (Boolean.TRUE.equals(entry.getCompressed()) && contentToUse != null) {
-                                contentToUse = compressionService.decompressContent(contentToUse);
-                            }
-                            return createLogDocument(entry, contentToUse);
-                        })
+                        // 압축된 경우 압축 해제
+                        .map(entry -> createLogDocument(entry, compressionService.readContent(entry)))
                         .collect(Collectors.toList());
 
                 logDocumentRepository.saveAll(chunk);
@@ -130,9 +124,49 @@ public class ElasticsearchService {
         }
     }
 
+    /**
+     * 문서 대량 인덱싱
+     * 연결 장애와 일시적 거부(429, 5xx)는 예외로 전달하므로 호출자가 배치를 다시 시도한다.
+     * 매핑 오류처럼 다시 보내도 실패하는 문서는 건너뛰고 문서 ID별 실패 원인을 반환한다.
+     * 문서 ID가 같으면 덮어쓰므로 같은 문서를 다시 인덱싱해도 중복되지 않는다.
+     */
+    public Map<String, String> indexDocuments(List<LogDocument> documents) {
+        if (documents == null || documents.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        int totalSize = documents.size();
+        int effectiveBulkSize = (bulkSize <= 0) ? 1000 : bulkSize;
+        Map<String, String> rejected = new HashMap<>();
+
+        for (int i = 0; i < totalSize; i += effectiveBulkSize) {
+            List<LogDocument> chunk = documents.subList(i, Math.min(i + effectiveBulkSize, totalSize));
+            try {
+                logDocumentRepository.saveAll(chunk);
+                log.debug("Elasticsearch에 {}개 로그 저장 완료", chunk.size());
+            } catch (BulkFailureException e) {
+                // 문서 단위 실패는 클러스터 장애가 아니므로 사용 가능 상태를 유지
+                if (e.getFailedDocuments().values().stream().anyMatch(ElasticsearchService::isRetryable)) {
+                    throw e;
+                }
+                e.getFailedDocuments().forEach((id, failure) -> rejected.put(id, failure.errorMessage()));
+            } catch (RuntimeException e) {
+                elasticsearchAvailable = false;
+                throw e;
+            }
+        }
+
+        return rejected;
+    }
+
+    private static boolean isRetryable(BulkFailureException.FailureDetails failure) {
+        Integer status = failure.status();
+        return status == null || status == 429 || status >= 500;
+    }
+
     private LogDocument createLogDocument(LogEntry entry, String content) {
         return LogDocument.builder()
-                .id(entry.getId() != null ? entry.getId().toString() : java.util.UUID.randomUUID().toString())
+                .id(LogDocument.idOf(entry.getSource(), entry.getLogLevel(), entry.getCreatedAt(), content))
                 .source(entry.getSource())
                 .content(content)
                 .logLevel(entry.getLogLevel())
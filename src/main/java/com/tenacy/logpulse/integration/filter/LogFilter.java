@@ -35,8 +35,13 @@ public class LogFilter {
 
     @Filter(inputChannel = "enrichedLogChannel", outputChannel = "filteredLogChannel")
     public boolean filterLog(Message<LogEventDto> message) {
-        LogEventDto logEvent = message.getPayload();
+        return accept(message.getPayload());
+    }
 
+    /**
+     * 메시지 래핑 없이 이벤트 단위로 필터 조건 평가 (단일 패스 수집 스테이지에서 사용)
+     */
+    public boolean accept(LogEventDto logEvent) {
         // 성능 테스트 소스는 항상 통과
         if ("performance-test".equals(logEvent.getSource())) {
             return true;
@@ -8,11 +8,15 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Component
 public class LogRouter {
 
+    // Kafka 우선순위 토픽으로도 전달되는 레벨 (알림/패턴 감지 대상)
+    private static final Set<String> PRIORITY_LEVELS = Set.of("ERROR", "WARN");
+
     private final MessageChannel errorLogChannel;
     private final MessageChannel warnLogChannel;
     private final MessageChannel infoLogChannel;
@@ -38,11 +42,33 @@ public class LogRouter {
 
     @Router(inputChannel = "logInputChannel")
     public MessageChannel routeByLogLevel(Message<LogEventDto> message) {
-        LogEventDto logEvent = message.getPayload();
-        String logLevel = logEvent.getLogLevel().toUpperCase();
+        String logLevel = resolveLevel(message.getPayload().getLogLevel());
 
         log.debug("로그 레벨 {}에 따라 적절한 채널로 라우팅", logLevel);
 
-        return channelMap.getOrDefault(logLevel, infoLogChannel);
+        return channelMap.get(logLevel);
+    }
+
+    /**
+     * 라우팅 기준 레벨 결정 - 알 수 없는 레벨은 INFO로 취급
+     */
+    public static String resolveLevel(String logLevel) {
+        if (logLevel == null) {
+            return "INFO";
+        }
+
+        return switch (logLevel.toUpperCase()) {
+            case "ERROR" -> "ERROR";
+            case "WARN" -> "WARN";
+            case "DEBUG" -> "DEBUG";
+            default -> "INFO";
+        };
+    }
+
+    /**
+     * 우선순위 처리 대상 레벨 여부 - 대량 INFO 로그에 밀리지 않도록 별도 토픽으로 전달된다
+     */
+    public static boolean isPriorityLevel(String logLevel) {
+        return PRIORITY_LEVELS.contains(resolveLevel(logLevel));
     }
-}
\ No newline at end of file
+}
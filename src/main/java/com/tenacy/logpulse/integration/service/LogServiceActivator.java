@@ -1,7 +1,7 @@
 package com.tenacy.logpulse.integration.service;
 
 import com.tenacy.logpulse.api.dto.LogEventDto;
-import com.tenacy.logpulse.service.LogProducerService;
+import com.tenacy.logpulse.service.LogBatchAccumulator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.integration.annotation.ServiceActivator;
@@ -13,7 +13,7 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class LogServiceActivator {
 
-    private final LogProducerService logProducerService;
+    private final LogBatchAccumulator logBatchAccumulator;
 
     @ServiceActivator(inputChannel = "filteredLogChannel")
     public LogEventDto processLog(Message<LogEventDto> message) {
@@ -22,9 +22,9 @@ public class LogServiceActivator {
         try {
             log.debug("로그 이벤트 처리: {}", logEvent);
 
-            // Kafka로 로그 이벤트 전송
-            logProducerService.sendLogEvent(logEvent);
-            log.debug("로그 이벤트를 Kafka로 전송: {}", logEvent);
+            // 배치 누적기를 거쳐 Kafka로 로그 이벤트 전송
+            logBatchAccumulator.append(logEvent);
+            log.debug("로그 이벤트를 Kafka 전송 배치에 추가: {}", logEvent);
 
             return logEvent;
         } catch (Exception e) {
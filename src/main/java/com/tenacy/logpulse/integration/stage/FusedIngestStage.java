@@ -0,0 +1,94 @@
+package com.tenacy.logpulse.integration.stage;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.integration.filter.LogFilter;
+import com.tenacy.logpulse.integration.router.LogRouter;
+import com.tenacy.logpulse.service.LogBatchAccumulator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 라우팅 → 보강 → 필터 → Kafka 전송 배치 누적을 한 번의 순회로 처리하는 수집 스테이지
+ * LogRouter/LogEnricher/LogFilter/LogServiceActivator 채널 체인과 동일한 판단 기준을 사용하지만
+ * 홉마다 Message 생성, 헤더 복사, UUID 할당을 하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FusedIngestStage {
+
+    private final LogFilter logFilter;
+    private final LogBatchAccumulator logBatchAccumulator;
+
+    /**
+     * 이벤트 배치를 단일 패스로 처리
+     * 이벤트 단위 오류는 배치의 나머지를 막지 않도록 건너뛰고, 결과의 dispatched/filtered 어느 쪽에도 포함하지 않는다.
+     * (호출자는 배치 크기와의 차이를 실패 건수로 보고한다)
+     * @return 전달된 이벤트 수와 필터로 제외된 이벤트 수
+     */
+    public IngestResult process(List<LogEventDto> logEvents) {
+        int filtered = 0;
+        int failed = 0;
+        List<LogEventDto> accepted = new ArrayList<>(logEvents.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        for (LogEventDto logEvent : logEvents) {
+            try {
+                if (prepare(logEvent, now)) {
+                    accepted.add(logEvent);
+                } else {
+                    filtered++;
+                }
+            } catch (Exception e) {
+                failed++;
+                log.error("단일 패스 수집 스테이지 처리 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+
+        // 전송: 필터를 통과한 이벤트를 한 번에 배치 누적기로 전달
+        logBatchAccumulator.appendAll(accepted);
+
+        log.debug("단일 패스 수집: {}개 중 {}개 전송, {}개 필터링, {}개 실패",
+                logEvents.size(), accepted.size(), filtered, failed);
+        return new IngestResult(accepted.size(), filtered);
+    }
+
+    /**
+     * 단일 이벤트 처리
+     * 오류는 호출자(IntegrationLogService.processLog)의 재시도 처리로 전파한다.
+     * @return 전달되었으면 true, 필터로 제외되었으면 false
+     */
+    public boolean process(LogEventDto logEvent) {
+        if (!prepare(logEvent, LocalDateTime.now())) {
+            return false;
+        }
+        logBatchAccumulator.append(logEvent);
+        return true;
+    }
+
+    /**
+     * 라우팅 → 보강 → 필터
+     * @return 필터를 통과했으면 true
+     */
+    private boolean prepare(LogEventDto logEvent, LocalDateTime now) {
+        // 라우팅: 채널 체인에서 레벨별 분기는 동일한 보강 로직으로 합쳐지므로 레벨 판별만 수행
+        String level = LogRouter.resolveLevel(logEvent.getLogLevel());
+
+        // 보강: 배치 내에서는 같은 처리 시각을 재사용
+        if (logEvent.getTimestamp() == null) {
+            logEvent.setTimestamp(now);
+        }
+
+        // 필터
+        if (!logFilter.accept(logEvent)) {
+            log.debug("{} 레벨 로그 필터링: source={}", level, logEvent.getSource());
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,21 @@
+package com.tenacy.logpulse.integration.stage;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 수집 배치 처리 결과
+ * dispatched: Kafka 전송 배치에 전달된 이벤트 수, filtered: 필터 조건으로 제외된 이벤트 수
+ * (나머지는 처리 중 오류로 전달되지 않은 이벤트)
+ */
+@Getter
+@RequiredArgsConstructor
+public class IngestResult {
+
+    private final int dispatched;
+    private final int filtered;
+
+    public int getHandled() {
+        return dispatched + filtered;
+    }
+}
@@ -0,0 +1,241 @@
+package com.tenacy.logpulse.kafka;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LogEventDto 바이너리 인코딩 (버전 1)
+ *
+ * <pre>
+ * version   : 1 byte
+ * header    : 1 byte  (하위 4비트 로그 레벨 코드, 0x10 타임스탬프 존재 여부)
+ * timestamp : zigzag varint 에포크 밀리초(UTC) + varint 밀리초 이하 나노초
+ * logLevel  : 레벨 코드가 CUSTOM인 경우에만 문자열
+ * source    : 문자열
+ * content   : 문자열
+ * </pre>
+ * 문자열은 varint(UTF-8 길이 + 1) 뒤에 바이트가 오며, 길이 0은 null을 의미한다.
+ * 디코딩한 source는 인턴하여 같은 소스의 이벤트가 하나의 문자열 인스턴스를 공유한다.
+ */
+public class LogEventBinaryCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final int LEVEL_MASK = 0x0F;
+    private static final int HAS_TIMESTAMP = 0x10;
+
+    private static final int LEVEL_NULL = 0;
+    private static final int LEVEL_CUSTOM = 15;
+    private static final String[] LEVELS = {null, "ERROR", "WARN", "INFO", "DEBUG", "TRACE"};
+
+    private static final int MAX_INTERNED_SOURCES = 4096;
+
+    private final Map<String, String> internedSources = new ConcurrentHashMap<>();
+
+    public byte[] encode(LogEventDto logEvent) {
+        ByteWriter out = new ByteWriter(estimateSize(logEvent));
+
+        out.writeByte(VERSION);
+
+        int levelCode = levelCode(logEvent.getLogLevel());
+        LocalDateTime timestamp = logEvent.getTimestamp();
+        out.writeByte(levelCode | (timestamp != null ? HAS_TIMESTAMP : 0));
+
+        if (timestamp != null) {
+            long epochMillis = timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+            out.writeVarLong(zigzag(epochMillis));
+            out.writeVarLong(timestamp.getNano() % 1_000_000);
+        }
+
+        if (levelCode == LEVEL_CUSTOM) {
+            out.writeString(logEvent.getLogLevel());
+        }
+        out.writeString(logEvent.getSource());
+        out.writeString(logEvent.getContent());
+
+        return out.toByteArray();
+    }
+
+    public LogEventDto decode(byte[] data) {
+        ByteReader in = new ByteReader(data);
+
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 바이너리 로그 이벤트 버전: " + version);
+        }
+
+        int header = in.readByte();
+        int levelCode = header & LEVEL_MASK;
+
+        LocalDateTime timestamp = null;
+        if ((header & HAS_TIMESTAMP) != 0) {
+            long epochMillis = unzigzag(in.readVarLong());
+            int nanoOfMilli = (int) in.readVarLong();
+            long epochSecond = Math.floorDiv(epochMillis, 1000L);
+            int nano = (int) Math.floorMod(epochMillis, 1000L) * 1_000_000 + nanoOfMilli;
+            timestamp = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+
+        String logLevel;
+        if (levelCode == LEVEL_CUSTOM) {
+            logLevel = in.readString();
+        } else if (levelCode < LEVELS.length) {
+            logLevel = LEVELS[levelCode];
+        } else {
+            throw new IllegalArgumentException("알 수 없는 로그 레벨 코드: " + levelCode);
+        }
+
+        String source = intern(in.readString());
+        String content = in.readString();
+
+        return LogEventDto.builder()
+                .source(source)
+                .content(content)
+                .logLevel(logLevel)
+                .timestamp(timestamp)
+                .build();
+    }
+
+    private int levelCode(String logLevel) {
+        if (logLevel == null) {
+            return LEVEL_NULL;
+        }
+        for (int i = 1; i < LEVELS.length; i++) {
+            if (LEVELS[i].equals(logLevel)) {
+                return i;
+            }
+        }
+        return LEVEL_CUSTOM;
+    }
+
+    private String intern(String source) {
+        if (source == null) {
+            return null;
+        }
+        String interned = internedSources.get(source);
+        if (interned != null) {
+            return interned;
+        }
+        if (internedSources.size() >= MAX_INTERNED_SOURCES) {
+            return source;
+        }
+        interned = internedSources.putIfAbsent(source, source);
+        return interned != null ? interned : source;
+    }
+
+    private int estimateSize(LogEventDto logEvent) {
+        int size = 16;
+        if (logEvent.getSource() != null) {
+            size += logEvent.getSource().length();
+        }
+        if (logEvent.getContent() != null) {
+            size += logEvent.getContent().length();
+        }
+        return size;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class ByteWriter {
+
+        private byte[] buffer;
+        private int position;
+
+        ByteWriter(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeString(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        byte[] toByteArray() {
+            return position == buffer.length ? buffer : Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int additional) {
+            if (position + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+            }
+        }
+    }
+
+    private static final class ByteReader {
+
+        private final byte[] buffer;
+        private int position;
+
+        ByteReader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readByte() {
+            checkAvailable(1);
+            return buffer[position++] & 0xFF;
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("잘못된 varint 인코딩");
+        }
+
+        String readString() {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            int byteLength = (int) (length - 1);
+            checkAvailable(byteLength);
+            String value = new String(buffer, position, byteLength, StandardCharsets.UTF_8);
+            position += byteLength;
+            return value;
+        }
+
+        private void checkAvailable(int length) {
+            if (length < 0 || position + length > buffer.length) {
+                throw new IllegalArgumentException("바이너리 로그 이벤트 데이터가 잘렸습니다");
+            }
+        }
+    }
+}
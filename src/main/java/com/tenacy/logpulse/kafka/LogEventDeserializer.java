@@ -0,0 +1,61 @@
+package com.tenacy.logpulse.kafka;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * LogEventDto Kafka 역직렬화기
+ * 레코드 헤더에 선언된 형식으로 디코딩하며, 헤더가 없는 레코드는 JSON으로 해석한다.
+ * JSON과 바이너리 프로듀서가 같은 토픽에 공존하는 마이그레이션 기간을 지원한다.
+ */
+public class LogEventDeserializer implements Deserializer<LogEventDto> {
+
+    private final ObjectReader jsonReader;
+    private final LogEventBinaryCodec binaryCodec;
+
+    public LogEventDeserializer(ObjectMapper objectMapper) {
+        this.jsonReader = objectMapper.readerFor(LogEventDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        this.binaryCodec = new LogEventBinaryCodec();
+    }
+
+    @Override
+    public LogEventDto deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        Header header = headers != null ? headers.lastHeader(LogEventFormat.HEADER) : null;
+        LogEventFormat format;
+        try {
+            format = LogEventFormat.fromHeader(header != null ? header.value() : null);
+        } catch (IllegalArgumentException e) {
+            throw new SerializationException(e.getMessage(), e);
+        }
+        return decode(format, data);
+    }
+
+    @Override
+    public LogEventDto deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        return decode(LogEventFormat.JSON, data);
+    }
+
+    private LogEventDto decode(LogEventFormat format, byte[] data) {
+        try {
+            if (format == LogEventFormat.BINARY) {
+                return binaryCodec.decode(data);
+            }
+            return jsonReader.readValue(data);
+        } catch (Exception e) {
+            throw new SerializationException("로그 이벤트 역직렬화 실패: format=" + format.getValue(), e);
+        }
+    }
+}
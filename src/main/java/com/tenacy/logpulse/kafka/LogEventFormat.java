@@ -0,0 +1,49 @@
+package com.tenacy.logpulse.kafka;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * raw-logs 토픽 레코드의 페이로드 형식
+ * 레코드 헤더(logpulse-format)로 선언하며, 헤더가 없는 레코드는 기존 JSON 형식으로 간주한다.
+ */
+public enum LogEventFormat {
+
+    JSON("json"),
+    BINARY("binary");
+
+    public static final String HEADER = "logpulse-format";
+
+    private final String value;
+    private final byte[] headerValue;
+
+    LogEventFormat(String value) {
+        this.value = value;
+        this.headerValue = value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public byte[] getHeaderValue() {
+        return headerValue;
+    }
+
+    public static LogEventFormat from(String value) {
+        if (value != null) {
+            for (LogEventFormat format : values()) {
+                if (format.value.equalsIgnoreCase(value.trim())) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 로그 이벤트 형식: " + value);
+    }
+
+    public static LogEventFormat fromHeader(byte[] headerValue) {
+        if (headerValue == null) {
+            return JSON;
+        }
+        return from(new String(headerValue, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,60 @@
+package com.tenacy.logpulse.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * LogEventDto Kafka 직렬화기
+ * 설정된 형식(JSON/바이너리)으로 인코딩하고 레코드 헤더에 형식을 기록한다.
+ */
+public class LogEventSerializer implements Serializer<LogEventDto> {
+
+    private final ObjectWriter jsonWriter;
+    private final LogEventBinaryCodec binaryCodec;
+    private final LogEventFormat format;
+
+    public LogEventSerializer(ObjectMapper objectMapper, LogEventFormat format) {
+        this.jsonWriter = objectMapper.writerFor(LogEventDto.class);
+        this.binaryCodec = new LogEventBinaryCodec();
+        this.format = format;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, LogEventDto data) {
+        if (data == null) {
+            return null;
+        }
+        headers.remove(LogEventFormat.HEADER);
+        headers.add(LogEventFormat.HEADER, format.getHeaderValue());
+        return encode(data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, LogEventDto data) {
+        // 헤더를 쓸 수 없는 경로에서는 헤더 없이도 해석 가능한 JSON으로 인코딩
+        if (data == null) {
+            return null;
+        }
+        return writeJson(data);
+    }
+
+    private byte[] encode(LogEventDto data) {
+        if (format == LogEventFormat.BINARY) {
+            return binaryCodec.encode(data);
+        }
+        return writeJson(data);
+    }
+
+    private byte[] writeJson(LogEventDto data) {
+        try {
+            return jsonWriter.writeValueAsBytes(data);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("로그 이벤트 JSON 직렬화 실패", e);
+        }
+    }
+}
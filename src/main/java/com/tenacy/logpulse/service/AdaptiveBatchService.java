@@ -0,0 +1,204 @@
+package com.tenacy.logpulse.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * MySQL 저장 컨슈머의 지연(lag)과 저장 단계 지연 시간에 따라 배치 크기와 플러시 간격을 조정
+ *
+ * - 지연이 lag-high 이상: 배치와 JDBC 청크를 키우고 폴링 간 대기를 없애 처리량 우선
+ * - 지연이 lag-low 이하: 배치와 JDBC 청크를 줄여 지연 시간 우선, 저장 단계가 느리면 폴링 간 대기로 쓰기를 모음
+ * - 저장 단계 지연이 목표의 두 배를 넘으면 JDBC 청크를 줄여 트랜잭션 길이를 제한
+ *
+ * 모든 값은 설정된 최소/최대 범위 안에서만 움직인다.
+ * max-poll-records는 실행 중인 컨슈머에서 바꿀 수 없으므로 최대 배치 크기 이상으로 설정하고,
+ * 유효 배치 크기는 BatchLogConsumerService의 배치 분할 크기로 적용한다.
+ */
+@Service
+@Slf4j
+public class AdaptiveBatchService {
+
+    private static final double LATENCY_SMOOTHING = 0.3;
+
+    private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+    private final ConsumerLagMonitor consumerLagMonitor;
+
+    @Value("${logpulse.consumer.adaptive.enabled:true}")
+    private boolean adaptiveEnabled;
+
+    @Value("${logpulse.consumer.max-batch-size:1000}")
+    private int initialBatchSize;
+
+    @Value("${logpulse.consumer.adaptive.min-batch-size:100}")
+    private int minBatchSize;
+
+    @Value("${logpulse.consumer.adaptive.max-batch-size:2000}")
+    private int maxBatchSize;
+
+    @Value("${logpulse.jdbc.batch-size:500}")
+    private int initialJdbcBatchSize;
+
+    @Value("${logpulse.consumer.adaptive.min-jdbc-batch-size:100}")
+    private int minJdbcBatchSize;
+
+    @Value("${logpulse.consumer.adaptive.max-jdbc-batch-size:2000}")
+    private int maxJdbcBatchSize;
+
+    @Value("${logpulse.consumer.adaptive.max-flush-interval-ms:200}")
+    private long maxFlushIntervalMs;
+
+    @Value("${logpulse.consumer.adaptive.lag-high:10000}")
+    private long lagHigh;
+
+    @Value("${logpulse.consumer.adaptive.lag-low:1000}")
+    private long lagLow;
+
+    @Value("${logpulse.consumer.adaptive.target-sink-latency-ms:500}")
+    private long targetSinkLatencyMs;
+
+    private volatile int effectiveBatchSize;
+    private volatile int effectiveJdbcBatchSize;
+    private volatile long flushIntervalMs;
+    private volatile long lastLag;
+    private volatile double sinkLatencyMs;
+    private volatile LocalDateTime lastAdjustedAt;
+
+    public AdaptiveBatchService(KafkaListenerEndpointRegistry listenerEndpointRegistry,
+                                ConsumerLagMonitor consumerLagMonitor) {
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+        this.consumerLagMonitor = consumerLagMonitor;
+    }
+
+    @PostConstruct
+    public void init() {
+        effectiveBatchSize = clamp(initialBatchSize, minBatchSize, maxBatchSize);
+        effectiveJdbcBatchSize = clamp(initialJdbcBatchSize, minJdbcBatchSize, maxJdbcBatchSize);
+        flushIntervalMs = 0;
+    }
+
+    public int getEffectiveBatchSize() {
+        return adaptiveEnabled ? effectiveBatchSize : initialBatchSize;
+    }
+
+    public int getEffectiveJdbcBatchSize() {
+        return adaptiveEnabled ? effectiveJdbcBatchSize : initialJdbcBatchSize;
+    }
+
+    public long getFlushIntervalMs() {
+        return adaptiveEnabled ? flushIntervalMs : 0;
+    }
+
+    /**
+     * 저장 단계 배치 처리 시간 기록 (지수 이동 평균)
+     */
+    public void recordSinkLatency(long elapsedMs) {
+        double current = sinkLatencyMs;
+        sinkLatencyMs = current == 0 ? elapsedMs : current + LATENCY_SMOOTHING * (elapsedMs - current);
+    }
+
+    @Scheduled(fixedDelayString = "${logpulse.consumer.adaptive.adjust-interval-ms:5000}")
+    public void adjust() {
+        if (!adaptiveEnabled) {
+            return;
+        }
+
+        try {
+            adjust(consumerLagMonitor.getLag(BatchLogConsumerService.LISTENER_ID));
+            applyFlushInterval();
+        } catch (Exception e) {
+            log.warn("배치 크기 조정 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    void adjust(long lag) {
+        int batchSize = effectiveBatchSize;
+        int jdbcBatchSize = effectiveJdbcBatchSize;
+        long flushInterval = flushIntervalMs;
+        double latency = sinkLatencyMs;
+
+        if (lag >= lagHigh) {
+            // 밀려 있음: 처리량 우선
+            if (latency <= targetSinkLatencyMs * 2) {
+                batchSize = clamp(batchSize * 2, minBatchSize, maxBatchSize);
+                jdbcBatchSize = clamp(jdbcBatchSize * 2, minJdbcBatchSize, maxJdbcBatchSize);
+            }
+            flushInterval = 0;
+        } else if (lag <= lagLow) {
+            // 따라잡음: 지연 시간 우선
+            batchSize = clamp(batchSize / 2, minBatchSize, maxBatchSize);
+            jdbcBatchSize = clamp(jdbcBatchSize / 2, minJdbcBatchSize, maxJdbcBatchSize);
+            flushInterval = latency > targetSinkLatencyMs ?
+                    Math.min(maxFlushIntervalMs, Math.max(flushInterval * 2, 10)) : 0;
+        } else {
+            flushInterval = 0;
+        }
+
+        // 저장 단계가 크게 느려지면 트랜잭션 길이 제한
+        if (latency > targetSinkLatencyMs * 2) {
+            jdbcBatchSize = clamp(jdbcBatchSize / 2, minJdbcBatchSize, maxJdbcBatchSize);
+        }
+
+        if (batchSize != effectiveBatchSize || jdbcBatchSize != effectiveJdbcBatchSize
+                || flushInterval != flushIntervalMs) {
+            log.info("배치 크기 조정: lag={}, 저장 지연={}ms, 배치 {} -> {}, JDBC 청크 {} -> {}, 플러시 간격 {}ms -> {}ms",
+                    lag, Math.round(latency), effectiveBatchSize, batchSize,
+                    effectiveJdbcBatchSize, jdbcBatchSize, flushIntervalMs, flushInterval);
+        }
+
+        effectiveBatchSize = batchSize;
+        effectiveJdbcBatchSize = jdbcBatchSize;
+        flushIntervalMs = flushInterval;
+        lastLag = lag;
+        lastAdjustedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 현재 유효 설정값과 판단 근거
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", adaptiveEnabled);
+        snapshot.put("effectiveBatchSize", getEffectiveBatchSize());
+        snapshot.put("effectiveJdbcBatchSize", getEffectiveJdbcBatchSize());
+        snapshot.put("flushIntervalMs", getFlushIntervalMs());
+        snapshot.put("consumerLag", lastLag);
+        snapshot.put("sinkLatencyMs", Math.round(sinkLatencyMs));
+        snapshot.put("batchSizeBounds", new int[]{minBatchSize, maxBatchSize});
+        snapshot.put("jdbcBatchSizeBounds", new int[]{minJdbcBatchSize, maxJdbcBatchSize});
+        snapshot.put("lastAdjustedAt", lastAdjustedAt);
+        return snapshot;
+    }
+
+    /**
+     * 폴링 간 대기 시간을 MySQL 저장 컨테이너에 반영
+     */
+    private void applyFlushInterval() {
+        long interval = flushIntervalMs;
+
+        MessageListenerContainer container =
+                listenerEndpointRegistry.getListenerContainer(BatchLogConsumerService.LISTENER_ID);
+        if (container == null) {
+            return;
+        }
+
+        container.getContainerProperties().setIdleBetweenPolls(interval);
+        // 하위 컨테이너는 생성 시점에 설정을 복사하므로 각각 반영
+        if (container instanceof ConcurrentMessageListenerContainer<?, ?> concurrent) {
+            concurrent.getContainers().forEach(child -> child.getContainerProperties().setIdleBetweenPolls(interval));
+        }
+    }
+
+    private int clamp(int value, int min, int max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
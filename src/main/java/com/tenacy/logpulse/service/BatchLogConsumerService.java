@@ -1,96 +1,203 @@
 package com.tenacy.logpulse.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.compression.CompressedContent;
+import com.tenacy.logpulse.domain.ContentCodec;
 import com.tenacy.logpulse.domain.LogEntry;
-import com.tenacy.logpulse.elasticsearch.service.ElasticsearchService;
+import com.tenacy.logpulse.integration.router.LogRouter;
 import com.tenacy.logpulse.pattern.LogPatternDetector;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * raw-logs 배치 컨슈머 파이프라인 (MySQL 저장)
+ *
+ * 1. 준비 (리스너 스레드): 메트릭/오류 모니터링, 압축, LogEntry 변환
+ * 2. 저장 (jdbcSinkExecutor): MySQL 저장과 통계 갱신
+ * 3. 확인: 저장 단계가 끝나면 배치 오프셋 커밋
+ *
+ * Elasticsearch 인덱싱은 별도 컨슈머 그룹의 ElasticsearchIndexConsumerService가 담당한다.
+ * 우선순위 레인이 켜져 있으면 ERROR/WARN 이벤트의 오류 모니터링과 패턴 감지는 PriorityLogConsumerService가 담당한다.
+ *
+ * 역직렬화/준비/저장에 실패한 레코드는 배치를 재시도하지 않고 해당 레코드만 데드레터 토픽으로 격리한다.
+ * MySQL 연결 장애로 저장하지 못한 배치는 로컬 스풀(LogSpoolService)에 기록하고 커밋하며, 스풀이 복구 후 재처리한다.
+ *
+ * 리스너는 저장 완료를 기다리지 않고 다음 배치를 준비하며, 리스너 스레드당 max-in-flight 개까지 배치를 겹쳐 처리한다.
+ * 오프셋 커밋은 배치 수신 순서대로 이어지므로 앞선 배치가 끝나기 전에 뒤 배치의 오프셋이 커밋되지 않는다.
+ *
+ * 저장 단계가 실패한 배치는 다음 수신 또는 컨테이너 유휴 이벤트에서 시작 오프셋으로 되돌려 다시 읽으며,
+ * 리밸런스로 회수된 파티션은 되돌리지 않는다 (새 소유 컨슈머가 마지막 커밋 위치부터 다시 읽음).
+ */
 @Service
 @Slf4j
-public class BatchLogConsumerService {
+public class BatchLogConsumerService implements ConsumerSeekAware {
+
+    public static final String LISTENER_ID = "jdbc-sink";
 
     private final JdbcBatchInsertService jdbcBatchInsertService;
-    private final ElasticsearchService elasticsearchService;
     private final LogMetricsService logMetricsService;
     private final RealTimeErrorMonitorService errorMonitorService;
     private final LogStatisticsService logStatisticsService;
     private final LogPatternDetector patternDetector;
     private final LogCompressionService compressionService;
     private final SystemMetricsService systemMetricsService;
-    private final ObjectMapper objectMapper;
-
-    @Value("${logpulse.consumer.max-batch-size:1000}")
-    private int maxBatchSize;
+    private final DeadLetterService deadLetterService;
+    private final AdaptiveBatchService adaptiveBatchService;
+    private final LogSpoolService logSpoolService;
+    private final LiveDashboardService liveDashboardService;
+    private final ThreadPoolTaskExecutor jdbcSinkExecutor;
+    private final Timer alertLatencyTimer;
+
+    @Value("${logpulse.consumer.pipeline.max-in-flight:2}")
+    private int maxInFlight;
+
+    @Value("${logpulse.kafka.priority-lane.enabled:true}")
+    private boolean priorityLaneEnabled;
+
+    @Value("${logpulse.consumer.pipeline.rewind-backoff-ms:1000}")
+    private long rewindBackoffMs;
+
+    // 리스너 스레드별로 오프셋 커밋 대기 중인 배치 (수신 순서)
+    private final ThreadLocal<Deque<CompletableFuture<Void>>> inFlightBatches =
+            ThreadLocal.withInitial(ArrayDeque::new);
+    // 리스너 스레드별로 저장 단계가 실패하여 다시 읽어야 하는 파티션별 시작 오프셋
+    private final ThreadLocal<Map<TopicPartition, Long>> rewindOffsets =
+            ThreadLocal.withInitial(ConcurrentHashMap::new);
+    private final AtomicInteger inFlightCount = new AtomicInteger();
 
     public BatchLogConsumerService(JdbcBatchInsertService jdbcBatchInsertService,
-                                   ElasticsearchService elasticsearchService,
                                    LogMetricsService logMetricsService,
                                    RealTimeErrorMonitorService errorMonitorService,
                                    LogStatisticsService logStatisticsService,
                                    LogPatternDetector patternDetector,
                                    LogCompressionService compressionService,
                                    SystemMetricsService systemMetricsService,
-                                   ObjectMapper objectMapper) {
+                                   DeadLetterService deadLetterService,
+                                   AdaptiveBatchService adaptiveBatchService,
+                                   LogSpoolService logSpoolService,
+                                   LiveDashboardService liveDashboardService,
+                                   @Qualifier("jdbcSinkExecutor") ThreadPoolTaskExecutor jdbcSinkExecutor,
+                                   MeterRegistry meterRegistry) {
         this.jdbcBatchInsertService = jdbcBatchInsertService;
-        this.elasticsearchService = elasticsearchService;
         this.logMetricsService = logMetricsService;
         this.errorMonitorService = errorMonitorService;
         this.logStatisticsService = logStatisticsService;
         this.patternDetector = patternDetector;
         this.compressionService = compressionService;
         this.systemMetricsService = systemMetricsService;
-        this.objectMapper = objectMapper;
+        this.deadLetterService = deadLetterService;
+        this.adaptiveBatchService = adaptiveBatchService;
+        this.logSpoolService = logSpoolService;
+        this.liveDashboardService = liveDashboardService;
+        this.jdbcSinkExecutor = jdbcSinkExecutor;
+        this.alertLatencyTimer = PriorityLogConsumerService.alertLatencyTimer(meterRegistry,
+                PriorityLogConsumerService.LANE_BULK);
+
+        registerQueueDepthGauge(meterRegistry, "jdbc", () -> jdbcSinkExecutor.getThreadPoolExecutor().getQueue().size());
+        registerQueueDepthGauge(meterRegistry, "commit", inFlightCount::get);
     }
 
-    @Transactional
     @KafkaListener(
+            id = LISTENER_ID,
             topics = "${logpulse.kafka.topics.raw-logs}",
             groupId = "${spring.kafka.consumer.group-id}",
             concurrency = "${spring.kafka.listener.concurrency:3}",
             batch = "true"
     )
-    public void consumeBatchLogEvents(List<String> messages) {
-        if (messages == null || messages.isEmpty()) {
+    public void consumeBatchLogEvents(List<ConsumerRecord<String, LogEventDto>> records, Acknowledgment acknowledgment,
+                                      Consumer<?, ?> consumer) {
+        Deque<CompletableFuture<Void>> pending = inFlightBatches.get();
+        awaitInFlightCapacity(pending);
+
+        if (!rewindOffsets.get().isEmpty()) {
+            rewindFailedBatches(pending, records, consumer);
+            return;
+        }
+
+        if (records == null || records.isEmpty()) {
+            enqueueAcknowledgment(pending, CompletableFuture.completedFuture(null), records, acknowledgment);
             return;
         }
 
-        int batchSize = messages.size();
+        int batchSize = records.size();
         log.debug("{}개의 로그 이벤트 배치 수신", batchSize);
 
-        // 너무 큰 배치는 나누어 처리
+        List<CompletableFuture<Void>> sinkFutures = new ArrayList<>();
+
+        // 유효 배치 크기(컨슈머 지연에 따라 조정)보다 큰 배치는 나누어 처리
+        int maxBatchSize = adaptiveBatchService.getEffectiveBatchSize();
         if (batchSize > maxBatchSize) {
-            processSplitBatches(messages);
-            return;
+            processSplitBatches(records, maxBatchSize, sinkFutures);
+        } else {
+            processBatch(records, sinkFutures);
         }
 
+        enqueueAcknowledgment(pending,
+                CompletableFuture.allOf(sinkFutures.toArray(new CompletableFuture<?>[0])), records, acknowledgment);
+    }
+
+    private void processBatch(List<ConsumerRecord<String, LogEventDto>> records,
+                              List<CompletableFuture<Void>> sinkFutures) {
+        int batchSize = records.size();
+
         List<LogEntry> logEntries = new ArrayList<>(batchSize);
         List<LogEntry> patternDetectionEntries = new ArrayList<>(batchSize);
-        int errorCount = 0; // 오류 로그 카운트 추가
+        List<ConsumerRecord<String, LogEventDto>> entryRecords = new ArrayList<>(batchSize);
 
-        for (String message : messages) {
-            try {
-                LogEventDto logEventDto = objectMapper.readValue(message, LogEventDto.class);
+        for (ConsumerRecord<String, LogEventDto> record : records) {
+            LogEventDto logEventDto = record.value();
+
+            // 역직렬화 실패 레코드는 ErrorHandlingDeserializer가 null 값으로 전달
+            if (logEventDto == null) {
+                log.error("로그 이벤트 역직렬화 실패: partition={}, offset={}", record.partition(), record.offset());
+                sinkFutures.add(deadLetterService.publish(record, DeadLetterService.STAGE_DESERIALIZE, null));
+                continue;
+            }
 
+            try {
                 // 메트릭 기록
                 logMetricsService.recordLog(logEventDto);
 
-                // 실시간 오류 모니터링
-                boolean isError = "ERROR".equalsIgnoreCase(logEventDto.getLogLevel());
-                if (isError) {
+                // 실시간 오류 모니터링 (우선순위 레인이 켜져 있으면 우선순위 컨슈머가 처리,
+                // 데드레터 재처리 레코드는 격리 전에 이미 알림 판단을 거쳤으므로 건너뜀)
+                boolean replay = LogProducerService.isReplay(record);
+                boolean priority = LogRouter.isPriorityLevel(logEventDto.getLogLevel());
+                if (priority && !replay) {
+                    PriorityLogConsumerService.recordAlertLatency(alertLatencyTimer, record);
+                }
+                boolean detectHere = !replay && !(priorityLaneEnabled && priority);
+                if (detectHere && "ERROR".equalsIgnoreCase(logEventDto.getLogLevel())) {
                     errorMonitorService.monitorLog(logEventDto);
-                    errorCount++; // 오류 카운트 증가
                 }
 
                 // 원본 내용
@@ -100,16 +207,31 @@ public class BatchLogConsumerService {
                 // 압축 여부 결정 및 적용
                 boolean shouldCompress = compressionService.shouldCompress(content);
                 String finalContent = content;
+                byte[] contentBlob = null;
+                ContentCodec codec = ContentCodec.NONE;
+                Long dictionaryId = null;
                 int compressedSize = originalSize;
 
+                // 압축 효과가 없으면 compress가 null을 반환하므로 원문으로 저장
                 if (shouldCompress) {
-                    finalContent = compressionService.compressContent(content);
-                    compressedSize = finalContent != null ? finalContent.getBytes(StandardCharsets.UTF_8).length : 0;
+                    CompressedContent compressed = compressionService.compress(logEventDto.getSource(), content);
+                    if (compressed != null) {
+                        finalContent = null;
+                        contentBlob = compressed.getData();
+                        codec = compressed.getCodec();
+                        dictionaryId = compressed.getDictionaryId();
+                        compressedSize = contentBlob.length;
+                    } else {
+                        shouldCompress = false;
+                    }
                 }
 
                 LogEntry logEntry = LogEntry.builder()
                         .source(logEventDto.getSource())
                         .content(finalContent)
+                        .contentBlob(contentBlob)
+                        .codec(codec.getId())
+                        .dictionaryId(dictionaryId)
                         .logLevel(logEventDto.getLogLevel())
                         .createdAt(logEventDto.getTimestamp() != null ?
                                 logEventDto.getTimestamp() : LocalDateTime.now())
@@ -119,63 +241,287 @@ public class BatchLogConsumerService {
                         .build();
 
                 logEntries.add(logEntry);
+                entryRecords.add(record);
 
                 // 패턴 감지를 위한 원본 내용 보존
-                LogEntry uncompressedEntry = LogEntry.builder()
-                        .source(logEntry.getSource())
-                        .content(content)
-                        .logLevel(logEntry.getLogLevel())
-                        .createdAt(logEntry.getCreatedAt())
-                        .compressed(false)
-                        .originalSize(originalSize)
-                        .compressedSize(compressedSize)
-                        .build();
-                patternDetectionEntries.add(uncompressedEntry);
-
-            } catch (JsonProcessingException e) {
-                log.error("로그 이벤트 역직렬화 실패: {}", message, e);
+                if (detectHere) {
+                    LogEntry uncompressedEntry = LogEntry.builder()
+                            .source(logEntry.getSource())
+                            .content(content)
+                            .logLevel(logEntry.getLogLevel())
+                            .createdAt(logEntry.getCreatedAt())
+                            .compressed(false)
+                            .originalSize(originalSize)
+                            .compressedSize(compressedSize)
+                            .build();
+                    patternDetectionEntries.add(uncompressedEntry);
+                }
+            } catch (Exception e) {
+                // 한 레코드의 실패가 배치 전체 재시도로 이어지지 않도록 해당 레코드만 격리
+                sinkFutures.add(deadLetterService.publish(record, DeadLetterService.STAGE_PREPARE, e));
             }
         }
 
-        // 배치 삽입
+        // 저장 단계: MySQL 기록
         if (!logEntries.isEmpty()) {
-            try {
-                jdbcBatchInsertService.batchInsert(logEntries);
-                log.debug("JDBC 배치 업데이트를 사용하여 {}개 로그 항목 저장 완료", logEntries.size());
+            sinkFutures.add(CompletableFuture.runAsync(
+                    () -> writeToDatabase(logEntries, entryRecords), jdbcSinkExecutor));
+        }
+
+        // 패턴 감지는 저장 단계와 겹쳐서 리스너 스레드에서 처리
+        if (!patternDetectionEntries.isEmpty()) {
+            processPatternDetection(patternDetectionEntries);
+        }
+    }
+
+    private void writeToDatabase(List<LogEntry> logEntries, List<ConsumerRecord<String, LogEventDto>> entryRecords) {
+        // MySQL 장애 중에는 연결 대기 없이 바로 스풀에 기록 (통계는 재처리 시 갱신)
+        if (logSpoolService.isJdbcUnavailable() && logSpoolService.spoolEntries(logEntries)) {
+            log.debug("MySQL 장애 중, {}개 로그 항목 스풀에 기록", logEntries.size());
+            return;
+        }
 
-                // 통계 대량 업데이트
-                logStatisticsService.batchUpdateStatistics(logEntries);
+        List<LogEntry> stored = logEntries;
+        long startTime = System.currentTimeMillis();
 
-                // 실시간 메트릭 업데이트 (추가)
-                for (int i = 0; i < logEntries.size(); i++) {
-                    systemMetricsService.recordProcessedLog();
+        try {
+            jdbcBatchInsertService.batchInsert(logEntries);
+            adaptiveBatchService.recordSinkLatency(System.currentTimeMillis() - startTime);
+            log.debug("JDBC 배치 업데이트를 사용하여 {}개 로그 항목 저장 완료", logEntries.size());
+        } catch (PartialBatchInsertException e) {
+            // 커밋된 샤드는 다시 저장하지 않고 미저장 항목만 레코드 단위로 재시도
+            List<LogEntry> uncommitted = e.getUncommittedEntries();
+            log.warn("배치 일부 저장 실패, 미저장 항목만 레코드 단위로 재시도: {}개 중 {}개, 원인={}",
+                    logEntries.size(), uncommitted.size(), e.getMessage());
+
+            Set<LogEntry> retry = Collections.newSetFromMap(new IdentityHashMap<>());
+            retry.addAll(uncommitted);
+            List<LogEntry> retryEntries = new ArrayList<>(uncommitted.size());
+            List<ConsumerRecord<String, LogEventDto>> retryRecords = new ArrayList<>(uncommitted.size());
+            stored = new ArrayList<>(logEntries.size());
+            for (int i = 0; i < logEntries.size(); i++) {
+                if (retry.contains(logEntries.get(i))) {
+                    retryEntries.add(logEntries.get(i));
+                    retryRecords.add(entryRecords.get(i));
+                } else {
+                    stored.add(logEntries.get(i));
                 }
-                if (errorCount > 0) {
-                    for (int i = 0; i < errorCount; i++) {
-                        systemMetricsService.recordErrorLog();
-                    }
+            }
+            if (LogSpoolService.isSinkUnavailable(e.getCause()) && logSpoolService.spoolEntries(retryEntries)) {
+                log.warn("MySQL 연결 장애, 미저장 항목 {}개 스풀에 기록", retryEntries.size());
+            } else {
+                stored.addAll(isolateFailedEntries(retryEntries, retryRecords));
+            }
+        } catch (Exception e) {
+            if (LogSpoolService.isSinkUnavailable(e) && logSpoolService.spoolEntries(logEntries)) {
+                log.warn("MySQL 연결 장애, {}개 로그 항목 스풀에 기록: {}", logEntries.size(), e.getMessage());
+                return;
+            }
+            log.warn("배치 저장 실패, 레코드 단위로 재시도: {}개, 원인={}", logEntries.size(), e.getMessage());
+            stored = isolateFailedEntries(logEntries, entryRecords);
+        }
+
+        if (stored.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 통계 대량 업데이트
+            logStatisticsService.batchUpdateStatistics(stored);
+
+            // 실시간 메트릭 업데이트
+            for (LogEntry entry : stored) {
+                systemMetricsService.recordProcessedLog();
+                if ("ERROR".equalsIgnoreCase(entry.getLogLevel())) {
+                    systemMetricsService.recordErrorLog();
                 }
+            }
+
+            // 실시간 대시보드 구독자에게 전달
+            liveDashboardService.publish(stored);
 
+        } catch (Exception e) {
+            log.error("로그 통계를 갱신하는 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 배치 저장이 롤백된 경우 레코드별로 다시 저장하고, 실패한 레코드만 데드레터 토픽으로 격리
+     * @return 저장에 성공한 항목
+     */
+    private List<LogEntry> isolateFailedEntries(List<LogEntry> logEntries,
+                                                List<ConsumerRecord<String, LogEventDto>> entryRecords) {
+        List<LogEntry> stored = new ArrayList<>(logEntries.size());
+        List<CompletableFuture<Void>> deadLetters = new ArrayList<>();
+
+        for (int i = 0; i < logEntries.size(); i++) {
+            LogEntry entry = logEntries.get(i);
+            try {
+                jdbcBatchInsertService.batchInsert(List.of(entry));
+                stored.add(entry);
             } catch (Exception e) {
-                log.error("로그를 데이터베이스에 저장하는 중 오류 발생: {}", e.getMessage(), e);
+                deadLetters.add(deadLetterService.publish(entryRecords.get(i), DeadLetterService.STAGE_JDBC, e));
             }
+        }
+
+        // 데드레터 전송이 끝나야 오프셋 커밋 가능 (전송 실패는 저장 단계 실패로 전파되어 배치를 다시 처리)
+        CompletableFuture.allOf(deadLetters.toArray(new CompletableFuture<?>[0])).join();
+
+        log.info("레코드 단위 저장 완료: {}개 저장, {}개 데드레터 격리", stored.size(), deadLetters.size());
+        return stored;
+    }
+
+    /**
+     * 저장 단계가 모두 끝나고 앞선 배치의 커밋이 끝난 뒤 오프셋 커밋
+     * 저장 단계(데드레터 전송 포함)가 실패하면 커밋하지 않고 배치의 시작 오프셋을 기록하며,
+     * 뒤따르는 배치도 함께 실패 처리되어 다음 수신 시 모두 다시 읽는다 (at-least-once).
+     */
+    private void enqueueAcknowledgment(Deque<CompletableFuture<Void>> pending,
+                                       CompletableFuture<Void> sinksCompleted,
+                                       List<ConsumerRecord<String, LogEventDto>> records,
+                                       Acknowledgment acknowledgment) {
+        CompletableFuture<Void> previous = pending.peekLast();
+        CompletableFuture<Void> ready = previous == null ? sinksCompleted :
+                CompletableFuture.allOf(previous, sinksCompleted);
+
+        Map<TopicPartition, Long> rewind = rewindOffsets.get();
+        Map<TopicPartition, Long> startOffsets = startOffsets(records);
+
+        inFlightCount.incrementAndGet();
+        CompletableFuture<Void> committed = ready
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        log.error("배치 저장 단계 실패, 오프셋을 커밋하지 않고 다시 처리: {}", ex.getMessage(), ex);
+                        startOffsets.forEach((partition, offset) -> rewind.merge(partition, offset, Math::min));
+                    } else {
+                        acknowledgment.acknowledge();
+                    }
+                })
+                .whenComplete((result, ex) -> inFlightCount.decrementAndGet());
+
+        pending.addLast(committed);
+    }
+
+    /**
+     * 저장 단계가 실패한 배치를 다시 읽도록 파티션 위치를 되돌림 (리스너 스레드에서 호출)
+     * 이번에 받은 레코드는 처리하지 않고 함께 다시 읽는다.
+     */
+    private void rewindFailedBatches(Deque<CompletableFuture<Void>> pending,
+                                     List<ConsumerRecord<String, LogEventDto>> records,
+                                     Consumer<?, ?> consumer) {
+        awaitPending(pending);
+
+        Map<TopicPartition, Long> rewind = rewindOffsets.get();
+        startOffsets(records).forEach((partition, offset) -> rewind.merge(partition, offset, Math::min));
+
+        seekAssigned(consumer.assignment(), consumer::seek);
+
+        try {
+            Thread.sleep(rewindBackoffMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 새 레코드가 들어오지 않아도 실패한 배치를 다시 읽도록 유휴 이벤트에서 되돌림 (리스너 스레드에서 호출)
+     */
+    @Override
+    public void onIdleContainer(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        awaitPending(inFlightBatches.get());
+        if (rewindOffsets.get().isEmpty()) {
+            return;
+        }
 
+        seekAssigned(assignments.keySet(),
+                (partition, offset) -> callback.seek(partition.topic(), partition.partition(), offset));
+    }
+
+    /**
+     * 회수된 파티션은 되돌리지 않음 (seek 시 IllegalStateException 발생)
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        Map<TopicPartition, Long> rewind = rewindOffsets.get();
+        if (rewind.keySet().removeAll(partitions)) {
+            log.info("리밸런스로 회수된 파티션의 재처리 위치 제거: {}", partitions);
+        }
+    }
+
+    /**
+     * 진행 중인 배치가 모두 끝날 때까지 대기 (끝나야 되돌릴 위치가 확정됨)
+     */
+    private static void awaitPending(Deque<CompletableFuture<Void>> pending) {
+        while (!pending.isEmpty()) {
             try {
-                elasticsearchService.saveAll(logEntries);
-                log.debug("Elasticsearch에 {}개 로그 항목 인덱싱 완료", logEntries.size());
+                pending.pollFirst().join();
             } catch (Exception e) {
-                log.error("로그를 Elasticsearch에 인덱싱하는 중 오류 발생: {}", e.getMessage(), e);
+                // 실패한 배치는 rewindOffsets에 기록됨
             }
         }
+    }
 
-        // 패턴 감지 처리
-        if (!patternDetectionEntries.isEmpty()) {
-            processPatternDetection(patternDetectionEntries);
+    /**
+     * 현재 할당된 파티션만 되돌리고 재처리 위치를 비움
+     * 진행 중이던 배치가 리밸런스 이후에 실패하면 회수된 파티션이 다시 기록될 수 있으므로 할당 목록으로 한 번 더 거른다.
+     */
+    private void seekAssigned(Collection<TopicPartition> assigned, BiConsumer<TopicPartition, Long> seek) {
+        Map<TopicPartition, Long> rewind = rewindOffsets.get();
+        Map<TopicPartition, Long> seeks = new HashMap<>();
+        rewind.forEach((partition, offset) -> {
+            if (assigned.contains(partition)) {
+                seeks.put(partition, offset);
+            } else {
+                log.info("할당되지 않은 파티션은 되돌리지 않음: {}, offset={}", partition, offset);
+            }
+        });
+        rewind.clear();
+
+        seeks.forEach(seek);
+        if (!seeks.isEmpty()) {
+            log.warn("저장 단계 실패 배치 재처리를 위해 파티션 위치 되돌림: {}", seeks);
         }
     }
 
-    private void processSplitBatches(List<String> messages) {
-        int batchSize = messages.size();
+    private static Map<TopicPartition, Long> startOffsets(List<ConsumerRecord<String, LogEventDto>> records) {
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        if (records != null) {
+            for (ConsumerRecord<String, LogEventDto> record : records) {
+                offsets.merge(new TopicPartition(record.topic(), record.partition()), record.offset(), Math::min);
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * 리스너 스레드의 미완료 배치 수가 max-in-flight 미만이 될 때까지 대기 (역압)
+     */
+    private void awaitInFlightCapacity(Deque<CompletableFuture<Void>> pending) {
+        while (!pending.isEmpty() && pending.peekFirst().isDone()) {
+            pending.pollFirst();
+        }
+
+        while (pending.size() >= Math.max(1, maxInFlight)) {
+            CompletableFuture<Void> oldest = pending.pollFirst();
+            try {
+                oldest.join();
+            } catch (Exception e) {
+                log.warn("이전 배치 커밋 대기 중 오류: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void registerQueueDepthGauge(MeterRegistry meterRegistry, String stage,
+                                         Supplier<Number> depth) {
+        Gauge.builder("logpulse.consumer.stage.queue.depth", depth)
+                .tag("stage", stage)
+                .description("컨슈머 파이프라인 단계별 대기 작업 수")
+                .register(meterRegistry);
+    }
+
+    private void processSplitBatches(List<ConsumerRecord<String, LogEventDto>> records, int maxBatchSize,
+                                     List<CompletableFuture<Void>> sinkFutures) {
+        int batchSize = records.size();
         int batches = (batchSize + maxBatchSize - 1) / maxBatchSize;
 
         log.info("{}개 메시지의 대규모 배치를 {}개 작은 배치로 분할", batchSize, batches);
@@ -184,11 +530,11 @@ public class BatchLogConsumerService {
             int fromIndex = i * maxBatchSize;
             int toIndex = Math.min(fromIndex + maxBatchSize, batchSize);
 
-            List<String> subBatch = messages.subList(fromIndex, toIndex);
+            List<ConsumerRecord<String, LogEventDto>> subBatch = records.subList(fromIndex, toIndex);
             log.debug("서브배치 {}/{} 처리: {}개 메시지", i+1, batches, subBatch.size());
 
-            // 재귀적으로 처리 (이제 분할된 배치는 항상 maxBatchSize 이하)
-            consumeBatchLogEvents(subBatch);
+            // 분할된 배치는 항상 maxBatchSize 이하
+            processBatch(subBatch, sinkFutures);
         }
     }
 
@@ -0,0 +1,239 @@
+package com.tenacy.logpulse.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.tenacy.logpulse.api.dto.BulkIngestResponse;
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.integration.stage.IngestResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * NDJSON(줄 단위 JSON) 벌크 수집 서비스
+ * 요청 본문 전체를 메모리에 올리지 않고 한 줄씩 파싱하여 배치 단위로 통합 파이프라인에 전달한다.
+ */
+@Service
+@Slf4j
+public class BulkLogIngestService {
+
+    private final IntegrationLogService integrationLogService;
+    private final ObjectReader logEventReader;
+
+    @Value("${logpulse.integration.bulk.batch-size:500}")
+    private int batchSize;
+
+    @Value("${logpulse.integration.bulk.max-line-length:65536}")
+    private int maxLineLength;
+
+    @Value("${logpulse.integration.bulk.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    public BulkLogIngestService(IntegrationLogService integrationLogService, ObjectMapper objectMapper) {
+        this.integrationLogService = integrationLogService;
+        // 수집 에이전트마다 부가 필드가 다를 수 있으므로 알 수 없는 필드는 무시
+        this.logEventReader = objectMapper.readerFor(LogEventDto.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    public BulkIngestResponse ingest(InputStream body, boolean gzipEncoded) {
+        BulkResult result = new BulkResult();
+        List<LogEventDto> batch = new ArrayList<>(batchSize);
+        long batchStartLine = 0;
+        String failure = null;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                gzipEncoded ? new GZIPInputStream(body) : body, StandardCharsets.UTF_8))) {
+
+            BoundedLineReader lines = new BoundedLineReader(reader, maxLineLength);
+            String line;
+            long lineNumber = 0;
+
+            while ((line = lines.next()) != null) {
+                lineNumber++;
+
+                if (lines.isTruncated()) {
+                    // 길이 제한을 넘은 라인은 나머지를 버리면서 읽었으므로 내용 확인 없이 거부
+                    result.totalLines++;
+                    result.reject(lineNumber, "라인 길이 초과 (최대 " + maxLineLength + "자)", maxReportedErrors);
+                    continue;
+                }
+
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                result.totalLines++;
+
+                LogEventDto event = parseLine(line, lineNumber, result);
+                if (event == null) {
+                    continue;
+                }
+
+                if (batch.isEmpty()) {
+                    batchStartLine = lineNumber;
+                }
+                batch.add(event);
+
+                if (batch.size() >= batchSize) {
+                    dispatch(batch, batchStartLine, result);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            // 압축 스트림 손상, 연결 끊김 등 - 이미 읽은 라인까지만 처리
+            log.warn("벌크 요청 본문 읽기 중단: {}", e.getMessage());
+            failure = "요청 본문 읽기 실패: " + e.getMessage();
+        }
+
+        if (!batch.isEmpty()) {
+            dispatch(batch, batchStartLine, result);
+        }
+
+        log.debug("벌크 수집 완료: 총 {}줄, 수락 {}건, 필터링 {}건, 거부 {}건",
+                result.totalLines, result.accepted, result.filtered, result.rejected);
+
+        return BulkIngestResponse.builder()
+                .status(resolveStatus(result, failure))
+                .totalLines(result.totalLines)
+                .accepted(result.accepted)
+                .filtered(result.filtered)
+                .rejected(result.rejected)
+                .errors(result.errors)
+                .message(failure)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private LogEventDto parseLine(String line, long lineNumber, BulkResult result) {
+        LogEventDto event;
+        try {
+            event = logEventReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            result.reject(lineNumber, "JSON 파싱 실패: " + e.getOriginalMessage(), maxReportedErrors);
+            return null;
+        }
+
+        if (event == null) {
+            result.reject(lineNumber, "JSON 객체가 아님", maxReportedErrors);
+            return null;
+        }
+
+        if (event.getContent() == null || event.getContent().isEmpty()) {
+            result.reject(lineNumber, "content 필드 누락", maxReportedErrors);
+            return null;
+        }
+
+        return event;
+    }
+
+    private void dispatch(List<LogEventDto> batch, long batchStartLine, BulkResult result) {
+        IngestResult ingested = integrationLogService.processLogs(batch);
+        result.accepted += ingested.getDispatched();
+        result.filtered += ingested.getFiltered();
+
+        int failed = batch.size() - ingested.getHandled();
+        if (failed > 0) {
+            result.rejected += failed;
+            result.addError(batchStartLine, "파이프라인 전달 실패 " + failed + "건 (배치 시작 라인)", maxReportedErrors);
+        }
+    }
+
+    private String resolveStatus(BulkResult result, String failure) {
+        if (result.rejected == 0 && failure == null) {
+            return "success";
+        }
+        return result.accepted > 0 ? "partial" : "failed";
+    }
+
+    /**
+     * 최대 길이까지만 버퍼에 담는 라인 리더
+     * BufferedReader.readLine()은 줄바꿈이 나올 때까지 라인 전체를 메모리에 올리므로,
+     * 길이 제한을 넘은 라인은 나머지를 버리면서 읽고 truncated로 표시한다.
+     */
+    private static class BoundedLineReader {
+        private final BufferedReader reader;
+        private final int maxLength;
+        private final StringBuilder buffer;
+        private boolean truncated;
+
+        BoundedLineReader(BufferedReader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+            this.buffer = new StringBuilder(Math.min(maxLength, 8192));
+        }
+
+        /**
+         * @return 다음 라인 (줄바꿈 제외), 스트림 끝이면 null
+         */
+        String next() throws IOException {
+            buffer.setLength(0);
+            truncated = false;
+
+            int ch;
+            boolean read = false;
+            while ((ch = reader.read()) != -1) {
+                read = true;
+                if (ch == '\n') {
+                    break;
+                }
+                if (buffer.length() < maxLength + 1) {
+                    buffer.append((char) ch);
+                } else {
+                    truncated = true;
+                }
+            }
+
+            if (!read) {
+                return null;
+            }
+
+            int length = buffer.length();
+            if (length > 0 && buffer.charAt(length - 1) == '\r') {
+                buffer.setLength(--length);
+            }
+            if (length > maxLength) {
+                truncated = true;
+            }
+            return truncated ? "" : buffer.toString();
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+    }
+
+    private static class BulkResult {
+        private long totalLines;
+        private long accepted;
+        private long filtered;
+        private long rejected;
+        private final List<BulkIngestResponse.LineError> errors = new ArrayList<>();
+
+        void reject(long line, String reason, int maxReportedErrors) {
+            rejected++;
+            addError(line, reason, maxReportedErrors);
+        }
+
+        void addError(long line, String reason, int maxReportedErrors) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(BulkIngestResponse.LineError.builder()
+                        .line(line)
+                        .reason(reason)
+                        .build());
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.tenacy.logpulse.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * 저장 대상별 컨슈머 지연(lag) 조회
+ *
+ * MySQL 저장과 Elasticsearch 인덱싱은 컨슈머 그룹이 달라 지연도 따로 쌓이므로
+ * 리스너 컨테이너별 records-lag-max를 logpulse.consumer.sink.lag{sink} 게이지로 노출한다.
+ */
+@Service
+public class ConsumerLagMonitor {
+
+    public static final String SINK_JDBC = "jdbc";
+    public static final String SINK_ELASTICSEARCH = "elasticsearch";
+
+    private static final String LAG_METRIC = "records-lag-max";
+    private static final String FETCH_METRIC_GROUP = "consumer-fetch-manager-metrics";
+
+    private static final Map<String, String> SINK_LISTENERS = Map.of(
+            SINK_JDBC, BatchLogConsumerService.LISTENER_ID,
+            SINK_ELASTICSEARCH, ElasticsearchIndexConsumerService.LISTENER_ID);
+
+    private final KafkaListenerEndpointRegistry listenerEndpointRegistry;
+
+    public ConsumerLagMonitor(KafkaListenerEndpointRegistry listenerEndpointRegistry,
+                              MeterRegistry meterRegistry) {
+        this.listenerEndpointRegistry = listenerEndpointRegistry;
+
+        SINK_LISTENERS.keySet().forEach(sink ->
+                Gauge.builder("logpulse.consumer.sink.lag", () -> getSinkLag(sink))
+                        .tag("sink", sink)
+                        .description("저장 대상별 컨슈머 최대 지연 레코드 수")
+                        .register(meterRegistry));
+    }
+
+    public long getSinkLag(String sink) {
+        String listenerId = SINK_LISTENERS.get(sink);
+        return listenerId != null ? getLag(listenerId) : 0;
+    }
+
+    /**
+     * 리스너 컨테이너의 컨슈머 메트릭에서 최대 지연 레코드 수 조회
+     * 컨테이너가 없거나 실행 중이 아니면 0
+     */
+    public long getLag(String listenerId) {
+        MessageListenerContainer container = listenerEndpointRegistry.getListenerContainer(listenerId);
+        if (container == null || !container.isRunning()) {
+            return 0;
+        }
+
+        double maxLag = 0;
+        for (Map<MetricName, ? extends Metric> metrics : container.metrics().values()) {
+            for (Map.Entry<MetricName, ? extends Metric> entry : metrics.entrySet()) {
+                MetricName name = entry.getKey();
+                if (LAG_METRIC.equals(name.name()) && FETCH_METRIC_GROUP.equals(name.group())) {
+                    Object value = entry.getValue().metricValue();
+                    if (value instanceof Double lag && !lag.isNaN()) {
+                        maxLag = Math.max(maxLag, lag);
+                    }
+                }
+            }
+        }
+
+        return (long) maxLag;
+    }
+}
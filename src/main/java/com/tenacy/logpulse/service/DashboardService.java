@@ -7,66 +7,299 @@ import com.tenacy.logpulse.api.dto.SystemStatusResponse;
 import com.tenacy.logpulse.domain.LogEntry;
 import com.tenacy.logpulse.domain.LogRepository;
 import com.tenacy.logpulse.domain.LogStatisticsRepository;
-import lombok.RequiredArgsConstructor;
+import com.tenacy.logpulse.domain.RollupResolution;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.lang.management.ManagementFactory;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * 대시보드 통계 조회
+ *
+ * 대시보드 통계(getDashboardStats / refreshDashboardStats)는 서로 독립적인 여섯 구간을 dashboardQueryExecutor에서
+ * 동시에 조회한다. 구간마다 section-timeout-ms 안에 끝나지 않거나 실패하면, 또는 실행기가 포화되어 조회를 받지 못하면
+ * 이전 스냅샷의 값(없으면 빈 값)으로 대체하고,
+ * 구간별 소요 시간은 logpulse.dashboard.section.duration(section, outcome)으로 기록한다.
+ * 대체된 구간은 degradedSections에 남기며, 다음 갱신에서는 그 구간을 증분 대신 전체 조회한다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DashboardService {
 
     private final LogRepository logRepository;
     private final LogStatisticsRepository logStatisticsRepository;
+    private final LogStatisticsService logStatisticsService;
+    private final LogRollupService logRollupService;
     private final SystemMetricsService systemMetricsService;
+    private final LogCompressionService compressionService;
+    private final ThreadPoolTaskExecutor dashboardQueryExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 이 기간보다 긴 조회는 원본 logs 테이블 대신 log_rollups에서 집계
+    @Value("${logpulse.rollup.raw-query-max-days:30}")
+    private long rawQueryMaxDays;
+
+    @Value("${logpulse.dashboard.query.section-timeout-ms:3000}")
+    private long sectionTimeoutMs;
+
+    public DashboardService(LogRepository logRepository,
+                            LogStatisticsRepository logStatisticsRepository,
+                            LogStatisticsService logStatisticsService,
+                            LogRollupService logRollupService,
+                            SystemMetricsService systemMetricsService,
+                            LogCompressionService compressionService,
+                            @Qualifier("dashboardQueryExecutor") ThreadPoolTaskExecutor dashboardQueryExecutor,
+                            MeterRegistry meterRegistry) {
+        this.logRepository = logRepository;
+        this.logStatisticsRepository = logStatisticsRepository;
+        this.logStatisticsService = logStatisticsService;
+        this.logRollupService = logRollupService;
+        this.systemMetricsService = systemMetricsService;
+        this.compressionService = compressionService;
+        this.dashboardQueryExecutor = dashboardQueryExecutor;
+        this.meterRegistry = meterRegistry;
+    }
 
+    // 구간은 각자 별도 스레드와 트랜잭션에서 조회하므로 호출 스레드에서는 커넥션을 잡지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DashboardStatsResponse getDashboardStats(LocalDateTime start, LocalDateTime end, String source) {
+        return refreshDashboardStats(start, end, source, null, false);
+    }
+
+    /**
+     * 이전 스냅샷을 기준으로 대시보드 통계 갱신
+     * incremental이면 시간별 통계와 오류 추세는 이전 스냅샷 시각이 속한 시간 / 날짜 이후 구간만 다시 조회하고 나머지는 재사용한다.
+     * 그 외에는 전체 조회하며, previous는 시간 초과나 실패한 구간의 대체 값으로만 사용한다. (previous가 null이면 전체 조회)
+     * 이전 스냅샷에서 대체된 구간은 스냅샷 시각 이전의 값을 담고 있으므로 incremental이어도 전체 조회한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public DashboardStatsResponse refreshDashboardStats(LocalDateTime start, LocalDateTime end, String source,
+                                                        DashboardStatsResponse previous, boolean incremental) {
+        // 스냅샷 시각 (이 시각 이후 구간은 다음 갱신에서 다시 조회)
+        LocalDateTime computedAt = LocalDateTime.now();
+
         // 기본 시간 범위 설정
-        LocalDateTime endTime = end != null ? end : LocalDateTime.now();
+        LocalDateTime endTime = end != null ? end : computedAt;
         LocalDateTime startTime = start != null ? start : endTime.minusHours(24);
+        LocalDate today = computedAt.toLocalDate();
+        Set<String> degraded = ConcurrentHashMap.newKeySet();
 
         // 로그 레벨별 카운트 (통계 테이블 사용)
-        LogCountResponse logCounts = getLogCountsFromStats(startTime, endTime, source);
+        CompletableFuture<LogCountResponse> logCounts = section("logCounts",
+                () -> getLogCountsFromStats(startTime, endTime, source),
+                previous != null ? previous.getLogCounts() : null,
+                DashboardService::emptyLogCounts, degraded);
 
         // 시간별 통계 (통계 테이블 사용)
-        Map<String, Object> hourlyStats = getHourlyStatsFromStats(LocalDate.now());
+        CompletableFuture<Map<String, Object>> hourlyStats = section("hourlyStats",
+                () -> incremental && previous != null && !wasDegraded(previous, "hourlyStats")
+                        ? refreshHourlyStats(today, previous) : getHourlyStatsFromStats(today),
+                previous != null ? previous.getHourlyStats() : null,
+                () -> Map.of("date", today, "hourlyStats", List.of()), degraded);
 
         // 소스별 통계 (통계 테이블 사용)
-        Map<String, Object> sourceStats = getSourceStatsFromStats(startTime, endTime);
+        CompletableFuture<Map<String, Object>> sourceStats = section("sourceStats",
+                () -> getSourceStatsFromStats(startTime, endTime),
+                previous != null ? previous.getSourceStats() : null,
+                () -> Map.of("startTime", startTime, "endTime", endTime, "sourceStats", List.of()), degraded);
 
         // 시스템 상태
-        SystemStatusResponse systemStatus = getSystemStatus();
+        CompletableFuture<SystemStatusResponse> systemStatus = section("systemStatus",
+                this::getSystemStatus,
+                previous != null ? previous.getSystemStatus() : null,
+                DashboardService::unavailableSystemStatus, degraded);
 
         // 최근 오류 로그 (원본 로그 테이블 사용)
-        Map<String, Object> recentErrors = getRecentErrors();
+        CompletableFuture<Map<String, Object>> recentErrors = section("recentErrors",
+                this::getRecentErrors,
+                previous != null ? previous.getRecentErrors() : null,
+                () -> Map.of("timestamp", computedAt, "recentErrors", List.of()), degraded);
 
         // 오류 추세 데이터
-        Map<String, Object> errorTrends = getErrorTrends(startTime.minusDays(7), endTime);
-
+        CompletableFuture<Map<String, Object>> errorTrends = section("errorTrends",
+                () -> incremental && previous != null && !wasDegraded(previous, "errorTrends")
+                        ? refreshErrorTrends(startTime.minusDays(7), endTime, previous)
+                        : getErrorTrends(startTime.minusDays(7), endTime),
+                previous != null ? previous.getErrorTrends() : null,
+                () -> Map.of("startDate", startTime.minusDays(7).toLocalDate().toString(),
+                        "endDate", endTime.toLocalDate().toString(), "dailyStats", List.of()), degraded);
+
+        // 구간마다 대체 값이 있으므로 join은 실패하지 않으며 전체 소요 시간은 가장 느린 구간의 시간
         return DashboardStatsResponse.builder()
-                .logCounts(logCounts)
-                .hourlyStats(hourlyStats)
-                .sourceStats(sourceStats)
-                .systemStatus(systemStatus)
-                .recentErrors(recentErrors)
-                .errorTrends(errorTrends)
-                .timestamp(LocalDateTime.now())
+                .logCounts(logCounts.join())
+                .hourlyStats(hourlyStats.join())
+                .sourceStats(sourceStats.join())
+                .systemStatus(systemStatus.join())
+                .recentErrors(recentErrors.join())
+                .errorTrends(errorTrends.join())
+                .degradedSections(degraded.stream().sorted().toList())
+                .timestamp(computedAt)
                 .build();
     }
 
+    /**
+     * 구간 조회를 dashboardQueryExecutor에서 실행
+     * 시간 초과나 실패 시 이전 스냅샷의 값(없으면 빈 값)을 돌려주고 degraded에 구간 이름을 남기며, 소요 시간은 결과와 함께 구간별로 기록한다.
+     * 실행기가 포화되어 거부되면 호출 스레드에서 조회하지 않고 시간 초과와 같이 대체한다.
+     * (시간 초과된 조회는 중단되지 않고 끝까지 실행되며 결과만 버려짐)
+     */
+    private <T> CompletableFuture<T> section(String name, Supplier<T> query, T previous, Supplier<T> empty,
+                                             Set<String> degraded) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(query, dashboardQueryExecutor);
+        } catch (RejectedExecutionException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future
+                .orTimeout(sectionTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((result, error) -> {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    String outcome = cause == null ? "success" : cause instanceof TimeoutException ? "timeout"
+                            : cause instanceof RejectedExecutionException ? "rejected" : "error";
+                    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(sample.stop(sectionTimer(name, outcome)));
+
+                    if (cause == null) {
+                        log.debug("대시보드 {} 조회 완료 ({}ms)", name, elapsedMs);
+                        return result;
+                    }
+
+                    log.warn("대시보드 {} 조회 {} ({}ms), {} 값으로 대체: {}", name, outcome, elapsedMs,
+                            previous != null ? "이전 스냅샷" : "빈", cause.toString());
+                    degraded.add(name);
+                    return previous != null ? previous : empty.get();
+                });
+    }
+
+    private static boolean wasDegraded(DashboardStatsResponse previous, String section) {
+        return previous.getDegradedSections() != null && previous.getDegradedSections().contains(section);
+    }
+
+    private Timer sectionTimer(String name, String outcome) {
+        return Timer.builder("logpulse.dashboard.section.duration")
+                .description("대시보드 구간별 조회 시간")
+                .tag("section", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이전 스냅샷의 시간별 통계에서 스냅샷 시각의 시간 이후만 다시 조회
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> refreshHourlyStats(LocalDate date, DashboardStatsResponse previous) {
+        Map<String, Object> previousStats = previous.getHourlyStats();
+        LocalDateTime since = previous.getTimestamp();
+        if (previousStats == null || since == null || !date.equals(previousStats.get("date"))
+                || !date.equals(since.toLocalDate())) {
+            return getHourlyStatsFromStats(date);
+        }
+
+        List<Map<String, Object>> previousHours = (List<Map<String, Object>>) previousStats.get("hourlyStats");
+        if (previousHours == null || previousHours.size() != 24) {
+            return getHourlyStatsFromStats(date);
+        }
+
+        Map<Object, Map<String, Object>> recentHours = new HashMap<>();
+        for (Map<String, Object> hourData : (List<Map<String, Object>>) getHourlyStatsFromStats(date, since.getHour())
+                .get("hourlyStats")) {
+            recentHours.put(hourData.get("hour"), hourData);
+        }
+
+        List<Map<String, Object>> hourlyStats = new ArrayList<>(24);
+        for (Map<String, Object> hourData : previousHours) {
+            hourlyStats.add(recentHours.getOrDefault(hourData.get("hour"), hourData));
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("date", date);
+        result.put("hourlyStats", hourlyStats);
+        return result;
+    }
+
+    /**
+     * 이전 스냅샷의 오류 추세에서 스냅샷 날짜 이후와 새로 범위에 들어온 날짜만 다시 조회
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> refreshErrorTrends(LocalDateTime start, LocalDateTime end, DashboardStatsResponse previous) {
+        Map<String, Object> previousTrends = previous.getErrorTrends();
+        LocalDateTime since = previous.getTimestamp();
+        List<Map<String, Object>> previousDays = previousTrends != null
+                ? (List<Map<String, Object>>) previousTrends.get("dailyStats") : null;
+        if (since == null || previousDays == null || previousDays.isEmpty()) {
+            return getErrorTrends(start, end);
+        }
+
+        Map<Object, Map<String, Object>> days = new HashMap<>();
+        for (Map<String, Object> dayStat : previousDays) {
+            days.put(dayStat.get("date"), dayStat);
+        }
+
+        LocalDate startDate = start.toLocalDate();
+        LocalDate endDate = end.toLocalDate();
+        LocalDate firstStale = null;
+        LocalDate lastStale = null;
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (!date.isBefore(since.toLocalDate()) || !days.containsKey(date.toString())) {
+                firstStale = firstStale == null ? date : firstStale;
+                lastStale = date;
+            }
+        }
+
+        if (firstStale != null) {
+            Map<String, Object> recent = getErrorTrends(firstStale.atStartOfDay(), lastStale.atStartOfDay());
+            for (Map<String, Object> dayStat : (List<Map<String, Object>>) recent.get("dailyStats")) {
+                days.put(dayStat.get("date"), dayStat);
+            }
+        }
+
+        List<Map<String, Object>> dailyStats = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            Map<String, Object> dayStat = days.get(date.toString());
+            if (dayStat != null) {
+                dailyStats.add(dayStat);
+            }
+        }
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("startDate", startDate.toString());
+        result.put("endDate", endDate.toString());
+        result.put("dailyStats", dailyStats);
+        return result;
+    }
+
     public LogCountResponse getLogCountsFromStats(LocalDateTime start, LocalDateTime end, String source) {
         try {
             // 날짜 범위 계산
@@ -84,46 +317,13 @@ public class DashboardService {
                 levelStats = logStatisticsRepository.findLevelStatsByDateRange(startDate, endDate);
             }
 
-            // 결과 파싱
-            long errorCount = 0L;
-            long warnCount = 0L;
-            long infoCount = 0L;
-            long debugCount = 0L;
-            long totalCount = 0L;
-
-            for (Object[] row : levelStats) {
-                String level = (String) row[0];
-                Long count = ((Number) row[1]).longValue();
-
-                switch (level.toUpperCase()) {
-                    case "ERROR":
-                        errorCount = count;
-                        break;
-                    case "WARN":
-                        warnCount = count;
-                        break;
-                    case "INFO":
-                        infoCount = count;
-                        break;
-                    case "DEBUG":
-                        debugCount = count;
-                        break;
-                }
-
-                totalCount += count;
-            }
-
-            // 오류율 계산
-            double errorRate = totalCount > 0 ? (double) errorCount / totalCount * 100 : 0;
+            // 아직 반영되지 않은 증가분 합산
+            levelStats = mergePending(levelStats, 1,
+                    key -> inRange(key, startDate, endDate)
+                            && (source == null || source.isEmpty() || (key.getSource() != null && key.getSource().contains(source))),
+                    key -> Arrays.asList(key.getLogLevel()));
 
-            return LogCountResponse.builder()
-                    .error(errorCount)
-                    .warn(warnCount)
-                    .info(infoCount)
-                    .debug(debugCount)
-                    .total(totalCount)
-                    .errorRate(Math.round(errorRate * 100.0) / 100.0)
-                    .build();
+            return toLogCountResponse(levelStats);
         } catch (Exception e) {
             log.error("통계 테이블에서 로그 카운트 조회 중 오류 발생", e);
 
@@ -138,6 +338,16 @@ public class DashboardService {
             LocalDateTime endTime = end != null ? end : LocalDateTime.now();
             LocalDateTime startTime = start != null ? start : endTime.minusHours(24);
 
+            // 긴 기간은 집계 테이블에서 조회
+            if (exceedsRawQueryRange(startTime, endTime)) {
+                List<Object[]> levelStats = mergePending(logRollupService.findLevelCounts(startTime, endTime, source), 1,
+                        key -> inRange(key, startTime, endTime)
+                                && (source == null || source.isEmpty()
+                                || (key.getSource() != null && key.getSource().contains(source))),
+                        key -> Arrays.asList(key.getLogLevel()));
+                return toLogCountResponse(levelStats);
+            }
+
             long errorCount;
             long warnCount;
             long infoCount;
@@ -173,17 +383,21 @@ public class DashboardService {
                     .build();
         } catch (Exception e) {
             log.error("로그 카운트 조회 중 오류 발생", e);
-            return LogCountResponse.builder()
-                    .error(0L)
-                    .warn(0L)
-                    .info(0L)
-                    .debug(0L)
-                    .total(0L)
-                    .errorRate(0.0)
-                    .build();
+            return emptyLogCounts();
         }
     }
 
+    private static LogCountResponse emptyLogCounts() {
+        return LogCountResponse.builder()
+                .error(0L)
+                .warn(0L)
+                .info(0L)
+                .debug(0L)
+                .total(0L)
+                .errorRate(0.0)
+                .build();
+    }
+
     public Map<String, Object> getHourlyStats(LocalDate date) {
         try {
             List<Map<String, Object>> hourlyStats = new ArrayList<>();
@@ -222,9 +436,21 @@ public class DashboardService {
     }
 
     public Map<String, Object> getHourlyStatsFromStats(LocalDate date) {
+        return getHourlyStatsFromStats(date, 0);
+    }
+
+    /**
+     * fromHour 이후 시간대의 통계만 조회
+     */
+    public Map<String, Object> getHourlyStatsFromStats(LocalDate date, int fromHour) {
         try {
             // 통계 테이블에서 시간별 데이터 조회
-            List<Object[]> hourlyData = logStatisticsRepository.findHourlyStatsByDate(date);
+            List<Object[]> rows = fromHour > 0
+                    ? logStatisticsRepository.findHourlyStatsByDateFromHour(date, fromHour)
+                    : logStatisticsRepository.findHourlyStatsByDate(date);
+            List<Object[]> hourlyData = mergePending(rows, 2,
+                    key -> date.equals(key.getLogDate()) && key.getHour() >= fromHour,
+                    key -> Arrays.asList(key.getHour(), key.getLogLevel()));
 
             // 결과를 시간별로 구성
             Map<Integer, Map<String, Long>> hourMap = new HashMap<>();
@@ -241,7 +467,7 @@ public class DashboardService {
             // 응답 포맷에 맞게 변환
             List<Map<String, Object>> hourlyStats = new ArrayList<>();
 
-            for (int hour = 0; hour < 24; hour++) {
+            for (int hour = fromHour; hour < 24; hour++) {
                 Map<String, Long> counts = hourMap.getOrDefault(hour, Map.of());
 
                 Map<String, Object> hourData = new HashMap<>();
@@ -269,20 +495,115 @@ public class DashboardService {
         }
     }
 
+    private LogCountResponse toLogCountResponse(List<Object[]> levelStats) {
+        // 결과 파싱
+        long errorCount = 0L;
+        long warnCount = 0L;
+        long infoCount = 0L;
+        long debugCount = 0L;
+        long totalCount = 0L;
+
+        for (Object[] row : levelStats) {
+            String level = (String) row[0];
+            Long count = ((Number) row[1]).longValue();
+
+            switch (level.toUpperCase()) {
+                case "ERROR":
+                    errorCount = count;
+                    break;
+                case "WARN":
+                    warnCount = count;
+                    break;
+                case "INFO":
+                    infoCount = count;
+                    break;
+                case "DEBUG":
+                    debugCount = count;
+                    break;
+            }
+
+            totalCount += count;
+        }
+
+        // 오류율 계산
+        double errorRate = totalCount > 0 ? (double) errorCount / totalCount * 100 : 0;
+
+        return LogCountResponse.builder()
+                .error(errorCount)
+                .warn(warnCount)
+                .info(infoCount)
+                .debug(debugCount)
+                .total(totalCount)
+                .errorRate(Math.round(errorRate * 100.0) / 100.0)
+                .build();
+    }
+
+    /**
+     * 통계 테이블 집계 결과(그룹 컬럼들 + 합계)에 메모리에 누적된 미반영 증가분을 더함
+     */
+    private List<Object[]> mergePending(List<Object[]> rows, int groupColumns,
+                                        Predicate<LogStatisticsService.StatKey> filter,
+                                        Function<LogStatisticsService.StatKey, List<Object>> groupOf) {
+        Map<LogStatisticsService.StatKey, Long> pending = logStatisticsService.getPendingDeltas();
+        if (pending.isEmpty()) {
+            return new ArrayList<>(rows);
+        }
+
+        Map<List<Object>, Long> merged = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            merged.merge(Arrays.asList(row).subList(0, groupColumns), ((Number) row[groupColumns]).longValue(), Long::sum);
+        }
+        pending.forEach((key, delta) -> {
+            if (filter.test(key)) {
+                merged.merge(groupOf.apply(key), delta, Long::sum);
+            }
+        });
+
+        List<Object[]> result = new ArrayList<>(merged.size());
+        merged.forEach((group, count) -> {
+            Object[] row = new Object[groupColumns + 1];
+            for (int i = 0; i < groupColumns; i++) {
+                row[i] = group.get(i);
+            }
+            row[groupColumns] = count;
+            result.add(row);
+        });
+        return result;
+    }
+
+    private boolean inRange(LogStatisticsService.StatKey key, LocalDate startDate, LocalDate endDate) {
+        return !key.getLogDate().isBefore(startDate) && !key.getLogDate().isAfter(endDate);
+    }
+
+    private boolean inRange(LogStatisticsService.StatKey key, LocalDateTime start, LocalDateTime end) {
+        return !key.getMinute().isBefore(start.truncatedTo(ChronoUnit.MINUTES)) && key.getMinute().isBefore(end);
+    }
+
+    private boolean exceedsRawQueryRange(LocalDateTime start, LocalDateTime end) {
+        return Duration.between(start, end).compareTo(Duration.ofDays(rawQueryMaxDays)) > 0;
+    }
+
     public Map<String, Object> getSourceStats(LocalDateTime start, LocalDateTime end) {
         try {
             // 기본 시간 범위 설정 (기본: 최근 24시간)
             LocalDateTime endTime = end != null ? end : LocalDateTime.now();
             LocalDateTime startTime = start != null ? start : endTime.minusHours(24);
 
-            // 소스별 로그 수 조회
-            List<Object[]> sourceData = logRepository.findSourceStatsWithTimePeriod(startTime, endTime);
+            // 소스별 로그 수 조회 (긴 기간은 집계 테이블에서 조회)
+            List<Object[]> sourceData;
+            if (exceedsRawQueryRange(startTime, endTime)) {
+                sourceData = mergePending(logRollupService.findSourceCounts(startTime, endTime), 1,
+                        key -> inRange(key, startTime, endTime),
+                        key -> Arrays.asList(key.getSource()));
+            } else {
+                sourceData = logRepository.findSourceStatsWithTimePeriod(startTime, endTime);
+            }
 
             List<Map<String, Object>> sourceStats = sourceData.stream()
                     .map(row -> {
                         Map<String, Object> stat = new HashMap<>();
                         stat.put("source", row[0]);
-                        stat.put("count", row[1]);
+                        stat.put("count", ((Number) row[1]).longValue());
                         return stat;
                     })
                     .sorted((a, b) -> Long.compare((Long) b.get("count"), (Long) a.get("count")))
@@ -310,7 +631,10 @@ public class DashboardService {
             LocalDate endDate = end.toLocalDate();
 
             // 소스별 집계 조회
-            List<Object[]> sourceData = logStatisticsRepository.findSourceStatsByDateRange(startDate, endDate);
+            List<Object[]> sourceData = mergePending(logStatisticsRepository.findSourceStatsByDateRange(startDate, endDate), 1,
+                    key -> inRange(key, startDate, endDate),
+                    key -> Arrays.asList(key.getSource()));
+            sourceData.sort((a, b) -> Long.compare(((Number) b[1]).longValue(), ((Number) a[1]).longValue()));
 
             // 결과 변환
             List<Map<String, Object>> sourceStats = new ArrayList<>();
@@ -335,6 +659,8 @@ public class DashboardService {
         }
     }
 
+    // DB를 조회하지 않으므로 대시보드 스트림이 프레임마다 호출해도 커넥션을 잡지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SystemStatusResponse getSystemStatus() {
         try {
             // JVM 시작 시간으로부터 업타임 계산
@@ -375,18 +701,22 @@ public class DashboardService {
                     .build();
         } catch (Exception e) {
             log.error("시스템 상태 정보 조회 중 오류 발생", e);
-            return SystemStatusResponse.builder()
-                    .uptime("0d 0h 0m")
-                    .memoryUsage(0.0)
-                    .processedRate(0L)
-                    .errorRate(0.0)
-                    .avgResponseTime(0)
-                    .status("ERROR")
-                    .timestamp(LocalDateTime.now())
-                    .build();
+            return unavailableSystemStatus();
         }
     }
 
+    private static SystemStatusResponse unavailableSystemStatus() {
+        return SystemStatusResponse.builder()
+                .uptime("0d 0h 0m")
+                .memoryUsage(0.0)
+                .processedRate(0L)
+                .errorRate(0.0)
+                .avgResponseTime(0)
+                .status("ERROR")
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
     private String determineSystemStatus(double errorRate, int avgResponseTime) {
         // 높은 오류율 또는 높은 응답 시간은 시스템 상태에 영향을 줌
         if (errorRate > 15.0 || avgResponseTime > 500) {
@@ -400,12 +730,12 @@ public class DashboardService {
 
     public Map<String, Object> getRecentErrors() {
         try {
-            // 최근 오류 로그 조회 (최대 5개)
-            List<LogEntry> errorLogs = logRepository.findByLogLevelOrderByCreatedAtDesc(
-                    "ERROR", PageRequest.of(0, 5));
+            // 최근 오류 로그 조회 (최대 5개, 최근 7일 파티션만 조회)
+            List<LogEntry> errorLogs = logRepository.findByLogLevelAndCreatedAtAfterOrderByCreatedAtDesc(
+                    "ERROR", LocalDateTime.now().minusDays(7), PageRequest.of(0, 5));
 
             List<LogEntryResponse> errorLogResponses = errorLogs.stream()
-                    .map(LogEntryResponse::of)
+                    .map(entry -> LogEntryResponse.of(entry, compressionService.readContent(entry)))
                     .collect(Collectors.toList());
 
             Map<String, Object> result = new HashMap<>();
@@ -427,21 +757,39 @@ public class DashboardService {
             LocalDateTime endTime = end != null ? end : LocalDateTime.now();
             LocalDateTime startTime = start != null ? start : endTime.minusDays(7);
 
-            List<Map<String, Object>> dailyStats = new ArrayList<>();
-
-            // 각 날짜별 데이터 수집
-            LocalDate currentDate = startTime.toLocalDate();
+            LocalDate startDate = startTime.toLocalDate();
             LocalDate endDate = endTime.toLocalDate();
 
-            while (!currentDate.isAfter(endDate)) {
-                LocalDateTime dayStart = currentDate.atStartOfDay();
-                LocalDateTime dayEnd = currentDate.plusDays(1).atStartOfDay();
+            // 날짜별, 로그 레벨별 합계 (원본 logs 테이블 대신 집계 테이블에서 조회)
+            List<Object[]> bucketRows = logRollupService.findBucketLevelCounts(
+                    startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay(), RollupResolution.DAY);
+            List<Object[]> dayRows = new ArrayList<>(bucketRows.size());
+            for (Object[] row : bucketRows) {
+                dayRows.add(new Object[]{((LocalDateTime) row[0]).toLocalDate(), row[1], row[2]});
+            }
+            dayRows = mergePending(dayRows, 2,
+                    key -> inRange(key, startDate, endDate),
+                    key -> Arrays.asList(key.getLogDate(), key.getLogLevel()));
+
+            Map<LocalDate, Long> totalByDate = new HashMap<>();
+            Map<LocalDate, Long> errorsByDate = new HashMap<>();
+            for (Object[] row : dayRows) {
+                LocalDate date = (LocalDate) row[0];
+                long count = ((Number) row[2]).longValue();
+                totalByDate.merge(date, count, Long::sum);
+                if ("ERROR".equalsIgnoreCase((String) row[1])) {
+                    errorsByDate.merge(date, count, Long::sum);
+                }
+            }
 
-                // 해당 날짜의 전체 로그 수
-                long totalLogs = logRepository.countByCreatedAtBetween(dayStart, dayEnd);
+            List<Map<String, Object>> dailyStats = new ArrayList<>();
+
+            // 각 날짜별 데이터 구성
+            LocalDate currentDate = startDate;
 
-                // 해당 날짜의 오류 로그 수
-                long errorLogs = logRepository.countByLogLevelAndCreatedAtBetween("ERROR", dayStart, dayEnd);
+            while (!currentDate.isAfter(endDate)) {
+                long totalLogs = totalByDate.getOrDefault(currentDate, 0L);
+                long errorLogs = errorsByDate.getOrDefault(currentDate, 0L);
 
                 // 오류율 계산
                 double errorRate = totalLogs > 0 ? (double) errorLogs / totalLogs * 100 : 0;
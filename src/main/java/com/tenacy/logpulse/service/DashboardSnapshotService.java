@@ -0,0 +1,179 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.DashboardStatsResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대시보드 통계 스냅샷 (모든 호출자가 공유)
+ *
+ * - 요청 조건(start, end, source)별 스냅샷을 ttl-ms 동안 재사용한다.
+ * - 만료된 스냅샷은 한 요청만 갱신하고, 그동안 들어온 같은 조건의 요청은 그 결과를 기다려 함께 받는다 (single-flight).
+ * - 갱신은 이전 스냅샷을 넘겨 현재 시간 / 날짜 구간만 다시 조회한다 (DashboardService.refreshDashboardStats).
+ * - 스풀 / 데드레터 재처리로 지난 구간에 늦게 반영되는 로그가 있으므로, 마지막 전체 조회 후 full-refresh-ms가 지나면 전체 구간을 다시 조회한다.
+ */
+@Service
+@Slf4j
+public class DashboardSnapshotService {
+
+    private final DashboardService dashboardService;
+    private final Counter hitCounter;
+    private final Counter refreshCounter;
+    private final Counter coalescedCounter;
+
+    private final ConcurrentHashMap<SnapshotKey, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<SnapshotKey, CompletableFuture<DashboardStatsResponse>> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${logpulse.dashboard.snapshot.enabled:true}")
+    private boolean snapshotEnabled;
+
+    @Value("${logpulse.dashboard.snapshot.ttl-ms:5000}")
+    private long ttlMs;
+
+    @Value("${logpulse.dashboard.snapshot.max-entries:64}")
+    private int maxEntries;
+
+    @Value("${logpulse.dashboard.snapshot.full-refresh-ms:60000}")
+    private long fullRefreshMs;
+
+    public DashboardSnapshotService(DashboardService dashboardService, MeterRegistry meterRegistry) {
+        this.dashboardService = dashboardService;
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.refreshCounter = requestCounter(meterRegistry, "refresh");
+        this.coalescedCounter = requestCounter(meterRegistry, "coalesced");
+    }
+
+    public DashboardStatsResponse getDashboardStats(LocalDateTime start, LocalDateTime end, String source) {
+        if (!snapshotEnabled) {
+            return dashboardService.getDashboardStats(start, end, source);
+        }
+
+        SnapshotKey key = new SnapshotKey(start, end, source);
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && snapshot.isFresh(ttlMs)) {
+            hitCounter.increment();
+            return snapshot.response;
+        }
+
+        CompletableFuture<DashboardStatsResponse> flight = new CompletableFuture<>();
+        CompletableFuture<DashboardStatsResponse> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        try {
+            // 앞선 갱신이 방금 끝났을 수 있으므로 다시 확인
+            Snapshot latest = snapshots.get(key);
+            if (latest != null && latest.isFresh(ttlMs)) {
+                hitCounter.increment();
+                flight.complete(latest.response);
+                return latest.response;
+            }
+
+            refreshCounter.increment();
+            long now = System.nanoTime();
+            boolean incremental = latest != null && now - latest.fullRefreshedAt < fullRefreshMs * 1_000_000L;
+            DashboardStatsResponse response = dashboardService.refreshDashboardStats(
+                    start, end, source, latest != null ? latest.response : null, incremental);
+            snapshots.put(key, new Snapshot(response, now, incremental ? latest.fullRefreshedAt : now));
+            evictIfFull();
+
+            flight.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private DashboardStatsResponse await(CompletableFuture<DashboardStatsResponse> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 만료된 스냅샷부터 제거하고, 그래도 많으면 오래된 순으로 제거
+    private void evictIfFull() {
+        if (snapshots.size() <= maxEntries) {
+            return;
+        }
+
+        snapshots.values().removeIf(snapshot -> !snapshot.isFresh(ttlMs));
+        while (snapshots.size() > maxEntries) {
+            snapshots.entrySet().stream()
+                    .min(Comparator.comparingLong(entry -> entry.getValue().createdAt))
+                    .map(Map.Entry::getKey)
+                    .ifPresent(snapshots::remove);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("logpulse.dashboard.snapshot.requests")
+                .description("대시보드 스냅샷 요청 수 (hit: 재사용, refresh: 갱신, coalesced: 진행 중인 갱신 대기)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static final class Snapshot {
+        private final DashboardStatsResponse response;
+        private final long createdAt;
+        // 증분 갱신의 기준이 된 마지막 전체 조회 시각
+        private final long fullRefreshedAt;
+
+        private Snapshot(DashboardStatsResponse response, long createdAt, long fullRefreshedAt) {
+            this.response = response;
+            this.createdAt = createdAt;
+            this.fullRefreshedAt = fullRefreshedAt;
+        }
+
+        private boolean isFresh(long ttlMs) {
+            return System.nanoTime() - createdAt < ttlMs * 1_000_000L;
+        }
+    }
+
+    private static final class SnapshotKey {
+        private final LocalDateTime start;
+        private final LocalDateTime end;
+        private final String source;
+
+        private SnapshotKey(LocalDateTime start, LocalDateTime end, String source) {
+            this.start = start;
+            this.end = end;
+            this.source = source != null && !source.isEmpty() ? source : null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            SnapshotKey that = (SnapshotKey) o;
+            return Objects.equals(start, that.start) &&
+                    Objects.equals(end, that.end) &&
+                    Objects.equals(source, that.source);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(start, end, source);
+        }
+    }
+}
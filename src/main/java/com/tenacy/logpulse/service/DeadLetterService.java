@@ -0,0 +1,278 @@
+package com.tenacy.logpulse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenacy.logpulse.api.dto.DeadLetterReplayResponse;
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.kafka.LogEventDeserializer;
+import com.tenacy.logpulse.kafka.LogEventFormat;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * raw-logs 처리에 실패한 레코드를 데드레터 토픽으로 격리하고 다시 수집 파이프라인으로 재처리
+ * 실패한 레코드만 격리하므로 배치의 나머지 레코드는 재시도 없이 정상 처리된다.
+ */
+@Service
+@Slf4j
+public class DeadLetterService {
+
+    public static final String STAGE_HEADER = "logpulse-dlt-stage";
+
+    public static final String STAGE_DESERIALIZE = "deserialize";
+    public static final String STAGE_PREPARE = "prepare";
+    public static final String STAGE_JDBC = "jdbc";
+    public static final String STAGE_LISTENER = "listener";
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+    private static final LogAccessor LOG_ACCESSOR = new LogAccessor(DeadLetterService.class);
+
+    private final KafkaTemplate<String, byte[]> deadLetterKafkaTemplate;
+    private final ConsumerFactory<String, String> consumerFactory;
+    private final LogProducerService logProducerService;
+    private final LogEventDeserializer logEventDeserializer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> stageCounters = new ConcurrentHashMap<>();
+    private final Counter replayedCounter;
+
+    @Value("${logpulse.kafka.topics.dead-letter}")
+    private String deadLetterTopic;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String consumerGroupId;
+
+    @Value("${logpulse.dlq.replay.max-records:1000}")
+    private int maxReplayRecords;
+
+    public DeadLetterService(@Qualifier("deadLetterKafkaTemplate") KafkaTemplate<String, byte[]> deadLetterKafkaTemplate,
+                             ConsumerFactory<String, String> consumerFactory,
+                             LogProducerService logProducerService,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry) {
+        this.deadLetterKafkaTemplate = deadLetterKafkaTemplate;
+        this.consumerFactory = consumerFactory;
+        this.logProducerService = logProducerService;
+        this.logEventDeserializer = new LogEventDeserializer(objectMapper);
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.replayedCounter = Counter.builder("logpulse.dlq.replayed")
+                .description("데드레터 토픽에서 재처리된 레코드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 처리에 실패한 레코드를 데드레터 토픽으로 전송
+     * 역직렬화 실패 레코드는 원본 바이트를, 그 외에는 이벤트를 JSON으로 기록한다.
+     * 전송에 실패하면 반환된 Future가 예외로 완료되며, 호출자는 오프셋을 커밋하지 않고 레코드를 다시 처리해야 한다.
+     */
+    public CompletableFuture<Void> publish(ConsumerRecord<?, ?> record, String stage, Throwable cause) {
+        try {
+            byte[] payload;
+            String format;
+            Throwable failure = cause;
+
+            DeserializationException deserializationException = SerializationUtils.getExceptionFromHeader(
+                    record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+
+            if (deserializationException != null) {
+                payload = deserializationException.getData();
+                format = headerValue(record.headers(), LogEventFormat.HEADER);
+                if (failure == null) {
+                    failure = deserializationException.getCause() != null ?
+                            deserializationException.getCause() : deserializationException;
+                }
+            } else {
+                payload = objectMapper.writeValueAsBytes(record.value());
+                format = LogEventFormat.JSON.getValue();
+            }
+
+            ProducerRecord<String, byte[]> deadLetter =
+                    new ProducerRecord<>(deadLetterTopic, record.key() != null ? record.key().toString() : null, payload);
+            Headers headers = deadLetter.headers();
+            headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, record.topic().getBytes(StandardCharsets.UTF_8));
+            headers.add(KafkaHeaders.DLT_ORIGINAL_PARTITION, ByteBuffer.allocate(4).putInt(record.partition()).array());
+            headers.add(KafkaHeaders.DLT_ORIGINAL_OFFSET, ByteBuffer.allocate(8).putLong(record.offset()).array());
+            String reason = exceptionMessage(failure);
+            headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN, exceptionName(failure).getBytes(StandardCharsets.UTF_8));
+            headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, reason.getBytes(StandardCharsets.UTF_8));
+            headers.add(STAGE_HEADER, stage.getBytes(StandardCharsets.UTF_8));
+            if (format != null) {
+                headers.add(LogEventFormat.HEADER, format.getBytes(StandardCharsets.UTF_8));
+            }
+
+            return deadLetterKafkaTemplate.send(deadLetter)
+                    .handle((result, ex) -> {
+                        if (ex != null) {
+                            log.error("데드레터 토픽 전송 실패: partition={}, offset={}, 원인={}",
+                                    record.partition(), record.offset(), ex.getMessage());
+                            throw ex instanceof CompletionException completion ? completion : new CompletionException(ex);
+                        }
+                        stageCounter(stage).increment();
+                        log.warn("레코드를 데드레터 토픽으로 격리: stage={}, partition={}, offset={}, 원인={}",
+                                stage, record.partition(), record.offset(), reason);
+                        return null;
+                    });
+        } catch (Exception e) {
+            log.error("데드레터 레코드 생성 실패: partition={}, offset={}, 원인={}",
+                    record.partition(), record.offset(), e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 데드레터 토픽의 레코드를 raw-logs 토픽으로 다시 전송
+     * 재처리 컨슈머 그룹의 오프셋을 커밋하므로 같은 레코드를 두 번 재처리하지 않는다.
+     * 여전히 해석할 수 없는 레코드는 건너뛴다.
+     * 재전송에 실패하면 해당 레코드 위치로 되돌리고 중단하며, 그 앞까지만 커밋하여 다음 요청에서 다시 전송한다.
+     * 격리 전에 이미 알림 판단을 거친 레코드이므로 재처리 표시를 붙여 다시 알림이 발생하지 않도록 한다.
+     */
+    public synchronized DeadLetterReplayResponse replay(int requestedRecords) {
+        int limit = requestedRecords <= 0 ? maxReplayRecords : Math.min(requestedRecords, maxReplayRecords);
+        int replayed = 0;
+        int skipped = 0;
+        boolean failed = false;
+
+        try (Consumer<String, byte[]> consumer = createReplayConsumer(Math.min(limit, 500))) {
+
+            consumer.subscribe(List.of(deadLetterTopic));
+
+            while (!failed && replayed + skipped < limit) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                Set<TopicPartition> rewound = new HashSet<>();
+                Map<TopicPartition, OffsetAndMetadata> processed = new HashMap<>();
+
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (replayed + skipped >= limit) {
+                        // 한도를 넘은 레코드는 다음 재처리 요청에서 다시 읽도록 파티션별 위치 되돌림
+                        if (rewound.add(partition)) {
+                            consumer.seek(partition, record.offset());
+                        }
+                        continue;
+                    }
+
+                    LogEventDto logEvent;
+                    try {
+                        logEvent = logEventDeserializer.deserialize(record.topic(), record.headers(), record.value());
+                    } catch (Exception e) {
+                        log.warn("데드레터 레코드 재처리 건너뜀: partition={}, offset={}, 원인={}",
+                                record.partition(), record.offset(), e.getMessage());
+                        skipped++;
+                        processed.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                        continue;
+                    }
+
+                    try {
+                        logProducerService.replayLogEventAndWait(logEvent,
+                                "dlq-replay-" + record.partition() + "-" + record.offset());
+                        replayed++;
+                        processed.put(partition, new OffsetAndMetadata(record.offset() + 1));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("데드레터 재처리 중단", e);
+                    } catch (ExecutionException | TimeoutException e) {
+                        log.error("데드레터 레코드 재전송 실패, 재처리 중단: partition={}, offset={}, 원인={}",
+                                record.partition(), record.offset(), e.getMessage());
+                        consumer.seek(partition, record.offset());
+                        failed = true;
+                        break;
+                    }
+                }
+
+                // 처리한 레코드까지만 커밋 (재전송에 실패한 레코드와 그 뒤 레코드는 다음 요청에서 다시 읽음)
+                if (!processed.isEmpty()) {
+                    consumer.commitSync(processed);
+                }
+            }
+        }
+
+        replayedCounter.increment(replayed);
+        if (failed) {
+            log.warn("데드레터 재처리 실패로 중단: {}개 재전송, {}개 건너뜀", replayed, skipped);
+        } else {
+            log.info("데드레터 재처리 완료: {}개 재전송, {}개 건너뜀", replayed, skipped);
+        }
+
+        return DeadLetterReplayResponse.builder()
+                .status(failed ? "failed" : "success")
+                .replayed(replayed)
+                .skipped(skipped)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 재처리 전용 컨슈머 그룹으로 데드레터 토픽 컨슈머 생성 (자동 커밋 없이 처음부터 읽음)
+     */
+    Consumer<String, byte[]> createReplayConsumer(int maxPollRecords) {
+        Map<String, Object> props = new HashMap<>(consumerFactory.getConfigurationProperties());
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, consumerGroupId + "-dlq-replay");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        return new DefaultKafkaConsumerFactory<>(
+                props, new StringDeserializer(), new ByteArrayDeserializer()).createConsumer();
+    }
+
+    private Counter stageCounter(String stage) {
+        return stageCounters.computeIfAbsent(stage, s -> Counter.builder("logpulse.dlq.records")
+                .tag("stage", s)
+                .description("데드레터 토픽으로 격리된 레코드 수")
+                .register(meterRegistry));
+    }
+
+    private String headerValue(Headers headers, String key) {
+        Header header = headers.lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private String exceptionName(Throwable cause) {
+        return cause != null ? cause.getClass().getName() : "unknown";
+    }
+
+    private String exceptionMessage(Throwable cause) {
+        return cause != null && cause.getMessage() != null ? cause.getMessage() : "";
+    }
+}
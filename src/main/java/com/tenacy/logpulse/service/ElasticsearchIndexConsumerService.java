@@ -0,0 +1,119 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.elasticsearch.document.LogDocument;
+import com.tenacy.logpulse.elasticsearch.service.ElasticsearchService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * raw-logs를 별도 컨슈머 그룹으로 읽어 Elasticsearch에 인덱싱
+ *
+ * MySQL 저장(BatchLogConsumerService)과 오프셋을 따로 관리하므로 Elasticsearch 장애나 지연이
+ * MySQL 저장을 막지 않고, 장애가 복구되면 커밋된 위치부터 밀린 로그를 이어서 인덱싱한다.
+ *
+ * - Elasticsearch를 사용할 수 없거나 연결 장애/일시적 거부로 인덱싱에 실패하면 커밋하지 않고 배치를 다시 읽는다 (nack)
+ * - 매핑 오류처럼 다시 보내도 실패하는 문서는 기록하고 건너뛴 뒤 커밋한다 (MySQL에는 이미 저장됨)
+ * - 문서 ID는 동기 저장 경로와 같은 규칙(LogDocument.idOf)을 사용하므로 같은 레코드를 다시 인덱싱하거나
+ *   데드레터 재처리로 같은 로그가 다시 들어와도 중복 문서가 생기지 않는다
+ *   (소스/레벨/발생 시각/내용이 모두 같은 서로 다른 이벤트도 한 문서로 합쳐진다)
+ * - 역직렬화 실패 레코드는 MySQL 컨슈머가 데드레터 토픽으로 격리하므로 여기서는 건너뛴다
+ */
+@Service
+@Slf4j
+public class ElasticsearchIndexConsumerService {
+
+    public static final String LISTENER_ID = "elasticsearch-sink";
+
+    private final ElasticsearchService elasticsearchService;
+    private final Timer indexingTimer;
+    private final Counter rejectedCounter;
+
+    @Value("${logpulse.elasticsearch.consumer.retry-backoff-ms:5000}")
+    private long retryBackoffMs;
+
+    public ElasticsearchIndexConsumerService(ElasticsearchService elasticsearchService,
+                                             MeterRegistry meterRegistry) {
+        this.elasticsearchService = elasticsearchService;
+        this.indexingTimer = Timer.builder("logpulse.elasticsearch.indexing.time")
+                .description("Elasticsearch 배치 인덱싱 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("logpulse.elasticsearch.indexing.rejected")
+                .description("다시 보내도 실패하여 인덱싱하지 않고 건너뛴 문서 수")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = "${logpulse.kafka.topics.raw-logs}",
+            groupId = "${spring.kafka.consumer.group-id}-es",
+            concurrency = "${logpulse.elasticsearch.consumer.concurrency:3}",
+            autoStartup = "${logpulse.elasticsearch.enabled:true}",
+            batch = "true"
+    )
+    public void indexBatchLogEvents(List<ConsumerRecord<String, LogEventDto>> records, Acknowledgment acknowledgment) {
+        if (records == null || records.isEmpty()) {
+            acknowledgment.acknowledge();
+            return;
+        }
+
+        if (!elasticsearchService.isAvailable()) {
+            log.warn("Elasticsearch를 사용할 수 없어 {}ms 후 배치 재처리: {}개", retryBackoffMs, records.size());
+            acknowledgment.nack(0, Duration.ofMillis(retryBackoffMs));
+            return;
+        }
+
+        List<LogDocument> documents = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, LogEventDto> record : records) {
+            if (record.value() != null) {
+                documents.add(toDocument(record));
+            }
+        }
+
+        long startTime = System.nanoTime();
+        try {
+            Map<String, String> rejected = elasticsearchService.indexDocuments(documents);
+            indexingTimer.record(Duration.ofNanos(System.nanoTime() - startTime));
+            if (!rejected.isEmpty()) {
+                rejectedCounter.increment(rejected.size());
+                log.error("Elasticsearch가 거부한 문서 {}개 건너뜀: {}", rejected.size(), rejected);
+            }
+            acknowledgment.acknowledge();
+            log.debug("Elasticsearch에 {}개 로그 항목 인덱싱 완료", documents.size() - rejected.size());
+        } catch (Exception e) {
+            // 오류 핸들러로 전파하면 데드레터 토픽으로 보내져 재처리 시 MySQL에 중복 저장되므로 직접 재시도
+            log.error("Elasticsearch 인덱싱 실패, {}ms 후 배치 재처리: {}개, 원인={}",
+                    retryBackoffMs, documents.size(), e.getMessage());
+            acknowledgment.nack(0, Duration.ofMillis(retryBackoffMs));
+        }
+    }
+
+    private LogDocument toDocument(ConsumerRecord<String, LogEventDto> record) {
+        LogEventDto event = record.value();
+        // 발생 시각이 없는 이벤트는 레코드 기록 시각을 사용하여 재인덱싱 시에도 같은 ID가 되도록 함
+        LocalDateTime timestamp = event.getTimestamp() != null ? event.getTimestamp() :
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(record.timestamp()), ZoneId.systemDefault());
+        return LogDocument.builder()
+                .id(LogDocument.idOf(event.getSource(), event.getLogLevel(), timestamp, event.getContent()))
+                .source(event.getSource())
+                .content(event.getContent())
+                .logLevel(event.getLogLevel())
+                .timestamp(timestamp)
+                .build();
+    }
+}
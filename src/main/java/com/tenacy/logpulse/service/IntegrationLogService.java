@@ -2,11 +2,16 @@ package com.tenacy.logpulse.service;
 
 import com.tenacy.logpulse.api.dto.LogEventDto;
 import com.tenacy.logpulse.integration.LogGateway;
+import com.tenacy.logpulse.integration.filter.LogFilter;
+import com.tenacy.logpulse.integration.stage.FusedIngestStage;
+import com.tenacy.logpulse.integration.stage.IngestResult;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -14,28 +19,20 @@ import java.time.LocalDateTime;
 public class IntegrationLogService {
 
     private final LogGateway logGateway;
+    private final FusedIngestStage fusedIngestStage;
+    private final LogFilter logFilter;
+
+    // true: 단일 패스 수집 스테이지, false: Spring Integration 채널 체인
+    @Value("${logpulse.integration.fused-stage.enabled:true}")
+    private boolean fusedStageEnabled;
 
     public void processLog(LogEventDto logEventDto) {
         try {
-            // 기본값 설정
-            if (logEventDto.getTimestamp() == null) {
-                logEventDto.setTimestamp(LocalDateTime.now());
-            }
-
-            // 로그 레벨 확인 및 기본값 설정
-            if (logEventDto.getLogLevel() == null || logEventDto.getLogLevel().trim().isEmpty()) {
-                logEventDto.setLogLevel("INFO");
-            }
-
-            // 소스 확인 및 기본값 설정
-            if (logEventDto.getSource() == null || logEventDto.getSource().trim().isEmpty()) {
-                logEventDto.setSource("unknown");
-            }
+            applyDefaults(logEventDto);
 
             log.debug("로그 이벤트를 통합 파이프라인으로 전송: {}", logEventDto);
 
-            // 로그 게이트웨이를 통해 통합 흐름으로 전송
-            logGateway.processLog(logEventDto);
+            dispatch(logEventDto);
 
         } catch (Exception e) {
             log.error("로그 이벤트 처리 중 오류 발생: {}", e.getMessage(), e);
@@ -45,11 +42,71 @@ public class IntegrationLogService {
                 try {
                     Thread.sleep(100);
                     log.debug("로그 이벤트 재시도: {}", logEventDto);
-                    logGateway.processLog(logEventDto);
+                    dispatch(logEventDto);
                 } catch (Exception retryEx) {
                     log.error("재시도 실패: {}", retryEx.getMessage());
                 }
             }
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그 이벤트 배치를 통합 파이프라인으로 전송
+     * @return 파이프라인에 전달된 이벤트 수와 필터로 제외된 이벤트 수
+     */
+    public IngestResult processLogs(List<LogEventDto> logEvents) {
+        if (fusedStageEnabled) {
+            logEvents.forEach(this::applyDefaults);
+            return fusedIngestStage.process(logEvents);
+        }
+
+        int dispatched = 0;
+        int filtered = 0;
+
+        for (LogEventDto logEventDto : logEvents) {
+            try {
+                applyDefaults(logEventDto);
+
+                // 채널 체인의 필터와 같은 조건으로 제외될 이벤트는 전달하지 않고 따로 집계
+                if (!logFilter.accept(logEventDto)) {
+                    filtered++;
+                    continue;
+                }
+
+                logGateway.processLog(logEventDto);
+                dispatched++;
+            } catch (Exception e) {
+                log.error("배치 로그 이벤트 처리 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }
+
+        log.debug("{}개 중 {}개 로그 이벤트를 통합 파이프라인으로 전송, {}개 필터링", logEvents.size(), dispatched, filtered);
+        return new IngestResult(dispatched, filtered);
+    }
+
+    private void dispatch(LogEventDto logEventDto) {
+        if (fusedStageEnabled) {
+            fusedIngestStage.process(logEventDto);
+        } else {
+            // 로그 게이트웨이를 통해 통합 흐름으로 전송
+            logGateway.processLog(logEventDto);
+        }
+    }
+
+    private void applyDefaults(LogEventDto logEventDto) {
+        // 기본값 설정
+        if (logEventDto.getTimestamp() == null) {
+            logEventDto.setTimestamp(LocalDateTime.now());
+        }
+
+        // 로그 레벨 확인 및 기본값 설정
+        if (logEventDto.getLogLevel() == null || logEventDto.getLogLevel().trim().isEmpty()) {
+            logEventDto.setLogLevel("INFO");
+        }
+
+        // 소스 확인 및 기본값 설정
+        if (logEventDto.getSource() == null || logEventDto.getSource().trim().isEmpty()) {
+            logEventDto.setSource("unknown");
+        }
+    }
+}
@@ -1,82 +1,274 @@
 package com.tenacy.logpulse.service;
 
+import com.mysql.cj.jdbc.JdbcStatement;
 import com.tenacy.logpulse.domain.LogEntry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+/**
+ * logs 테이블 대량 저장
+ *
+ * 저장 방식은 logpulse.jdbc.write-mode로 선택한다 (JdbcWriteMode).
+ * 다중 행 INSERT와 LOAD DATA는 한 문장의 크기를 max-statement-bytes 이하로 나누어
+ * 서버의 max_allowed_packet을 넘지 않도록 한다.
+ *
+ * 큰 배치는 최대 parallel.writers개의 샤드로 나누어 jdbcWriterExecutor에서 샤드마다 별도 커넥션과 트랜잭션으로
+ * 동시에 저장하고, 모든 샤드가 커밋되어야 반환한다. 락 경합(데드락, 락 대기 초과)이나 커넥션 부족으로
+ * 샤드가 실패하면 실패한 샤드를 순차로 다시 저장하고 contention-cooldown-ms 동안 순차 저장으로 전환한다.
+ * 호출자가 트랜잭션 안에 있으면 원자성을 유지하기 위해 분할하지 않는다.
+ */
 @Service
 @Slf4j
 public class JdbcBatchInsertService {
 
+    private static final String COLUMNS = "source, content, content_blob, codec, dictionary_id, log_level, " +
+            "created_at, compressed, original_size, compressed_size";
+    private static final String VALUES_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SQL = "INSERT INTO logs (" + COLUMNS + ") VALUES " + VALUES_ROW;
+    private static final int COLUMN_COUNT = 10;
+    // MySQL 프리페어드 문장의 자리표시자 최대 개수
+    private static final int MAX_PLACEHOLDERS = 65_535;
+    // 행마다 내용 외에 더해지는 크기 (자리표시자/숫자/날짜 등) 추정값
+    private static final int ROW_OVERHEAD_BYTES = 64;
+
+    // compressed는 BIT 컬럼이라 텍스트 '1'을 그대로 넣을 수 없으므로 변수로 받아 정수로 변환
+    // content_blob은 utf8mb4 입력에 바이너리를 그대로 실을 수 없으므로 16진수 문자열로 받아 변환
+    private static final String LOAD_DATA_SQL = "LOAD DATA LOCAL INFILE 'logpulse-stream' INTO TABLE logs " +
+            "CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' ESCAPED BY '\\\\' LINES TERMINATED BY '\\n' " +
+            "(source, content, @content_blob, codec, dictionary_id, log_level, created_at, @compressed, " +
+            "original_size, compressed_size) " +
+            "SET content_blob = UNHEX(@content_blob), compressed = (@compressed = '1')";
+    private static final DateTimeFormatter LOAD_DATA_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+
+    // 클라이언트(allowLoadLocalInfile) 또는 서버(local_infile)에서 LOCAL INFILE이 막혀 있을 때의 오류 코드
+    private static final int ER_NOT_ALLOWED_COMMAND = 1148;
+    private static final int ER_CLIENT_LOCAL_FILES_DISABLED = 3948;
+
     private final JdbcTemplate jdbcTemplate;
+    private final AdaptiveBatchService adaptiveBatchService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate shardTransactionTemplate;
+    private final ThreadPoolTaskExecutor jdbcWriterExecutor;
+
+    @Value("${logpulse.jdbc.write-mode:batch}")
+    private String writeModeName;
+
+    @Value("${logpulse.jdbc.max-statement-bytes:4194304}")
+    private int maxStatementBytes;
+
+    @Value("${logpulse.jdbc.parallel.writers:4}")
+    private int parallelWriters;
+
+    @Value("${logpulse.jdbc.parallel.min-shard-size:500}")
+    private int minShardSize;
 
-    @Value("${logpulse.jdbc.batch-size:500}")
-    private int jdbcBatchSize;
+    @Value("${logpulse.jdbc.parallel.contention-cooldown-ms:30000}")
+    private long contentionCooldownMs;
 
-    public JdbcBatchInsertService(JdbcTemplate jdbcTemplate) {
+    private volatile JdbcWriteMode writeMode = JdbcWriteMode.BATCH;
+    private volatile long serialUntil;
+
+    public JdbcBatchInsertService(JdbcTemplate jdbcTemplate,
+                                  AdaptiveBatchService adaptiveBatchService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Qualifier("jdbcWriterExecutor") ThreadPoolTaskExecutor jdbcWriterExecutor) {
         this.jdbcTemplate = jdbcTemplate;
+        this.adaptiveBatchService = adaptiveBatchService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jdbcWriterExecutor = jdbcWriterExecutor;
+    }
+
+    @PostConstruct
+    public void init() {
+        writeMode = JdbcWriteMode.from(writeModeName);
+        log.info("JDBC 저장 방식: {}", writeMode.getValue());
     }
 
-    @Transactional
+    public JdbcWriteMode getWriteMode() {
+        return writeMode;
+    }
+
+    /**
+     * 항목 저장 - 일부 샤드만 커밋된 경우 PartialBatchInsertException으로 미저장 항목을 알린다
+     */
     public void batchInsert(List<LogEntry> entries) {
         if (entries == null || entries.isEmpty()) {
             return;
         }
 
-        String sql = "INSERT INTO logs (source, content, log_level, created_at, compressed, original_size, compressed_size) " +
-                "VALUES (?, ?, ?, ?, ?, ?, ?)";
+        // 컨슈머 지연에 따라 조정되는 청크 크기
+        int jdbcBatchSize = adaptiveBatchService.getEffectiveJdbcBatchSize();
 
+        List<List<LogEntry>> shards = shard(entries);
+        if (shards.size() == 1) {
+            writeInTransaction(transactionTemplate, entries, jdbcBatchSize);
+        } else {
+            writeSharded(shards, jdbcBatchSize);
+        }
+    }
+
+    private void writeInTransaction(TransactionTemplate template, List<LogEntry> entries, int jdbcBatchSize) {
         try {
-            // 배치 크기가 너무 큰 경우 여러 배치로 나눔
-            if (entries.size() > jdbcBatchSize) {
-                int batches = (entries.size() + jdbcBatchSize - 1) / jdbcBatchSize;
-                log.debug("{}개 항목의 대규모 배치를 {}개 소규모 배치로 분할", entries.size(), batches);
+            template.executeWithoutResult(status -> write(entries, jdbcBatchSize));
+        } catch (Exception e) {
+            log.error("배치 삽입 실행 실패: {}", e.getMessage(), e);
+            throw new RuntimeException("배치 삽입 실패", e);
+        }
+    }
 
-                for (int i = 0; i < batches; i++) {
-                    int fromIndex = i * jdbcBatchSize;
-                    int toIndex = Math.min(fromIndex + jdbcBatchSize, entries.size());
-                    List<LogEntry> subBatch = entries.subList(fromIndex, toIndex);
+    private void write(List<LogEntry> entries, int jdbcBatchSize) {
+        switch (writeMode) {
+            case MULTI_ROW -> insertMultiRow(entries, jdbcBatchSize);
+            case LOAD_DATA -> loadData(entries, jdbcBatchSize);
+            default -> insertBatch(entries, jdbcBatchSize);
+        }
+    }
+
+    /**
+     * 동시 저장할 샤드로 분할 (샤드마다 최소 min-shard-size개)
+     */
+    List<List<LogEntry>> shard(List<LogEntry> entries) {
+        int shardCount = Math.min(parallelWriters, entries.size() / Math.max(1, minShardSize));
+
+        if (shardCount <= 1 || System.currentTimeMillis() < serialUntil
+                || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return List.of(entries);
+        }
 
-                    int[] results = executeJdbcBatch(subBatch, sql);
-                    int batchProcessed = countProcessedRows(results);
+        List<List<LogEntry>> shards = new ArrayList<>(shardCount);
+        int shardSize = (entries.size() + shardCount - 1) / shardCount;
+        for (int from = 0; from < entries.size(); from += shardSize) {
+            shards.add(entries.subList(from, Math.min(from + shardSize, entries.size())));
+        }
+        return shards;
+    }
 
-                    log.debug("서브배치 {}/{} 처리: {}개 행", i+1, batches, batchProcessed);
+    private void writeSharded(List<List<LogEntry>> shards, int jdbcBatchSize) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(shards.size());
+        for (List<LogEntry> shard : shards) {
+            futures.add(CompletableFuture.runAsync(
+                    () -> shardTransactionTemplate.executeWithoutResult(status -> write(shard, jdbcBatchSize)),
+                    jdbcWriterExecutor));
+        }
+
+        List<List<LogEntry>> failedShards = new ArrayList<>();
+        Throwable failure = null;
+        boolean contention = false;
+
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                futures.get(i).join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                failedShards.add(shards.get(i));
+                failure = failure != null ? failure : cause;
+                contention |= isContention(cause);
+            }
+        }
+
+        if (failedShards.isEmpty()) {
+            log.debug("{}개 샤드 동시 저장 완료", shards.size());
+            return;
+        }
+
+        List<LogEntry> uncommitted = new ArrayList<>();
+        if (contention) {
+            serialUntil = System.currentTimeMillis() + contentionCooldownMs;
+            log.warn("샤드 저장 중 경합 발생, {}ms 동안 순차 저장으로 전환하고 실패한 샤드 {}개 재시도: {}",
+                    contentionCooldownMs, failedShards.size(), failure.getMessage());
+
+            for (List<LogEntry> shard : failedShards) {
+                try {
+                    writeInTransaction(transactionTemplate, shard, jdbcBatchSize);
+                } catch (RuntimeException e) {
+                    uncommitted.addAll(shard);
+                    failure = e;
                 }
+            }
+        } else {
+            failedShards.forEach(uncommitted::addAll);
+        }
 
-                log.info("배치 분할 완료: {}개 배치에 {}개 항목", batches, entries.size());
-            } else {
-                // 단일 배치 실행
-                int[] results = executeJdbcBatch(entries, sql);
-                int processed = countProcessedRows(results);
-                log.debug("단일 배치 처리 완료: {}개 행", processed);
+        if (!uncommitted.isEmpty()) {
+            log.error("샤드 저장 실패: {}개 샤드 중 {}개 항목 미저장, 원인={}",
+                    shards.size(), uncommitted.size(), failure.getMessage());
+            throw new PartialBatchInsertException(uncommitted, failure);
+        }
+    }
+
+    private boolean isContention(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PessimisticLockingFailureException
+                    || cause instanceof CannotGetJdbcConnectionException
+                    || cause instanceof CannotCreateTransactionException) {
+                return true;
             }
-        } catch (Exception e) {
-            log.error("배치 삽입 실행 실패: {}", e.getMessage(), e);
-            throw new RuntimeException("배치 삽입 실패", e);
+        }
+        return false;
+    }
+
+    private void insertBatch(List<LogEntry> entries, int jdbcBatchSize) {
+        // 배치 크기가 너무 큰 경우 여러 배치로 나눔
+        if (entries.size() > jdbcBatchSize) {
+            int batches = (entries.size() + jdbcBatchSize - 1) / jdbcBatchSize;
+            log.debug("{}개 항목의 대규모 배치를 {}개 소규모 배치로 분할", entries.size(), batches);
+
+            for (int i = 0; i < batches; i++) {
+                int fromIndex = i * jdbcBatchSize;
+                int toIndex = Math.min(fromIndex + jdbcBatchSize, entries.size());
+                List<LogEntry> subBatch = entries.subList(fromIndex, toIndex);
+
+                int[] results = executeJdbcBatch(subBatch);
+                int batchProcessed = countProcessedRows(results);
+
+                log.debug("서브배치 {}/{} 처리: {}개 행", i+1, batches, batchProcessed);
+            }
+
+            log.info("배치 분할 완료: {}개 배치에 {}개 항목", batches, entries.size());
+        } else {
+            // 단일 배치 실행
+            int[] results = executeJdbcBatch(entries);
+            int processed = countProcessedRows(results);
+            log.debug("단일 배치 처리 완료: {}개 행", processed);
         }
     }
 
-    private int[] executeJdbcBatch(List<LogEntry> entries, String sql) {
-        return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+    private int[] executeJdbcBatch(List<LogEntry> entries) {
+        return jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
             @Override
             public void setValues(PreparedStatement ps, int i) throws SQLException {
-                LogEntry entry = entries.get(i);
-                ps.setString(1, entry.getSource());
-                ps.setString(2, entry.getContent());
-                ps.setString(3, entry.getLogLevel());
-                ps.setTimestamp(4, Timestamp.valueOf(entry.getCreatedAt()));
-                ps.setBoolean(5, entry.getCompressed() != null ? entry.getCompressed() : false);
-                ps.setInt(6, entry.getOriginalSize() != null ? entry.getOriginalSize() : 0);
-                ps.setInt(7, entry.getCompressedSize() != null ? entry.getCompressedSize() : 0);
+                bindRow(ps, 1, entries.get(i));
             }
 
             @Override
@@ -86,6 +278,199 @@ public class JdbcBatchInsertService {
         });
     }
 
+    /**
+     * 바이트 예산과 자리표시자 한도 안에서 VALUES 목록을 이어 붙인 INSERT 실행
+     */
+    private void insertMultiRow(List<LogEntry> entries, int jdbcBatchSize) {
+        int maxRows = Math.min(jdbcBatchSize, MAX_PLACEHOLDERS / COLUMN_COUNT);
+        List<List<LogEntry>> chunks = partition(entries, maxRows, maxStatementBytes);
+
+        int processed = 0;
+        for (List<LogEntry> chunk : chunks) {
+            StringBuilder sql = new StringBuilder(INSERT_SQL.length() + chunk.size() * (VALUES_ROW.length() + 2))
+                    .append("INSERT INTO logs (").append(COLUMNS).append(") VALUES ").append(VALUES_ROW);
+            for (int i = 1; i < chunk.size(); i++) {
+                sql.append(", ").append(VALUES_ROW);
+            }
+
+            processed += jdbcTemplate.update(sql.toString(), ps -> {
+                int index = 1;
+                for (LogEntry entry : chunk) {
+                    index = bindRow(ps, index, entry);
+                }
+            });
+        }
+
+        log.debug("다중 행 INSERT 완료: {}개 문장, {}개 행", chunks.size(), processed);
+    }
+
+    /**
+     * 항목을 TSV 스트림으로 만들어 LOAD DATA LOCAL INFILE로 적재
+     * 드라이버나 서버에서 LOCAL INFILE이 허용되지 않으면 다중 행 INSERT로 전환한다.
+     * LOCAL 적재는 데이터 오류를 경고로 처리하므로 길이 초과 값은 잘려서 저장되고 데드레터로 격리되지 않는다.
+     */
+    private void loadData(List<LogEntry> entries, int jdbcBatchSize) {
+        List<List<LogEntry>> chunks = partition(entries, Integer.MAX_VALUE, maxStatementBytes);
+
+        try {
+            int processed = 0;
+            for (List<LogEntry> chunk : chunks) {
+                byte[] rows = toLoadDataRows(chunk);
+                processed += jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+                    try (Statement statement = connection.createStatement()) {
+                        statement.unwrap(JdbcStatement.class)
+                                .setLocalInfileInputStream(new ByteArrayInputStream(rows));
+                        return statement.executeUpdate(LOAD_DATA_SQL);
+                    }
+                });
+            }
+            log.debug("LOAD DATA 적재 완료: {}개 문장, {}개 행", chunks.size(), processed);
+        } catch (RuntimeException e) {
+            if (!isLocalInfileDisabled(e)) {
+                throw e;
+            }
+            log.warn("LOCAL INFILE을 사용할 수 없어 다중 행 INSERT로 전환 " +
+                    "(allowLoadLocalInfile=true 연결 속성과 서버 local_infile=ON 필요): {}", e.getMessage());
+            writeMode = JdbcWriteMode.MULTI_ROW;
+            insertMultiRow(entries, jdbcBatchSize);
+        }
+    }
+
+    private int bindRow(PreparedStatement ps, int index, LogEntry entry) throws SQLException {
+        ps.setString(index++, entry.getSource());
+        ps.setString(index++, entry.getContent());
+        if (entry.getContentBlob() != null) {
+            ps.setBytes(index++, entry.getContentBlob());
+        } else {
+            ps.setNull(index++, Types.BLOB);
+        }
+        if (entry.getCodec() != null) {
+            ps.setByte(index++, entry.getCodec());
+        } else {
+            ps.setNull(index++, Types.TINYINT);
+        }
+        if (entry.getDictionaryId() != null) {
+            ps.setLong(index++, entry.getDictionaryId());
+        } else {
+            ps.setNull(index++, Types.BIGINT);
+        }
+        ps.setString(index++, entry.getLogLevel());
+        ps.setTimestamp(index++, Timestamp.valueOf(entry.getCreatedAt()));
+        ps.setBoolean(index++, entry.getCompressed() != null ? entry.getCompressed() : false);
+        ps.setInt(index++, entry.getOriginalSize() != null ? entry.getOriginalSize() : 0);
+        ps.setInt(index++, entry.getCompressedSize() != null ? entry.getCompressedSize() : 0);
+        return index;
+    }
+
+    /**
+     * 행 수와 추정 바이트 크기 기준으로 분할 (한 행이 예산을 넘어도 단독 청크로 보낸다)
+     */
+    static List<List<LogEntry>> partition(List<LogEntry> entries, int maxRows, int maxBytes) {
+        List<List<LogEntry>> chunks = new ArrayList<>();
+        int from = 0;
+        long bytes = 0;
+
+        for (int i = 0; i < entries.size(); i++) {
+            long rowBytes = estimateRowBytes(entries.get(i));
+            if (i > from && (i - from >= maxRows || bytes + rowBytes > maxBytes)) {
+                chunks.add(entries.subList(from, i));
+                from = i;
+                bytes = 0;
+            }
+            bytes += rowBytes;
+        }
+
+        if (from < entries.size()) {
+            chunks.add(entries.subList(from, entries.size()));
+        }
+        return chunks;
+    }
+
+    /**
+     * LOAD DATA 입력 스트림 (탭 구분, 역슬래시 이스케이프, NULL은 \N)
+     */
+    static byte[] toLoadDataRows(List<LogEntry> entries) {
+        StringBuilder rows = new StringBuilder(entries.size() * 128);
+
+        for (LogEntry entry : entries) {
+            appendField(rows, entry.getSource()).append('\t');
+            appendField(rows, entry.getContent()).append('\t');
+            rows.append(entry.getContentBlob() != null ? HexFormat.of().formatHex(entry.getContentBlob()) : "\\N")
+                    .append('\t');
+            rows.append(entry.getCodec() != null ? entry.getCodec().toString() : "\\N").append('\t');
+            rows.append(entry.getDictionaryId() != null ? entry.getDictionaryId().toString() : "\\N").append('\t');
+            appendField(rows, entry.getLogLevel()).append('\t');
+            rows.append(entry.getCreatedAt() != null ? LOAD_DATA_TIMESTAMP.format(entry.getCreatedAt()) : "\\N")
+                    .append('\t');
+            rows.append(Boolean.TRUE.equals(entry.getCompressed()) ? '1' : '0').append('\t');
+            rows.append(entry.getOriginalSize() != null ? entry.getOriginalSize() : 0).append('\t');
+            rows.append(entry.getCompressedSize() != null ? entry.getCompressedSize() : 0).append('\n');
+        }
+
+        return rows.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static StringBuilder appendField(StringBuilder rows, String value) {
+        if (value == null) {
+            return rows.append("\\N");
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> rows.append("\\\\");
+                case '\t' -> rows.append("\\t");
+                case '\n' -> rows.append("\\n");
+                case '\r' -> rows.append("\\r");
+                case '\0' -> rows.append("\\0");
+                default -> rows.append(c);
+            }
+        }
+        return rows;
+    }
+
+    private static long estimateRowBytes(LogEntry entry) {
+        return ROW_OVERHEAD_BYTES + utf8Length(entry.getSource()) + utf8Length(entry.getContent())
+                + (entry.getContentBlob() != null ? entry.getContentBlob().length : 0)
+                + utf8Length(entry.getLogLevel());
+    }
+
+    private static int utf8Length(String value) {
+        if (value == null) {
+            return 0;
+        }
+
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private boolean isLocalInfileDisabled(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                int code = sqlException.getErrorCode();
+                String message = sqlException.getMessage();
+                if (code == ER_NOT_ALLOWED_COMMAND || code == ER_CLIENT_LOCAL_FILES_DISABLED
+                        || (message != null && message.contains("Loading local data is disabled"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     private int countProcessedRows(int[] results) {
         int count = 0;
         for (int result : results) {
@@ -95,4 +480,4 @@ public class JdbcBatchInsertService {
         }
         return count;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package com.tenacy.logpulse.service;
+
+/**
+ * logs 테이블 대량 저장 방식 (logpulse.jdbc.write-mode)
+ *
+ * - BATCH: 단일 행 INSERT를 JDBC 배치로 실행 (다중 행 변환은 rewriteBatchedStatements에 의존)
+ * - MULTI_ROW: 바이트 예산 안에서 VALUES 목록을 직접 이어 붙인 다중 행 INSERT
+ * - LOAD_DATA: 메모리에서 만든 TSV 스트림을 LOAD DATA LOCAL INFILE로 적재
+ */
+public enum JdbcWriteMode {
+
+    BATCH("batch"),
+    MULTI_ROW("multi-row"),
+    LOAD_DATA("load-data");
+
+    private final String value;
+
+    JdbcWriteMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static JdbcWriteMode from(String value) {
+        if (value != null) {
+            for (JdbcWriteMode mode : values()) {
+                if (mode.value.equalsIgnoreCase(value.trim())) {
+                    return mode;
+                }
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 JDBC 저장 방식: " + value);
+    }
+}
@@ -0,0 +1,469 @@
+package com.tenacy.logpulse.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tenacy.logpulse.api.dto.DashboardStatsResponse;
+import com.tenacy.logpulse.api.dto.DashboardStreamFrame;
+import com.tenacy.logpulse.api.dto.LogEntryResponse;
+import com.tenacy.logpulse.domain.LogEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 대시보드 푸시 (SSE)
+ *
+ * - 수집: 저장이 끝난 로그를 publish()로 받아 레벨별 / 소스별 증가분과 새 오류 로그를 메모리에 누적한다 (구독자가 없으면 무시).
+ * - 전송: frame-rate마다 한 번 누적분을 비워 프레임 하나를 만들고, 한 번 직렬화한 JSON을 모든 구독자의 대기열에 넣는다.
+ *   실제 전송은 구독자마다 dashboardStreamExecutor에서 순서대로 수행하므로 느린 구독이 프레임 스레드나 다른 구독을 막지 않는다.
+ *   프레임은 증가분이라 건너뛸 수 없으므로, 대기열(max-queued-frames)이 가득 찬 구독은 끊어 재접속 시 스냅샷부터 다시 받게 한다.
+ *   증가분이 없으면 heartbeat-ms마다 시스템 상태만 담은 프레임을 보낸다.
+ * - 구독: 접속 시 공유 스냅샷(DashboardSnapshotService)을 snapshot 이벤트로 먼저 보내고, 이후 update 이벤트로 증가분을 보낸다.
+ *   스냅샷을 받는 동안 만든 프레임은 모아 두었다가, 프레임 시각이 스냅샷 시각 이전이면 스냅샷에 이미 반영된 증가분이므로 버린다.
+ *   동시 구독 수는 max-connections로 제한한다.
+ * - 합계는 근사값이다. 스냅샷 시각에 걸친 프레임은 일부 증가분이 두 번 더해질 수 있고, 캐시된 스냅샷이 구독보다 오래되었으면
+ *   그 사이의 증가분이 빠질 수 있으며, 조회 구간(최근 24시간)을 벗어난 로그도 빠지지 않는다.
+ *   그래서 resync-ms마다 새 스냅샷을 snapshot 이벤트로 다시 보내 구독자가 합계를 교체하게 한다.
+ */
+@Service
+@Slf4j
+public class LiveDashboardService {
+
+    static final String EVENT_SNAPSHOT = "snapshot";
+    static final String EVENT_UPDATE = "update";
+
+    private final DashboardSnapshotService dashboardSnapshotService;
+    private final DashboardService dashboardService;
+    private final SystemMetricsService systemMetricsService;
+    private final LogCompressionService compressionService;
+    private final ObjectMapper objectMapper;
+    private final Executor dashboardStreamExecutor;
+    private final Counter frameCounter;
+    private final Counter droppedCounter;
+
+    private final Map<SseEmitter, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> levelDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> sourceDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedDeque<LogEntry> newErrors = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger newErrorCount = new AtomicInteger();
+
+    private ScheduledExecutorService frameScheduler;
+    private volatile long lastFrameAt;
+    private volatile long lastResyncAt;
+    private final AtomicBoolean resyncing = new AtomicBoolean();
+
+    @Value("${logpulse.dashboard.stream.enabled:true}")
+    private boolean streamEnabled;
+
+    @Value("${logpulse.dashboard.stream.frame-rate:2}")
+    private int frameRate;
+
+    @Value("${logpulse.dashboard.stream.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${logpulse.dashboard.stream.emitter-timeout-ms:1800000}")
+    private long emitterTimeoutMs;
+
+    @Value("${logpulse.dashboard.stream.heartbeat-ms:15000}")
+    private long heartbeatMs;
+
+    @Value("${logpulse.dashboard.stream.max-errors-per-frame:20}")
+    private int maxErrorsPerFrame;
+
+    @Value("${logpulse.dashboard.stream.max-queued-frames:32}")
+    private int maxQueuedFrames;
+
+    @Value("${logpulse.dashboard.stream.resync-ms:60000}")
+    private long resyncMs;
+
+    public LiveDashboardService(DashboardSnapshotService dashboardSnapshotService,
+                                DashboardService dashboardService,
+                                SystemMetricsService systemMetricsService,
+                                LogCompressionService compressionService,
+                                ObjectMapper objectMapper,
+                                @Qualifier("dashboardStreamExecutor") Executor dashboardStreamExecutor,
+                                MeterRegistry meterRegistry) {
+        this.dashboardSnapshotService = dashboardSnapshotService;
+        this.dashboardService = dashboardService;
+        this.systemMetricsService = systemMetricsService;
+        this.compressionService = compressionService;
+        this.objectMapper = objectMapper;
+        this.dashboardStreamExecutor = dashboardStreamExecutor;
+        this.frameCounter = Counter.builder("logpulse.dashboard.stream.frames")
+                .description("구독자에게 보낸 대시보드 프레임 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("logpulse.dashboard.stream.dropped")
+                .description("대기 프레임이 가득 차 끊은 대시보드 스트림 구독 수")
+                .register(meterRegistry);
+
+        Gauge.builder("logpulse.dashboard.stream.connections", subscribers, Map::size)
+                .description("대시보드 스트림 구독 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!streamEnabled) {
+            return;
+        }
+
+        long intervalMs = Math.max(1000L / Math.max(frameRate, 1), 1L);
+        lastResyncAt = System.currentTimeMillis();
+        frameScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        frameScheduler.scheduleAtFixedRate(() -> {
+            try {
+                tick();
+            } catch (Exception e) {
+                log.error("대시보드 프레임 전송 중 오류 발생: {}", e.getMessage(), e);
+            }
+        }, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+        log.info("대시보드 스트림 시작 - 초당 최대 {}프레임, 최대 구독 {}개", frameRate, maxConnections);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (frameScheduler != null) {
+            frameScheduler.shutdownNow();
+        }
+        for (SseEmitter emitter : subscribers.keySet()) {
+            emitter.complete();
+        }
+        subscribers.clear();
+    }
+
+    /**
+     * 구독 등록 후 공유 스냅샷 전송
+     * @return 구독 수 제한에 걸리거나 스트림이 꺼져 있으면 null
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        return subscribe(emitter) ? emitter : null;
+    }
+
+    /**
+     * 스냅샷을 받는 동안 만든 프레임은 구독의 대기열에 모아 두고, 스냅샷을 먼저 넣은 뒤 스냅샷 이후 프레임만 이어서 보냄
+     */
+    boolean subscribe(SseEmitter emitter) {
+        if (!register(emitter, false)) {
+            return false;
+        }
+
+        String json = null;
+        LocalDateTime snapshotAt = null;
+        try {
+            DashboardStatsResponse snapshot = dashboardSnapshotService.getDashboardStats(null, null, null);
+            json = objectMapper.writeValueAsString(snapshot);
+            snapshotAt = snapshot.getTimestamp();
+        } catch (Exception e) {
+            // 스냅샷 없이도 이후 증가분은 받을 수 있으므로 구독은 유지
+            log.warn("대시보드 스트림 초기 스냅샷 전송 실패: {}", e.getMessage());
+        }
+
+        Subscriber subscriber = subscribers.get(emitter);
+        if (subscriber != null) {
+            subscriber.start(json, snapshotAt);
+        }
+        return true;
+    }
+
+    /**
+     * 스냅샷 없이 바로 증가분을 받는 구독 등록
+     */
+    boolean register(SseEmitter emitter) {
+        return register(emitter, true);
+    }
+
+    private synchronized boolean register(SseEmitter emitter, boolean started) {
+        if (!streamEnabled || subscribers.size() >= maxConnections) {
+            log.warn("대시보드 스트림 구독 거부 - 현재 구독 {}개 (최대 {}개)", subscribers.size(), maxConnections);
+            return false;
+        }
+
+        subscribers.put(emitter, new Subscriber(emitter, started));
+        emitter.onCompletion(() -> subscribers.remove(emitter));
+        emitter.onTimeout(() -> {
+            subscribers.remove(emitter);
+            emitter.complete();
+        });
+        emitter.onError(e -> subscribers.remove(emitter));
+        return true;
+    }
+
+    public int getConnectionCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * 저장된 로그를 다음 프레임에 반영 (구독자가 없으면 누적하지 않음)
+     */
+    public void publish(List<LogEntry> entries) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        for (LogEntry entry : entries) {
+            increment(levelDeltas, entry.getLogLevel());
+            increment(sourceDeltas, entry.getSource());
+
+            if ("ERROR".equalsIgnoreCase(entry.getLogLevel())) {
+                // 최신 max-errors-per-frame개만 유지 (내용 복원은 프레임을 만들 때 남은 항목만)
+                newErrors.addFirst(entry);
+                if (newErrorCount.incrementAndGet() > maxErrorsPerFrame && newErrors.pollLast() != null) {
+                    newErrorCount.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * 누적분을 비워 프레임 하나를 만들고 모든 구독자의 대기열에 추가
+     */
+    void tick() {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (resyncMs > 0 && now - lastResyncAt >= resyncMs) {
+            lastResyncAt = now;
+            resync();
+        }
+
+        Map<String, Long> levelCounts = drain(levelDeltas);
+        Map<String, Long> sourceCounts = drain(sourceDeltas);
+        List<LogEntryResponse> recentErrors = drainErrors();
+
+        if (levelCounts.isEmpty() && recentErrors.isEmpty() && now - lastFrameAt < heartbeatMs) {
+            return;
+        }
+
+        DashboardStreamFrame frame = DashboardStreamFrame.builder()
+                .timestamp(LocalDateTime.now())
+                .levelCounts(levelCounts)
+                .sourceCounts(sourceCounts)
+                .recentErrors(recentErrors)
+                .systemStatus(dashboardService.getSystemStatus())
+                .metrics(systemMetricsService.getCurrentMetrics())
+                .build();
+
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(frame);
+        } catch (JsonProcessingException e) {
+            log.error("대시보드 프레임 직렬화 실패: {}", e.getMessage(), e);
+            return;
+        }
+
+        Frame update = new Frame(EVENT_UPDATE, json, frame.getTimestamp());
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.enqueue(update);
+        }
+        lastFrameAt = now;
+        frameCounter.increment();
+    }
+
+    /**
+     * 누적된 오차를 바로잡도록 모든 구독에 새 스냅샷 전송 (스냅샷 조회가 프레임 스레드를 막지 않도록 전송 실행기에서 수행)
+     */
+    private void resync() {
+        if (!resyncing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            dashboardStreamExecutor.execute(() -> {
+                try {
+                    DashboardStatsResponse snapshot = dashboardSnapshotService.getDashboardStats(null, null, null);
+                    Frame frame = new Frame(EVENT_SNAPSHOT, objectMapper.writeValueAsString(snapshot),
+                            snapshot.getTimestamp());
+                    for (Subscriber subscriber : subscribers.values()) {
+                        subscriber.enqueue(frame);
+                    }
+                } catch (Exception e) {
+                    log.warn("대시보드 스트림 스냅샷 재전송 실패: {}", e.getMessage());
+                } finally {
+                    resyncing.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            resyncing.set(false);
+        }
+    }
+
+    private List<LogEntryResponse> drainErrors() {
+        List<LogEntryResponse> errors = new ArrayList<>();
+        LogEntry entry;
+        while ((entry = newErrors.pollFirst()) != null) {
+            newErrorCount.decrementAndGet();
+            errors.add(LogEntryResponse.of(entry, compressionService.readContent(entry)));
+        }
+        return errors;
+    }
+
+    // 구독 대기열의 이벤트 (at: 프레임을 만든 시각, 이 시각 이전에 저장된 로그의 증가분만 담김)
+    private record Frame(String event, String json, LocalDateTime at) {
+    }
+
+    /**
+     * 구독 하나의 대기열과 전송 (전송 작업은 구독마다 최대 하나만 실행되어 프레임 순서가 유지됨)
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<Frame> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        // 초기 스냅샷을 넣기 전까지 만든 프레임
+        private final List<Frame> held = new ArrayList<>();
+        private volatile boolean closed;
+        private boolean started;
+
+        private Subscriber(SseEmitter emitter, boolean started) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(Math.max(maxQueuedFrames, 1));
+            this.started = started;
+        }
+
+        /**
+         * 초기 스냅샷을 넣고 모아 둔 프레임 중 스냅샷 시각 이후에 만든 것만 이어서 넣음
+         */
+        private synchronized void start(String snapshotJson, LocalDateTime snapshotAt) {
+            if (closed) {
+                return;
+            }
+            started = true;
+            if (snapshotJson != null && !offer(new Frame(EVENT_SNAPSHOT, snapshotJson, snapshotAt))) {
+                return;
+            }
+            for (Frame frame : held) {
+                boolean covered = snapshotAt != null && frame.at() != null && !frame.at().isAfter(snapshotAt);
+                if (!covered && !offer(frame)) {
+                    return;
+                }
+            }
+            held.clear();
+            schedule();
+        }
+
+        private synchronized void enqueue(Frame frame) {
+            if (closed) {
+                return;
+            }
+            if (!started) {
+                if (held.size() < Math.max(maxQueuedFrames, 1)) {
+                    held.add(frame);
+                } else {
+                    overflow();
+                }
+                return;
+            }
+            if (offer(frame)) {
+                schedule();
+            }
+        }
+
+        private boolean offer(Frame frame) {
+            if (queue.offer(frame)) {
+                return true;
+            }
+            overflow();
+            return false;
+        }
+
+        private void overflow() {
+            // 증가분 프레임을 건너뛰면 구독자의 합계가 틀어지므로 구독을 끊고 재접속 시 스냅샷부터 다시 받게 함
+            droppedCounter.increment();
+            log.warn("대시보드 스트림 구독의 대기 프레임이 가득 차 구독을 끊습니다 (최대 {}개)", maxQueuedFrames);
+            close();
+            emitter.complete();
+        }
+
+        private void schedule() {
+            if (closed || !sending.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dashboardStreamExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                // 남은 프레임은 다음 프레임을 넣을 때 다시 전송
+                sending.set(false);
+            }
+        }
+
+        private void drain() {
+            try {
+                Frame frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    send(frame.event(), frame.json());
+                }
+            } finally {
+                sending.set(false);
+            }
+            // 전송을 마치는 사이에 들어온 프레임 처리
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(String eventName, String json) {
+            try {
+                emitter.send(SseEmitter.event().name(eventName).data(json, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // 연결이 끊긴 구독은 제거 (응답 정리는 서블릿 컨테이너가 처리)
+                close();
+                log.debug("대시보드 스트림 구독 해제: {}", e.getMessage());
+            }
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+            held.clear();
+            subscribers.remove(emitter, this);
+        }
+    }
+
+    private static void increment(ConcurrentHashMap<String, AtomicLong> deltas, String key) {
+        if (key != null) {
+            deltas.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private static Map<String, Long> drain(ConcurrentHashMap<String, AtomicLong> deltas) {
+        Map<String, Long> drained = new HashMap<>();
+        deltas.forEach((key, counter) -> {
+            long delta = counter.getAndSet(0);
+            if (delta > 0) {
+                drained.put(key, delta);
+            }
+        });
+        return drained;
+    }
+}
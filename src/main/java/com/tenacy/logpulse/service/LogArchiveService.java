@@ -0,0 +1,77 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEntryResponse;
+import com.tenacy.logpulse.compression.LogBlockFormat;
+import com.tenacy.logpulse.domain.ContentCodec;
+import com.tenacy.logpulse.domain.LogArchive;
+import com.tenacy.logpulse.domain.LogArchiveBlock;
+import com.tenacy.logpulse.domain.LogArchiveBlockRepository;
+import com.tenacy.logpulse.domain.LogArchiveRepository;
+import com.tenacy.logpulse.domain.LogEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+/**
+ * 아카이브된 로그 조회
+ *
+ * 압축 블록(log_archive_blocks)에서 먼저 찾고, 블록 도입 이전에 행 단위로 아카이브된 로그는 log_archives에서 찾는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LogArchiveService {
+
+    private final LogArchiveBlockRepository blockRepository;
+    private final LogArchiveRepository logArchiveRepository;
+    private final LogCompressionService compressionService;
+
+    public Optional<LogEntryResponse> findArchivedLog(Long logId) {
+        // 같은 id 구간의 로그를 담은 블록의 색인만 읽어 위치를 찾은 뒤 해당 블록 하나만 해제
+        for (Object[] candidate : blockRepository.findIndexesContaining(LogArchiveBlock.idBucket(logId), logId)) {
+            Optional<LogBlockFormat.IndexEntry> indexEntry = LogBlockFormat.find((byte[]) candidate[1], logId);
+            if (indexEntry.isPresent()) {
+                return blockRepository.findById((Long) candidate[0])
+                        .map(block -> toResponse(block, indexEntry.get()));
+            }
+        }
+
+        return logArchiveRepository.findById(logId).map(this::toResponse);
+    }
+
+    private LogEntryResponse toResponse(LogArchiveBlock block, LogBlockFormat.IndexEntry indexEntry) {
+        byte[] payload;
+        try {
+            payload = compressionService.getCodec(ContentCodec.fromId(block.getCodec())).decompress(block.getData());
+        } catch (IOException e) {
+            throw new UncheckedIOException("아카이브 블록 압축 해제 실패: " + block.getId(), e);
+        }
+
+        return LogEntryResponse.builder()
+                .id(indexEntry.getLogId())
+                .source(block.getSource())
+                .content(LogBlockFormat.content(payload, indexEntry))
+                .logLevel(indexEntry.getLogLevel())
+                .createdAt(indexEntry.getCreatedAt())
+                .build();
+    }
+
+    private LogEntryResponse toResponse(LogArchive archive) {
+        LogEntry entry = LogEntry.builder()
+                .id(archive.getId())
+                .source(archive.getSource())
+                .content(archive.getContent())
+                .contentBlob(archive.getContentBlob())
+                .codec(archive.getCodec())
+                .dictionaryId(archive.getDictionaryId())
+                .logLevel(archive.getLogLevel())
+                .createdAt(archive.getCreatedAt())
+                .compressed(archive.isCompressed())
+                .build();
+        return LogEntryResponse.of(entry, compressionService.readContent(entry));
+    }
+}
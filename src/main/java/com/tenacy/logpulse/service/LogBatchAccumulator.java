@@ -0,0 +1,215 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Kafka 전송 전 로그 이벤트를 모으는 배치 누적기
+ * 이벤트 수가 max-size에 도달하거나 첫 이벤트 이후 linger-ms가 지나면 배치를 한 번에 직렬화하여 비동기로 전송한다.
+ * 전송 결과는 콜백에서 성공/실패 카운터로 집계한다.
+ * 전송에 실패한 이벤트는 로컬 스풀(LogSpoolService)에 기록하고, Kafka 장애 중에는 배치를 바로 스풀에 기록한다.
+ * 전송 실패 이벤트의 스풀 기록은 프로듀서 I/O 스레드를 막지 않도록 배치 단위로 모아 spoolWriteExecutor에서 수행한다.
+ */
+@Service
+@Slf4j
+public class LogBatchAccumulator {
+
+    private final LogProducerService logProducerService;
+    private final LogSpoolService logSpoolService;
+    private final Executor spoolWriteExecutor;
+    private final Counter deliveredCounter;
+    private final Counter deliveryFailedCounter;
+
+    @Value("${logpulse.producer.batch.enabled:true}")
+    private boolean batchEnabled;
+
+    @Value("${logpulse.producer.batch.max-size:500}")
+    private int maxBatchSize;
+
+    @Value("${logpulse.producer.batch.linger-ms:50}")
+    private long lingerMs;
+
+    private final Object lock = new Object();
+    private List<LogEventDto> buffer = new ArrayList<>();
+    private long firstAppendedAt;
+
+    public LogBatchAccumulator(LogProducerService logProducerService, LogSpoolService logSpoolService,
+                               @Qualifier("spoolWriteExecutor") Executor spoolWriteExecutor,
+                               MeterRegistry meterRegistry) {
+        this.logProducerService = logProducerService;
+        this.logSpoolService = logSpoolService;
+        this.spoolWriteExecutor = spoolWriteExecutor;
+        this.deliveredCounter = Counter.builder("logpulse.producer.delivery.success")
+                .description("Kafka 전송 확인된 로그 이벤트 수")
+                .register(meterRegistry);
+        this.deliveryFailedCounter = Counter.builder("logpulse.producer.delivery.failed")
+                .description("Kafka 전송 실패한 로그 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    public void append(LogEventDto logEvent) {
+        appendAll(Collections.singletonList(logEvent));
+    }
+
+    public void appendAll(List<LogEventDto> logEvents) {
+        if (logEvents.isEmpty()) {
+            return;
+        }
+
+        if (!batchEnabled) {
+            send(logEvents);
+            return;
+        }
+
+        List<List<LogEventDto>> fullBatches = null;
+
+        synchronized (lock) {
+            if (buffer.isEmpty()) {
+                firstAppendedAt = System.currentTimeMillis();
+            }
+
+            for (LogEventDto logEvent : logEvents) {
+                buffer.add(logEvent);
+                if (buffer.size() >= maxBatchSize) {
+                    if (fullBatches == null) {
+                        fullBatches = new ArrayList<>();
+                    }
+                    fullBatches.add(drain());
+                    firstAppendedAt = System.currentTimeMillis();
+                }
+            }
+        }
+
+        // 직렬화와 전송은 락 밖에서 수행
+        if (fullBatches != null) {
+            fullBatches.forEach(this::send);
+        }
+    }
+
+    /**
+     * linger 시간이 지난 배치 전송
+     */
+    @Scheduled(fixedDelayString = "${logpulse.producer.batch.linger-ms:50}")
+    public void flushExpired() {
+        List<LogEventDto> batch;
+
+        synchronized (lock) {
+            if (buffer.isEmpty() || System.currentTimeMillis() - firstAppendedAt < lingerMs) {
+                return;
+            }
+            batch = drain();
+        }
+
+        send(batch);
+    }
+
+    /**
+     * 누적된 이벤트를 즉시 전송
+     */
+    @PreDestroy
+    public void flush() {
+        List<LogEventDto> batch;
+
+        synchronized (lock) {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            batch = drain();
+        }
+
+        send(batch);
+    }
+
+    public int getPendingCount() {
+        synchronized (lock) {
+            return buffer.size();
+        }
+    }
+
+    private List<LogEventDto> drain() {
+        List<LogEventDto> batch = buffer;
+        buffer = new ArrayList<>(maxBatchSize);
+        return batch;
+    }
+
+    private void send(List<LogEventDto> batch) {
+        // Kafka 장애 중에는 전송 타임아웃을 기다리지 않고 바로 스풀에 기록
+        if (logSpoolService.isKafkaUnavailable() && logSpoolService.spoolEvents(batch)) {
+            logProducerService.alertUnsent(batch);
+            return;
+        }
+
+        try {
+            List<CompletableFuture<SendResult<String, LogEventDto>>> futures = logProducerService.sendLogEvents(batch);
+            List<LogEventDto> failed = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger remaining = new AtomicInteger(futures.size());
+
+            for (int i = 0; i < futures.size(); i++) {
+                LogEventDto logEvent = batch.get(i);
+                futures.get(i).whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        deliveredCounter.increment();
+                    } else if (isSerializationFailure(ex)) {
+                        deliveryFailedCounter.increment();
+                        log.warn("로그 이벤트 Kafka 전송 실패: {}", ex.getMessage());
+                    } else {
+                        log.debug("로그 이벤트 Kafka 전송 실패, 스풀에 기록: {}", ex.getMessage());
+                        failed.add(logEvent);
+                    }
+
+                    // 배치의 마지막 결과가 도착하면 실패한 이벤트를 한 번에 스풀에 기록
+                    if (remaining.decrementAndGet() == 0 && !failed.isEmpty()) {
+                        spoolAsync(new ArrayList<>(failed), false);
+                    }
+                });
+            }
+        } catch (Exception e) {
+            log.warn("로그 이벤트 배치 전송 중 오류 발생, {}개 스풀에 기록: {}", batch.size(), e.getMessage());
+            spoolAsync(batch, true);
+        }
+    }
+
+    /**
+     * 전송하지 못한 이벤트를 스풀 기록 실행기에서 기록 (스풀이 가득 찼거나 실행기가 포화되면 전송 실패로 집계)
+     * @param alertUnsent 우선순위 토픽 전송도 시도하지 않은 이벤트라면 알림 판단을 직접 수행
+     */
+    private void spoolAsync(List<LogEventDto> events, boolean alertUnsent) {
+        try {
+            spoolWriteExecutor.execute(() -> {
+                if (logSpoolService.spoolEvents(events)) {
+                    if (alertUnsent) {
+                        logProducerService.alertUnsent(events);
+                    }
+                    return;
+                }
+                deliveryFailedCounter.increment(events.size());
+                log.error("로그 이벤트 {}개를 Kafka로 전송하지 못했고 스풀에도 기록하지 못했습니다", events.size());
+            });
+        } catch (TaskRejectedException e) {
+            deliveryFailedCounter.increment(events.size());
+            log.error("스풀 기록 대기열이 가득 차 로그 이벤트 {}개를 버립니다", events.size());
+        }
+    }
+
+    // 직렬화 실패는 다시 보내도 실패하므로 스풀하지 않음
+    private boolean isSerializationFailure(Throwable ex) {
+        return ex instanceof SerializationException || ex.getCause() instanceof SerializationException;
+    }
+}
@@ -1,12 +1,12 @@
 package com.tenacy.logpulse.service;
 
+import com.tenacy.logpulse.domain.LogArchiveBlockRepository;
 import com.tenacy.logpulse.domain.LogRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -16,17 +16,38 @@ import java.time.LocalDateTime;
 public class LogCleanupService {
 
     private final LogRepository logRepository;
+    private final LogPartitionService logPartitionService;
+    private final LogArchiveBlockRepository logArchiveBlockRepository;
 
     @Value("${logpulse.cleanup.retention-days:90}")
     private int retentionDays;
 
+    @Value("${logpulse.cleanup.archive-retention-days:365}")
+    private int archiveRetentionDays;
+
     @Scheduled(cron = "0 0 2 * * ?") // 매일 새벽 2시에 실행
-    @Transactional
     public void cleanupOldLogs() {
-        LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
-
-        int deletedCount = logRepository.deleteLogEntriesOlderThan(threshold);
-
-        log.info("{}일보다 오래된 로그 항목 {}개 정리 완료", retentionDays, deletedCount);
+        // 파티션된 테이블은 만료 파티션 제거, 아니면 행 단위 삭제
+        if (logPartitionService.isManaged(LogPartitionService.LOGS_TABLE)) {
+            long droppedRows = logPartitionService.dropExpiredPartitions(LogPartitionService.LOGS_TABLE, retentionDays);
+            log.info("{}일보다 오래된 로그 파티션 정리 완료 (약 {}행)", retentionDays, droppedRows);
+        } else {
+            LocalDateTime threshold = LocalDateTime.now().minusDays(retentionDays);
+
+            int deletedCount = logRepository.deleteLogEntriesOlderThan(threshold);
+
+            log.info("{}일보다 오래된 로그 항목 {}개 정리 완료", retentionDays, deletedCount);
+        }
+
+        if (logPartitionService.isManaged(LogPartitionService.ARCHIVES_TABLE)) {
+            long droppedRows = logPartitionService.dropExpiredPartitions(
+                    LogPartitionService.ARCHIVES_TABLE, archiveRetentionDays);
+            log.info("{}일보다 오래된 아카이브 파티션 정리 완료 (약 {}행)", archiveRetentionDays, droppedRows);
+        }
+
+        LocalDateTime blockThreshold = LocalDateTime.now().minusDays(archiveRetentionDays);
+        logArchiveBlockRepository.deleteBucketsOfBlocksOlderThan(blockThreshold);
+        int deletedBlocks = logArchiveBlockRepository.deleteBlocksOlderThan(blockThreshold);
+        log.info("{}일보다 오래된 아카이브 블록 {}개 정리 완료", archiveRetentionDays, deletedBlocks);
     }
-}
\ No newline at end of file
+}
@@ -1,55 +1,145 @@
 package com.tenacy.logpulse.service;
 
+import com.tenacy.logpulse.compression.AdaptiveCodecPolicy;
+import com.tenacy.logpulse.compression.CompressedContent;
+import com.tenacy.logpulse.compression.CompressionCodec;
+import com.tenacy.logpulse.compression.ZstdDictionaryManager;
+import com.tenacy.logpulse.domain.ContentCodec;
+import com.tenacy.logpulse.domain.LogEntry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
-
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그 내용 압축
+ *
+ * 새로 저장하는 내용은 compress()로 소스별로 선택된 코덱(AdaptiveCodecPolicy)의 바이트를 만들어
+ * content_blob에 codec과 함께 저장한다. 압축 효과가 없으면 null을 반환하고 호출자는 원문을 저장한다.
+ * min-size 이하의 짧은 메시지는 소스별로 학습한 Zstd 사전(ZstdDictionaryManager)으로 압축한다.
+ * compressContent/decompressContent/isCompressed는 Base64 텍스트로 저장된 이전 행을 읽기 위한 API로 남겨 둔다.
+ */
 @Service
 @Slf4j
 public class LogCompressionService {
 
+    private final Map<ContentCodec, CompressionCodec> codecs = new EnumMap<>(ContentCodec.class);
+    private final AdaptiveCodecPolicy codecPolicy;
+    private final ZstdDictionaryManager dictionaryManager;
+
     @Value("${logpulse.compression.enabled:true}")
     private boolean compressionEnabled;
 
     @Value("${logpulse.compression.min-size:1024}")
     private int minCompressionSize;
 
+    public LogCompressionService(List<CompressionCodec> codecList, AdaptiveCodecPolicy codecPolicy,
+                                 ZstdDictionaryManager dictionaryManager) {
+        this.codecPolicy = codecPolicy;
+        this.dictionaryManager = dictionaryManager;
+        for (CompressionCodec codec : codecList) {
+            codecs.put(codec.getCodec(), codec);
+        }
+        log.info("압축 코덱 {}개 등록: {}", codecs.size(), codecs.keySet());
+    }
+
     public boolean shouldCompress(String content) {
         return compressionEnabled &&
                 content != null &&
-                content.length() > minCompressionSize &&
-                !isCompressed(content);
+                (content.length() > minCompressionSize ||
+                        dictionaryManager.isEnabled() && content.length() >= dictionaryManager.getMinSize());
     }
 
-    public String compressContent(String content) {
-        if (!shouldCompress(content)) {
-            return content;
+    /**
+     * 소스에 맞는 코덱으로 압축, 압축하지 않는 편이 나으면 null (호출자는 원문을 그대로 저장)
+     */
+    public CompressedContent compress(String source, String content) {
+        if (content == null) {
+            return null;
+        }
+
+        byte[] raw = content.getBytes(StandardCharsets.UTF_8);
+        if (content.length() <= minCompressionSize) {
+            return compressShort(source, raw);
         }
 
-        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
-             GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+        CompressedContent result = codecPolicy.shouldSample(source)
+                ? compressWithAllCodecs(source, raw)
+                : compressWith(source, codecPolicy.select(source), raw);
+
+        if (result == null || result.getData().length >= raw.length) {
+            return null;
+        }
 
-            gzipOut.write(content.getBytes(StandardCharsets.UTF_8));
-            gzipOut.finish();
+        log.debug("로그 내용 압축: 소스={}, 코덱={}, 원본 크기={}, 압축 크기={}",
+                source, result.getCodec(), raw.length, result.getData().length);
+        return result;
+    }
 
-            byte[] compressedBytes = baos.toByteArray();
-            String compressedContent = Base64.getEncoder().encodeToString(compressedBytes);
+    /**
+     * 등록된 코덱 (아카이브 블록처럼 바이트 단위로 직접 압축하는 경우)
+     */
+    public CompressionCodec getCodec(ContentCodec codec) {
+        CompressionCodec compressionCodec = codecs.get(codec);
+        if (compressionCodec == null) {
+            throw new IllegalArgumentException("등록되지 않은 코덱: " + codec);
+        }
+        return compressionCodec;
+    }
 
-            double compressionRatio = (double) compressedBytes.length / content.getBytes(StandardCharsets.UTF_8).length;
-            log.debug("로그 내용 압축: 원본 크기={}, 압축 크기={}, 비율={}",
-                    content.length(), compressedBytes.length,
-                    String.format("%.2f", compressionRatio));
+    public String decompress(byte[] data, ContentCodec codec) {
+        return decompress(data, codec, null);
+    }
 
-            return compressedContent;
+    public String decompress(byte[] data, ContentCodec codec, Long dictionaryId) {
+        if (data == null || codec == null || codec == ContentCodec.NONE) {
+            return data != null ? new String(data, StandardCharsets.UTF_8) : null;
+        }
+
+        try {
+            if (codec == ContentCodec.ZSTD_DICT) {
+                return new String(dictionaryManager.decompress(dictionaryId, data), StandardCharsets.UTF_8);
+            }
 
+            CompressionCodec compressionCodec = codecs.get(codec);
+            if (compressionCodec == null) {
+                log.warn("등록되지 않은 코덱: {}", codec);
+                return null;
+            }
+            return new String(compressionCodec.decompress(data), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            log.warn("로그 내용 압축 해제 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 저장된 행의 원문 내용 (content_blob, 이전 Base64 형식, 비압축 순으로 확인)
+     */
+    public String readContent(LogEntry entry) {
+        if (entry.getContentBlob() != null) {
+            return decompress(entry.getContentBlob(), ContentCodec.fromId(entry.getCodec()), entry.getDictionaryId());
+        }
+        if (Boolean.TRUE.equals(entry.getCompressed()) && entry.getContent() != null) {
+            return decompressContent(entry.getContent());
+        }
+        return entry.getContent();
+    }
+
+    public String compressContent(String content) {
+        if (!shouldCompress(content) || isCompressed(content)) {
+            return content;
+        }
+
+        try {
+            byte[] compressedBytes = gzip().compress(content.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(compressedBytes);
         } catch (IOException e) {
             log.warn("로그 내용 압축 실패: {}", e.getMessage());
             return content;
@@ -63,25 +153,7 @@ public class LogCompressionService {
 
         try {
             byte[] compressedBytes = Base64.getDecoder().decode(compressedContent);
-
-            try (ByteArrayInputStream bais = new ByteArrayInputStream(compressedBytes);
-                 GZIPInputStream gzipIn = new GZIPInputStream(bais);
-                 ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-
-                byte[] buffer = new byte[1024];
-                int len;
-                while ((len = gzipIn.read(buffer)) > 0) {
-                    baos.write(buffer, 0, len);
-                }
-
-                String decompressedContent = baos.toString(StandardCharsets.UTF_8.name());
-
-                log.debug("로그 내용 압축 해제: 압축 크기={}, 원본 크기={}",
-                        compressedBytes.length, decompressedContent.length());
-
-                return decompressedContent;
-            }
-
+            return new String(gzip().decompress(compressedBytes), StandardCharsets.UTF_8);
         } catch (IllegalArgumentException e) {
             log.debug("내용이 Base64 인코딩되지 않음, 그대로 반환");
             return compressedContent;
@@ -105,4 +177,65 @@ public class LogCompressionService {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 짧은 메시지는 사전 학습용 샘플로 모으고, 소스의 사전이 있으면 사전으로 압축
+     */
+    private CompressedContent compressShort(String source, byte[] raw) {
+        if (!dictionaryManager.isEnabled()) {
+            return null;
+        }
+
+        dictionaryManager.addSample(source, raw);
+        try {
+            CompressedContent result = dictionaryManager.compress(source, raw);
+            return result != null && result.getData().length < raw.length ? result : null;
+        } catch (RuntimeException e) {
+            log.warn("사전 압축 실패 ({}): {}", source, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 모든 코덱으로 압축해 정책 기록을 갱신하고, 갱신된 정책이 고른 코덱의 결과 반환
+     */
+    private CompressedContent compressWithAllCodecs(String source, byte[] raw) {
+        Map<ContentCodec, byte[]> results = new EnumMap<>(ContentCodec.class);
+        for (CompressionCodec codec : codecs.values()) {
+            byte[] compressed = timedCompress(source, codec, raw);
+            if (compressed != null) {
+                results.put(codec.getCodec(), compressed);
+            }
+        }
+
+        ContentCodec selected = codecPolicy.select(source);
+        byte[] data = results.get(selected);
+        return data != null ? new CompressedContent(selected, data) : null;
+    }
+
+    private CompressedContent compressWith(String source, ContentCodec selected, byte[] raw) {
+        CompressionCodec codec = codecs.get(selected);
+        if (codec == null) {
+            return null;
+        }
+
+        byte[] data = timedCompress(source, codec, raw);
+        return data != null ? new CompressedContent(selected, data) : null;
+    }
+
+    private byte[] timedCompress(String source, CompressionCodec codec, byte[] raw) {
+        try {
+            long startTime = System.nanoTime();
+            byte[] compressed = codec.compress(raw);
+            codecPolicy.record(source, codec.getCodec(), raw.length, compressed.length, System.nanoTime() - startTime);
+            return compressed;
+        } catch (IOException | RuntimeException e) {
+            log.warn("로그 내용 압축 실패 ({}): {}", codec.getCodec(), e.getMessage());
+            return null;
+        }
+    }
+
+    private CompressionCodec gzip() {
+        return codecs.get(ContentCodec.GZIP);
+    }
+}
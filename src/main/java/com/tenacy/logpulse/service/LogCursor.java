@@ -0,0 +1,68 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.domain.LogEntry;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 로그 목록 키셋 페이지네이션 커서
+ *
+ * 마지막으로 읽은 행의 (created_at, id)와 정렬 방향을 담으며, 클라이언트에는 URL-safe Base64 문자열로만 노출한다.
+ * 다음 페이지는 이 위치 다음 행부터 인덱스를 따라 읽으므로 OFFSET처럼 앞 페이지를 건너뛰며 읽지 않는다.
+ */
+public final class LogCursor {
+
+    // 기간 조건이 없을 때 사용하는 경계 (MySQL DATETIME 범위)
+    static final LocalDateTime MIN_TIME = LocalDateTime.of(1000, 1, 1, 0, 0);
+    static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final String SEPARATOR = "|";
+
+    private final Sort.Direction direction;
+    private final LocalDateTime createdAt;
+    private final long id;
+
+    LogCursor(Sort.Direction direction, LocalDateTime createdAt, long id) {
+        this.direction = direction;
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static LogCursor of(LogEntry entry, Sort.Direction direction) {
+        return new LogCursor(direction, entry.getCreatedAt(), entry.getId());
+    }
+
+    public static LogCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = value.split("\\" + SEPARATOR, -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서: " + token);
+            }
+            return new LogCursor(Sort.Direction.fromString(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서: " + token, e);
+        }
+    }
+
+    public String encode() {
+        String value = direction.name() + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,212 @@
+package com.tenacy.logpulse.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * logs / log_archives 테이블의 created_at 일 단위 RANGE 파티션 관리
+ *
+ * - 파티션되지 않은 테이블은 오프라인 마이그레이션(db/partition-logs.sql)으로 변환한다.
+ *   convert-existing을 켜면 시작 시 같은 변환을 수행하지만 테이블 전체를 재구성하므로 작은 테이블에서만 사용한다.
+ *   MySQL은 모든 고유 키에 파티션 컬럼이 있어야 하므로 기본 키를 (id, created_at)으로 바꾼다.
+ * - 매일 precreate-days 이후까지 파티션을 미리 만든다 (비어 있는 p_max를 나누므로 데이터 복사 없음)
+ * - 보관 기간이 지난 파티션은 DROP PARTITION으로 제거한다 (행 단위 DELETE 없이 메타데이터 작업으로 처리)
+ *
+ * 파티션 이름은 p_old(변환 시점 이전 데이터), pYYYYMMDD(해당 일자), p_max(그 이후)로 구성된다.
+ */
+@Service
+@Slf4j
+public class LogPartitionService {
+
+    public static final String LOGS_TABLE = "logs";
+    public static final String ARCHIVES_TABLE = "log_archives";
+
+    private static final String OLD_PARTITION = "p_old";
+    private static final String MAX_PARTITION = "p_max";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${logpulse.partition.enabled:false}")
+    private boolean partitionEnabled;
+
+    @Value("${logpulse.partition.convert-existing:false}")
+    private boolean convertExisting;
+
+    @Value("${logpulse.partition.precreate-days:7}")
+    private int precreateDays;
+
+    @Value("${logpulse.cleanup.retention-days:90}")
+    private int retentionDays;
+
+    @Value("${logpulse.cleanup.archive-retention-days:365}")
+    private int archiveRetentionDays;
+
+    public LogPartitionService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (!partitionEnabled) {
+            return;
+        }
+
+        ensurePartitioned(LOGS_TABLE, retentionDays);
+        ensurePartitioned(ARCHIVES_TABLE, archiveRetentionDays);
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${logpulse.partition.maintenance-cron:0 30 0 * * ?}")
+    public void maintainPartitions() {
+        if (!partitionEnabled) {
+            return;
+        }
+
+        for (String table : List.of(LOGS_TABLE, ARCHIVES_TABLE)) {
+            try {
+                if (isPartitioned(table)) {
+                    createFuturePartitions(table, LocalDate.now().plusDays(precreateDays));
+                }
+            } catch (Exception e) {
+                log.error("{} 파티션 생성 중 오류 발생: {}", table, e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 파티션 관리 대상 여부 (파티션 기능이 켜져 있고 테이블이 실제로 파티션된 경우)
+     */
+    public boolean isManaged(String table) {
+        return partitionEnabled && isPartitioned(table);
+    }
+
+    public boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 상한이 보관 기준일 이하인 파티션 제거
+     * @return 제거된 파티션의 추정 행 수
+     */
+    public long dropExpiredPartitions(String table, int retentionDays) {
+        LocalDate cutoff = LocalDate.now().minusDays(retentionDays);
+
+        List<String> expired = new ArrayList<>();
+        long rows = 0;
+        for (Map<String, Object> partition : listPartitions(table)) {
+            LocalDate upperBound = upperBound((String) partition.get("PARTITION_DESCRIPTION"));
+            if (upperBound != null && !upperBound.isAfter(cutoff)) {
+                expired.add((String) partition.get("PARTITION_NAME"));
+                Number tableRows = (Number) partition.get("TABLE_ROWS");
+                rows += tableRows != null ? tableRows.longValue() : 0;
+            }
+        }
+
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + String.join(", ", expired));
+        log.info("{} 만료 파티션 {}개 제거 ({} 이전, 약 {}행): {}", table, expired.size(), cutoff, rows, expired);
+        return rows;
+    }
+
+    private void ensurePartitioned(String table, int retentionDays) {
+        try {
+            if (isPartitioned(table)) {
+                return;
+            }
+            if (!convertExisting) {
+                log.warn("{} 테이블이 파티션되어 있지 않습니다. 보관 기간 정리는 행 단위 삭제로 수행됩니다 " +
+                        "(점검 시간에 db/partition-logs.sql로 변환)", table);
+                return;
+            }
+
+            LocalDate today = LocalDate.now();
+            LocalDate first = today.minusDays(retentionDays);
+
+            StringJoiner partitions = new StringJoiner(", ", "(", ")");
+            partitions.add(partitionClause(OLD_PARTITION, first));
+            for (LocalDate day = first; !day.isAfter(today.plusDays(precreateDays)); day = day.plusDays(1)) {
+                partitions.add(partitionClause(PARTITION_NAME.format(day), day.plusDays(1)));
+            }
+            partitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+            log.info("{} 테이블을 일 단위 파티션으로 변환 시작 (테이블 재구성)", table);
+            jdbcTemplate.execute("ALTER TABLE " + table + " MODIFY created_at DATETIME(6) NOT NULL, " +
+                    "DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at) " +
+                    "PARTITION BY RANGE COLUMNS(created_at) " + partitions);
+            log.info("{} 테이블 파티션 변환 완료: {} ~ {}", table, first, today.plusDays(precreateDays));
+        } catch (Exception e) {
+            log.error("{} 테이블 파티션 변환 실패: {}", table, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 마지막 일자 파티션 다음 날부터 until까지 p_max를 나누어 파티션 생성
+     */
+    void createFuturePartitions(String table, LocalDate until) {
+        LocalDate next = null;
+        for (Map<String, Object> partition : listPartitions(table)) {
+            LocalDate upperBound = upperBound((String) partition.get("PARTITION_DESCRIPTION"));
+            if (upperBound != null && (next == null || upperBound.isAfter(next))) {
+                next = upperBound;
+            }
+        }
+
+        if (next == null || next.isAfter(until)) {
+            return;
+        }
+
+        StringJoiner partitions = new StringJoiner(", ", "(", ")");
+        int created = 0;
+        for (LocalDate day = next; !day.isAfter(until); day = day.plusDays(1)) {
+            partitions.add(partitionClause(PARTITION_NAME.format(day), day.plusDays(1)));
+            created++;
+        }
+        partitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO " + partitions);
+        log.info("{} 파티션 {}개 생성: {} ~ {}", table, created, next, until);
+    }
+
+    private List<Map<String, Object>> listPartitions(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION, TABLE_ROWS FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION", table);
+    }
+
+    private String partitionClause(String name, LocalDate upperBound) {
+        return "PARTITION " + name + " VALUES LESS THAN ('" + upperBound + " 00:00:00')";
+    }
+
+    /**
+     * RANGE COLUMNS 파티션 설명('2024-03-16 00:00:00')에서 상한 일자 추출, MAXVALUE는 null
+     */
+    static LocalDate upperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.length() > 10 ? value.substring(0, 10) : value);
+    }
+}
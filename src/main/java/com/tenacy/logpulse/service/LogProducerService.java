@@ -1,32 +1,240 @@
 package com.tenacy.logpulse.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.tenacy.logpulse.api.dto.LogEventDto;
-import lombok.RequiredArgsConstructor;
+import com.tenacy.logpulse.integration.router.LogRouter;
+import com.tenacy.logpulse.pattern.LogPatternDetector;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 로그 이벤트를 raw-logs 토픽으로 전송
+ * 우선순위 레인이 켜져 있으면 ERROR/WARN 이벤트를 우선순위 토픽에도 함께 전송하여
+ * 알림과 패턴 감지가 raw-logs의 대량 INFO 적체와 무관하게 처리되도록 한다.
+ *
+ * 우선순위 레인이 켜져 있으면 raw-logs 컨슈머는 ERROR/WARN 알림 판단을 하지 않으므로,
+ * 우선순위 토픽 전송에 실패했거나 보내지 못하고 스풀에 기록한 이벤트는 이 서비스가 직접 알림 판단을 수행한다.
+ * 이미 알림 판단을 거친 이벤트를 다시 보낼 때(데드레터/스풀 재처리)는 재처리 헤더를 붙여 다시 알림이 발생하지 않도록 한다.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class LogProducerService {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    public static final String TRACKING_ID_HEADER = "trackingId";
+
+    // 이미 알림 판단을 거친 이벤트를 다시 전송할 때 붙이는 헤더 (컨슈머는 알림/패턴 감지를 건너뜀)
+    public static final String REPLAY_HEADER = "logpulse-replay";
+
+    private final KafkaTemplate<String, LogEventDto> logEventKafkaTemplate;
+    private final RealTimeErrorMonitorService errorMonitorService;
+    private final LogPatternDetector patternDetector;
+    private final Executor alertFallbackExecutor;
+    private final Counter alertFallbackCounter;
+    private final Counter alertFallbackDroppedCounter;
 
     @Value("${logpulse.kafka.topics.raw-logs}")
     private String rawLogsTopic;
 
+    @Value("${logpulse.kafka.topics.priority-logs}")
+    private String priorityLogsTopic;
+
+    @Value("${logpulse.kafka.priority-lane.enabled:true}")
+    private boolean priorityLaneEnabled;
+
+    @Value("${logpulse.logs.write-behind.ack-timeout-ms:5000}")
+    private long ackTimeoutMs;
+
+    public LogProducerService(KafkaTemplate<String, LogEventDto> logEventKafkaTemplate,
+                              RealTimeErrorMonitorService errorMonitorService,
+                              LogPatternDetector patternDetector,
+                              @Qualifier("alertFallbackExecutor") Executor alertFallbackExecutor,
+                              MeterRegistry meterRegistry) {
+        this.logEventKafkaTemplate = logEventKafkaTemplate;
+        this.errorMonitorService = errorMonitorService;
+        this.patternDetector = patternDetector;
+        this.alertFallbackExecutor = alertFallbackExecutor;
+        this.alertFallbackCounter = Counter.builder("logpulse.alert.priority.fallback")
+                .description("우선순위 토픽으로 보내지 못해 직접 알림 판단한 이벤트 수")
+                .register(meterRegistry);
+        this.alertFallbackDroppedCounter = Counter.builder("logpulse.alert.priority.fallback.dropped")
+                .description("직접 알림 판단 대기열이 가득 차 버린 이벤트 수")
+                .register(meterRegistry);
+    }
+
     public void sendLogEvent(LogEventDto logEventDto) {
         try {
-            String logEventJson = objectMapper.writeValueAsString(logEventDto);
-            kafkaTemplate.send(rawLogsTopic, logEventDto.getSource(), logEventJson);
-            log.debug("로그 이벤트 Kafka로 전송: {}", logEventJson);
-        } catch (JsonProcessingException e) {
+            logEventKafkaTemplate.send(rawLogsTopic, logEventDto.getSource(), logEventDto);
+            sendPriorityCopy(logEventDto);
+            log.debug("로그 이벤트 Kafka로 전송: {}", logEventDto);
+        } catch (SerializationException e) {
             log.error("로그 이벤트 직렬화 실패: {}", logEventDto, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 이벤트 배치를 비동기로 전송 (직렬화는 LogEventSerializer가 설정된 형식으로 수행)
+     * 호출 스레드는 브로커 응답을 기다리지 않으며, 전송 결과는 반환된 Future로 확인한다.
+     * 직렬화에 실패한 이벤트는 실패한 Future로 반환된다.
+     */
+    public List<CompletableFuture<SendResult<String, LogEventDto>>> sendLogEvents(List<LogEventDto> logEvents) {
+        List<CompletableFuture<SendResult<String, LogEventDto>>> futures = new ArrayList<>(logEvents.size());
+
+        for (LogEventDto logEvent : logEvents) {
+            try {
+                futures.add(logEventKafkaTemplate.send(rawLogsTopic, logEvent.getSource(), logEvent));
+                sendPriorityCopy(logEvent);
+            } catch (SerializationException e) {
+                log.error("로그 이벤트 직렬화 실패: {}", logEvent, e);
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+
+        log.debug("로그 이벤트 배치 Kafka로 전송: {}개", logEvents.size());
+        return futures;
+    }
+
+    /**
+     * 브로커 확인 응답까지 대기하는 전송 (write-behind 모드용)
+     * 반환 시점에는 이벤트가 Kafka에 기록되어 있음을 보장한다.
+     */
+    public void sendLogEventAndWait(LogEventDto logEventDto, String trackingId)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        sendAndWait(logEventDto, trackingId, false);
+    }
+
+    /**
+     * 재처리 이벤트 전송 (데드레터 재처리용)
+     * 재처리 헤더를 붙이고 우선순위 토픽에는 보내지 않으므로 같은 이벤트로 알림이 다시 발생하지 않는다.
+     */
+    public void replayLogEventAndWait(LogEventDto logEventDto, String trackingId)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        sendAndWait(logEventDto, trackingId, true);
+    }
+
+    /**
+     * 스풀에 기록되었던 이벤트 배치 재전송
+     * 우선순위 레인이 켜져 있으면 스풀 기록 전에 우선순위 토픽 또는 직접 알림 판단을 거쳤으므로 재처리 헤더를 붙여 보낸다.
+     * 꺼져 있으면 raw-logs 컨슈머가 알림을 판단해야 하므로 일반 이벤트로 보낸다.
+     */
+    public List<CompletableFuture<SendResult<String, LogEventDto>>> replayLogEvents(List<LogEventDto> logEvents) {
+        if (!priorityLaneEnabled) {
+            return sendLogEvents(logEvents);
+        }
+
+        List<CompletableFuture<SendResult<String, LogEventDto>>> futures = new ArrayList<>(logEvents.size());
+        for (LogEventDto logEvent : logEvents) {
+            try {
+                ProducerRecord<String, LogEventDto> record =
+                        new ProducerRecord<>(rawLogsTopic, logEvent.getSource(), logEvent);
+                record.headers().add(REPLAY_HEADER, new byte[]{1});
+                futures.add(logEventKafkaTemplate.send(record));
+            } catch (SerializationException e) {
+                log.error("로그 이벤트 직렬화 실패: {}", logEvent, e);
+                futures.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        return futures;
+    }
+
+    /**
+     * Kafka로 보내지 못하고 스풀에 기록한 이벤트의 알림 판단
+     * 우선순위 토픽에도 보내지 못했으므로 ERROR/WARN 이벤트는 여기서 직접 판단한다.
+     */
+    public void alertUnsent(List<LogEventDto> logEvents) {
+        if (!priorityLaneEnabled) {
+            return;
+        }
+        for (LogEventDto logEvent : logEvents) {
+            if (LogRouter.isPriorityLevel(logEvent.getLogLevel())) {
+                alertLocally(logEvent);
+            }
+        }
+    }
+
+    public static boolean isReplay(ConsumerRecord<?, ?> record) {
+        return record.headers().lastHeader(REPLAY_HEADER) != null;
+    }
+
+    private void sendAndWait(LogEventDto logEventDto, String trackingId, boolean replay)
+            throws ExecutionException, TimeoutException, InterruptedException {
+        ProducerRecord<String, LogEventDto> record =
+                new ProducerRecord<>(rawLogsTopic, logEventDto.getSource(), logEventDto);
+        record.headers().add(TRACKING_ID_HEADER, trackingId.getBytes(StandardCharsets.UTF_8));
+
+        CompletableFuture<SendResult<String, LogEventDto>> future;
+        if (replay) {
+            record.headers().add(REPLAY_HEADER, new byte[]{1});
+            future = logEventKafkaTemplate.send(record);
+        } else {
+            future = logEventKafkaTemplate.send(record);
+            sendPriorityCopy(logEventDto);
+        }
+        future.get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        log.debug("로그 이벤트 Kafka 기록 확인: trackingId={}", trackingId);
+    }
+
+    /**
+     * ERROR/WARN 이벤트를 우선순위 토픽에 전송
+     * 영구 저장은 raw-logs 경로가 담당하므로 전송 실패는 호출자에게 전파하지 않고,
+     * raw-logs 컨슈머도 알림을 판단하지 않으므로 직접 알림 판단을 수행한다.
+     */
+    private void sendPriorityCopy(LogEventDto logEventDto) {
+        if (!priorityLaneEnabled || !LogRouter.isPriorityLevel(logEventDto.getLogLevel())) {
+            return;
+        }
+
+        try {
+            logEventKafkaTemplate.send(priorityLogsTopic, logEventDto.getSource(), logEventDto)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("우선순위 토픽 전송 실패, 직접 알림 판단: source={}, 원인={}",
+                                    logEventDto.getSource(), ex.getMessage());
+                            alertLocally(logEventDto);
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("우선순위 로그 이벤트 전송 실패, 직접 알림 판단: {}", logEventDto, e);
+            alertLocally(logEventDto);
+        }
+    }
+
+    /**
+     * 우선순위 컨슈머와 같은 알림 판단 (전송 콜백은 프로듀서 네트워크 스레드에서 실행되므로 별도 실행기에서 처리)
+     * 대기열이 가득 차면 콜백 스레드를 막지 않도록 버리고 집계한다.
+     */
+    private void alertLocally(LogEventDto logEventDto) {
+        alertFallbackCounter.increment();
+        try {
+            alertFallbackExecutor.execute(() -> {
+                try {
+                    errorMonitorService.monitorLog(logEventDto);
+                    patternDetector.processLog(PriorityLogConsumerService.toLogEntry(logEventDto));
+                } catch (Exception e) {
+                    log.error("우선순위 이벤트 직접 알림 판단 중 오류 발생: {}", e.getMessage(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            alertFallbackDroppedCounter.increment();
+            log.warn("직접 알림 판단 대기열 포화, 이벤트 버림: source={}, level={}",
+                    logEventDto.getSource(), logEventDto.getLogLevel());
+        }
+    }
+}
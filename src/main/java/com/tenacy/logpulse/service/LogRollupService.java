@@ -0,0 +1,288 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.domain.LogRollupRepository;
+import com.tenacy.logpulse.domain.RollupResolution;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 분 / 시간 / 일 단위 로그 수 집계 (log_rollups)
+ *
+ * - 갱신: 통계 반영 시 분 단위 증가분을 받아 세 단위 행을 같은 문장들로 함께 증가시킨다 (수집 시점에 모든 단위가 최신).
+ * - 정리: 상위 단위가 이미 같은 수를 담고 있으므로, 보관 기간(retention)이 지난 분 / 시간 / 일 행은 삭제만 한다.
+ * - 조회: 구간을 답할 수 있는 가장 거친 단위를 골라(resolve) 원본 logs 테이블 없이 집계한다.
+ * - 채우기: 시작 시 log_statistics(시간 단위)로 시간 / 일 단위 행을 다시 계산해, 집계 테이블 도입 이전 기간도 조회할 수 있게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LogRollupService {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final Comparator<RollupKey> KEY_ORDER = Comparator
+            .comparing((RollupKey key) -> key.resolution)
+            .thenComparing(key -> key.bucketStart)
+            .thenComparing(key -> key.source, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(key -> key.logLevel, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LogRollupRepository logRollupRepository;
+
+    @Value("${logpulse.rollup.retention.minute-hours:48}")
+    private long minuteRetentionHours;
+
+    @Value("${logpulse.rollup.retention.hour-days:90}")
+    private long hourRetentionDays;
+
+    @Value("${logpulse.rollup.retention.day-days:1825}")
+    private long dayRetentionDays;
+
+    @Value("${logpulse.rollup.backfill.enabled:true}")
+    private boolean backfillEnabled;
+
+    /**
+     * 분 단위 증가분을 분 / 시간 / 일 행에 반영 (보관 기간이 이미 지난 단위는 건너뜀)
+     */
+    public void apply(Map<LogStatisticsService.StatKey, Integer> minuteCounts) {
+        if (minuteCounts.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<RollupKey, Long> rows = new HashMap<>();
+        for (RollupResolution resolution : RollupResolution.values()) {
+            LocalDateTime threshold = retentionThreshold(resolution, now);
+            minuteCounts.forEach((key, count) -> {
+                LocalDateTime bucketStart = resolution.truncate(key.getMinute());
+                if (!bucketStart.isBefore(threshold)) {
+                    rows.merge(new RollupKey(resolution, bucketStart, key.getSource(), key.getLogLevel()),
+                            count.longValue(), Long::sum);
+                }
+            });
+        }
+
+        List<Map.Entry<RollupKey, Long>> sorted = new ArrayList<>(rows.entrySet());
+        sorted.sort(Map.Entry.comparingByKey(KEY_ORDER));
+
+        for (int from = 0; from < sorted.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<RollupKey, Long>> chunk = sorted.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, sorted.size()));
+            jdbcTemplate.update(upsertSql(chunk.size()), ps -> {
+                int index = 1;
+                for (Map.Entry<RollupKey, Long> row : chunk) {
+                    RollupKey key = row.getKey();
+                    ps.setString(index++, key.resolution.name());
+                    ps.setTimestamp(index++, Timestamp.valueOf(key.bucketStart));
+                    ps.setString(index++, key.source);
+                    ps.setString(index++, key.logLevel);
+                    ps.setLong(index++, row.getValue());
+                }
+            });
+        }
+    }
+
+    /**
+     * [start, end) 구간을 답할 가장 거친 단위 (maxResolution보다 거칠지 않음)
+     *
+     * 구간 양 끝이 단위 경계에 맞고 보관 기간 안에 있는 가장 거친 단위를 고르고,
+     * 경계에 맞는 단위가 없으면 start를 아직 보관 중인 가장 세밀한 단위를 골라 구간을 단위 경계로 내림한다.
+     */
+    public RollupResolution resolve(LocalDateTime start, LocalDateTime end, RollupResolution maxResolution) {
+        LocalDateTime now = LocalDateTime.now();
+        RollupResolution[] resolutions = RollupResolution.values();
+
+        for (int i = resolutions.length - 1; i >= 0; i--) {
+            RollupResolution resolution = resolutions[i];
+            if (!resolution.isCoarserThan(maxResolution) && resolution.isAligned(start) && resolution.isAligned(end)
+                    && covers(resolution, start, now)) {
+                return resolution;
+            }
+        }
+
+        for (RollupResolution resolution : resolutions) {
+            if (covers(resolution, start, now)) {
+                return resolution.isCoarserThan(maxResolution) ? maxResolution : resolution;
+            }
+        }
+        return maxResolution;
+    }
+
+    public List<Object[]> findLevelCounts(LocalDateTime start, LocalDateTime end, String source) {
+        RollupResolution resolution = resolve(start, end, RollupResolution.DAY);
+        if (source != null && !source.isEmpty()) {
+            return logRollupRepository.findLevelCountsBySource(resolution, resolution.truncate(start), end, source);
+        }
+        return logRollupRepository.findLevelCounts(resolution, resolution.truncate(start), end);
+    }
+
+    public List<Object[]> findSourceCounts(LocalDateTime start, LocalDateTime end) {
+        RollupResolution resolution = resolve(start, end, RollupResolution.DAY);
+        return logRollupRepository.findSourceCounts(resolution, resolution.truncate(start), end);
+    }
+
+    /**
+     * 구간 내 집계 단위별(bucketStart), 로그 레벨별 합계 (단위는 maxResolution 이하에서 resolve)
+     */
+    public List<Object[]> findBucketLevelCounts(LocalDateTime start, LocalDateTime end, RollupResolution maxResolution) {
+        RollupResolution resolution = resolve(start, end, maxResolution);
+        return logRollupRepository.findBucketLevelCounts(resolution, resolution.truncate(start), end);
+    }
+
+    /**
+     * 보관 기간 안의 log_statistics로 시간 / 일 단위 행을 날짜별로 다시 계산
+     *
+     * log_statistics와 log_rollups는 같은 트랜잭션에서 함께 증가하므로 행 값을 log_statistics 합계로 덮어써도
+     * 이미 반영된 증가분이 겹치거나 빠지지 않는다. 분 단위는 시간 단위 통계로 만들 수 없어 채우지 않는다.
+     */
+    @Async("taskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillFromStatistics() {
+        if (!backfillEnabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime hourThreshold = retentionThreshold(RollupResolution.HOUR, now);
+        LocalDateTime dayThreshold = retentionThreshold(RollupResolution.DAY, now);
+
+        try {
+            List<LocalDate> dates = jdbcTemplate.queryForList(
+                    "SELECT DISTINCT log_date FROM log_statistics WHERE log_date >= ? ORDER BY log_date",
+                    LocalDate.class, Date.valueOf(dayThreshold.toLocalDate()));
+
+            for (LocalDate date : dates) {
+                backfill(backfillDaySql(), Date.valueOf(date));
+                if (!date.isBefore(hourThreshold.toLocalDate())) {
+                    backfill(backfillHourSql(), Date.valueOf(date), Timestamp.valueOf(hourThreshold));
+                }
+            }
+
+            log.info("log_statistics로 시간 / 일 단위 집계 채우기 완료: {}일", dates.size());
+        } catch (Exception e) {
+            log.error("log_statistics로 집계 채우기 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    // 날짜 하나씩 반영해 잠금 범위를 줄이고, 수집 경로와 잠금이 충돌하면 재시도
+    private void backfill(String sql, Object... args) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                jdbcTemplate.update(sql, args);
+                return;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("집계 채우기 잠금 충돌, 재시도 {}/{}: {}", attempt, MAX_ATTEMPTS, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 단위별 보관 기간이 지난 행 정리 (상위 단위가 이미 같은 수를 담고 있으므로 삭제만 수행)
+     */
+    @Scheduled(cron = "${logpulse.rollup.compaction-cron:0 15 * * * ?}")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        for (RollupResolution resolution : RollupResolution.values()) {
+            try {
+                int deleted = logRollupRepository.deleteByResolutionOlderThan(
+                        resolution, retentionThreshold(resolution, now));
+                if (deleted > 0) {
+                    log.info("{} 단위 집계 {}행 정리 완료", resolution, deleted);
+                }
+            } catch (Exception e) {
+                log.error("{} 단위 집계 정리 중 오류 발생: {}", resolution, e.getMessage(), e);
+            }
+        }
+    }
+
+    LocalDateTime retentionThreshold(RollupResolution resolution, LocalDateTime now) {
+        return resolution.truncate(now.minus(retention(resolution)));
+    }
+
+    private boolean covers(RollupResolution resolution, LocalDateTime start, LocalDateTime now) {
+        return !resolution.truncate(start).isBefore(retentionThreshold(resolution, now));
+    }
+
+    private Duration retention(RollupResolution resolution) {
+        return switch (resolution) {
+            case MINUTE -> Duration.ofHours(minuteRetentionHours);
+            case HOUR -> Duration.ofDays(hourRetentionDays);
+            case DAY -> Duration.ofDays(dayRetentionDays);
+        };
+    }
+
+    static String upsertSql(int rows) {
+        return "INSERT INTO log_rollups (resolution, bucket_start, source, log_level, count, updated_at) VALUES " +
+                String.join(", ", Collections.nCopies(rows, "(?, ?, ?, ?, ?, NOW(6))")) +
+                " ON DUPLICATE KEY UPDATE count = count + VALUES(count), updated_at = VALUES(updated_at)";
+    }
+
+    static String backfillDaySql() {
+        return "INSERT INTO log_rollups (resolution, bucket_start, source, log_level, count, updated_at) " +
+                "SELECT 'DAY', TIMESTAMP(log_date), source, log_level, SUM(count), NOW(6) FROM log_statistics " +
+                "WHERE log_date = ? GROUP BY log_date, source, log_level" +
+                " ON DUPLICATE KEY UPDATE count = VALUES(count), updated_at = VALUES(updated_at)";
+    }
+
+    static String backfillHourSql() {
+        return "INSERT INTO log_rollups (resolution, bucket_start, source, log_level, count, updated_at) " +
+                "SELECT 'HOUR', TIMESTAMP(log_date) + INTERVAL hour HOUR, source, log_level, SUM(count), NOW(6) " +
+                "FROM log_statistics WHERE log_date = ? AND hour IS NOT NULL " +
+                "AND TIMESTAMP(log_date) + INTERVAL hour HOUR >= ? GROUP BY log_date, hour, source, log_level" +
+                " ON DUPLICATE KEY UPDATE count = VALUES(count), updated_at = VALUES(updated_at)";
+    }
+
+    private static final class RollupKey {
+        private final RollupResolution resolution;
+        private final LocalDateTime bucketStart;
+        private final String source;
+        private final String logLevel;
+
+        private RollupKey(RollupResolution resolution, LocalDateTime bucketStart, String source, String logLevel) {
+            this.resolution = resolution;
+            this.bucketStart = bucketStart;
+            this.source = source;
+            this.logLevel = logLevel;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            RollupKey rollupKey = (RollupKey) o;
+            return resolution == rollupKey.resolution &&
+                    Objects.equals(bucketStart, rollupKey.bucketStart) &&
+                    Objects.equals(source, rollupKey.source) &&
+                    Objects.equals(logLevel, rollupKey.logLevel);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(resolution, bucketStart, source, logLevel);
+        }
+    }
+}
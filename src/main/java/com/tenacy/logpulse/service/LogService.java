@@ -1,8 +1,11 @@
 package com.tenacy.logpulse.service;
 
+import com.tenacy.logpulse.api.dto.CursorPageResponse;
 import com.tenacy.logpulse.api.dto.LogEntryRequest;
 import com.tenacy.logpulse.api.dto.LogEntryResponse;
 import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.compression.CompressedContent;
+import com.tenacy.logpulse.domain.ContentCodec;
 import com.tenacy.logpulse.domain.LogEntry;
 import com.tenacy.logpulse.domain.LogRepository;
 import com.tenacy.logpulse.elasticsearch.service.ElasticsearchService;
@@ -10,12 +13,16 @@ import com.tenacy.logpulse.pattern.LogPatternDetector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +30,8 @@ import java.time.LocalDateTime;
 @Transactional(readOnly = true)
 public class LogService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final LogRepository logRepository;
     private final ElasticsearchService elasticsearchService;
     private final LogMetricsService logMetricsService;
@@ -31,6 +40,7 @@ public class LogService {
     private final LogCompressionService compressionService;
     private final LogStatisticsService logStatisticsService;
     private final SystemMetricsService systemMetricsService;
+    private final LiveDashboardService liveDashboardService;
 
     @Transactional
     public LogEntryResponse createLog(LogEntryRequest request) {
@@ -43,18 +53,32 @@ public class LogService {
         // 압축 적용 여부 결정 및 압축 처리
         boolean shouldCompress = compressionService.shouldCompress(originalContent);
         String finalContent = originalContent;
+        byte[] contentBlob = null;
+        ContentCodec codec = ContentCodec.NONE;
+        Long dictionaryId = null;
         int compressedSize = originalSize;
 
         if (shouldCompress) {
-            finalContent = compressionService.compressContent(originalContent);
-            compressedSize = finalContent != null ? finalContent.getBytes(StandardCharsets.UTF_8).length : 0;
-            log.debug("로그 내용 압축됨: {}% 감소",
-                    Math.round((1 - (double)compressedSize/originalSize) * 100));
+            CompressedContent compressed = compressionService.compress(request.getSource(), originalContent);
+            if (compressed != null) {
+                finalContent = null;
+                contentBlob = compressed.getData();
+                codec = compressed.getCodec();
+                dictionaryId = compressed.getDictionaryId();
+                compressedSize = contentBlob.length;
+                log.debug("로그 내용 압축됨: {}% 감소",
+                        Math.round((1 - (double)compressedSize/originalSize) * 100));
+            } else {
+                shouldCompress = false;
+            }
         }
 
         LogEntry logEntry = LogEntry.builder()
                 .source(request.getSource())
                 .content(finalContent)
+                .contentBlob(contentBlob)
+                .codec(codec.getId())
+                .dictionaryId(dictionaryId)
                 .logLevel(request.getLogLevel())
                 .createdAt(LocalDateTime.now())
                 .compressed(shouldCompress)
@@ -94,6 +118,9 @@ public class LogService {
             if ("ERROR".equalsIgnoreCase(savedEntry.getLogLevel())) {
                 systemMetricsService.recordErrorLog();
             }
+
+            // 실시간 대시보드 구독자에게 전달
+            liveDashboardService.publish(List.of(savedEntry));
         } catch (Exception e) {
             log.error("메트릭을 기록하는 중 오류 발생: {}", e.getMessage(), e);
         }
@@ -141,12 +168,48 @@ public class LogService {
         return logEntries.map(this::createLogEntryResponseWithDecompression);
     }
 
+    /**
+     * 키셋(커서) 페이지네이션 조회
+     * 한 건 더 읽어 다음 페이지 존재 여부를 판단하므로 COUNT 쿼리가 없고, 깊은 페이지도 OFFSET 없이 커서 위치부터 읽는다.
+     * cursor가 주어지면 정렬 방향은 커서에 담긴 방향을 따른다.
+     */
+    public CursorPageResponse<LogEntryResponse> retrieveLogsByCursor(
+            String keyword, String level, String source, String content,
+            LocalDateTime start, LocalDateTime end, String cursor, int size, Sort.Direction direction) {
+
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        LogCursor position = cursor != null && !cursor.isEmpty() ? LogCursor.decode(cursor) : null;
+        Sort.Direction sortDirection = position != null ? position.getDirection() : direction;
+
+        LocalDateTime from = start != null ? start : LogCursor.MIN_TIME;
+        LocalDateTime to = end != null ? end : LogCursor.MAX_TIME;
+        Pageable fetch = PageRequest.of(0, limit + 1);
+
+        List<LogEntry> entries = sortDirection.isDescending()
+                ? logRepository.searchBeforeCursor(keyword, level, source, content, from, to,
+                        position != null ? position.getCreatedAt() : to,
+                        position != null ? position.getId() : Long.MAX_VALUE, fetch)
+                : logRepository.searchAfterCursor(keyword, level, source, content, from, to,
+                        position != null ? position.getCreatedAt() : from,
+                        position != null ? position.getId() : Long.MIN_VALUE, fetch);
+
+        boolean hasNext = entries.size() > limit;
+        List<LogEntry> page = hasNext ? entries.subList(0, limit) : entries;
+
+        return CursorPageResponse.<LogEntryResponse>builder()
+                .content(page.stream().map(this::createLogEntryResponseWithDecompression).collect(Collectors.toList()))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? LogCursor.of(page.get(page.size() - 1), sortDirection).encode() : null)
+                .build();
+    }
+
     private LogEntryResponse createLogEntryResponseWithDecompression(LogEntry logEntry) {
         String contentToUse = logEntry.getContent();
 
         // 압축된 경우 압축 해제
-        if (Boolean.TRUE.equals(logEntry.getCompressed()) && contentToUse != null) {
-            contentToUse = compressionService.decompressContent(contentToUse);
+        if (Boolean.TRUE.equals(logEntry.getCompressed()) || logEntry.getContentBlob() != null) {
+            contentToUse = compressionService.readContent(logEntry);
         }
 
         return LogEntryResponse.builder()
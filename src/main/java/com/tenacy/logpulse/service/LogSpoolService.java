@@ -0,0 +1,409 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.domain.LogEntry;
+import com.tenacy.logpulse.kafka.LogEventBinaryCodec;
+import com.tenacy.logpulse.spool.LogEntrySpoolCodec;
+import com.tenacy.logpulse.spool.MappedSegmentSpool;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.InvalidRecordException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.nio.file.Path;
+import java.sql.SQLTransientConnectionException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * MySQL / Kafka 장애 시 수집 데이터를 받아 두는 로컬 스풀
+ *
+ * - jdbc: 연결 장애로 저장하지 못한 LogEntry (BatchLogConsumerService)
+ * - kafka: 전송하지 못한 LogEventDto (LogBatchAccumulator)
+ *
+ * 장애가 감지되면 이후 데이터는 싱크를 거치지 않고 바로 스풀에 기록하고, 재처리가 한 번 성공하면 다시 싱크로 보낸다.
+ * 재처리는 replay.rate-per-second를 넘지 않도록 주기마다 나누어 수행하므로 복구 직후의 싱크에 부하가 몰리지 않는다.
+ * 재처리는 싱크 응답을 기다리므로 공용 @Scheduled 스레드에서는 전용 실행기(spoolReplayExecutor)에 넘기기만 한다.
+ * 스풀이 가득 차면 기록을 거부하며, 호출자는 기존 실패 처리(데드레터 격리, 전송 실패 집계)를 따른다.
+ * 데이터 오류처럼 다시 시도해도 실패하는 레코드는 재처리를 막지 않도록 집계하고 버린다.
+ */
+@Service
+@Slf4j
+public class LogSpoolService {
+
+    public static final String JDBC_SPOOL = "jdbc";
+    public static final String KAFKA_SPOOL = "kafka";
+
+    private static final String DROPPED_DESCRIPTION = "재처리 중 다시 시도해도 실패해 버린 레코드 수";
+
+    private final JdbcBatchInsertService jdbcBatchInsertService;
+    private final LogStatisticsService logStatisticsService;
+    private final LogProducerService logProducerService;
+    private final LiveDashboardService liveDashboardService;
+    private final Executor replayExecutor;
+    private final AtomicBoolean replaying = new AtomicBoolean();
+    private final MeterRegistry meterRegistry;
+    private final LogEventBinaryCodec eventCodec = new LogEventBinaryCodec();
+
+    @Value("${logpulse.spool.enabled:true}")
+    private boolean spoolEnabled;
+
+    @Value("${logpulse.spool.directory:./data/spool}")
+    private String directory;
+
+    @Value("${logpulse.spool.segment-size-mb:64}")
+    private int segmentSizeMb;
+
+    @Value("${logpulse.spool.max-segments:16}")
+    private int maxSegments;
+
+    @Value("${logpulse.spool.replay.batch-size:500}")
+    private int replayBatchSize;
+
+    @Value("${logpulse.spool.replay.rate-per-second:2000}")
+    private int replayRatePerSecond;
+
+    @Value("${logpulse.spool.replay.interval-ms:1000}")
+    private long replayIntervalMs;
+
+    @Value("${logpulse.spool.replay.kafka-ack-timeout-ms:10000}")
+    private long kafkaAckTimeoutMs;
+
+    private MappedSegmentSpool jdbcSpool;
+    private MappedSegmentSpool kafkaSpool;
+    private volatile boolean jdbcUnavailable;
+    private volatile boolean kafkaUnavailable;
+
+    public LogSpoolService(JdbcBatchInsertService jdbcBatchInsertService,
+                           LogStatisticsService logStatisticsService,
+                           LogProducerService logProducerService,
+                           LiveDashboardService liveDashboardService,
+                           @Qualifier("spoolReplayExecutor") Executor replayExecutor,
+                           MeterRegistry meterRegistry) {
+        this.jdbcBatchInsertService = jdbcBatchInsertService;
+        this.logStatisticsService = logStatisticsService;
+        this.logProducerService = logProducerService;
+        this.liveDashboardService = liveDashboardService;
+        this.replayExecutor = replayExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!spoolEnabled) {
+            return;
+        }
+
+        try {
+            int segmentBytes = segmentSizeMb * 1024 * 1024;
+            jdbcSpool = new MappedSegmentSpool(Path.of(directory, JDBC_SPOOL), segmentBytes, maxSegments);
+            kafkaSpool = new MappedSegmentSpool(Path.of(directory, KAFKA_SPOOL), segmentBytes, maxSegments);
+        } catch (IOException e) {
+            log.error("스풀 디렉터리를 열 수 없어 스풀을 사용하지 않습니다 ({}): {}", directory, e.getMessage(), e);
+            jdbcSpool = null;
+            kafkaSpool = null;
+            return;
+        }
+
+        registerGauges(JDBC_SPOOL, jdbcSpool);
+        registerGauges(KAFKA_SPOOL, kafkaSpool);
+        log.info("로컬 스풀 사용: {} (스풀당 최대 {}MB)", directory, (long) segmentSizeMb * maxSegments);
+    }
+
+    @PreDestroy
+    public void close() {
+        if (jdbcSpool != null) {
+            jdbcSpool.close();
+        }
+        if (kafkaSpool != null) {
+            kafkaSpool.close();
+        }
+    }
+
+    /**
+     * MySQL 장애가 감지되어 재처리가 성공하기 전까지 새 배치도 스풀로 보내야 하는지
+     */
+    public boolean isJdbcUnavailable() {
+        return jdbcSpool != null && jdbcUnavailable;
+    }
+
+    public boolean isKafkaUnavailable() {
+        return kafkaSpool != null && kafkaUnavailable;
+    }
+
+    /**
+     * 저장하지 못한 항목을 스풀에 기록 (스풀이 없거나 가득 차면 false)
+     */
+    public boolean spoolEntries(List<LogEntry> entries) {
+        if (jdbcSpool == null) {
+            return false;
+        }
+
+        jdbcUnavailable = true;
+        return append(JDBC_SPOOL, jdbcSpool, entries.stream().map(LogEntrySpoolCodec::encode).toList());
+    }
+
+    public boolean spoolEvents(List<LogEventDto> events) {
+        if (kafkaSpool == null) {
+            return false;
+        }
+
+        kafkaUnavailable = true;
+        return append(KAFKA_SPOOL, kafkaSpool, events.stream().map(eventCodec::encode).toList());
+    }
+
+    @Scheduled(fixedDelayString = "${logpulse.spool.replay.interval-ms:1000}")
+    public void replay() {
+        boolean pending = (jdbcSpool != null && jdbcSpool.getPendingRecords() > 0) ||
+                (kafkaSpool != null && kafkaSpool.getPendingRecords() > 0);
+
+        // 이전 주기의 재처리가 아직 실행 중이면 건너뜀
+        if (!pending || !replaying.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            replayExecutor.execute(() -> {
+                try {
+                    replayPending();
+                } finally {
+                    replaying.set(false);
+                }
+            });
+        } catch (RuntimeException e) {
+            replaying.set(false);
+            log.warn("스풀 재처리를 시작하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    private void replayPending() {
+        // 주기당 재처리 한도
+        int budget = (int) Math.max(1, replayRatePerSecond * replayIntervalMs / 1000);
+
+        try {
+            if (jdbcSpool != null && jdbcSpool.getPendingRecords() > 0) {
+                replay(JDBC_SPOOL, jdbcSpool, budget, this::replayEntries);
+            }
+            if (kafkaSpool != null && kafkaSpool.getPendingRecords() > 0) {
+                replay(KAFKA_SPOOL, kafkaSpool, budget, this::replayEvents);
+            }
+        } catch (Exception e) {
+            log.error("스풀 재처리 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 일시적인 연결 장애로 싱크를 사용할 수 없는지 (데이터 오류는 스풀해도 다시 실패하므로 제외)
+     */
+    public static boolean isSinkUnavailable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessResourceFailureException ||
+                    cause instanceof TransientDataAccessResourceException ||
+                    cause instanceof CannotCreateTransactionException ||
+                    cause instanceof SQLTransientConnectionException ||
+                    cause instanceof ConnectException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean append(String name, MappedSegmentSpool spool, List<byte[]> records) {
+        if (spool.appendAll(records)) {
+            counter("logpulse.spool.appended", name, "스풀에 기록된 레코드 수").increment(records.size());
+            return true;
+        }
+
+        counter("logpulse.spool.rejected", name, "스풀이 가득 차 기록하지 못한 레코드 수").increment(records.size());
+        log.error("{} 스풀이 가득 차 {}개 레코드를 기록하지 못했습니다 (미처리 {}바이트)",
+                name, records.size(), spool.getPendingBytes());
+        return false;
+    }
+
+    private void replay(String name, MappedSegmentSpool spool, int budget, ReplaySink sink) {
+        int replayed = 0;
+
+        while (replayed < budget) {
+            MappedSegmentSpool.Batch batch = spool.peek(Math.min(replayBatchSize, budget - replayed));
+            if (batch.getRecords().isEmpty()) {
+                break;
+            }
+
+            try {
+                sink.replay(batch.getRecords());
+            } catch (Exception e) {
+                log.debug("{} 스풀 재처리 대기 (싱크 사용 불가): {}", name, e.getMessage());
+                break;
+            }
+
+            spool.acknowledge(batch);
+            replayed += batch.getRecords().size();
+            counter("logpulse.spool.replayed", name, "스풀에서 재처리된 레코드 수").increment(batch.getRecords().size());
+        }
+
+        if (replayed > 0) {
+            if (JDBC_SPOOL.equals(name)) {
+                jdbcUnavailable = false;
+            } else {
+                kafkaUnavailable = false;
+            }
+            log.info("{} 스풀 재처리: {}개, 남은 레코드 {}개", name, replayed, spool.getPendingRecords());
+        }
+    }
+
+    private void replayEntries(List<byte[]> records) {
+        List<LogEntry> entries = decodeAll(JDBC_SPOOL, records, LogEntrySpoolCodec::decode);
+        List<LogEntry> stored = entries;
+
+        try {
+            jdbcBatchInsertService.batchInsert(entries);
+        } catch (PartialBatchInsertException e) {
+            // 커밋된 샤드는 다시 저장하지 않도록 미저장 항목만 스풀 끝에 다시 기록
+            if (!append(JDBC_SPOOL, jdbcSpool, e.getUncommittedEntries().stream()
+                    .map(LogEntrySpoolCodec::encode).toList())) {
+                log.error("재처리 중 미저장 항목 {}개 유실", e.getUncommittedEntries().size());
+            }
+            Set<LogEntry> uncommitted = Collections.newSetFromMap(new IdentityHashMap<>());
+            uncommitted.addAll(e.getUncommittedEntries());
+            stored = entries.stream().filter(entry -> !uncommitted.contains(entry)).toList();
+        } catch (RuntimeException e) {
+            if (isSinkUnavailable(e)) {
+                throw e;
+            }
+            // 데이터 오류로 실패하는 항목이 재처리를 막지 않도록 항목별로 저장하고 실패한 항목은 버림
+            stored = insertEach(entries);
+        }
+
+        try {
+            logStatisticsService.batchUpdateStatistics(stored);
+            liveDashboardService.publish(stored);
+        } catch (Exception e) {
+            log.error("스풀 재처리 항목의 통계를 갱신하는 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<LogEntry> insertEach(List<LogEntry> entries) {
+        List<LogEntry> stored = new ArrayList<>(entries.size());
+        for (LogEntry entry : entries) {
+            try {
+                jdbcBatchInsertService.batchInsert(List.of(entry));
+                stored.add(entry);
+            } catch (RuntimeException e) {
+                if (isSinkUnavailable(e)) {
+                    throw e;
+                }
+                counter("logpulse.spool.dropped", JDBC_SPOOL, DROPPED_DESCRIPTION).increment();
+                log.error("스풀 항목 저장 실패, 버림: source={}, 원인={}", entry.getSource(), e.getMessage());
+            }
+        }
+        return stored;
+    }
+
+    private void replayEvents(List<byte[]> records) throws Exception {
+        List<LogEventDto> events = decodeAll(KAFKA_SPOOL, records, eventCodec::decode);
+
+        // 배치 전체가 브로커에 기록된 뒤에만 커서 이동 (일시적 실패 시 배치를 다시 보내므로 중복될 수 있음)
+        // 스풀 기록 전에 알림 판단을 거쳤으므로 재처리 이벤트로 전송
+        List<CompletableFuture<SendResult<String, LogEventDto>>> futures = logProducerService.replayLogEvents(events);
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
+                    .get(kafkaAckTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // 다시 보내도 실패하는 이벤트만 실패했다면 버리고 커서 이동, 일시적 실패가 섞여 있으면 배치를 다시 보냄
+            int dropped = 0;
+            for (int i = 0; i < futures.size(); i++) {
+                Throwable failure = futures.get(i).handle((result, ex) -> ex).join();
+                if (failure == null) {
+                    continue;
+                }
+                if (!isUnsendable(failure)) {
+                    throw e;
+                }
+                dropped++;
+                log.error("스풀 이벤트 전송 실패, 버림: source={}, 원인={}", events.get(i).getSource(), failure.getMessage());
+            }
+            counter("logpulse.spool.dropped", KAFKA_SPOOL, DROPPED_DESCRIPTION).increment(dropped);
+        }
+    }
+
+    /**
+     * 브로커 상태와 관계없이 다시 보내도 실패하는 이벤트인지 (크기 초과, 직렬화 실패 등)
+     */
+    static boolean isUnsendable(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RecordTooLargeException ||
+                    cause instanceof SerializationException ||
+                    cause instanceof InvalidRecordException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 스풀 레코드 복원 (손상되어 복원할 수 없는 레코드가 재처리를 막지 않도록 버림)
+     */
+    private <T> List<T> decodeAll(String name, List<byte[]> records, Function<byte[], T> decoder) {
+        List<T> decoded = new ArrayList<>(records.size());
+        for (byte[] record : records) {
+            try {
+                decoded.add(decoder.apply(record));
+            } catch (RuntimeException e) {
+                counter("logpulse.spool.dropped", name, DROPPED_DESCRIPTION).increment();
+                log.error("{} 스풀 레코드를 복원할 수 없어 버림: {}바이트, 원인={}", name, record.length, e.getMessage());
+            }
+        }
+        return decoded;
+    }
+
+    private void registerGauges(String name, MappedSegmentSpool spool) {
+        gauge("logpulse.spool.records", name, spool, MappedSegmentSpool::getPendingRecords, "스풀의 미처리 레코드 수");
+        gauge("logpulse.spool.size.bytes", name, spool, MappedSegmentSpool::getPendingBytes, "스풀의 미처리 바이트");
+        gauge("logpulse.spool.segments", name, spool, MappedSegmentSpool::getSegmentCount, "스풀 세그먼트 파일 수");
+    }
+
+    private void gauge(String metric, String name, MappedSegmentSpool spool,
+                       ToDoubleFunction<MappedSegmentSpool> value, String description) {
+        Gauge.builder(metric, spool, value)
+                .tag("spool", name)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private Counter counter(String metric, String name, String description) {
+        return Counter.builder(metric)
+                .tag("spool", name)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ReplaySink {
+        void replay(List<byte[]> records) throws Exception;
+    }
+}
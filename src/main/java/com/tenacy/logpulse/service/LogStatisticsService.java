@@ -1,31 +1,174 @@
 package com.tenacy.logpulse.service;
 
 import com.tenacy.logpulse.domain.LogEntry;
-import com.tenacy.logpulse.domain.LogStatistics;
-import com.tenacy.logpulse.domain.LogStatisticsRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
 
+/**
+ * 시간대별 로그 통계 (log_statistics)
+ *
+ * (log_date, hour, source, log_level) 고유 키에 대해 배치를 집계한 뒤
+ * INSERT ... ON DUPLICATE KEY UPDATE count = count + VALUES(count) 한 문장으로 반영한다.
+ * 조회 후 저장하지 않으므로 키당 왕복이 없고, 여러 컨슈머 스레드가 같은 키를 갱신해도 행이 중복되거나 증가분이 유실되지 않는다.
+ *
+ * write-behind가 켜져 있으면 수집 경로에서는 메모리에만 누적하고 DB 반영은 별도 스레드가 맡는다.
+ * - 누적: 스레드별로 나눈 스트라이프 맵의 키별 AtomicLong에 CAS로 더한다 (잠금 없음, 같은 키를 여러 스레드가 갱신해도 경합 분산).
+ * - 반영: flush.interval-ms마다, 또는 미반영 건수가 flush.max-pending을 넘으면 증가분을 0으로 교환해 모은 뒤 upsert한다.
+ *   일시적인 장애로 반영에 실패한 증가분은 다시 누적하며, 종료 시에도 남은 증가분을 반영한다.
+ *   데이터 오류로 실패하면 키별로 나눠 다시 반영하고, 그래도 실패하는 키의 증가분만 버린다 (다시 누적하면 매 주기 같은 오류가 반복됨).
+ * - 조회: getPendingDeltas()는 아직 반영되지 않은(반영 중 포함) 증가분을 돌려주며, 대시보드는 이를 DB 결과에 더한다.
+ *   키마다 0으로 교환한 직후 반영 중 목록에 옮기므로, 교환과 기록 사이나 DB 커밋과 목록 해제 사이의 짧은 순간에는
+ *   해당 키의 증가분이 빠지거나 두 번 보일 수 있다 (다음 조회에서 바로잡힘).
+ *
+ * 증가분은 분 단위로 누적해 log_statistics(시간 단위)와 함께 log_rollups(분 / 시간 / 일, LogRollupService)에도 반영한다.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
-public class LogStatisticsService {
+public class LogStatisticsService implements SmartInitializingSingleton {
 
-    private final LogStatisticsRepository logStatisticsRepository;
+    static final String UNIQUE_KEY = "uk_log_stats_key";
+
+    // 한 문장에 담는 최대 키 수
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private static final Comparator<StatKey> KEY_ORDER = Comparator
+            .comparing((StatKey key) -> key.minute)
+            .thenComparing(key -> key.source, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(key -> key.logLevel, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    // 반영 중 비어 있는 키를 맵에서 제거했음을 표시 (이 값을 본 스레드는 새 카운터를 만들어 다시 더함)
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LogRollupService logRollupService;
+    private final TransactionTemplate transactionTemplate;
+    private final List<ConcurrentHashMap<StatKey, AtomicLong>> stripes;
+    private final LongAdder pendingCount = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ExecutorService flushExecutor;
+    private final Counter flushedCounter;
+    private final Counter flushFailedCounter;
+    private final Counter droppedCounter;
+
+    // 반영 중인 증가분 (교환한 증가분이 DB에 커밋될 때까지 조회에 포함하기 위함)
+    private volatile Map<StatKey, Long> inFlight = Map.of();
+
+    @Value("${logpulse.statistics.write-behind.enabled:true}")
+    private boolean writeBehindEnabled;
+
+    @Value("${logpulse.statistics.write-behind.max-pending:50000}")
+    private long maxPending;
+
+    public LogStatisticsService(JdbcTemplate jdbcTemplate, LogRollupService logRollupService,
+                                PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.logRollupService = logRollupService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 코어 수의 두 배 이상인 2의 거듭제곱
+        int stripeCount = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1;
+        this.stripes = IntStream.range(0, stripeCount)
+                .mapToObj(i -> new ConcurrentHashMap<StatKey, AtomicLong>())
+                .toList();
+
+        this.flushExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "statistics-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushedCounter = Counter.builder("logpulse.statistics.flushed")
+                .description("log_statistics에 반영된 로그 수")
+                .register(meterRegistry);
+        this.flushFailedCounter = Counter.builder("logpulse.statistics.flush.failed")
+                .description("log_statistics 반영에 실패한 횟수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("logpulse.statistics.dropped")
+                .description("키가 유효하지 않거나 반영할 수 없어 통계에서 제외된 로그 수")
+                .register(meterRegistry);
+        Gauge.builder("logpulse.statistics.pending", pendingCount, LongAdder::sum)
+                .description("메모리에 누적되어 아직 반영되지 않은 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 모든 빈 생성 직후, Kafka 리스너 컨테이너와 웹 서버가 시작되기 전에 고유 키 확인
+     * 중복 행 병합과 고유 키 추가 사이에 컨슈머가 같은 키의 행을 새로 넣으면 ALTER가 실패하므로 수집 시작 전에 수행한다.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        ensureUniqueKey();
+    }
+
+    /**
+     * 기존 테이블에 고유 키가 없으면 중복 행을 합친 뒤 고유 키 추가
+     */
+    void ensureUniqueKey() {
+        try {
+            Integer exists = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.STATISTICS " +
+                            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'log_statistics' AND INDEX_NAME = ?",
+                    Integer.class, UNIQUE_KEY);
+            if (exists != null && exists > 0) {
+                return;
+            }
+
+            String duplicates = "SELECT MIN(id) AS keep_id, log_date, hour, source, log_level, SUM(count) AS total " +
+                    "FROM log_statistics GROUP BY log_date, hour, source, log_level HAVING COUNT(*) > 1";
+            int merged = jdbcTemplate.update("UPDATE log_statistics s JOIN (" + duplicates + ") d " +
+                    "ON s.id = d.keep_id SET s.count = d.total");
+            int deleted = jdbcTemplate.update("DELETE s FROM log_statistics s JOIN (" + duplicates + ") d " +
+                    "ON s.log_date <=> d.log_date AND s.hour <=> d.hour AND s.source <=> d.source " +
+                    "AND s.log_level <=> d.log_level AND s.id <> d.keep_id");
+            jdbcTemplate.execute("ALTER TABLE log_statistics ADD UNIQUE KEY " + UNIQUE_KEY +
+                    " (log_date, hour, source, log_level)");
+
+            log.info("log_statistics 고유 키 추가: 중복 키 {}개 병합, 중복 행 {}개 삭제", merged, deleted);
+        } catch (Exception e) {
+            log.error("log_statistics 고유 키 추가 실패: {}", e.getMessage(), e);
+        }
+    }
 
     /**
      * 로그 생성 시 통계 테이블 업데이트
      */
-    @Transactional
     public void updateStatistics(String source, String logLevel, LocalDateTime timestamp) {
         if (source == null || logLevel == null || timestamp == null) {
             log.warn("통계 업데이트를 위한 유효하지 않은 로그 데이터: source={}, level={}, timestamp={}",
@@ -33,30 +176,12 @@ public class LogStatisticsService {
             return;
         }
 
-        LocalDate logDate = timestamp.toLocalDate();
-        int hour = timestamp.getHour();
-
         try {
-            // 기존 통계 레코드가 있는지 확인하고 count 증가
-            int updatedRows = logStatisticsRepository.incrementCount(logDate, hour, source, logLevel);
-
-            // 기존 레코드가 없으면 새로 생성
-            if (updatedRows == 0) {
-                LogStatistics newStat = LogStatistics.builder()
-                        .logDate(logDate)
-                        .hour(hour)
-                        .source(source)
-                        .logLevel(logLevel)
-                        .count(1)
-                        .updatedAt(LocalDateTime.now())
-                        .build();
-
-                logStatisticsRepository.save(newStat);
-                log.debug("새 통계 레코드 생성: date={}, hour={}, source={}, level={}",
-                        logDate, hour, source, logLevel);
+            StatKey key = new StatKey(timestamp, source, logLevel);
+            if (writeBehindEnabled) {
+                accumulate(key, 1);
             } else {
-                log.debug("기존 통계 레코드 업데이트: date={}, hour={}, source={}, level={}",
-                        logDate, hour, source, logLevel);
+                write(Map.of(key, 1));
             }
         } catch (Exception e) {
             log.error("통계 업데이트 중 오류 발생: {}", e.getMessage(), e);
@@ -66,78 +191,299 @@ public class LogStatisticsService {
     /**
      * 로그 배치 처리 시 통계 대량 업데이트
      */
-    @Transactional
     public void batchUpdateStatistics(List<LogEntry> logEntries) {
         Map<StatKey, Integer> statCounts = new HashMap<>();
+        int invalid = 0;
 
         // 로그 항목 집계
         for (LogEntry entry : logEntries) {
-            LocalDate logDate = entry.getCreatedAt().toLocalDate();
-            int hour = entry.getCreatedAt().getHour();
-            String source = entry.getSource();
-            String logLevel = entry.getLogLevel();
-
-            StatKey key = new StatKey(logDate, hour, source, logLevel);
+            if (entry.getSource() == null || entry.getLogLevel() == null || entry.getCreatedAt() == null) {
+                invalid++;
+                continue;
+            }
+            StatKey key = new StatKey(entry.getCreatedAt(), entry.getSource(), entry.getLogLevel());
             statCounts.merge(key, 1, Integer::sum);
         }
 
-        // 집계된 통계 업데이트
-        for (Map.Entry<StatKey, Integer> entry : statCounts.entrySet()) {
+        if (invalid > 0) {
+            droppedCounter.increment(invalid);
+            log.warn("통계 업데이트를 위한 유효하지 않은 로그 {}개 제외 (source, level, timestamp 누락)", invalid);
+        }
+
+        if (!writeBehindEnabled) {
+            write(statCounts);
+            return;
+        }
+
+        statCounts.forEach(this::accumulate);
+    }
+
+    /**
+     * 누적된 증가분을 주기적으로 반영
+     */
+    @Scheduled(fixedDelayString = "${logpulse.statistics.write-behind.interval-ms:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    /**
+     * 누적된 증가분을 모두 반영하고 반영한 로그 수를 반환 (다른 스레드가 반영 중이면 끝날 때까지 대기)
+     */
+    public long flush() {
+        flushLock.lock();
+        try {
+            return flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 아직 log_statistics에 반영되지 않은 키별 증가분
+     */
+    public Map<StatKey, Long> getPendingDeltas() {
+        Map<StatKey, Long> deltas = new HashMap<>(inFlight);
+        for (ConcurrentHashMap<StatKey, AtomicLong> stripe : stripes) {
+            stripe.forEach((key, counter) -> {
+                long value = counter.get();
+                if (value > 0) {
+                    deltas.merge(key, value, Long::sum);
+                }
+            });
+        }
+        return deltas;
+    }
+
+    public long getPendingCount() {
+        return pendingCount.sum();
+    }
+
+    private void accumulate(StatKey key, long delta) {
+        add(stripes.get((int) Thread.currentThread().getId() & (stripes.size() - 1)), key, delta);
+        if (pendingCount.sum() >= maxPending && flushRequested.compareAndSet(false, true)) {
+            flushExecutor.execute(() -> {
+                flushRequested.set(false);
+                flush();
+            });
+        }
+    }
+
+    private long flushPending() {
+        Map<StatKey, Integer> drained = new HashMap<>();
+        long total = 0;
+
+        // 교환한 증가분을 바로 옮겨 적을 반영 중 목록을 먼저 공개
+        Map<StatKey, Long> draining = new ConcurrentHashMap<>();
+        inFlight = draining;
+
+        for (ConcurrentHashMap<StatKey, AtomicLong> stripe : stripes) {
+            for (Map.Entry<StatKey, AtomicLong> entry : stripe.entrySet()) {
+                AtomicLong counter = entry.getValue();
+                while (true) {
+                    long value = counter.get();
+                    if (value == RETIRED) {
+                        break;
+                    }
+                    if (value == 0) {
+                        // 직전 반영 이후 증가가 없는 키는 제거해 맵이 커지지 않도록 함
+                        if (counter.compareAndSet(0, RETIRED)) {
+                            stripe.remove(entry.getKey(), counter);
+                            break;
+                        }
+                        continue;
+                    }
+                    if (counter.compareAndSet(value, 0)) {
+                        draining.merge(entry.getKey(), value, Long::sum);
+                        drained.merge(entry.getKey(), (int) value, Integer::sum);
+                        total += value;
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (drained.isEmpty()) {
+            inFlight = Map.of();
+            return 0;
+        }
+
+        pendingCount.add(-total);
+        try {
+            write(drained);
+            flushedCounter.increment(total);
+            log.debug("통계 반영: 키 {}개, 로그 {}개", drained.size(), total);
+            return total;
+        } catch (Exception e) {
+            flushFailedCounter.increment();
+            if (isTransient(e)) {
+                log.error("통계 반영 실패, 다음 주기에 재시도 (키 {}개, 로그 {}개): {}", drained.size(), total, e.getMessage());
+                drained.forEach(this::restore);
+                return 0;
+            }
+            log.error("통계 반영 실패, 키별로 나눠 다시 반영 (키 {}개, 로그 {}개): {}", drained.size(), total, e.getMessage());
+            return flushEachKey(drained);
+        } finally {
+            inFlight = Map.of();
+        }
+    }
+
+    /**
+     * 데이터 오류가 난 배치를 키별로 반영해 실패 원인이 된 키만 제외
+     */
+    private long flushEachKey(Map<StatKey, Integer> drained) {
+        long flushed = 0;
+        for (Map.Entry<StatKey, Integer> entry : drained.entrySet()) {
             StatKey key = entry.getKey();
             int count = entry.getValue();
+            try {
+                write(Map.of(key, count));
+                flushed += count;
+            } catch (Exception e) {
+                if (isTransient(e)) {
+                    restore(key, count);
+                    continue;
+                }
+                droppedCounter.increment(count);
+                log.error("통계 반영 불가, 증가분 제외: minute={}, source={}, level={}, count={}, 원인={}",
+                        key.minute, key.source, key.logLevel, count, e.getMessage());
+            }
+        }
+        flushedCounter.increment(flushed);
+        return flushed;
+    }
 
-            LogStatistics stat = logStatisticsRepository.findByLogDateAndSourceAndLogLevelAndHour(
-                    key.logDate, key.source, key.logLevel, key.hour);
+    // 잠금 충돌이나 연결 장애처럼 다시 시도하면 성공할 수 있는 오류인지
+    private static boolean isTransient(Throwable e) {
+        return e instanceof TransientDataAccessException || LogSpoolService.isSinkUnavailable(e);
+    }
 
-            if (stat != null) {
-                // 기존 레코드 업데이트
-                stat.setCount(stat.getCount() + count);
-                stat.setUpdatedAt(LocalDateTime.now());
-                logStatisticsRepository.save(stat);
-            } else {
-                // 새 레코드 생성
-                LogStatistics newStat = LogStatistics.builder()
-                        .logDate(key.logDate)
-                        .hour(key.hour)
-                        .source(key.source)
-                        .logLevel(key.logLevel)
-                        .count(count)
-                        .updatedAt(LocalDateTime.now())
-                        .build();
-
-                logStatisticsRepository.save(newStat);
+    // 반영에 실패한 증가분을 다시 누적 (반영 스레드에서 호출되므로 크기 기준 반영은 요청하지 않음)
+    private void restore(StatKey key, int delta) {
+        add(stripes.get(0), key, delta);
+    }
+
+    private void add(ConcurrentHashMap<StatKey, AtomicLong> stripe, StatKey key, long delta) {
+        while (true) {
+            AtomicLong counter = stripe.computeIfAbsent(key, k -> new AtomicLong());
+            long value = counter.get();
+            if (value == RETIRED) {
+                stripe.remove(key, counter);
+                continue;
+            }
+            if (counter.compareAndSet(value, value + delta)) {
+                break;
             }
         }
+        pendingCount.add(delta);
     }
 
-    // 통계 키 (복합 키)
-    private static class StatKey {
-        private final LocalDate logDate;
-        private final Integer hour;
+    /**
+     * 분 단위 증가분을 log_statistics(시간 단위)와 log_rollups(분 / 시간 / 일)에 한 트랜잭션으로 반영 (교착 시 재시도)
+     */
+    private void write(Map<StatKey, Integer> minuteCounts) {
+        if (minuteCounts.isEmpty()) {
+            return;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    upsert(minuteCounts);
+                    logRollupService.apply(minuteCounts);
+                });
+                return;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("통계 갱신 잠금 충돌, 재시도 {}/{}: {}", attempt, MAX_ATTEMPTS, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 시간 단위로 합친 증가분을 키 순서대로 반영 (모든 스레드가 같은 순서로 잠가 교착을 줄임)
+     */
+    private void upsert(Map<StatKey, Integer> minuteCounts) {
+        Map<StatKey, Integer> hourCounts = new HashMap<>();
+        minuteCounts.forEach((key, count) -> hourCounts.merge(key.toHour(), count, Integer::sum));
+
+        List<Map.Entry<StatKey, Integer>> rows = new ArrayList<>(hourCounts.entrySet());
+        rows.sort(Map.Entry.comparingByKey(KEY_ORDER));
+
+        for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<Map.Entry<StatKey, Integer>> chunk = rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size()));
+            jdbcTemplate.update(upsertSql(chunk.size()), ps -> bind(ps, chunk));
+        }
+    }
+
+    static String upsertSql(int rows) {
+        return "INSERT INTO log_statistics (log_date, hour, source, log_level, count, created_at, updated_at) VALUES " +
+                String.join(", ", Collections.nCopies(rows, "(?, ?, ?, ?, ?, NOW(6), NOW(6))")) +
+                " ON DUPLICATE KEY UPDATE count = count + VALUES(count), updated_at = VALUES(updated_at)";
+    }
+
+    private void bind(PreparedStatement ps, List<Map.Entry<StatKey, Integer>> rows) throws SQLException {
+        int index = 1;
+        for (Map.Entry<StatKey, Integer> row : rows) {
+            StatKey key = row.getKey();
+            ps.setDate(index++, Date.valueOf(key.getLogDate()));
+            ps.setInt(index++, key.getHour());
+            ps.setString(index++, key.source);
+            ps.setString(index++, key.logLevel);
+            ps.setInt(index++, row.getValue());
+        }
+    }
+
+    // 통계 키 (분 단위 복합 키)
+    @Getter
+    public static class StatKey {
+        private final LocalDateTime minute;
         private final String source;
         private final String logLevel;
 
-        public StatKey(LocalDate logDate, Integer hour, String source, String logLevel) {
-            this.logDate = logDate;
-            this.hour = hour;
+        public StatKey(LocalDateTime time, String source, String logLevel) {
+            this.minute = time.truncatedTo(ChronoUnit.MINUTES);
             this.source = source;
             this.logLevel = logLevel;
         }
 
+        public LocalDate getLogDate() {
+            return minute.toLocalDate();
+        }
+
+        public int getHour() {
+            return minute.getHour();
+        }
+
+        StatKey toHour() {
+            return new StatKey(minute.truncatedTo(ChronoUnit.HOURS), source, logLevel);
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             StatKey statKey = (StatKey) o;
-            return Objects.equals(logDate, statKey.logDate) &&
-                    Objects.equals(hour, statKey.hour) &&
+            return Objects.equals(minute, statKey.minute) &&
                     Objects.equals(source, statKey.source) &&
                     Objects.equals(logLevel, statKey.logLevel);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(logDate, hour, source, logLevel);
+            return Objects.hash(minute, source, logLevel);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,104 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogAcceptedResponse;
+import com.tenacy.logpulse.api.dto.LogEntryRequest;
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 로그 생성 write-behind 모드
+ * 요청 스레드에서는 Kafka 기록 확인까지만 수행하고, 압축/저장/통계/인덱싱/모니터링은
+ * raw-logs 컨슈머(BatchLogConsumerService)가 요청 경로 밖에서 처리한다.
+ * Kafka 기록을 확인하지 못하면 로컬 스풀(LogSpoolService)에 기록된 경우에만 접수한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LogWriteBehindService {
+
+    private static final String RESPOND_ASYNC = "respond-async";
+
+    private final LogProducerService logProducerService;
+    private final LogSpoolService logSpoolService;
+
+    @Value("${logpulse.logs.write-behind.enabled:false}")
+    private boolean writeBehindEnabled;
+
+    /**
+     * 전역 설정 또는 요청 헤더(Prefer: respond-async)로 비동기 처리가 요청되었는지 확인
+     */
+    public boolean isRequested(String preferHeader) {
+        return writeBehindEnabled ||
+                (preferHeader != null && preferHeader.toLowerCase().contains(RESPOND_ASYNC));
+    }
+
+    /**
+     * 로그 이벤트를 Kafka(또는 로컬 스풀)에 기록하고 추적 ID를 반환
+     * 기록에 실패하면 빈 값을 반환하며, 호출자는 동기 처리로 대체해야 한다.
+     * 확인 응답 대기 시간 초과나 대기 중단은 기록 여부를 알 수 없으므로 스풀에 기록한 뒤에만 접수한다.
+     * 진행 중이던 전송이 늦게 성공하면 같은 로그가 두 번 저장될 수 있지만, 접수한 로그가 유실되지는 않는다.
+     * Kafka 장애 중에는 전송 대기(max.block.ms) 없이 바로 스풀에 기록한다.
+     */
+    public Optional<LogAcceptedResponse> submit(LogEntryRequest request) {
+        String trackingId = UUID.randomUUID().toString();
+
+        LogEventDto eventDto = LogEventDto.builder()
+                .source(request.getSource() != null ? request.getSource() : "unknown")
+                .content(request.getContent())
+                .logLevel(request.getLogLevel() != null ? request.getLogLevel() : "INFO")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        if (logSpoolService.isKafkaUnavailable()) {
+            Optional<LogAcceptedResponse> spooled = spool(eventDto, trackingId);
+            // 우선순위 토픽에도 보내지 않았으므로 알림 판단을 직접 수행
+            spooled.ifPresent(accepted -> logProducerService.alertUnsent(List.of(eventDto)));
+            return spooled;
+        }
+
+        try {
+            logProducerService.sendLogEventAndWait(eventDto, trackingId);
+        } catch (TimeoutException e) {
+            log.warn("write-behind 기록 확인 시간 초과, 로컬 스풀에 기록: trackingId={}", trackingId);
+            return spool(eventDto, trackingId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("write-behind 기록 확인 대기 중단, 로컬 스풀에 기록: trackingId={}", trackingId);
+            return spool(eventDto, trackingId);
+        } catch (Exception e) {
+            log.warn("write-behind 큐잉 실패, 동기 처리로 대체: trackingId={}, 원인={}", trackingId, e.getMessage());
+            return Optional.empty();
+        }
+
+        return Optional.of(acceptedResponse(trackingId, "accepted", "Log event queued for asynchronous processing"));
+    }
+
+    // 스풀에 기록되면 접수, 스풀이 없거나 가득 차면 동기 처리로 대체
+    private Optional<LogAcceptedResponse> spool(LogEventDto eventDto, String trackingId) {
+        if (logSpoolService.spoolEvents(List.of(eventDto))) {
+            return Optional.of(acceptedResponse(trackingId, "spooled",
+                    "Log event stored in local spool, will be forwarded to Kafka"));
+        }
+
+        log.warn("write-behind 스풀 기록 실패, 동기 처리로 대체: trackingId={}", trackingId);
+        return Optional.empty();
+    }
+
+    private LogAcceptedResponse acceptedResponse(String trackingId, String status, String message) {
+        return LogAcceptedResponse.builder()
+                .trackingId(trackingId)
+                .status(status)
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
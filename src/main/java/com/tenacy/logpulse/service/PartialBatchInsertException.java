@@ -0,0 +1,23 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.domain.LogEntry;
+
+import java.util.List;
+
+/**
+ * 분할 저장 중 일부 샤드만 커밋된 경우
+ * 커밋되지 않은 항목만 다시 처리해야 하므로 호출자가 배치 전체를 재시도하면 중복 저장된다.
+ */
+public class PartialBatchInsertException extends RuntimeException {
+
+    private final List<LogEntry> uncommittedEntries;
+
+    public PartialBatchInsertException(List<LogEntry> uncommittedEntries, Throwable cause) {
+        super("배치 일부 저장 실패: " + uncommittedEntries.size() + "개 항목 미저장", cause);
+        this.uncommittedEntries = uncommittedEntries;
+    }
+
+    public List<LogEntry> getUncommittedEntries() {
+        return uncommittedEntries;
+    }
+}
@@ -0,0 +1,111 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.domain.LogEntry;
+import com.tenacy.logpulse.pattern.LogPatternDetector;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 우선순위 토픽(ERROR/WARN) 컨슈머
+ *
+ * raw-logs에 대량의 INFO 로그가 밀려 있어도 실시간 오류 모니터링과 패턴 감지가 지연되지 않도록
+ * 적은 양의 우선순위 이벤트만 별도 컨슈머 그룹으로 읽어 처리한다.
+ * 영구 저장과 데드레터 격리는 raw-logs 컨슈머가 담당하므로 여기서는 알림 판단만 수행한다.
+ *
+ * 레코드 생성 시각부터 처리 시각까지를 logpulse.alert.ingest.latency{lane=priority}로 기록하며,
+ * raw-logs 컨슈머가 같은 레벨의 이벤트에 대해 기록하는 lane=bulk 값과 비교할 수 있다.
+ */
+@Service
+@Slf4j
+public class PriorityLogConsumerService {
+
+    public static final String LISTENER_ID = "priority-alert";
+
+    public static final String LANE_PRIORITY = "priority";
+    public static final String LANE_BULK = "bulk";
+
+    private final RealTimeErrorMonitorService errorMonitorService;
+    private final LogPatternDetector patternDetector;
+    private final Timer alertLatencyTimer;
+
+    public PriorityLogConsumerService(RealTimeErrorMonitorService errorMonitorService,
+                                      LogPatternDetector patternDetector,
+                                      MeterRegistry meterRegistry) {
+        this.errorMonitorService = errorMonitorService;
+        this.patternDetector = patternDetector;
+        this.alertLatencyTimer = alertLatencyTimer(meterRegistry, LANE_PRIORITY);
+    }
+
+    @KafkaListener(
+            id = LISTENER_ID,
+            topics = "${logpulse.kafka.topics.priority-logs}",
+            groupId = "${spring.kafka.consumer.group-id}-priority",
+            concurrency = "${logpulse.kafka.priority-lane.concurrency:1}",
+            autoStartup = "${logpulse.kafka.priority-lane.enabled:true}",
+            batch = "true"
+    )
+    public void consumePriorityLogEvents(List<ConsumerRecord<String, LogEventDto>> records,
+                                         Acknowledgment acknowledgment) {
+        for (ConsumerRecord<String, LogEventDto> record : records) {
+            LogEventDto logEventDto = record.value();
+
+            // 역직렬화 실패 레코드는 raw-logs 컨슈머가 데드레터 토픽으로 격리
+            if (logEventDto == null) {
+                continue;
+            }
+
+            try {
+                errorMonitorService.monitorLog(logEventDto);
+                patternDetector.processLog(toLogEntry(logEventDto));
+                recordAlertLatency(alertLatencyTimer, record);
+            } catch (Exception e) {
+                log.error("우선순위 로그 처리 중 오류 발생: partition={}, offset={}, 원인={}",
+                        record.partition(), record.offset(), e.getMessage(), e);
+            }
+        }
+
+        acknowledgment.acknowledge();
+    }
+
+    static LogEntry toLogEntry(LogEventDto logEventDto) {
+        String content = logEventDto.getContent();
+        int size = content != null ? content.getBytes(StandardCharsets.UTF_8).length : 0;
+
+        return LogEntry.builder()
+                .source(logEventDto.getSource())
+                .content(content)
+                .logLevel(logEventDto.getLogLevel())
+                .createdAt(logEventDto.getTimestamp() != null ? logEventDto.getTimestamp() : LocalDateTime.now())
+                .compressed(false)
+                .originalSize(size)
+                .compressedSize(size)
+                .build();
+    }
+
+    static Timer alertLatencyTimer(MeterRegistry meterRegistry, String lane) {
+        return Timer.builder("logpulse.alert.ingest.latency")
+                .tag("lane", lane)
+                .description("Kafka 기록 시각부터 알림 판단까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 레코드 타임스탬프(프로듀서 생성 시각) 기준 지연 기록
+     */
+    static void recordAlertLatency(Timer timer, ConsumerRecord<?, ?> record) {
+        if (record.timestamp() > 0) {
+            timer.record(Math.max(0, System.currentTimeMillis() - record.timestamp()), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.tenacy.logpulse.service;
 
+import com.tenacy.logpulse.api.dto.SystemMetricsResponse;
 import com.tenacy.logpulse.domain.LogRepository;
+import com.tenacy.logpulse.domain.RollupResolution;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +11,9 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -17,6 +22,7 @@ import java.util.concurrent.atomic.AtomicLong;
 @Slf4j
 public class SystemMetricsService {
 
+    private final LogRollupService logRollupService;
     private final LogRepository logRepository;
     private final MeterRegistry meterRegistry;
 
@@ -37,7 +43,9 @@ public class SystemMetricsService {
     private LocalDateTime lastAggregationTime = LocalDateTime.now();
 
     @Autowired
-    public SystemMetricsService(LogRepository logRepository, MeterRegistry meterRegistry) {
+    public SystemMetricsService(LogRollupService logRollupService, LogRepository logRepository,
+                                MeterRegistry meterRegistry) {
+        this.logRollupService = logRollupService;
         this.logRepository = logRepository;
         this.meterRegistry = meterRegistry;
 
@@ -127,6 +135,18 @@ public class SystemMetricsService {
         return count > 0 ? (int)(sum / count) : 0;
     }
 
+    public SystemMetricsResponse getCurrentMetrics() {
+        return SystemMetricsResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .currentProcessedRate(getCurrentProcessedRate())
+                .averageProcessedRate(getAverageProcessedRate())
+                .currentErrorRate(getCurrentErrorRate())
+                .averageErrorRate(getAverageErrorRate())
+                .currentResponseTime(getCurrentAvgResponseTime())
+                .averageResponseTime(getAverageResponseTime())
+                .build();
+    }
+
     @Scheduled(fixedRate = 60000) // 1분마다 실행
     public void aggregateMinuteMetrics() {
         // 현재 값 기록
@@ -155,24 +175,43 @@ public class SystemMetricsService {
 
     public void loadInitialMetrics() {
         try {
-            // 최근 10분 동안의 로그 처리량과 오류율 집계
-            LocalDateTime now = LocalDateTime.now();
+            // 최근 10분 동안의 로그 처리량과 오류율 집계 (분 단위 집계 한 번 조회)
+            LocalDateTime currentMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+            LocalDateTime windowStart = currentMinute.minusMinutes(10);
+            List<Object[]> rows = logRollupService.findBucketLevelCounts(
+                    windowStart, currentMinute, RollupResolution.MINUTE);
+
+            // 분 단위 집계는 log_statistics로 채울 수 없으므로, 집계 테이블 도입 직후처럼 비어 있으면 원본에서 한 번에 집계
+            if (rows.isEmpty()) {
+                rows = new ArrayList<>();
+                for (Object[] row : logRepository.countByMinuteAndLevel(windowStart, currentMinute)) {
+                    rows.add(new Object[]{windowStart.plusMinutes(((Number) row[0]).longValue()), row[1], row[2]});
+                }
+            }
 
             for (int i = 0; i < 10; i++) {
-                LocalDateTime minuteStart = now.minusMinutes(i + 1);
-                LocalDateTime minuteEnd = now.minusMinutes(i);
-
-                long processed = logRepository.countByCreatedAtBetween(minuteStart, minuteEnd);
-                long errors = logRepository.countByLogLevelAndCreatedAtBetween("ERROR", minuteStart, minuteEnd);
-
                 int index = (currentMinuteIndex - i - 1 + 10) % 10;
-                processedLogsPerMinute[index] = processed;
-                errorLogsPerMinute[index] = errors;
+                processedLogsPerMinute[index] = 0;
+                errorLogsPerMinute[index] = 0;
 
                 // 응답 시간은 추정치 (실제 로그에 포함되어 있지 않으므로)
                 avgResponseTimePerMinute[index] = 50; // 기본값 50ms
             }
 
+            for (Object[] row : rows) {
+                int minutesAgo = (int) ChronoUnit.MINUTES.between((LocalDateTime) row[0], currentMinute);
+                if (minutesAgo < 1 || minutesAgo > 10) {
+                    continue;
+                }
+
+                int index = (currentMinuteIndex - minutesAgo + 10) % 10;
+                long count = ((Number) row[2]).longValue();
+                processedLogsPerMinute[index] += count;
+                if ("ERROR".equalsIgnoreCase((String) row[1])) {
+                    errorLogsPerMinute[index] += count;
+                }
+            }
+
             log.info("초기 메트릭 로드 완료 - 최근 평균 처리량: {}/분, 평균 오류율: {}%",
                     getAverageProcessedRate(), String.format("%.2f", getAverageErrorRate()));
 
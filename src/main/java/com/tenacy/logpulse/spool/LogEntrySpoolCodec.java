@@ -0,0 +1,116 @@
+package com.tenacy.logpulse.spool;
+
+import com.tenacy.logpulse.domain.LogEntry;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * JDBC 스풀 레코드 형식 (압축까지 끝난 LogEntry를 그대로 보관해 재처리 시 다시 준비하지 않음)
+ *
+ * 값이 없을 수 있는 숫자 필드는 존재 여부 1바이트 뒤에 값이 오고,
+ * 문자열과 바이트 배열은 길이 4바이트(null이면 -1) 뒤에 내용이 온다.
+ */
+public final class LogEntrySpoolCodec {
+
+    private static final byte VERSION = 1;
+
+    private LogEntrySpoolCodec() {
+    }
+
+    public static byte[] encode(LogEntry entry) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeString(out, entry.getSource());
+            writeString(out, entry.getContent());
+            writeBytes(out, entry.getContentBlob());
+            out.writeBoolean(entry.getCodec() != null);
+            if (entry.getCodec() != null) {
+                out.writeByte(entry.getCodec());
+            }
+            out.writeBoolean(entry.getDictionaryId() != null);
+            if (entry.getDictionaryId() != null) {
+                out.writeLong(entry.getDictionaryId());
+            }
+            writeString(out, entry.getLogLevel());
+            out.writeBoolean(entry.getCreatedAt() != null);
+            if (entry.getCreatedAt() != null) {
+                out.writeLong(entry.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(entry.getCreatedAt().getNano());
+            }
+            out.writeBoolean(Boolean.TRUE.equals(entry.getCompressed()));
+            out.writeInt(entry.getOriginalSize() != null ? entry.getOriginalSize() : -1);
+            out.writeInt(entry.getCompressedSize() != null ? entry.getCompressedSize() : -1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static LogEntry decode(byte[] data) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            byte version = in.readByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("지원하지 않는 스풀 레코드 버전: " + version);
+            }
+
+            LogEntry.LogEntryBuilder builder = LogEntry.builder()
+                    .source(readString(in))
+                    .content(readString(in))
+                    .contentBlob(readBytes(in));
+            if (in.readBoolean()) {
+                builder.codec(in.readByte());
+            }
+            if (in.readBoolean()) {
+                builder.dictionaryId(in.readLong());
+            }
+            builder.logLevel(readString(in));
+            if (in.readBoolean()) {
+                builder.createdAt(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC));
+            }
+            builder.compressed(in.readBoolean());
+            int originalSize = in.readInt();
+            int compressedSize = in.readInt();
+            return builder
+                    .originalSize(originalSize >= 0 ? originalSize : null)
+                    .compressedSize(compressedSize >= 0 ? compressedSize : null)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value != null ? value.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] value) throws IOException {
+        out.writeInt(value != null ? value.length : -1);
+        if (value != null) {
+            out.write(value);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] value = readBytes(in);
+        return value != null ? new String(value, StandardCharsets.UTF_8) : null;
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        in.readFully(value);
+        return value;
+    }
+}
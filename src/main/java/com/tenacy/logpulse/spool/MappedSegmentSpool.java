@@ -0,0 +1,284 @@
+package com.tenacy.logpulse.spool;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 메모리 매핑 세그먼트 파일 기반의 로컬 선기록(write-ahead) 스풀
+ *
+ * - 세그먼트: 고정 크기(segment-bytes) 파일을 매핑하고 [길이 4B][CRC32 4B][데이터] 레코드를 이어 쓴다.
+ *   파일은 0으로 채워져 있으므로 길이 0 또는 CRC 불일치 위치가 세그먼트의 끝이다.
+ * - 커서: 재처리가 확인된 위치(세그먼트 id, 위치)를 cursor 파일에 기록하고, 다 읽은 세그먼트는 삭제한다.
+ * - 세그먼트 수가 max-segments에 도달하면 더 받지 않으므로 디스크 사용량은 segment-bytes * max-segments로 제한된다.
+ *
+ * 기록은 매핑된 페이지 캐시에 남으므로 프로세스 장애에는 유실되지 않으며, OS 장애에 대비한 디스크 동기화는
+ * 세그먼트 전환과 종료 시에만 수행한다. 재시작하면 커서 이후의 레코드부터 다시 읽는다.
+ */
+@Slf4j
+public class MappedSegmentSpool implements Closeable {
+
+    private static final int RECORD_HEADER = 8;
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String CURSOR_FILE = "cursor";
+
+    private final Path directory;
+    private final int segmentBytes;
+    private final int maxSegments;
+    private final TreeMap<Long, MappedByteBuffer> segments = new TreeMap<>();
+    private final MappedByteBuffer cursor;
+
+    private long writeSegmentId;
+    private int writePosition;
+    private long readSegmentId;
+    private int readPosition;
+    private long pendingRecords;
+    private long pendingBytes;
+
+    public MappedSegmentSpool(Path directory, int segmentBytes, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = Math.max(1, maxSegments);
+
+        Files.createDirectories(directory);
+        cursor = map(directory.resolve(CURSOR_FILE), 12);
+        recover();
+    }
+
+    /**
+     * 레코드를 모두 기록하거나, 용량이 부족하면 하나도 기록하지 않고 false
+     */
+    public synchronized boolean appendAll(List<byte[]> records) {
+        int position = writePosition;
+        int newSegments = 0;
+        for (byte[] record : records) {
+            int size = RECORD_HEADER + record.length;
+            if (size > segmentBytes) {
+                return false;
+            }
+            if (position + size > segmentBytes) {
+                newSegments++;
+                position = 0;
+            }
+            position += size;
+        }
+        if (segments.size() + newSegments > maxSegments) {
+            return false;
+        }
+
+        try {
+            for (byte[] record : records) {
+                int size = RECORD_HEADER + record.length;
+                if (writePosition + size > segmentBytes) {
+                    segments.get(writeSegmentId).force();
+                    openSegment(writeSegmentId + 1);
+                }
+
+                MappedByteBuffer segment = segments.get(writeSegmentId);
+                segment.putInt(writePosition + 4, crc(record, 0, record.length));
+                segment.put(writePosition + RECORD_HEADER, record);
+                // 길이를 마지막에 기록해 중간에 끊긴 레코드는 읽히지 않도록 함
+                segment.putInt(writePosition, record.length);
+                writePosition += size;
+                pendingRecords++;
+                pendingBytes += size;
+            }
+        } catch (IOException e) {
+            log.error("스풀 세그먼트 생성 실패 ({}): {}", directory, e.getMessage());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 커서 이후의 레코드를 최대 maxRecords개 읽음 (커서는 acknowledge 전까지 이동하지 않음)
+     */
+    public synchronized Batch peek(int maxRecords) {
+        List<byte[]> records = new ArrayList<>();
+        long segmentId = readSegmentId;
+        int position = readPosition;
+        long bytes = 0;
+
+        while (records.size() < maxRecords) {
+            MappedByteBuffer segment = segments.get(segmentId);
+            int limit = segmentId == writeSegmentId ? writePosition : segmentBytes;
+            byte[] record = segment != null ? readRecord(segment, position, limit) : null;
+
+            if (record == null) {
+                Long next = segments.higherKey(segmentId);
+                if (next == null) {
+                    break;
+                }
+                segmentId = next;
+                position = 0;
+                continue;
+            }
+
+            records.add(record);
+            position += RECORD_HEADER + record.length;
+            bytes += RECORD_HEADER + record.length;
+        }
+
+        return new Batch(records, segmentId, position, bytes);
+    }
+
+    /**
+     * peek으로 읽은 배치까지 처리 완료로 기록하고 다 읽은 세그먼트 삭제
+     */
+    public synchronized void acknowledge(Batch batch) {
+        if (batch.getRecords().isEmpty()) {
+            return;
+        }
+
+        readSegmentId = batch.getEndSegmentId();
+        readPosition = batch.getEndPosition();
+        pendingRecords = Math.max(0, pendingRecords - batch.getRecords().size());
+        pendingBytes = Math.max(0, pendingBytes - batch.getBytes());
+        cursor.putLong(0, readSegmentId).putInt(8, readPosition);
+
+        while (!segments.isEmpty() && segments.firstKey() < readSegmentId) {
+            deleteSegment(segments.firstKey());
+        }
+    }
+
+    public synchronized long getPendingRecords() {
+        return pendingRecords;
+    }
+
+    public synchronized long getPendingBytes() {
+        return pendingBytes;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    public long getCapacityBytes() {
+        return (long) segmentBytes * maxSegments;
+    }
+
+    @Override
+    public synchronized void close() {
+        segments.values().forEach(MappedByteBuffer::force);
+        cursor.force();
+    }
+
+    private void recover() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX)).toList()) {
+                String name = file.getFileName().toString();
+                long id = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+                segments.put(id, map(file, segmentBytes));
+            }
+        }
+
+        if (segments.isEmpty()) {
+            long next = cursor.getLong(0);
+            openSegment(next);
+            readSegmentId = next;
+            readPosition = 0;
+            return;
+        }
+
+        readSegmentId = cursor.getLong(0);
+        readPosition = cursor.getInt(8);
+        if (!segments.containsKey(readSegmentId)) {
+            readSegmentId = segments.firstKey();
+            readPosition = 0;
+        }
+        while (segments.firstKey() < readSegmentId) {
+            deleteSegment(segments.firstKey());
+        }
+
+        // 커서 이후 레코드 수와 마지막 세그먼트의 기록 위치 복구
+        writeSegmentId = segments.lastKey();
+        for (Map.Entry<Long, MappedByteBuffer> entry : segments.entrySet()) {
+            int position = entry.getKey() == readSegmentId ? readPosition : 0;
+            byte[] record;
+            while ((record = readRecord(entry.getValue(), position, segmentBytes)) != null) {
+                position += RECORD_HEADER + record.length;
+                pendingRecords++;
+                pendingBytes += RECORD_HEADER + record.length;
+            }
+            if (entry.getKey() == writeSegmentId) {
+                writePosition = position;
+            }
+        }
+
+        log.info("스풀 복구 ({}): 세그먼트 {}개, 미처리 레코드 {}개", directory, segments.size(), pendingRecords);
+    }
+
+    private byte[] readRecord(MappedByteBuffer segment, int position, int limit) {
+        if (position + RECORD_HEADER > limit) {
+            return null;
+        }
+
+        int length = segment.getInt(position);
+        if (length <= 0 || position + RECORD_HEADER + length > limit) {
+            return null;
+        }
+
+        byte[] record = new byte[length];
+        segment.get(position + RECORD_HEADER, record);
+        if (crc(record, 0, length) != segment.getInt(position + 4)) {
+            log.warn("스풀 레코드 손상 ({}), 세그먼트의 나머지 건너뜀", directory);
+            return null;
+        }
+        return record;
+    }
+
+    private void openSegment(long id) throws IOException {
+        segments.put(id, map(segmentPath(id), segmentBytes));
+        writeSegmentId = id;
+        writePosition = 0;
+    }
+
+    private void deleteSegment(long id) {
+        segments.remove(id);
+        try {
+            Files.deleteIfExists(segmentPath(id));
+        } catch (IOException e) {
+            log.warn("스풀 세그먼트 삭제 실패 ({}): {}", segmentPath(id), e.getMessage());
+        }
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%020d%s", id, SEGMENT_SUFFIX));
+    }
+
+    private static MappedByteBuffer map(Path file, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private static int crc(byte[] data, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        return (int) crc.getValue();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Batch {
+        private final List<byte[]> records;
+        private final long endSegmentId;
+        private final int endPosition;
+        private final long bytes;
+    }
+}
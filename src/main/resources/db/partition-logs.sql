@@ -0,0 +1,60 @@
+-- logs / log_archives 테이블을 created_at 일 단위 RANGE 파티션으로 변환하는 오프라인 마이그레이션
+--
+-- 테이블 전체를 재구성하므로 애플리케이션을 내린 점검 시간에 한 번만 실행한다.
+--   mysql -u <user> -p <database> < partition-logs.sql
+-- 변환 후 애플리케이션을 logpulse.partition.enabled=true로 기동하면 이후 파티션 생성과 만료 파티션 제거를 이어서 수행한다.
+-- 보관 기간과 사전 생성 일수는 logpulse.cleanup.*-retention-days, logpulse.partition.precreate-days와 맞춘다.
+-- 파티션 이름 규칙(p_old, pYYYYMMDD, p_max)은 LogPartitionService와 같다.
+
+SET @logs_retention_days = 90;
+SET @archive_retention_days = 365;
+SET @precreate_days = 7;
+
+SET SESSION group_concat_max_len = 1048576;
+SET SESSION cte_max_recursion_depth = 10000;
+
+-- logs
+SET @first_day = CURDATE() - INTERVAL @logs_retention_days DAY;
+WITH RECURSIVE days (day) AS (
+    SELECT @first_day
+    UNION ALL
+    SELECT day + INTERVAL 1 DAY FROM days WHERE day < CURDATE() + INTERVAL @precreate_days DAY
+)
+SELECT CONCAT(
+           'ALTER TABLE logs MODIFY created_at DATETIME(6) NOT NULL, ',
+           'DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at) ',
+           'PARTITION BY RANGE COLUMNS(created_at) (',
+           'PARTITION p_old VALUES LESS THAN (''', @first_day, ' 00:00:00''), ',
+           GROUP_CONCAT(CONCAT('PARTITION p', DATE_FORMAT(day, '%Y%m%d'),
+                               ' VALUES LESS THAN (''', day + INTERVAL 1 DAY, ' 00:00:00'')')
+                        ORDER BY day SEPARATOR ', '),
+           ', PARTITION p_max VALUES LESS THAN (MAXVALUE))')
+INTO @ddl
+FROM days;
+
+PREPARE partition_stmt FROM @ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
+
+-- log_archives
+SET @first_day = CURDATE() - INTERVAL @archive_retention_days DAY;
+WITH RECURSIVE days (day) AS (
+    SELECT @first_day
+    UNION ALL
+    SELECT day + INTERVAL 1 DAY FROM days WHERE day < CURDATE() + INTERVAL @precreate_days DAY
+)
+SELECT CONCAT(
+           'ALTER TABLE log_archives MODIFY created_at DATETIME(6) NOT NULL, ',
+           'DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at) ',
+           'PARTITION BY RANGE COLUMNS(created_at) (',
+           'PARTITION p_old VALUES LESS THAN (''', @first_day, ' 00:00:00''), ',
+           GROUP_CONCAT(CONCAT('PARTITION p', DATE_FORMAT(day, '%Y%m%d'),
+                               ' VALUES LESS THAN (''', day + INTERVAL 1 DAY, ' 00:00:00'')')
+                        ORDER BY day SEPARATOR ', '),
+           ', PARTITION p_max VALUES LESS THAN (MAXVALUE))')
+INTO @ddl
+FROM days;
+
+PREPARE partition_stmt FROM @ddl;
+EXECUTE partition_stmt;
+DEALLOCATE PREPARE partition_stmt;
@@ -0,0 +1,107 @@
+package com.tenacy.logpulse.compression;
+
+import com.tenacy.logpulse.compression.impl.GzipCodec;
+import com.tenacy.logpulse.compression.impl.Lz4Codec;
+import com.tenacy.logpulse.compression.impl.ZstdCodec;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CompressionCodecTest {
+
+    private static final int MAX_DECOMPRESSED_SIZE = 64 * 1024;
+
+    private final List<CompressionCodec> codecs = List.of(new GzipCodec(6, 2, MAX_DECOMPRESSED_SIZE),
+            new Lz4Codec(MAX_DECOMPRESSED_SIZE), new ZstdCodec(3, 2, MAX_DECOMPRESSED_SIZE));
+
+    @Test
+    @DisplayName("모든 코덱은 압축 결과만으로 원본 복원")
+    void codecs_ShouldRoundTrip() throws Exception {
+        // given
+        byte[] original = "2024-03-15 10:30:45 ERROR [payment] 결제 승인 실패: timeout\n".repeat(200)
+                .getBytes(StandardCharsets.UTF_8);
+
+        for (CompressionCodec codec : codecs) {
+            // when - 풀에서 재사용되는 압축기로 여러 번 압축
+            byte[] first = codec.compress(original);
+            byte[] second = codec.compress(original);
+
+            // then
+            assertTrue(first.length < original.length, codec.getCodec() + " 압축 결과가 원본보다 작아야 함");
+            assertArrayEquals(first, second, codec.getCodec() + " 재사용된 압축기의 결과가 같아야 함");
+            assertArrayEquals(original, codec.decompress(first), codec.getCodec() + " 원본과 같아야 함");
+        }
+    }
+
+    @Test
+    @DisplayName("gzip 코덱은 GZIPOutputStream으로 저장된 이전 데이터도 해제")
+    void gzip_ShouldReadStreamFormat() throws Exception {
+        // given
+        byte[] original = "이전에 저장된 gzip 로그".repeat(50).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+            gzipOut.write(original);
+        }
+
+        // when
+        byte[] restored = new GzipCodec(6, 2, MAX_DECOMPRESSED_SIZE).decompress(baos.toByteArray());
+
+        // then
+        assertArrayEquals(original, restored);
+    }
+
+    @Test
+    @DisplayName("저장된 원본 길이가 상한을 넘으면 버퍼를 만들지 않고 IOException")
+    void codecs_ShouldRejectOversizedLengthHeader() throws Exception {
+        // given
+        byte[] oversized = "x".repeat(MAX_DECOMPRESSED_SIZE + 1).getBytes(StandardCharsets.UTF_8);
+
+        for (CompressionCodec codec : codecs) {
+            byte[] compressed = codec.compress(oversized);
+
+            // when & then
+            assertThrows(IOException.class, () -> codec.decompress(compressed), codec.getCodec() + " 상한 초과 거부");
+        }
+    }
+
+    @Test
+    @DisplayName("LZ4 길이 헤더가 음수이거나 데이터와 맞지 않으면 IOException")
+    void lz4_ShouldRejectCorruptLengthHeader() {
+        // given
+        Lz4Codec codec = new Lz4Codec(MAX_DECOMPRESSED_SIZE);
+        byte[] negative = {(byte) 0x80, 0, 0, 0, 0};
+        byte[] compressed = codec.compress("짧은 로그".getBytes(StandardCharsets.UTF_8));
+        compressed[3]++;
+
+        // when & then
+        assertThrows(IOException.class, () -> codec.decompress(negative));
+        assertThrows(IOException.class, () -> codec.decompress(compressed));
+    }
+
+    @Test
+    @DisplayName("추가 헤더가 있는 gzip 스트림도 상한까지만 해제")
+    void gzip_ShouldBoundStreamFormat() throws Exception {
+        // given
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+            gzipOut.write(new byte[MAX_DECOMPRESSED_SIZE + 1]);
+        }
+        byte[] data = baos.toByteArray();
+        data[3] = 0x08; // FNAME 플래그
+        byte[] withName = new byte[data.length + 2];
+        System.arraycopy(data, 0, withName, 0, 10);
+        withName[10] = 'a';
+        withName[11] = 0;
+        System.arraycopy(data, 10, withName, 12, data.length - 10);
+
+        // when & then
+        assertThrows(IOException.class, () -> new GzipCodec(6, 2, MAX_DECOMPRESSED_SIZE).decompress(withName));
+    }
+}
@@ -0,0 +1,197 @@
+package com.tenacy.logpulse.infra;
+
+import com.tenacy.logpulse.domain.LogEntry;
+import com.tenacy.logpulse.service.LogRollupService;
+import com.tenacy.logpulse.service.LogStatisticsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 다섯 컨슈머가 같은 통계 키를 동시에 갱신해도 행이 중복되지 않고 count가 정확한지 검증
+ * (바로 upsert하는 경우와, 메모리에 누적하며 반영 스레드가 동시에 flush하는 경우)
+ */
+@Testcontainers
+public class LogStatisticsUpsertConcurrencyTest {
+
+    private static final int CONSUMERS = 5;
+    private static final int BATCHES_PER_CONSUMER = 40;
+    private static final int BATCH_SIZE = 200;
+    private static final String[] SOURCES = {"api-server", "auth-service", "batch-worker"};
+    private static final String[] LEVELS = {"INFO", "WARN", "ERROR"};
+
+    @Container
+    static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("logpulse_test")
+            .withUsername("root")
+            .withPassword("1234");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static DataSourceTransactionManager transactionManager;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                mysqlContainer.getJdbcUrl(), mysqlContainer.getUsername(), mysqlContainer.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE log_statistics (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, log_date DATE, hour INT, source VARCHAR(255), " +
+                "log_level VARCHAR(255), count INT, created_at DATETIME(6), updated_at DATETIME(6), " +
+                "UNIQUE KEY uk_log_stats_key (log_date, hour, source, log_level))");
+        jdbcTemplate.execute("CREATE TABLE log_rollups (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, resolution VARCHAR(10) NOT NULL, bucket_start DATETIME(6) NOT NULL, " +
+                "source VARCHAR(255), log_level VARCHAR(255), count BIGINT, updated_at DATETIME(6), " +
+                "UNIQUE KEY uk_log_rollups_key (resolution, bucket_start, source, log_level))");
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @BeforeEach
+    void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE log_statistics");
+        jdbcTemplate.execute("TRUNCATE TABLE log_rollups");
+    }
+
+    @Test
+    @DisplayName("다섯 컨슈머 동시 갱신 - 키당 한 행, 합계 정확")
+    void batchUpdateStatistics_ShouldBeExactUnderConcurrency() throws Exception {
+        LogStatisticsService service = createService();
+        ReflectionTestUtils.setField(service, "writeBehindEnabled", false);
+
+        runConsumersAndVerify(service, () -> {
+        });
+    }
+
+    @Test
+    @DisplayName("write-behind - 컨슈머 누적 중 반영 스레드가 계속 flush해도 키당 한 행, 합계 정확")
+    void writeBehind_ShouldBeExactUnderConcurrentFlushes() throws Exception {
+        LogStatisticsService service = createService();
+        ReflectionTestUtils.setField(service, "writeBehindEnabled", true);
+        ReflectionTestUtils.setField(service, "maxPending", 5_000L);
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread flusher = new Thread(() -> {
+            while (running.get()) {
+                service.flush();
+            }
+        });
+        flusher.start();
+
+        runConsumersAndVerify(service, () -> {
+            running.set(false);
+            flusher.join();
+            service.flush();
+        });
+    }
+
+    private LogStatisticsService createService() {
+        // 2024년 데이터도 집계 테이블에 반영되도록 보관 기간을 충분히 길게 설정
+        LogRollupService rollupService = new LogRollupService(jdbcTemplate, null);
+        ReflectionTestUtils.setField(rollupService, "minuteRetentionHours", 1_000_000L);
+        ReflectionTestUtils.setField(rollupService, "hourRetentionDays", 100_000L);
+        ReflectionTestUtils.setField(rollupService, "dayRetentionDays", 100_000L);
+        return new LogStatisticsService(jdbcTemplate, rollupService, transactionManager, new SimpleMeterRegistry());
+    }
+
+    private void runConsumersAndVerify(LogStatisticsService service, Finisher finisher) throws Exception {
+        // given
+        LocalDateTime base = LocalDateTime.of(2024, 3, 15, 9, 0);
+        Map<String, Integer> expected = new HashMap<>();
+        List<List<List<LogEntry>>> work = new ArrayList<>();
+
+        for (int consumer = 0; consumer < CONSUMERS; consumer++) {
+            List<List<LogEntry>> batches = new ArrayList<>();
+            for (int b = 0; b < BATCHES_PER_CONSUMER; b++) {
+                List<LogEntry> batch = new ArrayList<>();
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    int n = consumer + b + i;
+                    LogEntry entry = LogEntry.builder()
+                            .source(SOURCES[n % SOURCES.length])
+                            .logLevel(LEVELS[(n / SOURCES.length) % LEVELS.length])
+                            .createdAt(base.plusHours(n % 4))
+                            .build();
+                    batch.add(entry);
+                    expected.merge(key(entry), 1, Integer::sum);
+                }
+                batches.add(batch);
+            }
+            work.add(batches);
+        }
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(CONSUMERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<List<LogEntry>> batches : work) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                batches.forEach(service::batchUpdateStatistics);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(2, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+        finisher.finish();
+
+        // then
+        Map<String, Integer> actual = new HashMap<>();
+        jdbcTemplate.query("SELECT log_date, hour, source, log_level, count FROM log_statistics", rs -> {
+            String key = rs.getDate(1).toLocalDate() + "|" + rs.getInt(2) + "|" + rs.getString(3) + "|" + rs.getString(4);
+            assertTrue(actual.put(key, rs.getInt(5)) == null, "키당 한 행만 있어야 함: " + key);
+        });
+
+        assertEquals(expected, actual);
+        assertEquals(CONSUMERS * BATCHES_PER_CONSUMER * BATCH_SIZE,
+                actual.values().stream().mapToInt(Integer::intValue).sum());
+
+        // 분 / 시간 / 일 단위 합계가 모두 같고, 시간 단위 집계는 log_statistics와 일치
+        for (String resolution : List.of("MINUTE", "HOUR", "DAY")) {
+            Long total = jdbcTemplate.queryForObject(
+                    "SELECT SUM(count) FROM log_rollups WHERE resolution = ?", Long.class, resolution);
+            assertEquals(CONSUMERS * BATCHES_PER_CONSUMER * BATCH_SIZE, total, resolution);
+        }
+        Map<String, Integer> hourly = new HashMap<>();
+        jdbcTemplate.query("SELECT bucket_start, source, log_level, count FROM log_rollups WHERE resolution = 'HOUR'", rs -> {
+            LocalDateTime bucket = rs.getTimestamp(1).toLocalDateTime();
+            hourly.put(bucket.toLocalDate() + "|" + bucket.getHour() + "|" + rs.getString(2) + "|" + rs.getString(3),
+                    rs.getInt(4));
+        });
+        assertEquals(expected, hourly);
+    }
+
+    @FunctionalInterface
+    private interface Finisher {
+        void finish() throws Exception;
+    }
+
+    private String key(LogEntry entry) {
+        return entry.getCreatedAt().toLocalDate() + "|" + entry.getCreatedAt().getHour() + "|" +
+                entry.getSource() + "|" + entry.getLogLevel();
+    }
+}
@@ -0,0 +1,116 @@
+package com.tenacy.logpulse.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LogEventSerdeTest {
+
+    private ObjectMapper objectMapper;
+    private LogEventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        deserializer = new LogEventDeserializer(objectMapper);
+    }
+
+    @Test
+    @DisplayName("바이너리 형식 왕복 변환 - 나노초 타임스탬프와 비표준 레벨 보존")
+    void binaryRoundTrip_ShouldPreserveAllFields() {
+        // given
+        LogEventDto event = LogEventDto.builder()
+                .source("payment-service")
+                .content("결제 처리 완료: orderId=12345")
+                .logLevel("NOTICE")
+                .timestamp(LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_456_789))
+                .build();
+        LogEventSerializer serializer = new LogEventSerializer(objectMapper, LogEventFormat.BINARY);
+        RecordHeaders headers = new RecordHeaders();
+
+        // when
+        byte[] payload = serializer.serialize("raw-logs", headers, event);
+        LogEventDto decoded = deserializer.deserialize("raw-logs", headers, payload);
+
+        // then
+        assertEquals("binary", new String(headers.lastHeader(LogEventFormat.HEADER).value(), StandardCharsets.UTF_8));
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    @DisplayName("바이너리 형식이 JSON보다 작음")
+    void binaryPayload_ShouldBeSmallerThanJson() {
+        // given
+        LogEventDto event = LogEventDto.builder()
+                .source("api-gateway")
+                .content("GET /api/v1/logs 200 12ms")
+                .logLevel("INFO")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        // when
+        byte[] binary = new LogEventSerializer(objectMapper, LogEventFormat.BINARY)
+                .serialize("raw-logs", new RecordHeaders(), event);
+        byte[] json = new LogEventSerializer(objectMapper, LogEventFormat.JSON)
+                .serialize("raw-logs", new RecordHeaders(), event);
+
+        // then
+        assertTrue(binary.length < json.length / 2,
+                "바이너리 " + binary.length + "바이트, JSON " + json.length + "바이트");
+    }
+
+    @Test
+    @DisplayName("null 필드 왕복 변환")
+    void binaryRoundTrip_ShouldPreserveNulls() {
+        // given
+        LogEventDto event = LogEventDto.builder().content("내용만 있는 로그").build();
+        LogEventBinaryCodec codec = new LogEventBinaryCodec();
+
+        // when
+        LogEventDto decoded = codec.decode(codec.encode(event));
+
+        // then
+        assertEquals(event, decoded);
+    }
+
+    @Test
+    @DisplayName("형식 헤더가 없는 레코드는 JSON으로 해석")
+    void deserialize_ShouldTreatMissingHeaderAsJson() {
+        // given
+        byte[] legacyJson = ("{\"source\":\"legacy\",\"content\":\"기존 JSON 레코드\",\"logLevel\":\"WARN\"," +
+                "\"timestamp\":\"2024-03-15T10:30:45\"}").getBytes(StandardCharsets.UTF_8);
+
+        // when
+        LogEventDto decoded = deserializer.deserialize("raw-logs", new RecordHeaders(), legacyJson);
+
+        // then
+        assertEquals("legacy", decoded.getSource());
+        assertEquals("WARN", decoded.getLogLevel());
+        assertEquals(LocalDateTime.of(2024, 3, 15, 10, 30, 45), decoded.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 바이너리 버전은 역직렬화 예외")
+    void deserialize_ShouldRejectUnknownVersion() {
+        // given
+        RecordHeaders headers = new RecordHeaders();
+        headers.add(LogEventFormat.HEADER, LogEventFormat.BINARY.getHeaderValue());
+
+        // when & then
+        assertThrows(SerializationException.class,
+                () -> deserializer.deserialize("raw-logs", headers, new byte[]{99, 0, 1, 1}));
+    }
+}
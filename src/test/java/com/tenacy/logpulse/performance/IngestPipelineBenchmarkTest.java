@@ -0,0 +1,180 @@
+package com.tenacy.logpulse.performance;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.config.IntegrationConfig;
+import com.tenacy.logpulse.integration.LogGateway;
+import com.tenacy.logpulse.integration.filter.LogFilter;
+import com.tenacy.logpulse.integration.router.LogRouter;
+import com.tenacy.logpulse.integration.service.LogServiceActivator;
+import com.tenacy.logpulse.integration.stage.FusedIngestStage;
+import com.tenacy.logpulse.integration.transformer.LogEnricher;
+import com.tenacy.logpulse.service.LogBatchAccumulator;
+import com.tenacy.logpulse.service.LogProducerService;
+import com.tenacy.logpulse.service.LogSpoolService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 채널 체인(LogRouter → LogEnricher → LogFilter → LogServiceActivator)과
+ * 단일 패스 수집 스테이지(FusedIngestStage)의 초당 메시지 처리량 비교
+ * Kafka 전송은 카운터로 대체하여 수집 단계와 배치 누적 비용만 측정한다.
+ */
+@Tag("performance")
+@SpringJUnitConfig(IngestPipelineBenchmarkTest.BenchmarkConfig.class)
+@TestPropertySource(properties = "logpulse.filter.min-level=DEBUG")
+public class IngestPipelineBenchmarkTest {
+
+    private static final int WARMUP_EVENTS = 20_000;
+    private static final int MEASURED_EVENTS = 200_000;
+    private static final int BATCH_SIZE = 500;
+
+    @Autowired
+    private LogGateway logGateway;
+
+    @Autowired
+    private FusedIngestStage fusedIngestStage;
+
+    @Autowired
+    private LogBatchAccumulator logBatchAccumulator;
+
+    @Autowired
+    private CountingLogProducerService producer;
+
+    private List<LogEventDto> events;
+
+    @BeforeEach
+    void setUp() {
+        String[] levels = {"ERROR", "WARN", "INFO", "DEBUG"};
+        events = new ArrayList<>(MEASURED_EVENTS);
+        for (int i = 0; i < MEASURED_EVENTS; i++) {
+            events.add(LogEventDto.builder()
+                    .source("benchmark-" + (i % 8))
+                    .content("benchmark log line " + i)
+                    .logLevel(levels[i % levels.length])
+                    .timestamp(i % 2 == 0 ? LocalDateTime.now() : null)
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("수집 스테이지 처리량 비교 - 채널 체인 vs 단일 패스")
+    void compareChannelChainWithFusedStage() {
+        // 워밍업
+        runChannelChain(events.subList(0, WARMUP_EVENTS));
+        runFusedStage(events.subList(0, WARMUP_EVENTS));
+
+        // 채널 체인 측정
+        logBatchAccumulator.flush();
+        producer.reset();
+        long chainStart = System.nanoTime();
+        runChannelChain(events);
+        logBatchAccumulator.flush();
+        long chainNanos = System.nanoTime() - chainStart;
+        assertEquals(MEASURED_EVENTS, producer.count(), "채널 체인이 모든 이벤트를 전송해야 함");
+
+        // 단일 패스 스테이지 측정
+        producer.reset();
+        long fusedStart = System.nanoTime();
+        runFusedStage(events);
+        logBatchAccumulator.flush();
+        long fusedNanos = System.nanoTime() - fusedStart;
+        assertEquals(MEASURED_EVENTS, producer.count(), "단일 패스 스테이지가 모든 이벤트를 전송해야 함");
+
+        double chainRate = MEASURED_EVENTS / (chainNanos / 1_000_000_000.0);
+        double fusedRate = MEASURED_EVENTS / (fusedNanos / 1_000_000_000.0);
+
+        System.out.printf("채널 체인: %,.0f msg/s, 단일 패스: %,.0f msg/s (%.1f배)%n",
+                chainRate, fusedRate, fusedRate / chainRate);
+    }
+
+    private void runChannelChain(List<LogEventDto> batch) {
+        for (LogEventDto event : batch) {
+            logGateway.processLog(event);
+        }
+    }
+
+    private void runFusedStage(List<LogEventDto> batch) {
+        for (int i = 0; i < batch.size(); i += BATCH_SIZE) {
+            fusedIngestStage.process(batch.subList(i, Math.min(i + BATCH_SIZE, batch.size())));
+        }
+    }
+
+    @Configuration
+    @Import({IntegrationConfig.class, LogRouter.class, LogEnricher.class, LogFilter.class,
+            LogServiceActivator.class, FusedIngestStage.class, LogBatchAccumulator.class})
+    static class BenchmarkConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public CountingLogProducerService logProducerService() {
+            return new CountingLogProducerService();
+        }
+
+        @Bean
+        public LogSpoolService logSpoolService() {
+            return mock(LogSpoolService.class);
+        }
+
+        @Bean
+        public Executor spoolWriteExecutor() {
+            return Runnable::run;
+        }
+    }
+
+    static class CountingLogProducerService extends LogProducerService {
+
+        private final AtomicLong sent = new AtomicLong();
+
+        CountingLogProducerService() {
+            super(null, null, null, Runnable::run, new SimpleMeterRegistry());
+        }
+
+        @Override
+        public void sendLogEvent(LogEventDto logEventDto) {
+            sent.incrementAndGet();
+        }
+
+        @Override
+        public List<CompletableFuture<SendResult<String, LogEventDto>>> sendLogEvents(List<LogEventDto> logEvents) {
+            sent.addAndGet(logEvents.size());
+            List<CompletableFuture<SendResult<String, LogEventDto>>> futures = new ArrayList<>(logEvents.size());
+            for (int i = 0; i < logEvents.size(); i++) {
+                futures.add(CompletableFuture.completedFuture(null));
+            }
+            return futures;
+        }
+
+        long count() {
+            return sent.get();
+        }
+
+        void reset() {
+            sent.set(0);
+        }
+    }
+}
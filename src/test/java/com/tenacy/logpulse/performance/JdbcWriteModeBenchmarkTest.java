@@ -0,0 +1,152 @@
+package com.tenacy.logpulse.performance;
+
+import com.tenacy.logpulse.domain.LogEntry;
+import com.tenacy.logpulse.service.AdaptiveBatchService;
+import com.tenacy.logpulse.service.JdbcBatchInsertService;
+import com.tenacy.logpulse.service.JdbcWriteMode;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * logs 테이블 저장 방식별(batch / multi-row / load-data), 샤드 동시 저장 여부별 초당 저장 행 수 비교
+ * batch 방식의 다중 행 변환 효과를 배제하기 위해 rewriteBatchedStatements 없이 연결한다.
+ */
+@Tag("performance")
+@Testcontainers
+public class JdbcWriteModeBenchmarkTest {
+
+    private static final int WARMUP_ROWS = 5_000;
+    private static final int MEASURED_ROWS = 100_000;
+    private static final int CHUNK_SIZE = 1_000;
+
+    @Container
+    static MySQLContainer<?> mysqlContainer = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("logpulse_test")
+            .withUsername("root")
+            .withPassword("1234")
+            .withCommand("--local-infile=1");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static DataSourceTransactionManager transactionManager;
+    private static ThreadPoolTaskExecutor writerExecutor;
+    private static List<LogEntry> entries;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                mysqlContainer.getJdbcUrl() + "?allowLoadLocalInfile=true",
+                mysqlContainer.getUsername(), mysqlContainer.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        writerExecutor = new ThreadPoolTaskExecutor();
+        writerExecutor.setCorePoolSize(4);
+        writerExecutor.setMaxPoolSize(4);
+        writerExecutor.setQueueCapacity(4);
+        writerExecutor.setThreadNamePrefix("jdbc-writer-bench-");
+        writerExecutor.initialize();
+        jdbcTemplate.execute("CREATE TABLE logs (" +
+                "id BIGINT AUTO_INCREMENT PRIMARY KEY, source VARCHAR(255), content TEXT, content_blob MEDIUMBLOB, " +
+                "codec TINYINT, dictionary_id BIGINT, log_level VARCHAR(255), " +
+                "created_at DATETIME(6), compressed BIT(1), original_size INT, compressed_size INT, " +
+                "INDEX idx_logs_log_level (log_level), INDEX idx_logs_source (source), " +
+                "INDEX idx_logs_created_at (created_at))");
+
+        String[] levels = {"ERROR", "WARN", "INFO", "DEBUG"};
+        entries = new ArrayList<>(MEASURED_ROWS);
+        for (int i = 0; i < MEASURED_ROWS; i++) {
+            String content = "GET /api/v1/logs?page=" + i + "\tstatus=200 elapsed=" + (i % 97) + "ms user=\"u" + i + "\"";
+            entries.add(LogEntry.builder()
+                    .source("benchmark-" + (i % 8))
+                    .content(content)
+                    .logLevel(levels[i % levels.length])
+                    .createdAt(LocalDateTime.now())
+                    .compressed(false)
+                    .originalSize(content.length())
+                    .compressedSize(content.length())
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("저장 방식별 처리량 비교 - batch vs multi-row vs load-data")
+    void compareWriteModes() {
+        Map<JdbcWriteMode, Double> rowsPerSecond = new LinkedHashMap<>();
+
+        for (JdbcWriteMode mode : JdbcWriteMode.values()) {
+            JdbcBatchInsertService service = service(mode, 1);
+            rowsPerSecond.put(mode, measure(service));
+            assertEquals(mode, service.getWriteMode(), mode.getValue() + " 방식이 다른 방식으로 전환되지 않아야 함");
+        }
+
+        System.out.println("===== JDBC 저장 방식 처리량 (" + MEASURED_ROWS + "행, 청크 " + CHUNK_SIZE + ") =====");
+        rowsPerSecond.forEach((mode, rate) ->
+                System.out.printf("%-10s: %,.0f rows/s (batch 대비 %.1f배)%n",
+                        mode.getValue(), rate, rate / rowsPerSecond.get(JdbcWriteMode.BATCH)));
+    }
+
+    @Test
+    @DisplayName("샤드 동시 저장 처리량 비교 - 단일 커넥션 vs 4개 커넥션")
+    void compareSerialWithShardedWriters() {
+        double serial = measure(service(JdbcWriteMode.MULTI_ROW, 1));
+        double sharded = measure(service(JdbcWriteMode.MULTI_ROW, 4));
+
+        System.out.println("===== multi-row 샤드 동시 저장 처리량 (" + MEASURED_ROWS + "행, 청크 " + CHUNK_SIZE + ") =====");
+        System.out.printf("writers=1: %,.0f rows/s%n", serial);
+        System.out.printf("writers=4: %,.0f rows/s (%.1f배)%n", sharded, sharded / serial);
+    }
+
+    private double measure(JdbcBatchInsertService service) {
+        // 워밍업
+        write(service, entries.subList(0, WARMUP_ROWS));
+        jdbcTemplate.execute("TRUNCATE TABLE logs");
+
+        long start = System.nanoTime();
+        write(service, entries);
+        long elapsedNanos = System.nanoTime() - start;
+
+        assertEquals(MEASURED_ROWS, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM logs", Integer.class));
+        jdbcTemplate.execute("TRUNCATE TABLE logs");
+
+        return MEASURED_ROWS / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private void write(JdbcBatchInsertService service, List<LogEntry> rows) {
+        for (int i = 0; i < rows.size(); i += CHUNK_SIZE) {
+            service.batchInsert(rows.subList(i, Math.min(i + CHUNK_SIZE, rows.size())));
+        }
+    }
+
+    private JdbcBatchInsertService service(JdbcWriteMode mode, int writers) {
+        AdaptiveBatchService adaptiveBatchService = mock(AdaptiveBatchService.class);
+        when(adaptiveBatchService.getEffectiveJdbcBatchSize()).thenReturn(CHUNK_SIZE);
+
+        JdbcBatchInsertService service = new JdbcBatchInsertService(jdbcTemplate, adaptiveBatchService,
+                transactionManager, writerExecutor);
+        ReflectionTestUtils.setField(service, "writeModeName", mode.getValue());
+        ReflectionTestUtils.setField(service, "parallelWriters", writers);
+        ReflectionTestUtils.setField(service, "minShardSize", CHUNK_SIZE / 4);
+        ReflectionTestUtils.setField(service, "maxStatementBytes", 4 * 1024 * 1024);
+        service.init();
+        return service;
+    }
+}
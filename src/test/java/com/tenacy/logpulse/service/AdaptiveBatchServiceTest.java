@@ -0,0 +1,99 @@
+package com.tenacy.logpulse.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class AdaptiveBatchServiceTest {
+
+    @Mock
+    private KafkaListenerEndpointRegistry listenerEndpointRegistry;
+    @Mock
+    private ConsumerLagMonitor consumerLagMonitor;
+
+    private AdaptiveBatchService adaptiveBatchService;
+
+    @BeforeEach
+    void setUp() {
+        adaptiveBatchService = new AdaptiveBatchService(listenerEndpointRegistry, consumerLagMonitor);
+        ReflectionTestUtils.setField(adaptiveBatchService, "adaptiveEnabled", true);
+        ReflectionTestUtils.setField(adaptiveBatchService, "initialBatchSize", 1000);
+        ReflectionTestUtils.setField(adaptiveBatchService, "minBatchSize", 100);
+        ReflectionTestUtils.setField(adaptiveBatchService, "maxBatchSize", 2000);
+        ReflectionTestUtils.setField(adaptiveBatchService, "initialJdbcBatchSize", 500);
+        ReflectionTestUtils.setField(adaptiveBatchService, "minJdbcBatchSize", 100);
+        ReflectionTestUtils.setField(adaptiveBatchService, "maxJdbcBatchSize", 2000);
+        ReflectionTestUtils.setField(adaptiveBatchService, "maxFlushIntervalMs", 200L);
+        ReflectionTestUtils.setField(adaptiveBatchService, "lagHigh", 10_000L);
+        ReflectionTestUtils.setField(adaptiveBatchService, "lagLow", 1_000L);
+        ReflectionTestUtils.setField(adaptiveBatchService, "targetSinkLatencyMs", 500L);
+        adaptiveBatchService.init();
+    }
+
+    @Test
+    @DisplayName("지연이 쌓이면 최대값까지 배치를 키움")
+    void adjust_ShouldGrowBatchesWhenBacklogged() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            adaptiveBatchService.adjust(50_000L);
+        }
+
+        // then
+        assertEquals(2000, adaptiveBatchService.getEffectiveBatchSize());
+        assertEquals(2000, adaptiveBatchService.getEffectiveJdbcBatchSize());
+        assertEquals(0, adaptiveBatchService.getFlushIntervalMs());
+    }
+
+    @Test
+    @DisplayName("지연이 해소되면 최소값까지 배치를 줄임")
+    void adjust_ShouldShrinkBatchesWhenCaughtUp() {
+        // when
+        for (int i = 0; i < 5; i++) {
+            adaptiveBatchService.adjust(0L);
+        }
+
+        // then
+        assertEquals(100, adaptiveBatchService.getEffectiveBatchSize());
+        assertEquals(100, adaptiveBatchService.getEffectiveJdbcBatchSize());
+        assertEquals(0, adaptiveBatchService.getFlushIntervalMs());
+    }
+
+    @Test
+    @DisplayName("지연이 없고 저장 단계가 느리면 폴링 간 대기로 쓰기를 모음")
+    void adjust_ShouldIncreaseFlushIntervalWhenSinkIsSlow() {
+        // given
+        adaptiveBatchService.recordSinkLatency(800L);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            adaptiveBatchService.adjust(0L);
+        }
+
+        // then
+        assertEquals(200, adaptiveBatchService.getFlushIntervalMs(), "최대 플러시 간격을 넘지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("저장 단계가 크게 느리면 지연이 쌓여도 JDBC 청크를 키우지 않음")
+    void adjust_ShouldLimitJdbcChunkWhenSinkIsOverloaded() {
+        // given
+        adaptiveBatchService.recordSinkLatency(5_000L);
+
+        // when
+        adaptiveBatchService.adjust(50_000L);
+
+        // then
+        assertEquals(1000, adaptiveBatchService.getEffectiveBatchSize());
+        assertEquals(250, adaptiveBatchService.getEffectiveJdbcBatchSize());
+    }
+}
@@ -0,0 +1,362 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.domain.LogEntry;
+import com.tenacy.logpulse.pattern.LogPatternDetector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class BatchLogConsumerServiceTest {
+
+    @Mock
+    private JdbcBatchInsertService jdbcBatchInsertService;
+    @Mock
+    private LogMetricsService logMetricsService;
+    @Mock
+    private RealTimeErrorMonitorService errorMonitorService;
+    @Mock
+    private LogStatisticsService logStatisticsService;
+    @Mock
+    private LogPatternDetector patternDetector;
+    @Mock
+    private LogCompressionService compressionService;
+    @Mock
+    private SystemMetricsService systemMetricsService;
+    @Mock
+    private DeadLetterService deadLetterService;
+    @Mock
+    private AdaptiveBatchService adaptiveBatchService;
+    @Mock
+    private LogSpoolService logSpoolService;
+    @Mock
+    private LiveDashboardService liveDashboardService;
+    @Mock
+    private Acknowledgment acknowledgment;
+    @Mock
+    private Consumer<?, ?> consumer;
+
+    private ThreadPoolTaskExecutor jdbcSinkExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private BatchLogConsumerService consumerService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcSinkExecutor = executor("jdbc-sink-test-");
+        meterRegistry = new SimpleMeterRegistry();
+
+        consumerService = new BatchLogConsumerService(jdbcBatchInsertService,
+                logMetricsService, errorMonitorService, logStatisticsService, patternDetector,
+                compressionService, systemMetricsService, deadLetterService, adaptiveBatchService, logSpoolService,
+                liveDashboardService, jdbcSinkExecutor,
+                meterRegistry);
+        lenient().when(adaptiveBatchService.getEffectiveBatchSize()).thenReturn(1000);
+        ReflectionTestUtils.setField(consumerService, "maxInFlight", 2);
+        ReflectionTestUtils.setField(consumerService, "rewindBackoffMs", 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcSinkExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("저장 단계가 끝난 뒤에만 오프셋 커밋")
+    void consume_ShouldAcknowledgeAfterSinkCompletes() throws Exception {
+        // given
+        CountDownLatch releaseJdbc = new CountDownLatch(1);
+        doAnswer(inv -> {
+            releaseJdbc.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(jdbcBatchInsertService).batchInsert(anyList());
+
+        // when
+        consumerService.consumeBatchLogEvents(records(3), acknowledgment, consumer);
+
+        // then
+        verify(jdbcBatchInsertService, timeout(2000)).batchInsert(anyList());
+        verify(acknowledgment, after(200).never()).acknowledge();
+
+        releaseJdbc.countDown();
+        verify(acknowledgment, timeout(2000)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("배치 저장 실패 시 실패한 레코드만 데드레터 토픽으로 격리하고 커밋")
+    void consume_ShouldIsolateFailedRecordsWhenBatchInsertFails() {
+        // given
+        List<ConsumerRecord<String, LogEventDto>> records = records(3);
+        ConsumerRecord<String, LogEventDto> poison = records.get(1);
+
+        doAnswer(inv -> {
+            List<LogEntry> entries = inv.getArgument(0);
+            if (entries.stream().anyMatch(e -> e.getContent().equals(poison.value().getContent()))) {
+                throw new RuntimeException("Data too long for column 'content'");
+            }
+            return null;
+        }).when(jdbcBatchInsertService).batchInsert(anyList());
+        when(deadLetterService.publish(any(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        consumerService.consumeBatchLogEvents(records, acknowledgment, consumer);
+
+        // then
+        verify(acknowledgment, timeout(2000)).acknowledge();
+        verify(deadLetterService).publish(eq(poison), eq(DeadLetterService.STAGE_JDBC), any(RuntimeException.class));
+        verify(jdbcBatchInsertService, times(4)).batchInsert(anyList()); // 배치 1회 + 레코드별 3회
+
+        ArgumentCaptor<List<LogEntry>> statsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(logStatisticsService).batchUpdateStatistics(statsCaptor.capture());
+        assertEquals(2, statsCaptor.getValue().size(), "저장에 성공한 레코드만 통계에 반영되어야 함");
+    }
+
+    @Test
+    @DisplayName("MySQL 연결 장애 시 배치를 스풀에 기록하고 데드레터 격리 없이 커밋")
+    void consume_ShouldSpoolBatchWhenDatabaseUnavailable() {
+        // given
+        doThrow(new CannotGetJdbcConnectionException("Communications link failure"))
+                .when(jdbcBatchInsertService).batchInsert(anyList());
+        when(logSpoolService.spoolEntries(anyList())).thenReturn(true);
+
+        // when
+        consumerService.consumeBatchLogEvents(records(3), acknowledgment, consumer);
+
+        // then
+        verify(acknowledgment, timeout(2000)).acknowledge();
+        ArgumentCaptor<List<LogEntry>> spoolCaptor = ArgumentCaptor.forClass(List.class);
+        verify(logSpoolService).spoolEntries(spoolCaptor.capture());
+        assertEquals(3, spoolCaptor.getValue().size());
+        verify(jdbcBatchInsertService, times(1)).batchInsert(anyList());
+        verify(deadLetterService, never()).publish(any(), anyString(), any());
+        verify(logStatisticsService, never()).batchUpdateStatistics(anyList());
+    }
+
+    @Test
+    @DisplayName("일부 샤드만 커밋된 경우 미저장 항목만 레코드 단위로 재시도")
+    void consume_ShouldRetryOnlyUncommittedEntries() {
+        // given
+        doAnswer(inv -> {
+            List<LogEntry> entries = inv.getArgument(0);
+            if (entries.size() > 1) {
+                throw new PartialBatchInsertException(List.of(entries.get(2)), new RuntimeException("shard failed"));
+            }
+            return null;
+        }).when(jdbcBatchInsertService).batchInsert(anyList());
+
+        // when
+        consumerService.consumeBatchLogEvents(records(3), acknowledgment, consumer);
+
+        // then
+        verify(acknowledgment, timeout(2000)).acknowledge();
+        verify(jdbcBatchInsertService, times(2)).batchInsert(anyList()); // 배치 1회 + 미저장 항목 1회
+        verify(deadLetterService, never()).publish(any(), anyString(), any());
+
+        ArgumentCaptor<List<LogEntry>> statsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(logStatisticsService).batchUpdateStatistics(statsCaptor.capture());
+        assertEquals(3, statsCaptor.getValue().size());
+    }
+
+    @Test
+    @DisplayName("역직렬화 실패 레코드는 데드레터 토픽으로 격리하고 나머지는 정상 처리")
+    void consume_ShouldDeadLetterUndeserializableRecords() {
+        // given
+        List<ConsumerRecord<String, LogEventDto>> records = new ArrayList<>(records(2));
+        ConsumerRecord<String, LogEventDto> broken = new ConsumerRecord<>("raw-logs", 0, 2L, "test-source", null);
+        records.add(broken);
+        when(deadLetterService.publish(any(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        consumerService.consumeBatchLogEvents(records, acknowledgment, consumer);
+
+        // then
+        verify(acknowledgment, timeout(2000)).acknowledge();
+        verify(deadLetterService).publish(eq(broken), eq(DeadLetterService.STAGE_DESERIALIZE), isNull());
+
+        ArgumentCaptor<List<LogEntry>> insertCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcBatchInsertService).batchInsert(insertCaptor.capture());
+        assertEquals(2, insertCaptor.getValue().size());
+    }
+
+    @Test
+    @DisplayName("우선순위 레인이 켜져 있으면 ERROR/WARN 알림 판단은 우선순위 컨슈머에 맡김")
+    void consume_ShouldLeavePriorityLevelsToPriorityLane() {
+        // given
+        ReflectionTestUtils.setField(consumerService, "priorityLaneEnabled", true);
+        List<ConsumerRecord<String, LogEventDto>> records = List.of(
+                record(0, "ERROR"), record(1, "WARN"), record(2, "INFO"));
+
+        // when
+        consumerService.consumeBatchLogEvents(records, acknowledgment, consumer);
+
+        // then
+        verify(acknowledgment, timeout(2000)).acknowledge();
+        verify(errorMonitorService, never()).monitorLog(any());
+        ArgumentCaptor<LogEntry> patternCaptor = ArgumentCaptor.forClass(LogEntry.class);
+        verify(patternDetector).processLog(patternCaptor.capture());
+        assertEquals("INFO", patternCaptor.getValue().getLogLevel());
+
+        ArgumentCaptor<List<LogEntry>> insertCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcBatchInsertService).batchInsert(insertCaptor.capture());
+        assertEquals(3, insertCaptor.getValue().size(), "모든 레벨이 MySQL에 저장되어야 함");
+        assertEquals(2, meterRegistry.find("logpulse.alert.ingest.latency").tag("lane", "bulk").timer().count());
+    }
+
+    @Test
+    @DisplayName("데드레터 전송 실패 시 오프셋을 커밋하지 않고 다음 수신에서 배치를 다시 읽음")
+    void consume_ShouldRewindWhenDeadLetterPublishFails() {
+        // given - 미완료 배치를 1개로 제한하여 다음 수신이 앞선 배치의 완료를 기다리도록 함
+        ReflectionTestUtils.setField(consumerService, "maxInFlight", 1);
+        doThrow(new RuntimeException("배치 실패"))
+                .doThrow(new RuntimeException("Data too long"))
+                .doNothing()
+                .when(jdbcBatchInsertService).batchInsert(anyList());
+        when(deadLetterService.publish(any(), eq(DeadLetterService.STAGE_JDBC), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("DLT 브로커 장애")));
+        doReturn(Set.of(new TopicPartition("raw-logs", 0))).when(consumer).assignment();
+
+        // when
+        consumerService.consumeBatchLogEvents(records(2), acknowledgment, consumer);
+        List<ConsumerRecord<String, LogEventDto>> next = List.of(record(5, "INFO"));
+        consumerService.consumeBatchLogEvents(next, acknowledgment, consumer);
+
+        // then
+        verify(acknowledgment, never()).acknowledge();
+        verify(consumer).seek(new TopicPartition("raw-logs", 0), 0L);
+        verify(jdbcBatchInsertService, times(3)).batchInsert(anyList()); // 다음 배치는 처리하지 않고 함께 다시 읽음
+    }
+
+    @Test
+    @DisplayName("리밸런스로 회수된 파티션은 되돌리지 않음")
+    void consume_ShouldNotRewindRevokedPartitions() {
+        // given
+        ReflectionTestUtils.setField(consumerService, "maxInFlight", 1);
+        doThrow(new CannotGetJdbcConnectionException("연결 실패")).when(jdbcBatchInsertService).batchInsert(anyList());
+        when(deadLetterService.publish(any(), eq(DeadLetterService.STAGE_JDBC), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("DLT 브로커 장애")));
+        doReturn(Set.of()).when(consumer).assignment();
+
+        // when - 실패한 배치가 끝나기 전에 파티션 회수, 다음 수신은 다른 파티션
+        consumerService.consumeBatchLogEvents(records(2), acknowledgment, consumer);
+        consumerService.onPartitionsRevoked(List.of(new TopicPartition("raw-logs", 0)));
+        consumerService.consumeBatchLogEvents(List.of(record(5, "INFO")), acknowledgment, consumer);
+
+        // then
+        verify(consumer, never()).seek(any(TopicPartition.class), anyLong());
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("새 레코드가 없어도 유휴 이벤트에서 실패한 배치를 되돌림")
+    void onIdleContainer_ShouldRewindFailedBatches() {
+        // given
+        doThrow(new RuntimeException("배치 실패")).when(jdbcBatchInsertService).batchInsert(anyList());
+        when(deadLetterService.publish(any(), eq(DeadLetterService.STAGE_JDBC), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("DLT 브로커 장애")));
+        ConsumerSeekAware.ConsumerSeekCallback callback = mock(ConsumerSeekAware.ConsumerSeekCallback.class);
+        TopicPartition partition = new TopicPartition("raw-logs", 0);
+
+        // when - 리스너 스레드에서 수신 후 유휴 이벤트 발생
+        consumerService.consumeBatchLogEvents(records(2), acknowledgment, consumer);
+        consumerService.onIdleContainer(Map.of(partition, 2L), callback);
+        consumerService.onIdleContainer(Map.of(partition, 2L), callback);
+
+        // then - 실패를 확인할 때까지 대기한 뒤 한 번만 되돌림
+        verify(callback, times(1)).seek("raw-logs", 0, 0L);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("데드레터 재처리 레코드는 알림 판단을 다시 하지 않음")
+    void consume_ShouldSkipAlertingForReplayedRecords() {
+        // given
+        ReflectionTestUtils.setField(consumerService, "priorityLaneEnabled", false);
+        ConsumerRecord<String, LogEventDto> replayed = record(0, "ERROR");
+        replayed.headers().add(LogProducerService.REPLAY_HEADER, new byte[]{1});
+
+        // when
+        consumerService.consumeBatchLogEvents(List.of(replayed), acknowledgment, consumer);
+
+        // then
+        verify(acknowledgment, timeout(2000)).acknowledge();
+        verify(errorMonitorService, never()).monitorLog(any());
+        verify(patternDetector, never()).processLog(any());
+        verify(jdbcBatchInsertService).batchInsert(anyList());
+    }
+
+    @Test
+    @DisplayName("단계별 대기열 깊이 메트릭 등록")
+    void constructor_ShouldRegisterQueueDepthGauges() {
+        for (String stage : List.of("jdbc", "commit")) {
+            assertNotNull(meterRegistry.find("logpulse.consumer.stage.queue.depth").tag("stage", stage).gauge(),
+                    stage + " 단계 메트릭이 등록되어야 함");
+        }
+    }
+
+    private List<ConsumerRecord<String, LogEventDto>> records(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ConsumerRecord<>("raw-logs", 0, i, "test-source",
+                        LogEventDto.builder()
+                                .source("test-source")
+                                .content("테스트 로그 " + i)
+                                .logLevel("INFO")
+                                .timestamp(LocalDateTime.now())
+                                .build()))
+                .toList();
+    }
+
+    private ConsumerRecord<String, LogEventDto> record(long offset, String level) {
+        return new ConsumerRecord<>("raw-logs", 0, offset, System.currentTimeMillis(), TimestampType.CREATE_TIME,
+                0, 0, "test-source",
+                LogEventDto.builder()
+                        .source("test-source")
+                        .content(level + " 로그 " + offset)
+                        .logLevel(level)
+                        .timestamp(LocalDateTime.now())
+                        .build(),
+                new RecordHeaders(), Optional.empty());
+    }
+
+    private ThreadPoolTaskExecutor executor(String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(4);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.initialize();
+        return executor;
+    }
+}
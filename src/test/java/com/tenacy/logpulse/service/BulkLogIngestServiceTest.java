@@ -0,0 +1,187 @@
+package com.tenacy.logpulse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tenacy.logpulse.api.dto.BulkIngestResponse;
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.integration.stage.IngestResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class BulkLogIngestServiceTest {
+
+    @Mock
+    private IntegrationLogService integrationLogService;
+
+    private BulkLogIngestService bulkLogIngestService;
+
+    private final List<List<LogEventDto>> dispatchedBatches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        bulkLogIngestService = new BulkLogIngestService(integrationLogService, objectMapper);
+        ReflectionTestUtils.setField(bulkLogIngestService, "batchSize", 2);
+        ReflectionTestUtils.setField(bulkLogIngestService, "maxLineLength", 1000);
+        ReflectionTestUtils.setField(bulkLogIngestService, "maxReportedErrors", 10);
+
+        lenient().when(integrationLogService.processLogs(anyList())).thenAnswer(invocation -> {
+            List<LogEventDto> batch = invocation.getArgument(0);
+            dispatchedBatches.add(new ArrayList<>(batch));
+            return new IngestResult(batch.size(), 0);
+        });
+    }
+
+    @Test
+    @DisplayName("NDJSON 벌크 수집 - 배치 단위 전달")
+    void ingest_ShouldDispatchInBatches() {
+        // given
+        String body = """
+                {"source":"api","content":"첫 번째","logLevel":"INFO"}
+                {"source":"api","content":"두 번째","logLevel":"WARN"}
+
+                {"source":"api","content":"세 번째","logLevel":"ERROR"}
+                """;
+
+        // when
+        BulkIngestResponse response = bulkLogIngestService.ingest(toStream(body), false);
+
+        // then
+        assertEquals("success", response.getStatus());
+        assertEquals(3, response.getTotalLines());
+        assertEquals(3, response.getAccepted());
+        assertEquals(0, response.getRejected());
+
+        assertEquals(2, dispatchedBatches.size(), "배치 크기 2 기준으로 두 번 전달되어야 함");
+        assertEquals(2, dispatchedBatches.get(0).size());
+        assertEquals("세 번째", dispatchedBatches.get(1).get(0).getContent());
+    }
+
+    @Test
+    @DisplayName("NDJSON 벌크 수집 - 잘못된 라인은 라인 번호와 함께 거부")
+    void ingest_ShouldRejectMalformedLines() {
+        // given
+        String body = """
+                {"source":"api","content":"정상","logLevel":"INFO"}
+                {"source":"api","content":
+                {"source":"api","logLevel":"INFO"}
+                {"source":"api","content":"부가 필드 허용","logLevel":"INFO","host":"node-1"}
+                """;
+
+        // when
+        BulkIngestResponse response = bulkLogIngestService.ingest(toStream(body), false);
+
+        // then
+        assertEquals("partial", response.getStatus());
+        assertEquals(4, response.getTotalLines());
+        assertEquals(2, response.getAccepted());
+        assertEquals(2, response.getRejected());
+        assertEquals(2, response.getErrors().get(0).getLine());
+        assertEquals(3, response.getErrors().get(1).getLine());
+    }
+
+    @Test
+    @DisplayName("NDJSON 벌크 수집 - gzip 인코딩 본문 처리")
+    void ingest_ShouldDecodeGzipBody() throws IOException {
+        // given
+        String body = """
+                {"source":"api","content":"압축된 요청","logLevel":"INFO"}
+                """;
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(baos)) {
+            gzipOut.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // when
+        BulkIngestResponse response = bulkLogIngestService.ingest(
+                new ByteArrayInputStream(baos.toByteArray()), true);
+
+        // then
+        assertEquals("success", response.getStatus());
+        assertEquals(1, response.getAccepted());
+        verify(integrationLogService, times(1)).processLogs(anyList());
+    }
+
+    @Test
+    @DisplayName("NDJSON 벌크 수집 - 모든 라인 거부 시 실패 상태")
+    void ingest_ShouldReportFailureWhenNothingAccepted() {
+        // given
+        String body = "not-json\n";
+
+        // when
+        BulkIngestResponse response = bulkLogIngestService.ingest(toStream(body), false);
+
+        // then
+        assertEquals("failed", response.getStatus());
+        assertEquals(0, response.getAccepted());
+        verify(integrationLogService, never()).processLogs(anyList());
+    }
+
+    @Test
+    @DisplayName("NDJSON 벌크 수집 - 길이 제한을 넘은 라인은 끝까지 담지 않고 거부")
+    void ingest_ShouldRejectOversizedLineWithoutBufferingIt() {
+        // given
+        String oversized = "{\"source\":\"api\",\"content\":\"" + "x".repeat(50_000) + "\"}";
+        String body = "{\"source\":\"api\",\"content\":\"앞\",\"logLevel\":\"INFO\"}\r\n"
+                + oversized + "\n"
+                + "{\"source\":\"api\",\"content\":\"뒤\",\"logLevel\":\"INFO\"}";
+
+        // when
+        BulkIngestResponse response = bulkLogIngestService.ingest(toStream(body), false);
+
+        // then
+        assertEquals("partial", response.getStatus());
+        assertEquals(3, response.getTotalLines());
+        assertEquals(2, response.getAccepted());
+        assertEquals(1, response.getRejected());
+        assertEquals(2, response.getErrors().get(0).getLine());
+        assertEquals("뒤", dispatchedBatches.get(0).get(1).getContent());
+    }
+
+    @Test
+    @DisplayName("NDJSON 벌크 수집 - 필터로 제외된 이벤트는 수락 건수와 따로 보고")
+    void ingest_ShouldReportFilteredEventsSeparately() {
+        // given
+        when(integrationLogService.processLogs(anyList())).thenReturn(new IngestResult(1, 1));
+        String body = """
+                {"source":"api","content":"저장","logLevel":"ERROR"}
+                {"source":"api","content":"필터링","logLevel":"DEBUG"}
+                """;
+
+        // when
+        BulkIngestResponse response = bulkLogIngestService.ingest(toStream(body), false);
+
+        // then
+        assertEquals("success", response.getStatus());
+        assertEquals(1, response.getAccepted());
+        assertEquals(1, response.getFiltered());
+        assertEquals(0, response.getRejected());
+    }
+
+    private ByteArrayInputStream toStream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
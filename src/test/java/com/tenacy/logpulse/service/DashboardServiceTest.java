@@ -0,0 +1,204 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.DashboardStatsResponse;
+import com.tenacy.logpulse.domain.LogRepository;
+import com.tenacy.logpulse.domain.LogStatisticsRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceTest {
+
+    @Mock
+    private LogRepository logRepository;
+
+    @Mock
+    private LogStatisticsRepository logStatisticsRepository;
+
+    @Mock
+    private LogStatisticsService logStatisticsService;
+
+    @Mock
+    private LogRollupService logRollupService;
+
+    @Mock
+    private SystemMetricsService systemMetricsService;
+
+    @Mock
+    private LogCompressionService compressionService;
+
+    private ThreadPoolTaskExecutor executor;
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(6);
+        executor.setMaxPoolSize(6);
+        executor.setQueueCapacity(32);
+        executor.initialize();
+
+        meterRegistry = new SimpleMeterRegistry();
+        dashboardService = new DashboardService(logRepository, logStatisticsRepository, logStatisticsService,
+                logRollupService, systemMetricsService, compressionService, executor, meterRegistry);
+        ReflectionTestUtils.setField(dashboardService, "rawQueryMaxDays", 30L);
+        ReflectionTestUtils.setField(dashboardService, "sectionTimeoutMs", 5000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("대시보드 통계 - 구간을 동시에 조회")
+    void getDashboardStats_ShouldQuerySectionsConcurrently() {
+        // given - 로그 수와 소스별 조회가 서로를 기다리므로 순차 실행이면 조회가 실패함
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        when(logStatisticsRepository.findLevelStatsByDateRange(any(), any())).thenAnswer(invocation -> {
+            barrier.await(2, TimeUnit.SECONDS);
+            return List.<Object[]>of(new Object[]{"ERROR", 5L});
+        });
+        when(logStatisticsRepository.findSourceStatsByDateRange(any(), any())).thenAnswer(invocation -> {
+            barrier.await(2, TimeUnit.SECONDS);
+            return List.<Object[]>of(new Object[]{"api-server", 5L});
+        });
+
+        // when
+        DashboardStatsResponse stats = dashboardService.getDashboardStats(null, null, null);
+
+        // then
+        assertEquals(5L, stats.getLogCounts().getError());
+        assertEquals(1, ((List<?>) stats.getSourceStats().get("sourceStats")).size());
+        assertNotNull(stats.getHourlyStats());
+        assertNotNull(stats.getSystemStatus());
+        assertNotNull(stats.getRecentErrors());
+        assertNotNull(stats.getErrorTrends());
+        assertEquals(6, meterRegistry.find("logpulse.dashboard.section.duration").tag("outcome", "success").timers().size());
+    }
+
+    @Test
+    @DisplayName("대시보드 통계 - 시간 초과된 구간은 이전 스냅샷 값으로 대체")
+    void refreshDashboardStats_ShouldFallBackToPreviousSectionOnTimeout() {
+        // given
+        ReflectionTestUtils.setField(dashboardService, "sectionTimeoutMs", 200L);
+        CountDownLatch release = new CountDownLatch(1);
+        when(logStatisticsRepository.findSourceStatsByDateRange(any(), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        });
+
+        Map<String, Object> previousSourceStats = Map.of("sourceStats", List.of(Map.of("source", "api-server", "count", 3L)));
+        DashboardStatsResponse previous = DashboardStatsResponse.builder()
+                .sourceStats(previousSourceStats)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        try {
+            // when
+            long startedAt = System.nanoTime();
+            DashboardStatsResponse stats = dashboardService.refreshDashboardStats(null, null, null, previous, true);
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+            // then
+            assertSame(previousSourceStats, stats.getSourceStats());
+            assertEquals(List.of("sourceStats"), stats.getDegradedSections());
+            assertNotNull(stats.getLogCounts());
+            assertTrue(elapsedMs < 2000, "느린 구간을 기다리지 않아야 함: " + elapsedMs + "ms");
+            assertEquals(1L, meterRegistry.get("logpulse.dashboard.section.duration")
+                    .tag("section", "sourceStats").tag("outcome", "timeout").timer().count());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("대시보드 통계 - 조회 실행기가 포화되면 호출 스레드에서 조회하지 않고 구간을 대체")
+    void getDashboardStats_ShouldDegradeSectionsWhenExecutorSaturated() throws Exception {
+        // given - 스레드 하나와 대기열 하나를 모두 채운 실행기
+        ThreadPoolTaskExecutor saturated = new ThreadPoolTaskExecutor();
+        saturated.setCorePoolSize(1);
+        saturated.setMaxPoolSize(1);
+        saturated.setQueueCapacity(1);
+        saturated.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        saturated.execute(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        saturated.execute(() -> { });
+
+        DashboardService service = new DashboardService(logRepository, logStatisticsRepository, logStatisticsService,
+                logRollupService, systemMetricsService, compressionService, saturated, meterRegistry);
+        ReflectionTestUtils.setField(service, "sectionTimeoutMs", 5000L);
+
+        try {
+            // when
+            DashboardStatsResponse stats = service.getDashboardStats(null, null, null);
+
+            // then
+            assertEquals(List.of("errorTrends", "hourlyStats", "logCounts", "recentErrors", "sourceStats", "systemStatus"),
+                    stats.getDegradedSections());
+            assertEquals(0L, stats.getLogCounts().getTotal());
+            verifyNoInteractions(logStatisticsRepository, logRepository);
+            assertEquals(6, meterRegistry.find("logpulse.dashboard.section.duration").tag("outcome", "rejected").timers().size());
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("대시보드 통계 - 이전 스냅샷에서 대체된 구간은 증분 대신 전체 조회")
+    void refreshDashboardStats_ShouldFullyRecomputeSectionDegradedInPreviousSnapshot() {
+        // given - 12시 스냅샷의 시간별 통계가 시간 초과로 그 이전 값을 담고 있음
+        LocalDate today = LocalDate.now();
+        List<Map<String, Object>> hours = new ArrayList<>();
+        for (int hour = 0; hour < 24; hour++) {
+            hours.add(Map.of("hour", hour));
+        }
+        DashboardStatsResponse previous = DashboardStatsResponse.builder()
+                .hourlyStats(Map.of("date", today, "hourlyStats", hours))
+                .degradedSections(List.of("hourlyStats"))
+                .timestamp(today.atTime(12, 0))
+                .build();
+
+        // when
+        DashboardStatsResponse stats = dashboardService.refreshDashboardStats(null, null, null, previous, true);
+
+        // then
+        verify(logStatisticsRepository).findHourlyStatsByDate(today);
+        verify(logStatisticsRepository, never()).findHourlyStatsByDateFromHour(any(), anyInt());
+        assertFalse(stats.getDegradedSections().contains("hourlyStats"));
+    }
+}
@@ -0,0 +1,190 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.DashboardStatsResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class DashboardSnapshotServiceTest {
+
+    @Mock
+    private DashboardService dashboardService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardSnapshotService snapshotService;
+
+    private final LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private final LocalDateTime end = LocalDateTime.of(2024, 1, 2, 0, 0);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        snapshotService = new DashboardSnapshotService(dashboardService, meterRegistry);
+        ReflectionTestUtils.setField(snapshotService, "snapshotEnabled", true);
+        ReflectionTestUtils.setField(snapshotService, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(snapshotService, "maxEntries", 64);
+        ReflectionTestUtils.setField(snapshotService, "fullRefreshMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - TTL 안에서는 같은 스냅샷 재사용")
+    void getDashboardStats_ShouldReuseFreshSnapshot() {
+        // given
+        DashboardStatsResponse response = snapshot();
+        when(dashboardService.refreshDashboardStats(eq(start), eq(end), isNull(), isNull(), eq(false))).thenReturn(response);
+
+        // when
+        DashboardStatsResponse first = snapshotService.getDashboardStats(start, end, null);
+        DashboardStatsResponse second = snapshotService.getDashboardStats(start, end, "");
+
+        // then - 빈 소스와 null 소스는 같은 조건
+        assertSame(response, first);
+        assertSame(response, second);
+        verify(dashboardService, times(1)).refreshDashboardStats(any(), any(), any(), any(), anyBoolean());
+        assertEquals(1.0, requests("hit"));
+        assertEquals(1.0, requests("refresh"));
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - TTL이 지나면 이전 스냅샷을 넘겨 갱신")
+    void getDashboardStats_ShouldRefreshWithPreviousSnapshotAfterTtl() {
+        // given
+        ReflectionTestUtils.setField(snapshotService, "ttlMs", 0L);
+        DashboardStatsResponse first = snapshot();
+        DashboardStatsResponse second = snapshot();
+        when(dashboardService.refreshDashboardStats(eq(start), eq(end), eq("api"), isNull(), eq(false))).thenReturn(first);
+        when(dashboardService.refreshDashboardStats(eq(start), eq(end), eq("api"), same(first), eq(true))).thenReturn(second);
+
+        // when & then
+        assertSame(first, snapshotService.getDashboardStats(start, end, "api"));
+        assertSame(second, snapshotService.getDashboardStats(start, end, "api"));
+        assertEquals(2.0, requests("refresh"));
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 전체 조회 주기가 지나면 이전 스냅샷은 대체 값으로만 넘기고 전체 조회")
+    void getDashboardStats_ShouldFullyRecomputeAfterFullRefreshInterval() {
+        // given
+        ReflectionTestUtils.setField(snapshotService, "ttlMs", 0L);
+        ReflectionTestUtils.setField(snapshotService, "fullRefreshMs", 0L);
+        DashboardStatsResponse first = snapshot();
+        DashboardStatsResponse second = snapshot();
+        when(dashboardService.refreshDashboardStats(eq(start), eq(end), isNull(), isNull(), eq(false))).thenReturn(first);
+        when(dashboardService.refreshDashboardStats(eq(start), eq(end), isNull(), same(first), eq(false))).thenReturn(second);
+
+        // when & then
+        assertSame(first, snapshotService.getDashboardStats(start, end, null));
+        assertSame(second, snapshotService.getDashboardStats(start, end, null));
+        verify(dashboardService, never()).refreshDashboardStats(any(), any(), any(), any(), eq(true));
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 동시에 들어온 같은 조건의 요청은 한 번만 계산")
+    void getDashboardStats_ShouldCoalesceConcurrentRequests() throws Exception {
+        // given
+        int threadCount = 40;
+        DashboardStatsResponse response = snapshot();
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computeCount = new AtomicInteger();
+        when(dashboardService.refreshDashboardStats(any(), any(), any(), any(), anyBoolean())).thenAnswer(invocation -> {
+            computeCount.incrementAndGet();
+            computing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            // when
+            List<Future<DashboardStatsResponse>> results = new ArrayList<>();
+            results.add(executor.submit(() -> snapshotService.getDashboardStats(start, end, null)));
+            assertTrue(computing.await(5, TimeUnit.SECONDS));
+            for (int i = 1; i < threadCount; i++) {
+                results.add(executor.submit(() -> snapshotService.getDashboardStats(start, end, null)));
+            }
+
+            // 나머지 요청이 진행 중인 갱신을 기다릴 때까지 대기
+            long deadline = System.currentTimeMillis() + 5000;
+            while (requests("coalesced") < threadCount - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            // then
+            for (Future<DashboardStatsResponse> result : results) {
+                assertSame(response, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, computeCount.get());
+            assertEquals(threadCount - 1, requests("coalesced"));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 조회 - 갱신 실패는 호출자에게 전달되고 다음 요청에서 다시 계산")
+    void getDashboardStats_ShouldPropagateFailureAndRetry() {
+        // given
+        DashboardStatsResponse response = snapshot();
+        when(dashboardService.refreshDashboardStats(any(), any(), any(), any(), anyBoolean()))
+                .thenThrow(new IllegalStateException("DB 연결 실패"))
+                .thenReturn(response);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> snapshotService.getDashboardStats(start, end, null));
+        assertSame(response, snapshotService.getDashboardStats(start, end, null));
+        verify(dashboardService, times(2)).refreshDashboardStats(any(), any(), any(), isNull(), eq(false));
+    }
+
+    @Test
+    @DisplayName("스냅샷 비활성화 - 매 요청 전체 조회")
+    void getDashboardStats_ShouldBypassSnapshotWhenDisabled() {
+        // given
+        ReflectionTestUtils.setField(snapshotService, "snapshotEnabled", false);
+        when(dashboardService.getDashboardStats(start, end, null)).thenReturn(snapshot());
+
+        // when
+        snapshotService.getDashboardStats(start, end, null);
+        snapshotService.getDashboardStats(start, end, null);
+
+        // then
+        verify(dashboardService, times(2)).getDashboardStats(start, end, null);
+        verify(dashboardService, never()).refreshDashboardStats(any(), any(), any(), any(), anyBoolean());
+    }
+
+    private DashboardStatsResponse snapshot() {
+        return DashboardStatsResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("logpulse.dashboard.snapshot.requests", "result", result).count();
+    }
+}
@@ -0,0 +1,211 @@
+package com.tenacy.logpulse.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tenacy.logpulse.api.dto.DeadLetterReplayResponse;
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.kafka.LogEventFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class DeadLetterServiceTest {
+
+    @Mock
+    private KafkaTemplate<String, byte[]> deadLetterKafkaTemplate;
+    @Mock
+    private ConsumerFactory<String, String> consumerFactory;
+    @Mock
+    private LogProducerService logProducerService;
+
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private DeadLetterService deadLetterService;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        meterRegistry = new SimpleMeterRegistry();
+        deadLetterService = new DeadLetterService(deadLetterKafkaTemplate, consumerFactory,
+                logProducerService, objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(deadLetterService, "deadLetterTopic", "raw-logs-dlt");
+        ReflectionTestUtils.setField(deadLetterService, "maxReplayRecords", 1000);
+
+        lenient().when(deadLetterKafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+    }
+
+    @Test
+    @DisplayName("실패 레코드를 원본 위치와 원인 헤더와 함께 데드레터 토픽으로 전송")
+    void publish_ShouldAttachOriginHeaders() {
+        // given
+        LogEventDto event = LogEventDto.builder()
+                .source("order-service")
+                .content("주문 저장 실패")
+                .logLevel("ERROR")
+                .timestamp(LocalDateTime.now())
+                .build();
+        ConsumerRecord<String, LogEventDto> record = new ConsumerRecord<>("raw-logs", 2, 42L, "order-service", event);
+
+        // when
+        deadLetterService.publish(record, DeadLetterService.STAGE_JDBC, new IllegalStateException("Data too long")).join();
+
+        // then
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(deadLetterKafkaTemplate).send(captor.capture());
+
+        ProducerRecord<String, byte[]> sent = captor.getValue();
+        assertEquals("raw-logs-dlt", sent.topic());
+        assertEquals("raw-logs", header(sent, KafkaHeaders.DLT_ORIGINAL_TOPIC));
+        assertEquals(2, ByteBuffer.wrap(sent.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_PARTITION).value()).getInt());
+        assertEquals(42L, ByteBuffer.wrap(sent.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_OFFSET).value()).getLong());
+        assertEquals("Data too long", header(sent, KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+        assertEquals("jdbc", header(sent, DeadLetterService.STAGE_HEADER));
+        assertEquals("json", header(sent, LogEventFormat.HEADER));
+        assertEquals(1.0, meterRegistry.counter("logpulse.dlq.records", "stage", "jdbc").count());
+    }
+
+    @Test
+    @DisplayName("데드레터 토픽 전송 실패는 호출자에게 전파하여 오프셋이 커밋되지 않도록 함")
+    void publish_ShouldPropagateSendFailure() {
+        // given
+        when(deadLetterKafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 장애")));
+        LogEventDto event = LogEventDto.builder().source("order-service").content("주문 저장 실패").build();
+        ConsumerRecord<String, LogEventDto> record = new ConsumerRecord<>("raw-logs", 0, 1L, "order-service", event);
+
+        // when
+        CompletableFuture<Void> future = deadLetterService.publish(record, DeadLetterService.STAGE_JDBC,
+                new IllegalStateException("Data too long"));
+
+        // then
+        assertThrows(CompletionException.class, future::join);
+        assertEquals(0.0, meterRegistry.counter("logpulse.dlq.records", "stage", "jdbc").count());
+    }
+
+    @Test
+    @DisplayName("역직렬화 실패 레코드는 원본 바이트와 원본 형식을 그대로 기록")
+    void publish_ShouldKeepRawBytesForDeserializationFailures() {
+        // given
+        byte[] raw = {1, 3, (byte) 0xFF};
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("raw-logs", 0, 7L, "key", null);
+        record.headers().add(LogEventFormat.HEADER, LogEventFormat.BINARY.getHeaderValue());
+        // ErrorHandlingDeserializer와 같은 방식으로 예외 헤더 기록
+        SerializationUtils.deserializationException(record.headers(), raw, new IllegalArgumentException("truncated"), false);
+
+        // when
+        deadLetterService.publish(record, DeadLetterService.STAGE_DESERIALIZE, null).join();
+
+        // then
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(deadLetterKafkaTemplate).send(captor.capture());
+        assertArrayEquals(raw, captor.getValue().value());
+        assertEquals("binary", header(captor.getValue(), LogEventFormat.HEADER));
+        assertEquals("truncated", header(captor.getValue(), KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+    }
+
+    @Test
+    @DisplayName("재처리 중 재전송에 실패하면 위치를 되돌리고 실패한 레코드의 오프셋을 커밋하지 않음")
+    void replay_ShouldNotCommitWhenSendFails() throws Exception {
+        // given
+        TopicPartition partition = new TopicPartition("raw-logs-dlt", 0);
+        List<ConsumerRecord<String, byte[]>> records = List.of(
+                deadLetter(0L, "첫 번째"), deadLetter(1L, "두 번째"), deadLetter(2L, "세 번째"));
+        Consumer<String, byte[]> consumer = mock(Consumer.class);
+        when(consumer.poll(any(Duration.class))).thenReturn(new ConsumerRecords<>(Map.of(partition, records)));
+        DeadLetterService service = spy(deadLetterService);
+        doReturn(consumer).when(service).createReplayConsumer(anyInt());
+        doNothing()
+                .doThrow(new ExecutionException(new TimeoutException("브로커 응답 없음")))
+                .when(logProducerService).replayLogEventAndWait(any(), anyString());
+
+        // when
+        DeadLetterReplayResponse response = service.replay(10);
+
+        // then
+        assertEquals("failed", response.getStatus());
+        assertEquals(1, response.getReplayed());
+        assertEquals(0, response.getSkipped());
+        verify(consumer).seek(partition, 1L);
+        verify(consumer).commitSync(Map.of(partition, new OffsetAndMetadata(1L)));
+        verify(consumer, never()).commitSync();
+        verify(logProducerService, times(2)).replayLogEventAndWait(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("재처리 중 해석할 수 없는 레코드만 건너뛰고 커밋")
+    void replay_ShouldSkipUndecodableRecords() throws Exception {
+        // given
+        TopicPartition partition = new TopicPartition("raw-logs-dlt", 0);
+        ConsumerRecord<String, byte[]> garbage = new ConsumerRecord<>("raw-logs-dlt", 0, 0L, "key", new byte[]{1, 2});
+        garbage.headers().add(LogEventFormat.HEADER, LogEventFormat.BINARY.getHeaderValue());
+        Consumer<String, byte[]> consumer = mock(Consumer.class);
+        when(consumer.poll(any(Duration.class)))
+                .thenReturn(new ConsumerRecords<>(Map.of(partition, List.of(garbage, deadLetter(1L, "정상")))))
+                .thenReturn(ConsumerRecords.empty());
+        DeadLetterService service = spy(deadLetterService);
+        doReturn(consumer).when(service).createReplayConsumer(anyInt());
+
+        // when
+        DeadLetterReplayResponse response = service.replay(10);
+
+        // then
+        assertEquals("success", response.getStatus());
+        assertEquals(1, response.getReplayed());
+        assertEquals(1, response.getSkipped());
+        verify(consumer).commitSync(Map.of(partition, new OffsetAndMetadata(2L)));
+    }
+
+    private ConsumerRecord<String, byte[]> deadLetter(long offset, String content) throws Exception {
+        LogEventDto event = LogEventDto.builder().source("order-service").content(content).logLevel("ERROR").build();
+        ConsumerRecord<String, byte[]> record = new ConsumerRecord<>("raw-logs-dlt", 0, offset, "order-service",
+                objectMapper.writeValueAsBytes(event));
+        record.headers().add(LogEventFormat.HEADER, LogEventFormat.JSON.getHeaderValue());
+        return record;
+    }
+
+    private String header(ProducerRecord<String, byte[]> record, String key) {
+        return new String(record.headers().lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+}
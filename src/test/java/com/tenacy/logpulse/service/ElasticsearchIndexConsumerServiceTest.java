@@ -0,0 +1,132 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.elasticsearch.document.LogDocument;
+import com.tenacy.logpulse.elasticsearch.service.ElasticsearchService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class ElasticsearchIndexConsumerServiceTest {
+
+    @Mock
+    private ElasticsearchService elasticsearchService;
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ElasticsearchIndexConsumerService consumerService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumerService = new ElasticsearchIndexConsumerService(elasticsearchService, meterRegistry);
+        ReflectionTestUtils.setField(consumerService, "retryBackoffMs", 1000L);
+    }
+
+    @Test
+    @DisplayName("동기 저장 경로와 같은 규칙으로 문서 ID를 만들어 인덱싱한 뒤 오프셋 커밋")
+    void index_ShouldUseLogContentKeyAsDocumentId() {
+        // given
+        when(elasticsearchService.isAvailable()).thenReturn(true);
+        List<ConsumerRecord<String, LogEventDto>> records = new ArrayList<>(records(2));
+        records.add(new ConsumerRecord<>("raw-logs", 1, 2L, "test-source", null));
+        // 데드레터 재처리로 다른 오프셋에 다시 기록된 같은 로그
+        LogEventDto replayed = records.get(0).value();
+        records.add(new ConsumerRecord<>("raw-logs", 2, 99L, "test-source", replayed));
+
+        // when
+        consumerService.indexBatchLogEvents(records, acknowledgment);
+
+        // then
+        ArgumentCaptor<List<LogDocument>> captor = ArgumentCaptor.forClass(List.class);
+        verify(elasticsearchService).indexDocuments(captor.capture());
+        List<String> ids = captor.getValue().stream().map(LogDocument::getId).toList();
+        assertEquals(3, ids.size(), "역직렬화 실패 레코드는 제외해야 함");
+        assertEquals(LogDocument.idOf(replayed.getSource(), replayed.getLogLevel(),
+                replayed.getTimestamp(), replayed.getContent()), ids.get(0));
+        assertNotEquals(ids.get(0), ids.get(1));
+        assertEquals(ids.get(0), ids.get(2), "같은 로그는 오프셋이 달라도 같은 문서여야 함");
+        verify(acknowledgment).acknowledge();
+        verify(acknowledgment, never()).nack(anyInt(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Elasticsearch를 사용할 수 없으면 커밋하지 않고 배치 재처리")
+    void index_ShouldNackWhenElasticsearchUnavailable() {
+        // given
+        when(elasticsearchService.isAvailable()).thenReturn(false);
+
+        // when
+        consumerService.indexBatchLogEvents(records(3), acknowledgment);
+
+        // then
+        verify(elasticsearchService, never()).indexDocuments(anyList());
+        verify(acknowledgment).nack(0, Duration.ofMillis(1000L));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("인덱싱 실패 시 예외를 전파하지 않고 배치 재처리")
+    void index_ShouldNackWhenIndexingFails() {
+        // given
+        when(elasticsearchService.isAvailable()).thenReturn(true);
+        doThrow(new RuntimeException("connection refused")).when(elasticsearchService).indexDocuments(anyList());
+
+        // when & then
+        assertDoesNotThrow(() -> consumerService.indexBatchLogEvents(records(3), acknowledgment));
+        verify(acknowledgment).nack(0, Duration.ofMillis(1000L));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("다시 보내도 실패하는 문서는 건너뛰고 오프셋 커밋")
+    void index_ShouldAcknowledgeWhenDocumentsAreRejected() {
+        // given
+        when(elasticsearchService.isAvailable()).thenReturn(true);
+        when(elasticsearchService.indexDocuments(anyList()))
+                .thenReturn(Map.of("doc-1", "mapper_parsing_exception"));
+
+        // when
+        consumerService.indexBatchLogEvents(records(3), acknowledgment);
+
+        // then
+        verify(acknowledgment).acknowledge();
+        verify(acknowledgment, never()).nack(anyInt(), any(Duration.class));
+        assertEquals(1.0, meterRegistry.counter("logpulse.elasticsearch.indexing.rejected").count());
+    }
+
+    private List<ConsumerRecord<String, LogEventDto>> records(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ConsumerRecord<>("raw-logs", 1, i, "test-source",
+                        LogEventDto.builder()
+                                .source("test-source")
+                                .content("테스트 로그 " + i)
+                                .logLevel("INFO")
+                                .timestamp(LocalDateTime.now())
+                                .build()))
+                .toList();
+    }
+}
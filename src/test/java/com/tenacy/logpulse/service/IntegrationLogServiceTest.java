@@ -2,6 +2,9 @@ package com.tenacy.logpulse.service;
 
 import com.tenacy.logpulse.api.dto.LogEventDto;
 import com.tenacy.logpulse.integration.LogGateway;
+import com.tenacy.logpulse.integration.filter.LogFilter;
+import com.tenacy.logpulse.integration.stage.FusedIngestStage;
+import com.tenacy.logpulse.integration.stage.IngestResult;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,8 +13,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,6 +28,12 @@ public class IntegrationLogServiceTest {
     @Mock
     private LogGateway logGateway;
 
+    @Mock
+    private FusedIngestStage fusedIngestStage;
+
+    @Mock
+    private LogFilter logFilter;
+
     @InjectMocks
     private IntegrationLogService integrationLogService;
 
@@ -136,4 +147,71 @@ public class IntegrationLogServiceTest {
         // 예외가 발생해도 로그 게이트웨이를 호출했는지 확인
         verify(logGateway).processLog(any(LogEventDto.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("단일 패스 스테이지 활성화 시 게이트웨이를 거치지 않고 배치 처리")
+    void processLogs_ShouldUseFusedStageWhenEnabled() {
+        // given
+        ReflectionTestUtils.setField(integrationLogService, "fusedStageEnabled", true);
+
+        List<LogEventDto> logEvents = List.of(
+                LogEventDto.builder().content("첫 번째 로그").build(),
+                LogEventDto.builder().source("test-source").content("두 번째 로그").logLevel("ERROR").build());
+
+        when(fusedIngestStage.process(logEvents)).thenReturn(new IngestResult(2, 0));
+
+        // when
+        IngestResult result = integrationLogService.processLogs(logEvents);
+
+        // then
+        assertEquals(2, result.getDispatched());
+        verify(fusedIngestStage).process(logEvents);
+        verifyNoInteractions(logGateway);
+
+        LogEventDto defaulted = logEvents.get(0);
+        assertEquals("INFO", defaulted.getLogLevel());
+        assertEquals("unknown", defaulted.getSource());
+        assertNotNull(defaulted.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("필터 조건으로 제외된 이벤트는 전달 건수와 따로 집계")
+    void processLogs_ShouldCountFilteredEventsSeparately() {
+        // given
+        LogEventDto kept = LogEventDto.builder().source("api").content("전달").logLevel("ERROR").build();
+        LogEventDto dropped = LogEventDto.builder().source("api").content("제외").logLevel("DEBUG").build();
+        when(logFilter.accept(kept)).thenReturn(true);
+        when(logFilter.accept(dropped)).thenReturn(false);
+
+        // when
+        IngestResult result = integrationLogService.processLogs(List.of(kept, dropped));
+
+        // then
+        assertEquals(1, result.getDispatched());
+        assertEquals(1, result.getFiltered());
+        verify(logGateway, times(1)).processLog(kept);
+        verify(logGateway, never()).processLog(dropped);
+    }
+
+    @Test
+    @DisplayName("단일 패스 스테이지 오류는 삼키지 않고 재시도 처리로 전파")
+    void processLog_ShouldRetryWhenFusedStageThrows() {
+        // given
+        ReflectionTestUtils.setField(integrationLogService, "fusedStageEnabled", true);
+        LogEventDto logEventDto = LogEventDto.builder()
+                .source("performance-test")
+                .content("재시도 대상")
+                .logLevel("INFO")
+                .build();
+
+        when(fusedIngestStage.process(logEventDto))
+                .thenThrow(new IllegalStateException("배치 누적 실패"))
+                .thenReturn(true);
+
+        // when
+        integrationLogService.processLog(logEventDto);
+
+        // then
+        verify(fusedIngestStage, times(2)).process(logEventDto);
+    }
+}
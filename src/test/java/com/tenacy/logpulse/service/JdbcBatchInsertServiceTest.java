@@ -0,0 +1,250 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.domain.ContentCodec;
+import com.tenacy.logpulse.domain.LogEntry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class JdbcBatchInsertServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private AdaptiveBatchService adaptiveBatchService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ThreadPoolTaskExecutor jdbcWriterExecutor;
+    private JdbcBatchInsertService jdbcBatchInsertService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcWriterExecutor = new ThreadPoolTaskExecutor();
+        jdbcWriterExecutor.setCorePoolSize(4);
+        jdbcWriterExecutor.setMaxPoolSize(4);
+        jdbcWriterExecutor.setThreadNamePrefix("jdbc-writer-test-");
+        jdbcWriterExecutor.initialize();
+
+        jdbcBatchInsertService = new JdbcBatchInsertService(jdbcTemplate, adaptiveBatchService,
+                transactionManager, jdbcWriterExecutor);
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "maxStatementBytes", 4096);
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "parallelWriters", 1);
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "minShardSize", 500);
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "contentionCooldownMs", 30_000L);
+        lenient().when(adaptiveBatchService.getEffectiveJdbcBatchSize()).thenReturn(500);
+        lenient().when(transactionManager.getTransaction(any())).thenAnswer(inv -> new SimpleTransactionStatus());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcWriterExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("다중 행 INSERT는 바이트 예산을 넘지 않도록 문장을 나눔")
+    void multiRow_ShouldSplitStatementsByByteBudget() {
+        // given
+        useWriteMode("multi-row");
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(inv -> {
+            String sql = inv.getArgument(0);
+            return sql.split("\\(\\?").length - 1;
+        });
+
+        // when - 행당 약 1KB, 예산 4KB
+        jdbcBatchInsertService.batchInsert(entries(10, 1000));
+
+        // then
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(4)).update(sqlCaptor.capture(), any(PreparedStatementSetter.class));
+        assertTrue(sqlCaptor.getAllValues().get(0).endsWith("VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?), " +
+                "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?), (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)"));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("LOAD DATA 입력은 구분자와 줄바꿈을 이스케이프하고 NULL은 \\N, 압축 내용은 16진수로 기록")
+    void loadDataRows_ShouldEscapeSpecialCharacters() {
+        // given
+        LogEntry entry = LogEntry.builder()
+                .source("api")
+                .content("line1\nline2\tcol\\end")
+                .contentBlob(new byte[]{0x1f, (byte) 0x8b, 0x0a})
+                .codec(ContentCodec.GZIP.getId())
+                .logLevel(null)
+                .createdAt(LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_456_000))
+                .compressed(true)
+                .originalSize(20)
+                .compressedSize(12)
+                .build();
+
+        // when
+        String rows = new String(JdbcBatchInsertService.toLoadDataRows(List.of(entry)), StandardCharsets.UTF_8);
+
+        // then
+        assertEquals("api\tline1\\nline2\\tcol\\\\end\t1f8b0a\t1\t\\N\t\\N\t2024-03-15 10:30:45.123456\t1\t20\t12\n", rows);
+    }
+
+    @Test
+    @DisplayName("LOCAL INFILE이 막혀 있으면 다중 행 INSERT로 전환")
+    void loadData_ShouldFallBackToMultiRowWhenLocalInfileDisabled() {
+        // given
+        useWriteMode("load-data");
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenThrow(new UncategorizedSQLException(
+                "LOAD DATA", "LOAD DATA LOCAL INFILE",
+                new SQLException("Loading local data is disabled; this must be enabled on both the client and server sides")));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenReturn(3);
+
+        // when
+        jdbcBatchInsertService.batchInsert(entries(3, 10));
+
+        // then
+        verify(jdbcTemplate).update(anyString(), any(PreparedStatementSetter.class));
+        assertEquals(JdbcWriteMode.MULTI_ROW, jdbcBatchInsertService.getWriteMode());
+    }
+
+    @Test
+    @DisplayName("큰 배치는 샤드마다 별도 트랜잭션으로 동시 저장")
+    void batchInsert_ShouldWriteShardsInSeparateTransactions() {
+        // given
+        useWriteMode("multi-row");
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "parallelWriters", 4);
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "minShardSize", 10);
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "maxStatementBytes", 1024 * 1024);
+        Set<String> writerThreads = ConcurrentHashMap.newKeySet();
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(inv -> {
+            writerThreads.add(Thread.currentThread().getName());
+            return 10;
+        });
+
+        // when
+        jdbcBatchInsertService.batchInsert(entries(40, 10));
+
+        // then
+        verify(jdbcTemplate, times(4)).update(anyString(), any(PreparedStatementSetter.class));
+        verify(transactionManager, times(4)).commit(any());
+        assertTrue(writerThreads.stream().allMatch(name -> name.startsWith("jdbc-writer-test-")));
+    }
+
+    @Test
+    @DisplayName("일부 샤드만 실패하면 미저장 항목만 알림")
+    void batchInsert_ShouldReportOnlyUncommittedShard() {
+        // given
+        useWriteMode("multi-row");
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "parallelWriters", 2);
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "minShardSize", 10);
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "maxStatementBytes", 1024 * 1024);
+        List<LogEntry> entries = entries(20, 10);
+        LogEntry poison = entries.get(15);
+        poison.setContent("y".repeat(5000));
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(inv -> {
+            PreparedStatement ps = mock(PreparedStatement.class);
+            List<String> bound = new ArrayList<>();
+            doAnswer(set -> bound.add(set.getArgument(1))).when(ps).setString(anyInt(), any());
+            ((PreparedStatementSetter) inv.getArgument(1)).setValues(ps);
+            if (bound.contains(poison.getContent())) {
+                throw new DataIntegrityViolationException("Data too long for column 'content'");
+            }
+            return 10;
+        });
+
+        // when
+        PartialBatchInsertException e = assertThrows(PartialBatchInsertException.class,
+                () -> jdbcBatchInsertService.batchInsert(entries));
+
+        // then
+        assertEquals(10, e.getUncommittedEntries().size());
+        assertTrue(e.getUncommittedEntries().stream().anyMatch(entry -> entry == poison));
+    }
+
+    @Test
+    @DisplayName("락 경합으로 실패한 샤드는 순차로 다시 저장하고 이후 배치는 분할하지 않음")
+    void batchInsert_ShouldFallBackToSerialOnContention() {
+        // given
+        useWriteMode("multi-row");
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "parallelWriters", 2);
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "minShardSize", 10);
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "maxStatementBytes", 1024 * 1024);
+        AtomicInteger calls = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(inv -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new CannotAcquireLockException("Deadlock found when trying to get lock");
+            }
+            return 10;
+        });
+
+        // when
+        assertDoesNotThrow(() -> jdbcBatchInsertService.batchInsert(entries(20, 10)));
+
+        // then
+        verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+        assertEquals(1, jdbcBatchInsertService.shard(entries(20, 10)).size(), "경합 이후에는 순차 저장해야 함");
+    }
+
+    @Test
+    @DisplayName("한 행이 예산보다 커도 단독 청크로 분할")
+    void partition_ShouldKeepOversizedRowsInOwnChunk() {
+        // when
+        List<List<LogEntry>> chunks = JdbcBatchInsertService.partition(entries(3, 5000), 100, 4096);
+
+        // then
+        assertEquals(3, chunks.size());
+        chunks.forEach(chunk -> assertEquals(1, chunk.size()));
+    }
+
+    private void useWriteMode(String mode) {
+        ReflectionTestUtils.setField(jdbcBatchInsertService, "writeModeName", mode);
+        jdbcBatchInsertService.init();
+    }
+
+    private List<LogEntry> entries(int count, int contentLength) {
+        String content = "x".repeat(contentLength);
+        return IntStream.range(0, count)
+                .mapToObj(i -> LogEntry.builder()
+                        .source("test-source")
+                        .content(content)
+                        .logLevel("INFO")
+                        .createdAt(LocalDateTime.now())
+                        .compressed(false)
+                        .originalSize(contentLength)
+                        .compressedSize(contentLength)
+                        .build())
+                .toList();
+    }
+}
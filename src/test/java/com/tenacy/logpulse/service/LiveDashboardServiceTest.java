@@ -0,0 +1,269 @@
+package com.tenacy.logpulse.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tenacy.logpulse.api.dto.DashboardStatsResponse;
+import com.tenacy.logpulse.api.dto.SystemMetricsResponse;
+import com.tenacy.logpulse.api.dto.SystemStatusResponse;
+import com.tenacy.logpulse.domain.LogEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class LiveDashboardServiceTest {
+
+    @Mock
+    private DashboardSnapshotService dashboardSnapshotService;
+
+    @Mock
+    private DashboardService dashboardService;
+
+    @Mock
+    private SystemMetricsService systemMetricsService;
+
+    @Mock
+    private LogCompressionService compressionService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LiveDashboardService liveDashboardService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        liveDashboardService = liveDashboardService(Runnable::run);
+
+        lenient().when(dashboardService.getSystemStatus()).thenReturn(SystemStatusResponse.builder().status("UP").build());
+        lenient().when(systemMetricsService.getCurrentMetrics()).thenReturn(SystemMetricsResponse.builder().build());
+        lenient().when(compressionService.readContent(any())).thenAnswer(invocation ->
+                ((LogEntry) invocation.getArgument(0)).getContent());
+    }
+
+    @Test
+    @DisplayName("프레임 전송 - 여러 번 들어온 증가분을 한 프레임으로 모아 모든 구독자에게 전송")
+    void tick_ShouldCoalesceDeltasIntoSingleFrame() throws Exception {
+        // given
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        assertTrue(liveDashboardService.register(first));
+        assertTrue(liveDashboardService.register(second));
+
+        liveDashboardService.publish(List.of(entry("api-server", "ERROR", "오류 1"), entry("api-server", "INFO", "정상")));
+        liveDashboardService.publish(List.of(entry("auth-server", "ERROR", "오류 2"), entry("auth-server", "ERROR", "오류 3")));
+
+        // when
+        liveDashboardService.tick();
+        liveDashboardService.tick(); // 증가분이 없고 heartbeat 전이므로 전송하지 않음
+
+        // then
+        assertEquals(1, first.frames.size());
+        assertEquals(first.frames, second.frames, "모든 구독자가 같은 프레임을 받아야 함");
+
+        JsonNode frame = objectMapper.readTree(first.frames.get(0));
+        assertEquals(3, frame.path("levelCounts").path("ERROR").asLong());
+        assertEquals(1, frame.path("levelCounts").path("INFO").asLong());
+        assertEquals(2, frame.path("sourceCounts").path("auth-server").asLong());
+        assertEquals(2, frame.path("recentErrors").size(), "프레임당 최신 오류만 유지");
+        assertEquals("오류 3", frame.path("recentErrors").get(0).path("content").asText());
+        assertEquals("UP", frame.path("systemStatus").path("status").asText());
+    }
+
+    @Test
+    @DisplayName("구독 - 최대 구독 수를 넘으면 거부")
+    void subscribe_ShouldRejectBeyondMaxConnections() {
+        // given
+        assertTrue(liveDashboardService.register(new RecordingEmitter()));
+        assertTrue(liveDashboardService.register(new RecordingEmitter()));
+
+        // when & then
+        assertNull(liveDashboardService.subscribe());
+        assertEquals(2, liveDashboardService.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("프레임 전송 - 전송에 실패한 구독은 제거")
+    void tick_ShouldDropDisconnectedSubscriber() {
+        // given
+        RecordingEmitter healthy = new RecordingEmitter();
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failing = true;
+        liveDashboardService.register(healthy);
+        liveDashboardService.register(broken);
+        liveDashboardService.publish(List.of(entry("api-server", "INFO", "정상")));
+
+        // when
+        liveDashboardService.tick();
+
+        // then
+        assertEquals(1, healthy.frames.size());
+        assertEquals(1, liveDashboardService.getConnectionCount());
+    }
+
+    @Test
+    @DisplayName("수집 - 구독자가 없으면 누적하지 않음")
+    void publish_ShouldIgnoreWithoutSubscribers() {
+        // given
+        liveDashboardService.publish(List.of(entry("api-server", "ERROR", "오류")));
+        RecordingEmitter emitter = new RecordingEmitter();
+        liveDashboardService.register(emitter);
+        ReflectionTestUtils.setField(liveDashboardService, "lastFrameAt", System.currentTimeMillis());
+
+        // when
+        liveDashboardService.tick();
+
+        // then
+        assertTrue(emitter.frames.isEmpty());
+        verify(compressionService, never()).readContent(any());
+    }
+
+    @Test
+    @DisplayName("프레임 전송 - 대기 프레임이 가득 찬 느린 구독만 끊고 나머지는 계속 전송")
+    void tick_ShouldDropSubscriberWhoseQueueIsFull() {
+        // given - 전송 작업을 실행하지 않고 모아 두어 느린 구독을 흉내냄
+        List<Runnable> sendTasks = new ArrayList<>();
+        liveDashboardService = liveDashboardService(sendTasks::add);
+        ReflectionTestUtils.setField(liveDashboardService, "maxQueuedFrames", 2);
+        RecordingEmitter slow = new RecordingEmitter();
+        liveDashboardService.register(slow);
+
+        // when - 전송 작업은 구독당 하나만 예약되고, 세 번째 프레임에서 대기열이 넘침
+        for (int i = 0; i < 3; i++) {
+            liveDashboardService.publish(List.of(entry("api-server", "INFO", "정상")));
+            liveDashboardService.tick();
+        }
+
+        // then
+        assertEquals(1, sendTasks.size());
+        assertEquals(0, liveDashboardService.getConnectionCount());
+        assertEquals(1.0, meterRegistry.counter("logpulse.dashboard.stream.dropped").count());
+        sendTasks.forEach(Runnable::run);
+        assertTrue(slow.frames.isEmpty(), "끊은 구독에는 남은 프레임을 보내지 않음");
+    }
+
+    @Test
+    @DisplayName("구독 - 스냅샷을 받는 동안 만든 프레임 중 스냅샷에 이미 반영된 것은 버리고 이후 것만 스냅샷 뒤에 전송")
+    void subscribe_ShouldDropFramesCoveredBySnapshot() throws Exception {
+        // given - 스냅샷 조회 도중 스냅샷 시각 전후로 프레임이 하나씩 만들어짐
+        RecordingEmitter emitter = new RecordingEmitter();
+        when(dashboardSnapshotService.getDashboardStats(null, null, null)).thenAnswer(invocation -> {
+            liveDashboardService.publish(List.of(entry("api-server", "ERROR", "반영된 오류")));
+            liveDashboardService.tick();
+            Thread.sleep(5);
+            LocalDateTime snapshotAt = LocalDateTime.now();
+            Thread.sleep(5);
+            liveDashboardService.publish(List.of(entry("api-server", "INFO", "이후 로그")));
+            liveDashboardService.tick();
+            return DashboardStatsResponse.builder().timestamp(snapshotAt).build();
+        });
+
+        // when
+        assertTrue(liveDashboardService.subscribe(emitter));
+        liveDashboardService.publish(List.of(entry("api-server", "WARN", "구독 후 로그")));
+        liveDashboardService.tick();
+
+        // then
+        assertEquals(List.of(LiveDashboardService.EVENT_SNAPSHOT, LiveDashboardService.EVENT_UPDATE,
+                LiveDashboardService.EVENT_UPDATE), emitter.events);
+        assertFalse(objectMapper.readTree(emitter.frames.get(0)).path("levelCounts").has("ERROR"),
+                "스냅샷에 반영된 증가분을 다시 보내면 안 됨");
+        assertEquals(1, objectMapper.readTree(emitter.frames.get(0)).path("levelCounts").path("INFO").asLong());
+        assertEquals(1, objectMapper.readTree(emitter.frames.get(1)).path("levelCounts").path("WARN").asLong());
+    }
+
+    @Test
+    @DisplayName("프레임 전송 - 재동기화 주기가 지나면 모든 구독에 스냅샷을 다시 전송")
+    void tick_ShouldResyncSnapshotPeriodically() {
+        // given
+        ReflectionTestUtils.setField(liveDashboardService, "resyncMs", 1L);
+        when(dashboardSnapshotService.getDashboardStats(null, null, null)).thenReturn(
+                DashboardStatsResponse.builder().timestamp(LocalDateTime.now()).build());
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        liveDashboardService.register(first);
+        liveDashboardService.register(second);
+        liveDashboardService.publish(List.of(entry("api-server", "INFO", "정상")));
+
+        // when
+        liveDashboardService.tick();
+
+        // then
+        List<String> expected = List.of(LiveDashboardService.EVENT_SNAPSHOT, LiveDashboardService.EVENT_UPDATE);
+        assertEquals(expected, first.events);
+        assertEquals(expected, second.events);
+        verify(dashboardSnapshotService, times(1)).getDashboardStats(null, null, null);
+    }
+
+    private LiveDashboardService liveDashboardService(Executor sendExecutor) {
+        LiveDashboardService service = new LiveDashboardService(dashboardSnapshotService, dashboardService,
+                systemMetricsService, compressionService, objectMapper, sendExecutor, meterRegistry);
+        ReflectionTestUtils.setField(service, "streamEnabled", true);
+        ReflectionTestUtils.setField(service, "maxConnections", 2);
+        ReflectionTestUtils.setField(service, "heartbeatMs", 60_000L);
+        ReflectionTestUtils.setField(service, "maxErrorsPerFrame", 2);
+        ReflectionTestUtils.setField(service, "maxQueuedFrames", 32);
+        return service;
+    }
+
+    private LogEntry entry(String source, String level, String content) {
+        return LogEntry.builder()
+                .source(source)
+                .logLevel(level)
+                .content(content)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    // 전송된 이벤트 이름과 update 이벤트의 JSON을 기록하는 구독
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> events = new ArrayList<>();
+        private final List<String> frames = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("연결 끊김");
+            }
+
+            StringBuilder event = new StringBuilder();
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                event.append(data.getData());
+            }
+            for (String name : List.of(LiveDashboardService.EVENT_SNAPSHOT, LiveDashboardService.EVENT_UPDATE)) {
+                if (event.toString().contains("event:" + name + "\n")) {
+                    events.add(name);
+                }
+            }
+            if (event.toString().contains("event:" + LiveDashboardService.EVENT_UPDATE)) {
+                String payload = event.substring(event.indexOf("data:") + "data:".length());
+                frames.add(payload.trim());
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEntryResponse;
+import com.tenacy.logpulse.batch.LogArchiveBlockWriter;
+import com.tenacy.logpulse.compression.AdaptiveCodecPolicy;
+import com.tenacy.logpulse.compression.LogBlockFormat;
+import com.tenacy.logpulse.compression.ZstdDictionaryManager;
+import com.tenacy.logpulse.compression.impl.GzipCodec;
+import com.tenacy.logpulse.compression.impl.Lz4Codec;
+import com.tenacy.logpulse.compression.impl.ZstdCodec;
+import com.tenacy.logpulse.domain.CompressionDictionaryRepository;
+import com.tenacy.logpulse.domain.ContentCodec;
+import com.tenacy.logpulse.domain.LogArchiveBlock;
+import com.tenacy.logpulse.domain.LogArchiveBlockRepository;
+import com.tenacy.logpulse.domain.LogArchiveRepository;
+import com.tenacy.logpulse.domain.LogEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.Chunk;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class LogArchiveServiceTest {
+
+    private static final int MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+    @Mock
+    private LogArchiveBlockRepository blockRepository;
+
+    @Mock
+    private LogArchiveRepository logArchiveRepository;
+
+    @Mock
+    private CompressionDictionaryRepository dictionaryRepository;
+
+    private LogCompressionService compressionService;
+    private LogArchiveService logArchiveService;
+    private final List<LogArchiveBlock> savedBlocks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        compressionService = new LogCompressionService(
+                List.of(new GzipCodec(6, 4, MAX_DECOMPRESSED_SIZE), new Lz4Codec(MAX_DECOMPRESSED_SIZE),
+                        new ZstdCodec(3, 4, MAX_DECOMPRESSED_SIZE)),
+                new AdaptiveCodecPolicy(), new ZstdDictionaryManager(dictionaryRepository, 4, 2));
+        logArchiveService = new LogArchiveService(blockRepository, logArchiveRepository, compressionService);
+
+        lenient().when(blockRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<LogArchiveBlock> blocks = inv.getArgument(0);
+            for (LogArchiveBlock block : blocks) {
+                block.setId((long) savedBlocks.size() + 1);
+                savedBlocks.add(block);
+            }
+            return blocks;
+        });
+    }
+
+    @Test
+    @DisplayName("아카이브 블록 - 소스, 시간대별로 묶고 최대 항목 수를 넘으면 블록을 나눔")
+    void write_ShouldGroupBySourceAndHour() throws Exception {
+        // given
+        LocalDateTime base = LocalDateTime.of(2024, 3, 15, 10, 0);
+        List<LogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            entries.add(entry(i + 1L, "api-server", base.plusSeconds(i), i % 10 == 0 ? "ERROR" : "INFO"));
+        }
+        entries.add(entry(251L, "api-server", base.plusHours(1), "WARN"));
+        entries.add(entry(252L, "batch-server", base.plusMinutes(5), "INFO"));
+
+        // when
+        writer(100).write(new Chunk<>(entries));
+
+        // then - api-server 10시 250개(100/100/50), 11시 1개, batch-server 1개
+        assertEquals(5, savedBlocks.size());
+        LogArchiveBlock first = savedBlocks.get(0);
+        assertEquals("api-server", first.getSource());
+        assertEquals(base, first.getHourBucket());
+        assertEquals(100, first.getEntryCount());
+        assertEquals(1L, first.getMinLogId());
+        assertEquals(100L, first.getMaxLogId());
+        assertEquals(100L, first.getLastLogId());
+        assertEquals(Set.of(0L), first.getIdBuckets());
+        assertEquals(base, first.getMinCreatedAt());
+        assertEquals(base.plusSeconds(99), first.getMaxCreatedAt());
+        assertEquals(LogBlockFormat.levelBit("INFO") | LogBlockFormat.levelBit("ERROR"), first.getLevelMask());
+        assertEquals(ContentCodec.ZSTD.getId(), first.getCodec());
+        assertTrue(first.getCompressedSize() < first.getOriginalSize() / 4,
+                "비슷한 줄을 묶으면 블록 압축률이 높아야 함");
+        assertEquals(base.plusHours(1), savedBlocks.get(3).getHourBucket());
+        assertEquals("batch-server", savedBlocks.get(4).getSource());
+    }
+
+    @Test
+    @DisplayName("아카이브 블록 - 내용을 복원하지 못한 행이 있으면 빈 내용으로 저장하지 않고 청크 실패")
+    void write_ShouldFailChunkWhenContentCannotBeDecoded() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2024, 3, 15, 10, 0);
+        LogEntry corrupted = entry(2L, "api-server", base.plusSeconds(1), "INFO");
+        corrupted.setContent(null);
+        corrupted.setContentBlob(new byte[]{1, 2, 3});
+        corrupted.setCodec(ContentCodec.ZSTD.getId());
+        corrupted.setCompressed(true);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> writer(100).write(
+                new Chunk<>(List.of(entry(1L, "api-server", base, "INFO"), corrupted))));
+        verify(blockRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("아카이브 조회 - 색인으로 블록을 찾아 한 번의 해제로 로그 하나를 복원")
+    void findArchivedLog_ShouldRestoreEntryFromBlock() throws Exception {
+        // given - 행 단위로 압축되어 있던 로그도 원문으로 블록에 담김
+        LocalDateTime base = LocalDateTime.of(2024, 3, 15, 10, 0);
+        List<LogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            entries.add(entry(i + 1L, "api-server", base.plusSeconds(i).plusNanos(123_000), "INFO"));
+        }
+        String longContent = "긴 로그 내용입니다. ".repeat(200);
+        LogEntry compressed = entries.get(20);
+        compressed.setContent(null);
+        compressed.setContentBlob(compressionService.getCodec(ContentCodec.GZIP)
+                .compress(longContent.getBytes(StandardCharsets.UTF_8)));
+        compressed.setCodec(ContentCodec.GZIP.getId());
+        compressed.setCompressed(true);
+        compressed.setLogLevel("ERROR");
+
+        writer(1000).write(new Chunk<>(entries));
+        LogArchiveBlock block = savedBlocks.get(0);
+        when(blockRepository.findIndexesContaining(anyLong(), anyLong()))
+                .thenReturn(List.<Object[]>of(new Object[]{block.getId(), block.getEntryIndex()}));
+        when(blockRepository.findById(block.getId())).thenReturn(Optional.of(block));
+
+        // when
+        Optional<LogEntryResponse> plain = logArchiveService.findArchivedLog(8L);
+        Optional<LogEntryResponse> restored = logArchiveService.findArchivedLog(21L);
+
+        // then
+        assertTrue(plain.isPresent());
+        assertEquals("GET /api/v1/orders/8 status=200 elapsed=8ms", plain.get().getContent());
+        assertEquals(base.plusSeconds(7).plusNanos(123_000), plain.get().getCreatedAt());
+        assertEquals("INFO", plain.get().getLogLevel());
+        assertTrue(restored.isPresent());
+        assertEquals(longContent, restored.get().getContent());
+        assertEquals("ERROR", restored.get().getLogLevel());
+        assertEquals("api-server", restored.get().getSource());
+        verify(logArchiveRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("아카이브 블록 - LEVELS 외의 레벨은 그대로 저장하고 블록에 담긴 id 구간만 기록")
+    void write_ShouldKeepCustomLevelsAndRecordIdBuckets() throws Exception {
+        // given - (created_at, id) 순서, 뒤늦게 들어온 로그는 생성 시각이 앞서도 다른 id 구간
+        LocalDateTime base = LocalDateTime.of(2024, 3, 15, 10, 0);
+        long lateId = LogArchiveBlock.ID_BUCKET_SIZE * 3 + 5;
+        List<LogEntry> entries = List.of(
+                entry(1L, "api-server", base, "NOTICE"),
+                entry(lateId, "api-server", base.plusSeconds(1), null),
+                entry(2L, "api-server", base.plusSeconds(2), "info"),
+                entry(3L, "api-server", base.plusSeconds(2), "FATAL"));
+
+        writer(1000).write(new Chunk<>(entries));
+        LogArchiveBlock block = savedBlocks.get(0);
+        when(blockRepository.findIndexesContaining(LogArchiveBlock.idBucket(1L), 1L))
+                .thenReturn(List.<Object[]>of(new Object[]{block.getId(), block.getEntryIndex()}));
+        when(blockRepository.findIndexesContaining(LogArchiveBlock.idBucket(2L), 2L))
+                .thenReturn(List.<Object[]>of(new Object[]{block.getId(), block.getEntryIndex()}));
+        when(blockRepository.findIndexesContaining(LogArchiveBlock.idBucket(lateId), lateId))
+                .thenReturn(List.<Object[]>of(new Object[]{block.getId(), block.getEntryIndex()}));
+        when(blockRepository.findById(block.getId())).thenReturn(Optional.of(block));
+
+        // when
+        Optional<LogEntryResponse> notice = logArchiveService.findArchivedLog(1L);
+        Optional<LogEntryResponse> lowerCase = logArchiveService.findArchivedLog(2L);
+        Optional<LogEntryResponse> noLevel = logArchiveService.findArchivedLog(lateId);
+
+        // then
+        assertEquals("NOTICE", notice.orElseThrow().getLogLevel());
+        assertEquals("info", lowerCase.orElseThrow().getLogLevel());
+        assertNull(noLevel.orElseThrow().getLogLevel());
+        assertEquals(Set.of(0L, 3L), block.getIdBuckets());
+        assertEquals(3L, block.getLastLogId(), "재개 위치는 (created_at, id) 순서의 마지막 항목");
+        assertEquals(lateId, block.getMaxLogId());
+        assertTrue((block.getLevelMask() & LogBlockFormat.levelBit("INFO")) != 0);
+    }
+
+    @Test
+    @DisplayName("아카이브 조회 - 블록에 없으면 행 단위 아카이브(log_archives)에서 조회")
+    void findArchivedLog_ShouldFallBackToLegacyArchive() {
+        // given
+        when(blockRepository.findIndexesContaining(LogArchiveBlock.idBucket(99L), 99L)).thenReturn(List.of());
+        when(logArchiveRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // when
+        Optional<LogEntryResponse> result = logArchiveService.findArchivedLog(99L);
+
+        // then
+        assertTrue(result.isEmpty());
+        verify(logArchiveRepository).findById(99L);
+    }
+
+    private LogArchiveBlockWriter writer(int maxEntries) {
+        return new LogArchiveBlockWriter(blockRepository, compressionService, ContentCodec.ZSTD, maxEntries, 1024 * 1024);
+    }
+
+    private LogEntry entry(Long id, String source, LocalDateTime createdAt, String level) {
+        String content = "GET /api/v1/orders/" + id + " status=200 elapsed=" + id + "ms";
+        return LogEntry.builder()
+                .id(id)
+                .source(source)
+                .content(content)
+                .codec(ContentCodec.NONE.getId())
+                .logLevel(level)
+                .createdAt(createdAt)
+                .compressed(false)
+                .build();
+    }
+}
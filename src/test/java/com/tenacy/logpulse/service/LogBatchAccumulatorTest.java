@@ -0,0 +1,176 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class LogBatchAccumulatorTest {
+
+    @Mock
+    private LogProducerService logProducerService;
+
+    @Mock
+    private LogSpoolService logSpoolService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LogBatchAccumulator accumulator;
+    private final List<Runnable> spoolTasks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        accumulator = new LogBatchAccumulator(logProducerService, logSpoolService, spoolTasks::add, meterRegistry);
+        ReflectionTestUtils.setField(accumulator, "batchEnabled", true);
+        ReflectionTestUtils.setField(accumulator, "maxBatchSize", 3);
+        ReflectionTestUtils.setField(accumulator, "lingerMs", 60_000L);
+    }
+
+    @Test
+    @DisplayName("최대 배치 크기에 도달하면 한 번에 전송")
+    void appendAll_ShouldSendWhenBatchIsFull() {
+        // given
+        when(logProducerService.sendLogEvents(anyList())).thenAnswer(inv -> completed(inv.getArgument(0)));
+
+        // when
+        accumulator.appendAll(events(4));
+
+        // then
+        ArgumentCaptor<List<LogEventDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logProducerService, times(1)).sendLogEvents(captor.capture());
+        assertEquals(3, captor.getValue().size());
+        assertEquals(1, accumulator.getPendingCount(), "남은 이벤트는 다음 배치를 기다려야 함");
+        assertEquals(3.0, meterRegistry.counter("logpulse.producer.delivery.success").count());
+    }
+
+    @Test
+    @DisplayName("linger 시간이 지나지 않으면 전송하지 않음")
+    void flushExpired_ShouldWaitForLinger() {
+        // given
+        accumulator.appendAll(events(2));
+
+        // when
+        accumulator.flushExpired();
+
+        // then
+        verify(logProducerService, never()).sendLogEvents(anyList());
+        assertEquals(2, accumulator.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 실패 카운터 증가")
+    void flush_ShouldCountDeliveryFailures() {
+        // given
+        when(logProducerService.sendLogEvents(anyList())).thenAnswer(inv -> {
+            List<LogEventDto> batch = inv.getArgument(0);
+            List<CompletableFuture<SendResult<String, LogEventDto>>> futures = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                futures.add(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+            }
+            return futures;
+        });
+        accumulator.appendAll(events(2));
+
+        // when
+        accumulator.flush();
+        runSpoolTasks();
+
+        // then
+        assertEquals(0, accumulator.getPendingCount());
+        assertEquals(2.0, meterRegistry.counter("logpulse.producer.delivery.failed").count());
+    }
+
+    @Test
+    @DisplayName("전송 실패한 이벤트는 스풀에 기록하고 장애 중에는 배치를 바로 스풀에 기록")
+    void flush_ShouldSpoolUndeliveredEvents() {
+        // given
+        when(logProducerService.sendLogEvents(anyList())).thenAnswer(inv -> {
+            List<LogEventDto> batch = inv.getArgument(0);
+            List<CompletableFuture<SendResult<String, LogEventDto>>> futures = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                futures.add(CompletableFuture.failedFuture(new RuntimeException("broker unavailable")));
+            }
+            return futures;
+        });
+        when(logSpoolService.spoolEvents(anyList())).thenReturn(true);
+        accumulator.appendAll(events(2));
+
+        // when
+        accumulator.flush();
+        verify(logSpoolService, never()).spoolEvents(anyList()); // 콜백 스레드에서는 기록하지 않음
+        runSpoolTasks();
+        when(logSpoolService.isKafkaUnavailable()).thenReturn(true);
+        accumulator.appendAll(events(2));
+        accumulator.flush();
+
+        // then
+        verify(logProducerService, times(1)).sendLogEvents(anyList());
+        ArgumentCaptor<List<LogEventDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logSpoolService, times(2)).spoolEvents(captor.capture()); // 실패 이벤트를 모은 1회 + 장애 중 배치 1회
+        assertEquals(2, captor.getAllValues().get(0).size());
+        verify(logProducerService).alertUnsent(captor.getAllValues().get(1));
+        assertEquals(0.0, meterRegistry.counter("logpulse.producer.delivery.failed").count());
+    }
+
+    @Test
+    @DisplayName("스풀 기록 대기열이 가득 차면 전송 실패로 집계")
+    void flush_ShouldCountFailuresWhenSpoolExecutorRejects() {
+        // given
+        accumulator = new LogBatchAccumulator(logProducerService, logSpoolService, task -> {
+            throw new TaskRejectedException("full");
+        }, meterRegistry);
+        ReflectionTestUtils.setField(accumulator, "batchEnabled", true);
+        ReflectionTestUtils.setField(accumulator, "maxBatchSize", 3);
+        ReflectionTestUtils.setField(accumulator, "lingerMs", 60_000L);
+        when(logProducerService.sendLogEvents(anyList())).thenThrow(new IllegalStateException("metadata timeout"));
+        accumulator.appendAll(events(2));
+
+        // when
+        accumulator.flush();
+
+        // then
+        verify(logSpoolService, never()).spoolEvents(anyList());
+        assertEquals(2.0, meterRegistry.counter("logpulse.producer.delivery.failed").count());
+    }
+
+    private void runSpoolTasks() {
+        List<Runnable> tasks = new ArrayList<>(spoolTasks);
+        spoolTasks.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private List<LogEventDto> events(int count) {
+        List<LogEventDto> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.add(LogEventDto.builder().source("test-source").content("로그 " + i).logLevel("INFO").build());
+        }
+        return events;
+    }
+
+    private List<CompletableFuture<SendResult<String, LogEventDto>>> completed(List<LogEventDto> batch) {
+        List<CompletableFuture<SendResult<String, LogEventDto>>> futures = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            futures.add(CompletableFuture.completedFuture(null));
+        }
+        return futures;
+    }
+}
@@ -1,30 +1,72 @@
 package com.tenacy.logpulse.service;
 
+import com.tenacy.logpulse.compression.AdaptiveCodecPolicy;
+import com.tenacy.logpulse.compression.CompressedContent;
+import com.tenacy.logpulse.compression.ZstdDictionaryManager;
+import com.tenacy.logpulse.compression.impl.GzipCodec;
+import com.tenacy.logpulse.compression.impl.Lz4Codec;
+import com.tenacy.logpulse.compression.impl.ZstdCodec;
+import com.tenacy.logpulse.domain.CompressionDictionary;
+import com.tenacy.logpulse.domain.CompressionDictionaryRepository;
+import com.tenacy.logpulse.domain.ContentCodec;
+import com.tenacy.logpulse.domain.LogEntry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.Spy;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
 public class LogCompressionServiceTest {
 
-    @Spy
-    @InjectMocks
+    private static final int MAX_DECOMPRESSED_SIZE = 64 * 1024 * 1024;
+
+    @Mock
+    private CompressionDictionaryRepository dictionaryRepository;
+
+    private AdaptiveCodecPolicy codecPolicy;
+    private ZstdDictionaryManager dictionaryManager;
     private LogCompressionService compressionService;
 
     @BeforeEach
     void setUp() {
+        codecPolicy = new AdaptiveCodecPolicy();
+        ReflectionTestUtils.setField(codecPolicy, "adaptiveEnabled", true);
+        ReflectionTestUtils.setField(codecPolicy, "defaultAlgorithm", "gzip");
+        ReflectionTestUtils.setField(codecPolicy, "warmupSamples", 3);
+        ReflectionTestUtils.setField(codecPolicy, "sampleInterval", 64);
+        ReflectionTestUtils.setField(codecPolicy, "skipRatio", 0.9);
+        ReflectionTestUtils.setField(codecPolicy, "cpuWeight", 0.02);
+        ReflectionTestUtils.setField(codecPolicy, "maxSources", 1000);
+        codecPolicy.init();
+        dictionaryManager = new ZstdDictionaryManager(dictionaryRepository, 4, 2);
+        ReflectionTestUtils.setField(dictionaryManager, "dictionaryEnabled", true);
+        ReflectionTestUtils.setField(dictionaryManager, "minSize", 32);
+        ReflectionTestUtils.setField(dictionaryManager, "maxSamples", 1000);
+        ReflectionTestUtils.setField(dictionaryManager, "minSamples", 200);
+        ReflectionTestUtils.setField(dictionaryManager, "retrainMinNewSamples", 1000);
+        ReflectionTestUtils.setField(dictionaryManager, "dictionarySize", 4096);
+        ReflectionTestUtils.setField(dictionaryManager, "level", 3);
+        ReflectionTestUtils.setField(dictionaryManager, "maxSources", 10);
+        compressionService = new LogCompressionService(
+                List.of(new GzipCodec(6, 4, MAX_DECOMPRESSED_SIZE), new Lz4Codec(MAX_DECOMPRESSED_SIZE),
+                        new ZstdCodec(3, 4, MAX_DECOMPRESSED_SIZE)), codecPolicy, dictionaryManager);
+
         // 압축 설정 주입
         ReflectionTestUtils.setField(compressionService, "compressionEnabled", true);
         ReflectionTestUtils.setField(compressionService, "minCompressionSize", 100);
@@ -97,4 +139,162 @@ public class LogCompressionServiceTest {
         // then
         assertFalse(shouldCompress, "압축 기능이 비활성화되면 압축하지 않아야 함");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("바이너리 압축 - Base64 없이 코덱 바이트로 저장하고 codec으로 복원")
+    void compress_ShouldStoreRawCodecBytes() {
+        // given
+        String original = "반복되는 내용입니다. ".repeat(100);
+
+        // when
+        CompressedContent compressed = compressionService.compress("api-server", original);
+        String base64 = compressionService.compressContent(original);
+        LogEntry entry = LogEntry.builder()
+                .contentBlob(compressed.getData())
+                .codec(compressed.getCodec().getId())
+                .compressed(true)
+                .build();
+
+        // then
+        assertNotEquals(ContentCodec.NONE, compressed.getCodec());
+        assertTrue(compressed.getData().length < base64.getBytes(StandardCharsets.UTF_8).length,
+                "바이너리 저장은 Base64보다 작아야 함");
+        assertEquals(original, compressionService.readContent(entry));
+    }
+
+    @Test
+    @DisplayName("적응형 선택 - 압축되지 않는 내용의 소스는 압축을 건너뜀")
+    void compress_ShouldSkipIncompressibleSource() {
+        // given - 무작위 출력 문자열은 압축률이 약 0.8 이상
+        ReflectionTestUtils.setField(codecPolicy, "skipRatio", 0.7);
+        Random generator = new Random(42);
+        StringBuilder random = new StringBuilder();
+        while (random.length() < 2000) {
+            random.append((char) (0x21 + generator.nextInt(94)));
+        }
+
+        // when - 시험 압축 기간 이후
+        for (int i = 0; i < 3; i++) {
+            compressionService.compress("random-source", random.toString());
+        }
+        CompressedContent compressed = compressionService.compress("random-source", random.toString());
+
+        // then
+        assertNull(compressed, "압축 효과가 없으면 원문으로 저장해야 함");
+        assertEquals(ContentCodec.NONE, codecPolicy.select("random-source"));
+    }
+
+    @Test
+    @DisplayName("사전 압축 - 짧은 메시지는 소스별 사전 학습 후 사전으로 압축하고 사전 id로 복원")
+    void compress_ShouldUseTrainedDictionaryForShortMessages() {
+        // given - 운영 기본값처럼 1KB 이하는 일반 압축 대상이 아님
+        ReflectionTestUtils.setField(compressionService, "minCompressionSize", 1024);
+        when(dictionaryRepository.findTopBySourceOrderByVersionDesc("order-service")).thenReturn(Optional.empty());
+        when(dictionaryRepository.save(any(CompressionDictionary.class))).thenAnswer(inv -> {
+            CompressionDictionary dictionary = inv.getArgument(0);
+            dictionary.setId(7L);
+            return dictionary;
+        });
+        String message = "2024-03-15 10:30:%02d INFO [order-service] 주문 처리 완료 orderId=%d userId=u%d " +
+                "status=COMPLETED paymentMethod=CARD elapsed=%dms";
+
+        // when - 사전이 없을 때는 원문 저장, 샘플만 수집
+        CompressedContent beforeTraining = compressionService.compress("order-service",
+                String.format(message, 0, 1000, 1, 12));
+        for (int i = 1; i <= 400; i++) {
+            compressionService.compress("order-service", String.format(message, i % 60, 1000 + i, i % 50, i % 97));
+        }
+        CompressionDictionary trained = ReflectionTestUtils.invokeMethod(dictionaryManager, "train", "order-service");
+
+        String shortMessage = String.format(message, 30, 5555, 42, 31);
+        CompressedContent compressed = compressionService.compress("order-service", shortMessage);
+
+        // then
+        assertNull(beforeTraining, "사전이 없으면 짧은 메시지는 원문으로 저장해야 함");
+        assertNotNull(trained);
+        assertEquals(1, trained.getVersion());
+        assertNotNull(compressed);
+        assertEquals(ContentCodec.ZSTD_DICT, compressed.getCodec());
+        assertEquals(7L, compressed.getDictionaryId());
+        assertTrue(compressed.getData().length < shortMessage.getBytes(StandardCharsets.UTF_8).length / 2,
+                "사전 압축은 짧은 메시지를 절반 이하로 줄여야 함");
+
+        LogEntry entry = LogEntry.builder()
+                .contentBlob(compressed.getData())
+                .codec(compressed.getCodec().getId())
+                .dictionaryId(compressed.getDictionaryId())
+                .compressed(true)
+                .build();
+        assertEquals(shortMessage, compressionService.readContent(entry));
+    }
+
+    @Test
+    @DisplayName("사전 압축 - 새 버전으로 압축하고 캐시에서 밀려난 이전 버전은 DB에서 다시 읽어 복원")
+    void compress_ShouldKeepOnlyActiveVersionAndReloadEvictedDictionaries() {
+        // given
+        ReflectionTestUtils.setField(compressionService, "minCompressionSize", 1024);
+        when(dictionaryRepository.findTopBySourceOrderByVersionDesc("order-service")).thenReturn(Optional.empty());
+        when(dictionaryRepository.save(any(CompressionDictionary.class))).thenAnswer(inv -> {
+            CompressionDictionary dictionary = inv.getArgument(0);
+            dictionary.setId(7L);
+            return dictionary;
+        });
+        String message = "2024-03-15 10:30:%02d INFO [order-service] 주문 처리 완료 orderId=%d userId=u%d " +
+                "status=COMPLETED paymentMethod=CARD elapsed=%dms";
+        for (int i = 1; i <= 400; i++) {
+            compressionService.compress("order-service", String.format(message, i % 60, 1000 + i, i % 50, i % 97));
+        }
+        CompressionDictionary first = ReflectionTestUtils.invokeMethod(dictionaryManager, "train", "order-service");
+        String shortMessage = String.format(message, 30, 5555, 42, 31);
+        CompressedContent withFirst = compressionService.compress("order-service", shortMessage);
+
+        // when - 새 버전 등록 후 다른 소스 사전으로 해제용 캐시(2개)를 채움
+        ReflectionTestUtils.invokeMethod(dictionaryManager, "register", copy(first, 8L, "order-service", 2));
+        CompressedContent withSecond = compressionService.compress("order-service", shortMessage);
+        ReflectionTestUtils.invokeMethod(dictionaryManager, "register", copy(first, 9L, "payment-service", 1));
+        ReflectionTestUtils.invokeMethod(dictionaryManager, "register", copy(first, 10L, "user-service", 1));
+        when(dictionaryRepository.findById(7L)).thenReturn(Optional.of(first));
+
+        LogEntry entry = LogEntry.builder()
+                .contentBlob(withFirst.getData())
+                .codec(withFirst.getCodec().getId())
+                .dictionaryId(withFirst.getDictionaryId())
+                .compressed(true)
+                .build();
+
+        // then
+        assertEquals(7L, withFirst.getDictionaryId());
+        assertEquals(8L, withSecond.getDictionaryId(), "새 버전이 등록되면 새 버전으로 압축해야 함");
+        assertEquals(shortMessage, compressionService.readContent(entry));
+        verify(dictionaryRepository).findById(7L);
+    }
+
+    private CompressionDictionary copy(CompressionDictionary dictionary, long id, String source, int version) {
+        return CompressionDictionary.builder()
+                .id(id)
+                .source(source)
+                .version(version)
+                .dictionary(dictionary.getDictionary())
+                .build();
+    }
+
+    @Test
+    @DisplayName("이전 형식 읽기 - codec이 없는 Base64 압축 행과 비압축 행 모두 원문 반환")
+    void readContent_ShouldHandleLegacyRows() {
+        // given
+        String original = "이전 형식으로 저장된 로그입니다.".repeat(20);
+        LogEntry legacy = LogEntry.builder()
+                .content(compressionService.compressContent(original))
+                .compressed(true)
+                .build();
+        LogEntry plain = LogEntry.builder()
+                .content("비압축 로그")
+                .codec(ContentCodec.NONE.getId())
+                .compressed(false)
+                .build();
+
+        // when & then
+        assertEquals(original, compressionService.readContent(legacy));
+        assertEquals("비압축 로그", compressionService.readContent(plain));
+    }
+}
@@ -0,0 +1,114 @@
+package com.tenacy.logpulse.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class LogPartitionServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private LogPartitionService logPartitionService;
+
+    @BeforeEach
+    void setUp() {
+        logPartitionService = new LogPartitionService(jdbcTemplate);
+        ReflectionTestUtils.setField(logPartitionService, "partitionEnabled", true);
+        ReflectionTestUtils.setField(logPartitionService, "convertExisting", true);
+        ReflectionTestUtils.setField(logPartitionService, "precreateDays", 2);
+        ReflectionTestUtils.setField(logPartitionService, "retentionDays", 3);
+        ReflectionTestUtils.setField(logPartitionService, "archiveRetentionDays", 3);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 파티션만 DROP PARTITION으로 제거")
+    void dropExpiredPartitions_ShouldDropOnlyExpiredPartitions() {
+        // given
+        LocalDate today = LocalDate.now();
+        when(jdbcTemplate.queryForList(anyString(), eq("logs"))).thenReturn(List.of(
+                partition("p_old", today.minusDays(5), 1000L),
+                partition("p" + compact(today.minusDays(5)), today.minusDays(4), 200L),
+                partition("p" + compact(today.minusDays(4)), today.minusDays(3), 300L),
+                partition("p" + compact(today.minusDays(3)), today.minusDays(2), 400L),
+                Map.of("PARTITION_NAME", "p_max", "PARTITION_DESCRIPTION", "MAXVALUE", "TABLE_ROWS", 0L)));
+
+        // when
+        long dropped = logPartitionService.dropExpiredPartitions("logs", 3);
+
+        // then
+        assertEquals(1500L, dropped);
+        verify(jdbcTemplate).execute("ALTER TABLE logs DROP PARTITION p_old, p" + compact(today.minusDays(5)) +
+                ", p" + compact(today.minusDays(4)));
+    }
+
+    @Test
+    @DisplayName("파티션되지 않은 테이블은 기본 키에 created_at을 포함해 일 단위 파티션으로 변환")
+    void initialize_ShouldConvertUnpartitionedTables() {
+        // given
+        LocalDate today = LocalDate.now();
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), anyString())).thenReturn(0);
+
+        // when
+        logPartitionService.initialize();
+
+        // then
+        ArgumentCaptor<String> ddl = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(2)).execute(ddl.capture());
+        String logsDdl = ddl.getAllValues().get(0);
+        assertTrue(logsDdl.startsWith("ALTER TABLE logs "));
+        assertTrue(logsDdl.contains("DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at) PARTITION BY RANGE COLUMNS(created_at)"));
+        assertTrue(logsDdl.contains("PARTITION p_old VALUES LESS THAN ('" + today.minusDays(3) + " 00:00:00')"));
+        assertTrue(logsDdl.contains("PARTITION p" + compact(today.plusDays(2)) +
+                " VALUES LESS THAN ('" + today.plusDays(3) + " 00:00:00')"));
+        assertTrue(logsDdl.endsWith("PARTITION p_max VALUES LESS THAN (MAXVALUE))"));
+        assertTrue(ddl.getAllValues().get(1).startsWith("ALTER TABLE log_archives "));
+    }
+
+    @Test
+    @DisplayName("마지막 일자 파티션 이후 날짜만 p_max를 나누어 생성")
+    void createFuturePartitions_ShouldReorganizeMaxPartition() {
+        // given
+        LocalDate today = LocalDate.now();
+        when(jdbcTemplate.queryForList(anyString(), eq("logs"))).thenReturn(List.of(
+                partition("p" + compact(today), today.plusDays(1), 10L),
+                Map.of("PARTITION_NAME", "p_max", "PARTITION_DESCRIPTION", "MAXVALUE", "TABLE_ROWS", 0L)));
+
+        // when
+        logPartitionService.createFuturePartitions("logs", today.plusDays(2));
+
+        // then
+        verify(jdbcTemplate).execute("ALTER TABLE logs REORGANIZE PARTITION p_max INTO (" +
+                "PARTITION p" + compact(today.plusDays(1)) + " VALUES LESS THAN ('" + today.plusDays(2) + " 00:00:00'), " +
+                "PARTITION p" + compact(today.plusDays(2)) + " VALUES LESS THAN ('" + today.plusDays(3) + " 00:00:00'), " +
+                "PARTITION p_max VALUES LESS THAN (MAXVALUE))");
+    }
+
+    private Map<String, Object> partition(String name, LocalDate upperBound, long rows) {
+        return Map.of("PARTITION_NAME", name,
+                "PARTITION_DESCRIPTION", "'" + upperBound + " 00:00:00'",
+                "TABLE_ROWS", rows);
+    }
+
+    private String compact(LocalDate date) {
+        return date.toString().replace("-", "");
+    }
+}
@@ -0,0 +1,152 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.domain.LogEntry;
+import com.tenacy.logpulse.pattern.LogPatternDetector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class LogProducerServiceTest {
+
+    @Mock
+    private KafkaTemplate<String, LogEventDto> kafkaTemplate;
+
+    @Mock
+    private RealTimeErrorMonitorService errorMonitorService;
+
+    @Mock
+    private LogPatternDetector patternDetector;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LogProducerService logProducerService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        logProducerService = new LogProducerService(kafkaTemplate, errorMonitorService, patternDetector,
+                Runnable::run, meterRegistry);
+        ReflectionTestUtils.setField(logProducerService, "rawLogsTopic", "raw-logs");
+        ReflectionTestUtils.setField(logProducerService, "priorityLogsTopic", "priority-logs");
+        ReflectionTestUtils.setField(logProducerService, "priorityLaneEnabled", true);
+    }
+
+    @Test
+    @DisplayName("우선순위 토픽 전송 실패 시 알림 판단을 직접 수행")
+    void sendLogEvents_ShouldAlertLocallyWhenPriorityCopyFails() {
+        // given
+        LogEventDto error = event("ERROR");
+        when(kafkaTemplate.send(eq("raw-logs"), anyString(), any(LogEventDto.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send(eq("priority-logs"), anyString(), any(LogEventDto.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 장애")));
+
+        // when
+        logProducerService.sendLogEvents(List.of(error));
+
+        // then
+        verify(errorMonitorService).monitorLog(error);
+        ArgumentCaptor<LogEntry> captor = ArgumentCaptor.forClass(LogEntry.class);
+        verify(patternDetector).processLog(captor.capture());
+        assertEquals("ERROR", captor.getValue().getLogLevel());
+        assertEquals(1.0, meterRegistry.counter("logpulse.alert.priority.fallback").count());
+    }
+
+    @Test
+    @DisplayName("직접 알림 판단 대기열이 가득 차면 콜백 스레드에서 실행하지 않고 버림")
+    void sendLogEvents_ShouldDropLocalAlertWhenExecutorSaturated() {
+        // given
+        logProducerService = new LogProducerService(kafkaTemplate, errorMonitorService, patternDetector,
+                task -> {
+                    throw new RejectedExecutionException("대기열 포화");
+                }, meterRegistry);
+        ReflectionTestUtils.setField(logProducerService, "rawLogsTopic", "raw-logs");
+        ReflectionTestUtils.setField(logProducerService, "priorityLogsTopic", "priority-logs");
+        ReflectionTestUtils.setField(logProducerService, "priorityLaneEnabled", true);
+        when(kafkaTemplate.send(eq("raw-logs"), anyString(), any(LogEventDto.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        when(kafkaTemplate.send(eq("priority-logs"), anyString(), any(LogEventDto.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("브로커 장애")));
+
+        // when & then
+        assertDoesNotThrow(() -> logProducerService.sendLogEvents(List.of(event("ERROR"))));
+        verifyNoInteractions(errorMonitorService, patternDetector);
+        assertEquals(1.0, meterRegistry.counter("logpulse.alert.priority.fallback.dropped").count());
+    }
+
+    @Test
+    @DisplayName("우선순위 토픽 전송 성공 시 직접 알림 판단하지 않음")
+    void sendLogEvents_ShouldLeaveAlertingToPriorityLane() {
+        // given
+        when(kafkaTemplate.send(anyString(), anyString(), any(LogEventDto.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // when
+        logProducerService.sendLogEvents(List.of(event("WARN"), event("INFO")));
+
+        // then
+        verify(kafkaTemplate, times(1)).send(eq("priority-logs"), anyString(), any(LogEventDto.class));
+        verifyNoInteractions(errorMonitorService, patternDetector);
+    }
+
+    @Test
+    @DisplayName("스풀 재처리 이벤트는 재처리 헤더를 붙이고 우선순위 토픽으로 다시 보내지 않음")
+    void replayLogEvents_ShouldMarkReplayAndSkipPriorityCopy() {
+        // given
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        // when
+        logProducerService.replayLogEvents(List.of(event("ERROR")));
+
+        // then
+        ArgumentCaptor<ProducerRecord<String, LogEventDto>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        assertEquals("raw-logs", captor.getValue().topic());
+        assertNotNull(captor.getValue().headers().lastHeader(LogProducerService.REPLAY_HEADER));
+        verify(kafkaTemplate, never()).send(eq("priority-logs"), anyString(), any(LogEventDto.class));
+    }
+
+    @Test
+    @DisplayName("Kafka로 보내지 못한 ERROR/WARN 이벤트는 직접 알림 판단")
+    void alertUnsent_ShouldAlertOnlyPriorityLevels() {
+        // when
+        logProducerService.alertUnsent(List.of(event("ERROR"), event("INFO")));
+
+        // then
+        verify(errorMonitorService, times(1)).monitorLog(any());
+        verify(patternDetector, times(1)).processLog(any());
+    }
+
+    private LogEventDto event(String level) {
+        return LogEventDto.builder()
+                .source("api-server")
+                .content(level + " 로그")
+                .logLevel(level)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,190 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.domain.LogRollupRepository;
+import com.tenacy.logpulse.domain.RollupResolution;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class LogRollupServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private LogRollupRepository logRollupRepository;
+
+    private LogRollupService logRollupService;
+
+    @BeforeEach
+    void setUp() {
+        logRollupService = new LogRollupService(jdbcTemplate, logRollupRepository);
+        ReflectionTestUtils.setField(logRollupService, "minuteRetentionHours", 48L);
+        ReflectionTestUtils.setField(logRollupService, "hourRetentionDays", 90L);
+        ReflectionTestUtils.setField(logRollupService, "dayRetentionDays", 1825L);
+        ReflectionTestUtils.setField(logRollupService, "backfillEnabled", true);
+    }
+
+    @Test
+    @DisplayName("구간 선택 - 경계에 맞는 가장 거친 단위")
+    void resolve_ShouldPickCoarsestAlignedResolution() {
+        // given
+        LocalDateTime today = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+        LocalDateTime currentHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime currentMinute = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+
+        // when & then
+        assertEquals(RollupResolution.DAY,
+                logRollupService.resolve(today.minusDays(60), today.plusDays(1), RollupResolution.DAY));
+        assertEquals(RollupResolution.HOUR,
+                logRollupService.resolve(currentHour.minusHours(5), currentHour, RollupResolution.DAY));
+        assertEquals(RollupResolution.MINUTE,
+                logRollupService.resolve(currentMinute.minusMinutes(10), currentMinute, RollupResolution.DAY));
+        assertEquals(RollupResolution.HOUR,
+                logRollupService.resolve(today.minusDays(7), today, RollupResolution.HOUR),
+                "요청한 단위보다 거친 단위는 고르지 않아야 함");
+    }
+
+    @Test
+    @DisplayName("구간 선택 - 경계에 맞지 않으면 시작 시각을 보관 중인 가장 세밀한 단위")
+    void resolve_ShouldFallBackToFinestRetainedResolution() {
+        // given
+        LocalDateTime now = LocalDateTime.now().withSecond(30);
+
+        // when & then
+        assertEquals(RollupResolution.MINUTE,
+                logRollupService.resolve(now.minusHours(24), now, RollupResolution.DAY));
+        assertEquals(RollupResolution.HOUR,
+                logRollupService.resolve(now.minusDays(30), now, RollupResolution.DAY),
+                "분 단위 보관 기간(48시간)이 지난 구간은 시간 단위");
+        assertEquals(RollupResolution.DAY,
+                logRollupService.resolve(now.minusDays(365), now, RollupResolution.DAY),
+                "시간 단위 보관 기간(90일)이 지난 구간은 일 단위");
+    }
+
+    @Test
+    @DisplayName("집계 반영 - 분 단위 증가분을 분 / 시간 / 일 행으로 합쳐 한 문장으로 upsert")
+    void apply_ShouldUpsertEveryResolution() throws Exception {
+        // given
+        LocalDateTime time = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusMinutes(10);
+        Map<LogStatisticsService.StatKey, Integer> minuteCounts = Map.of(
+                new LogStatisticsService.StatKey(time, "api-server", "ERROR"), 2,
+                new LogStatisticsService.StatKey(time.plusMinutes(1), "api-server", "ERROR"), 3);
+
+        // when
+        logRollupService.apply(minuteCounts);
+
+        // then - 분 2행 + 시간 1행 + 일 1행
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(eq(LogRollupService.upsertSql(4)), setter.capture());
+
+        Map<String, Long> bound = bind(setter.getValue(), 4);
+        assertEquals(2L, bound.get("MINUTE|" + time));
+        assertEquals(3L, bound.get("MINUTE|" + time.plusMinutes(1)));
+        assertEquals(5L, bound.get("HOUR|" + time.truncatedTo(ChronoUnit.HOURS)));
+        assertEquals(5L, bound.get("DAY|" + time.truncatedTo(ChronoUnit.DAYS)));
+    }
+
+    @Test
+    @DisplayName("집계 반영 - 보관 기간이 이미 지난 단위는 건너뜀")
+    void apply_ShouldSkipExpiredResolutions() throws Exception {
+        // given - 분 단위 보관 기간(48시간)을 지난 로그
+        LocalDateTime time = LocalDateTime.now().minusDays(10);
+        Map<LogStatisticsService.StatKey, Integer> minuteCounts = Map.of(
+                new LogStatisticsService.StatKey(time, "api-server", "INFO"), 1);
+
+        // when
+        logRollupService.apply(minuteCounts);
+
+        // then
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate).update(eq(LogRollupService.upsertSql(2)), setter.capture());
+        Map<String, Long> bound = bind(setter.getValue(), 2);
+        assertTrue(bound.keySet().stream().noneMatch(key -> key.startsWith("MINUTE")));
+    }
+
+    @Test
+    @DisplayName("정리 - 단위별 보관 기간 이전 행 삭제")
+    void compact_ShouldDeleteRowsPastRetention() {
+        // when
+        logRollupService.compact();
+
+        // then
+        ArgumentCaptor<LocalDateTime> threshold = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(logRollupRepository).deleteByResolutionOlderThan(eq(RollupResolution.MINUTE), threshold.capture());
+        verify(logRollupRepository).deleteByResolutionOlderThan(eq(RollupResolution.HOUR), any());
+        verify(logRollupRepository).deleteByResolutionOlderThan(eq(RollupResolution.DAY), any());
+
+        long hoursAgo = ChronoUnit.HOURS.between(threshold.getValue(), LocalDateTime.now());
+        assertTrue(hoursAgo >= 48 && hoursAgo <= 49);
+    }
+
+    @Test
+    @DisplayName("채우기 - log_statistics 날짜별로 일 단위를 다시 계산하고, 시간 단위는 보관 기간 안의 날짜만 계산")
+    void backfillFromStatistics_ShouldRecomputeDayAndRetainedHourRows() {
+        // given
+        LocalDate today = LocalDate.now();
+        LocalDate oldDate = today.minusDays(200);
+        when(jdbcTemplate.queryForList(anyString(), eq(LocalDate.class), any(Object.class)))
+                .thenReturn(List.of(oldDate, today));
+
+        // when
+        logRollupService.backfillFromStatistics();
+
+        // then
+        verify(jdbcTemplate).update(LogRollupService.backfillDaySql(), Date.valueOf(oldDate));
+        verify(jdbcTemplate).update(LogRollupService.backfillDaySql(), Date.valueOf(today));
+        verify(jdbcTemplate).update(eq(LogRollupService.backfillHourSql()), eq(Date.valueOf(today)), any(Timestamp.class));
+        verify(jdbcTemplate, never()).update(eq(LogRollupService.backfillHourSql()), eq(Date.valueOf(oldDate)), any());
+        assertTrue(LogRollupService.backfillDaySql().endsWith("ON DUPLICATE KEY UPDATE count = VALUES(count), updated_at = VALUES(updated_at)"));
+    }
+
+    // 바인딩된 (resolution, bucket_start) → count
+    private Map<String, Long> bind(PreparedStatementSetter setter, int rows) throws Exception {
+        List<Object> values = new ArrayList<>();
+        PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    if (method.getName().startsWith("set")) {
+                        values.add(args[1]);
+                    }
+                    return null;
+                });
+        setter.setValues(ps);
+
+        assertEquals(rows * 5, values.size());
+        Map<String, Long> bound = new HashMap<>();
+        for (int i = 0; i < values.size(); i += 5) {
+            LocalDateTime bucket = ((Timestamp) values.get(i + 1)).toLocalDateTime();
+            bound.put(values.get(i) + "|" + bucket, (Long) values.get(i + 4));
+        }
+        return bound;
+    }
+}
@@ -1,7 +1,10 @@
 package com.tenacy.logpulse.service;
 
+import com.tenacy.logpulse.api.dto.CursorPageResponse;
 import com.tenacy.logpulse.api.dto.LogEntryRequest;
 import com.tenacy.logpulse.api.dto.LogEntryResponse;
+import com.tenacy.logpulse.compression.CompressedContent;
+import com.tenacy.logpulse.domain.ContentCodec;
 import com.tenacy.logpulse.domain.LogEntry;
 import com.tenacy.logpulse.domain.LogRepository;
 import com.tenacy.logpulse.elasticsearch.service.ElasticsearchService;
@@ -18,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -154,12 +158,79 @@ public class LogServiceTest {
                 eq(keyword), eq(level), eq(source), eq(null), eq(start), eq(end), eq(pageable));
     }
 
+    @Test
+    @DisplayName("로그 조회 - 커서 페이지네이션은 한 건 더 읽어 다음 커서 생성")
+    void retrieveLogsByCursor_ShouldReturnNextCursorWithoutCount() {
+        // given - 요청 크기 2, 조회 결과 3건 (다음 페이지 있음)
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123_000);
+        List<LogEntry> rows = List.of(logEntry(30L, time), logEntry(20L, time), logEntry(10L, time.minusSeconds(1)));
+        when(logRepository.searchBeforeCursor(isNull(), eq("ERROR"), isNull(), isNull(),
+                eq(LogCursor.MIN_TIME), eq(LogCursor.MAX_TIME), eq(LogCursor.MAX_TIME), eq(Long.MAX_VALUE),
+                eq(PageRequest.of(0, 3))))
+                .thenReturn(rows);
+
+        // when
+        CursorPageResponse<LogEntryResponse> page = logService.retrieveLogsByCursor(
+                null, "ERROR", null, null, null, null, null, 2, Sort.Direction.DESC);
+
+        // then
+        assertEquals(2, page.getSize());
+        assertTrue(page.isHasNext());
+        assertEquals(List.of(30L, 20L), page.getContent().stream().map(LogEntryResponse::getId).toList());
+
+        LogCursor next = LogCursor.decode(page.getNextCursor());
+        assertEquals(Sort.Direction.DESC, next.getDirection());
+        assertEquals(time, next.getCreatedAt());
+        assertEquals(20L, next.getId());
+        verify(logRepository, never()).searchWithMultipleCriteria(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("로그 조회 - 커서 위치 다음부터 커서의 정렬 방향으로 조회")
+    void retrieveLogsByCursor_ShouldSeekFromCursor() {
+        // given
+        LocalDateTime time = LocalDateTime.of(2024, 1, 1, 12, 0);
+        LocalDateTime start = time.minusHours(1);
+        String cursor = new LogCursor(Sort.Direction.ASC, time, 20L).encode();
+        when(logRepository.searchAfterCursor(any(), any(), any(), any(), eq(start), eq(LogCursor.MAX_TIME),
+                eq(time), eq(20L), any(Pageable.class)))
+                .thenReturn(List.of(logEntry(21L, time)));
+
+        // when - 요청 방향(DESC)보다 커서에 담긴 방향이 우선
+        CursorPageResponse<LogEntryResponse> page = logService.retrieveLogsByCursor(
+                null, null, null, null, start, null, cursor, 20, Sort.Direction.DESC);
+
+        // then
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        assertEquals(1, page.getSize());
+    }
+
+    @Test
+    @DisplayName("로그 조회 - 잘못된 커서는 거부")
+    void retrieveLogsByCursor_ShouldRejectMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> logService.retrieveLogsByCursor(
+                null, null, null, null, null, null, "not-a-cursor", 20, Sort.Direction.DESC));
+        verifyNoInteractions(logRepository);
+    }
+
+    private LogEntry logEntry(Long id, LocalDateTime createdAt) {
+        return LogEntry.builder()
+                .id(id)
+                .source("api-server")
+                .content("에러 발생")
+                .logLevel("ERROR")
+                .createdAt(createdAt)
+                .compressed(false)
+                .build();
+    }
+
     @Test
     @DisplayName("로그 압축 - 로그 압축 및 압축 해제 테스트")
     void createLog_ShouldCompressContent() {
         // given
         String originalContent = "이것은 압축될 긴 로그 메시지입니다.".repeat(50); // 길게 반복
-        String compressedContent = "압축된내용";
+        byte[] compressedContent = {0x1f, (byte) 0x8b, 0x08, 0x00};
 
         LogEntryRequest compressibleRequest = LogEntryRequest.builder()
                 .source("test-service")
@@ -170,16 +241,18 @@ public class LogServiceTest {
         LogEntry compressedEntry = LogEntry.builder()
                 .id(1L)
                 .source("test-service")
-                .content(compressedContent)
+                .contentBlob(compressedContent)
+                .codec(ContentCodec.GZIP.getId())
                 .logLevel("INFO")
                 .createdAt(LocalDateTime.now())
                 .compressed(true)
                 .originalSize(originalContent.getBytes().length)
-                .compressedSize(compressedContent.getBytes().length)
+                .compressedSize(compressedContent.length)
                 .build();
 
         when(compressionService.shouldCompress(originalContent)).thenReturn(true);
-        when(compressionService.compressContent(originalContent)).thenReturn(compressedContent);
+        when(compressionService.compress("test-service", originalContent))
+                .thenReturn(new CompressedContent(ContentCodec.GZIP, compressedContent));
         when(logRepository.save(any(LogEntry.class))).thenReturn(compressedEntry);
 
         // when
@@ -191,13 +264,16 @@ public class LogServiceTest {
 
         // 압축 로직 검증
         verify(compressionService).shouldCompress(originalContent);
-        verify(compressionService).compressContent(originalContent);
+        verify(compressionService).compress("test-service", originalContent);
 
         // 저장 시 압축된 내용 검증
         ArgumentCaptor<LogEntry> logCaptor = ArgumentCaptor.forClass(LogEntry.class);
         verify(logRepository).save(logCaptor.capture());
         LogEntry savedLog = logCaptor.getValue();
         assertEquals(true, savedLog.getCompressed());
-        assertEquals(compressedContent, savedLog.getContent());
+        assertNull(savedLog.getContent());
+        assertArrayEquals(compressedContent, savedLog.getContentBlob());
+        assertEquals(ContentCodec.GZIP.getId(), savedLog.getCodec());
+        assertEquals(compressedContent.length, savedLog.getCompressedSize());
     }
 }
\ No newline at end of file
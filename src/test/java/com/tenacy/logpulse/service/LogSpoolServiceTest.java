@@ -0,0 +1,201 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.domain.ContentCodec;
+import com.tenacy.logpulse.domain.LogEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class LogSpoolServiceTest {
+
+    @Mock
+    private JdbcBatchInsertService jdbcBatchInsertService;
+    @Mock
+    private LogStatisticsService logStatisticsService;
+    @Mock
+    private LogProducerService logProducerService;
+    @Mock
+    private LiveDashboardService liveDashboardService;
+
+    @TempDir
+    Path directory;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LogSpoolService logSpoolService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        logSpoolService = new LogSpoolService(jdbcBatchInsertService, logStatisticsService, logProducerService,
+                liveDashboardService, Runnable::run, meterRegistry);
+        ReflectionTestUtils.setField(logSpoolService, "spoolEnabled", true);
+        ReflectionTestUtils.setField(logSpoolService, "directory", directory.toString());
+        ReflectionTestUtils.setField(logSpoolService, "segmentSizeMb", 1);
+        ReflectionTestUtils.setField(logSpoolService, "maxSegments", 4);
+        ReflectionTestUtils.setField(logSpoolService, "replayBatchSize", 2);
+        ReflectionTestUtils.setField(logSpoolService, "replayRatePerSecond", 3);
+        ReflectionTestUtils.setField(logSpoolService, "replayIntervalMs", 1000L);
+        ReflectionTestUtils.setField(logSpoolService, "kafkaAckTimeoutMs", 1000L);
+        logSpoolService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        logSpoolService.close();
+    }
+
+    @Test
+    @DisplayName("주기당 재처리 한도까지만 배치 단위로 저장하고 나머지는 다음 주기로 미룸")
+    void replay_ShouldStopAtBudget() {
+        // given - 한도 3개, 배치 2개
+        assertTrue(logSpoolService.spoolEntries(entries(5)));
+
+        // when
+        logSpoolService.replay();
+
+        // then
+        ArgumentCaptor<List<LogEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcBatchInsertService, times(2)).batchInsert(captor.capture());
+        assertEquals(List.of(2, 1), captor.getAllValues().stream().map(List::size).toList());
+        assertEquals(2.0, pending("jdbc"));
+        assertFalse(logSpoolService.isJdbcUnavailable(), "재처리가 성공하면 다시 MySQL로 저장해야 함");
+        assertEquals(3.0, meterRegistry.counter("logpulse.spool.replayed", "spool", "jdbc").count());
+    }
+
+    @Test
+    @DisplayName("일부만 저장되면 저장된 항목만 통계에 반영하고 미저장 항목은 스풀 끝에 다시 기록")
+    void replay_ShouldRespoolUncommittedEntries() {
+        // given
+        ReflectionTestUtils.setField(logSpoolService, "replayBatchSize", 3);
+        assertTrue(logSpoolService.spoolEntries(entries(3)));
+        doAnswer(inv -> {
+            List<LogEntry> batch = inv.getArgument(0);
+            throw new PartialBatchInsertException(List.of(batch.get(1)), new IllegalStateException("샤드 실패"));
+        }).when(jdbcBatchInsertService).batchInsert(anyList());
+
+        // when
+        logSpoolService.replay();
+
+        // then
+        ArgumentCaptor<List<LogEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logStatisticsService).batchUpdateStatistics(captor.capture());
+        assertEquals(List.of("로그 0", "로그 2"), captor.getValue().stream().map(LogEntry::getContent).toList());
+        assertEquals(1.0, pending("jdbc"), "미저장 항목만 다시 기록되어야 함");
+    }
+
+    @Test
+    @DisplayName("데이터 오류로 저장할 수 없는 항목은 버리고 나머지는 저장")
+    void replay_ShouldDropPoisonEntries() {
+        // given
+        ReflectionTestUtils.setField(logSpoolService, "replayBatchSize", 3);
+        assertTrue(logSpoolService.spoolEntries(entries(3)));
+        doAnswer(inv -> {
+            List<LogEntry> batch = inv.getArgument(0);
+            if (batch.size() > 1 || "로그 1".equals(batch.get(0).getContent())) {
+                throw new IllegalArgumentException("Data too long");
+            }
+            return null;
+        }).when(jdbcBatchInsertService).batchInsert(anyList());
+
+        // when
+        logSpoolService.replay();
+
+        // then
+        assertEquals(0.0, pending("jdbc"));
+        assertEquals(1.0, meterRegistry.counter("logpulse.spool.dropped", "spool", "jdbc").count());
+        ArgumentCaptor<List<LogEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(logStatisticsService).batchUpdateStatistics(captor.capture());
+        assertEquals(2, captor.getValue().size());
+    }
+
+    @Test
+    @DisplayName("다시 보내도 실패하는 이벤트는 버리고 커서를 이동하여 재처리를 막지 않음")
+    void replay_ShouldDropUnsendableEvents() {
+        // given
+        assertTrue(logSpoolService.spoolEvents(events(2)));
+        when(logProducerService.replayLogEvents(anyList())).thenReturn(List.of(
+                CompletableFuture.completedFuture(mock(SendResult.class)),
+                CompletableFuture.failedFuture(new KafkaProducerException(null, "전송 실패",
+                        new RecordTooLargeException("레코드 크기 초과")))));
+
+        // when
+        logSpoolService.replay();
+
+        // then
+        assertEquals(0.0, pending("kafka"));
+        assertFalse(logSpoolService.isKafkaUnavailable());
+        assertEquals(1.0, meterRegistry.counter("logpulse.spool.dropped", "spool", "kafka").count());
+    }
+
+    @Test
+    @DisplayName("일시적 전송 실패가 있으면 배치를 남겨 두고 다음 주기에 다시 보냄")
+    void replay_ShouldKeepEventsOnTransientFailure() {
+        // given
+        assertTrue(logSpoolService.spoolEvents(events(2)));
+        when(logProducerService.replayLogEvents(anyList())).thenReturn(List.of(
+                CompletableFuture.failedFuture(new RecordTooLargeException("레코드 크기 초과")),
+                CompletableFuture.failedFuture(new TimeoutException("브로커 응답 없음"))));
+
+        // when
+        logSpoolService.replay();
+
+        // then
+        assertEquals(2.0, pending("kafka"));
+        assertTrue(logSpoolService.isKafkaUnavailable());
+        assertEquals(0.0, meterRegistry.counter("logpulse.spool.dropped", "spool", "kafka").count());
+    }
+
+    private double pending(String spool) {
+        return meterRegistry.find("logpulse.spool.records").tag("spool", spool).gauge().value();
+    }
+
+    private List<LogEntry> entries(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> LogEntry.builder()
+                        .source("test-source")
+                        .content("로그 " + i)
+                        .codec(ContentCodec.NONE.getId())
+                        .logLevel("INFO")
+                        .createdAt(LocalDateTime.now())
+                        .compressed(false)
+                        .build())
+                .toList();
+    }
+
+    private List<LogEventDto> events(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> LogEventDto.builder()
+                        .source("test-source")
+                        .content("이벤트 " + i)
+                        .logLevel("INFO")
+                        .timestamp(LocalDateTime.now())
+                        .build())
+                .toList();
+    }
+}
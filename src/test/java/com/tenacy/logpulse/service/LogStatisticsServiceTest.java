@@ -0,0 +1,304 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.domain.LogEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class LogStatisticsServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private LogRollupService logRollupService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private LogStatisticsService logStatisticsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        logStatisticsService = new LogStatisticsService(jdbcTemplate, logRollupService, transactionManager,
+                meterRegistry);
+        ReflectionTestUtils.setField(logStatisticsService, "writeBehindEnabled", true);
+        ReflectionTestUtils.setField(logStatisticsService, "maxPending", 50_000L);
+    }
+
+    @Test
+    @DisplayName("배치 통계 갱신 - 키별로 집계해 반영 시 한 문장으로 upsert")
+    void batchUpdateStatistics_ShouldUpsertAggregatedKeysInOneStatement() throws Exception {
+        // given
+        LocalDateTime time = LocalDateTime.of(2024, 3, 15, 10, 30);
+        List<LogEntry> entries = List.of(
+                entry("api-server", "ERROR", time),
+                entry("api-server", "ERROR", time.plusMinutes(5)),
+                entry("api-server", "INFO", time),
+                entry("api-server", "ERROR", time));
+
+        // when
+        logStatisticsService.batchUpdateStatistics(entries);
+        verifyNoInteractions(jdbcTemplate);
+        long flushed = logStatisticsService.flush();
+
+        // then
+        assertEquals(4, flushed);
+        ArgumentCaptor<PreparedStatementSetter> setter = ArgumentCaptor.forClass(PreparedStatementSetter.class);
+        verify(jdbcTemplate, times(1)).update(eq(LogStatisticsService.upsertSql(2)), setter.capture());
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps);
+
+        // 키 순서대로 바인딩 (ERROR < INFO)
+        verify(ps).setDate(1, Date.valueOf(LocalDate.of(2024, 3, 15)));
+        verify(ps).setInt(2, 10);
+        verify(ps).setString(3, "api-server");
+        verify(ps).setString(4, "ERROR");
+        verify(ps).setInt(5, 3);
+        verify(ps).setString(9, "INFO");
+        verify(ps).setInt(10, 1);
+
+        // 집계 테이블에는 분 단위 증가분을 같은 트랜잭션에서 전달
+        ArgumentCaptor<Map<LogStatisticsService.StatKey, Integer>> minuteCounts = ArgumentCaptor.forClass(Map.class);
+        verify(logRollupService).apply(minuteCounts.capture());
+        assertEquals(Map.of(
+                new LogStatisticsService.StatKey(time, "api-server", "ERROR"), 2,
+                new LogStatisticsService.StatKey(time.plusMinutes(5), "api-server", "ERROR"), 1,
+                new LogStatisticsService.StatKey(time, "api-server", "INFO"), 1), minuteCounts.getValue());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("upsert 문장 - 중복 키는 count 누적")
+    void upsertSql_ShouldAccumulateOnDuplicateKey() {
+        // when
+        String sql = LogStatisticsService.upsertSql(3);
+
+        // then
+        assertTrue(sql.endsWith("ON DUPLICATE KEY UPDATE count = count + VALUES(count), updated_at = VALUES(updated_at)"));
+        assertEquals(15, sql.chars().filter(c -> c == '?').count());
+    }
+
+    @Test
+    @DisplayName("잠금 충돌 시 재시도 후 성공")
+    void batchUpdateStatistics_ShouldRetryOnLockFailure() {
+        // given - write-behind를 끄면 호출 스레드에서 바로 반영
+        ReflectionTestUtils.setField(logStatisticsService, "writeBehindEnabled", false);
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new CannotAcquireLockException("deadlock"))
+                .thenReturn(1);
+
+        // when
+        logStatisticsService.batchUpdateStatistics(List.of(entry("api-server", "INFO", LocalDateTime.now())));
+
+        // then
+        verify(jdbcTemplate, times(2)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("빈 배치는 DB에 접근하지 않음")
+    void batchUpdateStatistics_ShouldSkipEmptyBatch() {
+        // when
+        logStatisticsService.batchUpdateStatistics(List.of());
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("미반영 증가분 조회 - 반영 전에는 메모리 값, 반영 후에는 비어 있음")
+    void getPendingDeltas_ShouldExposeUnflushedCounts() {
+        // given
+        LocalDateTime time = LocalDateTime.of(2024, 3, 15, 10, 30);
+        logStatisticsService.batchUpdateStatistics(List.of(
+                entry("api-server", "ERROR", time),
+                entry("api-server", "ERROR", time)));
+        logStatisticsService.updateStatistics("api-server", "ERROR", time);
+
+        // when
+        Map<LogStatisticsService.StatKey, Long> pending = logStatisticsService.getPendingDeltas();
+
+        // then
+        assertEquals(1, pending.size());
+        assertEquals(3L, pending.values().iterator().next());
+        assertEquals(3, logStatisticsService.getPendingCount());
+
+        logStatisticsService.flush();
+        assertTrue(logStatisticsService.getPendingDeltas().isEmpty());
+        assertEquals(0, logStatisticsService.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 증가분을 되돌려 다음 반영에 포함")
+    void flush_ShouldRestoreDeltasOnFailure() {
+        // given
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(1);
+        logStatisticsService.batchUpdateStatistics(List.of(entry("api-server", "INFO", LocalDateTime.now())));
+
+        // when
+        long failed = logStatisticsService.flush();
+        long pendingAfterFailure = logStatisticsService.getPendingCount();
+        long retried = logStatisticsService.flush();
+
+        // then
+        assertEquals(0, failed);
+        assertEquals(1, pendingAfterFailure);
+        assertEquals(1, retried);
+        assertEquals(0, logStatisticsService.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("source, level, timestamp가 없는 로그는 제외하고 나머지만 반영")
+    void batchUpdateStatistics_ShouldSkipEntriesWithNullKeys() {
+        // given
+        LocalDateTime time = LocalDateTime.of(2024, 3, 15, 10, 30);
+        List<LogEntry> entries = List.of(
+                entry(null, "ERROR", time),
+                entry("api-server", null, time),
+                entry("api-server", "ERROR", null),
+                entry("api-server", "ERROR", time));
+
+        // when
+        logStatisticsService.batchUpdateStatistics(entries);
+        long flushed = logStatisticsService.flush();
+
+        // then
+        assertEquals(1, flushed);
+        assertEquals(3.0, meterRegistry.counter("logpulse.statistics.dropped").count());
+        verify(jdbcTemplate).update(eq(LogStatisticsService.upsertSql(1)), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("데이터 오류로 반영에 실패하면 키별로 다시 반영하고 실패한 키는 다시 누적하지 않음")
+    void flush_ShouldDropOnlyFailingKeyOnNonTransientFailure() {
+        // given - 배치 반영 실패, 키별 반영에서 한 키만 실패
+        LocalDateTime time = LocalDateTime.of(2024, 3, 15, 10, 30);
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class)))
+                .thenThrow(new DataIntegrityViolationException("bad row"))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("bad row"));
+        logStatisticsService.batchUpdateStatistics(List.of(
+                entry("api-server", "ERROR", time),
+                entry("web-server", "ERROR", time)));
+
+        // when
+        long flushed = logStatisticsService.flush();
+        long retried = logStatisticsService.flush();
+
+        // then
+        assertEquals(1, flushed);
+        assertEquals(0, retried);
+        assertEquals(0, logStatisticsService.getPendingCount());
+        assertEquals(1.0, meterRegistry.counter("logpulse.statistics.dropped").count());
+        verify(jdbcTemplate, times(3)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 키를 누적하고 동시에 반영해도 합계가 정확")
+    void accumulate_ShouldBeExactWithConcurrentWritersAndFlushes() throws Exception {
+        // given - count 파라미터(5번째마다)에 바인딩된 값을 합산
+        AtomicLong flushedTotal = new AtomicLong();
+        PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("setInt") && (int) args[0] % 5 == 0) {
+                        flushedTotal.addAndGet((int) args[1]);
+                    }
+                    return null;
+                });
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            ((PreparedStatementSetter) invocation.getArgument(1)).setValues(ps);
+            return 1;
+        });
+        LocalDateTime time = LocalDateTime.of(2024, 3, 15, 10, 30);
+        int threads = 4;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    logStatisticsService.updateStatistics("api-server", i % 2 == 0 ? "INFO" : "ERROR", time);
+                    if (i % 500 == 0) {
+                        logStatisticsService.flush();
+                    }
+                }
+                done.countDown();
+            });
+        }
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+        logStatisticsService.flush();
+
+        // then
+        assertEquals(threads * perThread, flushedTotal.get());
+        assertTrue(logStatisticsService.getPendingDeltas().isEmpty());
+    }
+
+    @Test
+    @DisplayName("미반영 건수가 임계치에 도달하면 주기를 기다리지 않고 반영")
+    void accumulate_ShouldFlushWhenPendingExceedsThreshold() {
+        // given
+        ReflectionTestUtils.setField(logStatisticsService, "maxPending", 10L);
+        List<LogEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            entries.add(entry("api-server", "INFO", LocalDateTime.now()));
+        }
+
+        // when
+        logStatisticsService.batchUpdateStatistics(entries);
+
+        // then
+        verify(jdbcTemplate, timeout(5000)).update(anyString(), any(PreparedStatementSetter.class));
+    }
+
+    private LogEntry entry(String source, String level, LocalDateTime createdAt) {
+        return LogEntry.builder()
+                .source(source)
+                .logLevel(level)
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogAcceptedResponse;
+import com.tenacy.logpulse.api.dto.LogEntryRequest;
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class LogWriteBehindServiceTest {
+
+    @Mock
+    private LogProducerService logProducerService;
+
+    @Mock
+    private LogSpoolService logSpoolService;
+
+    @InjectMocks
+    private LogWriteBehindService logWriteBehindService;
+
+    @Test
+    @DisplayName("write-behind - Kafka 기록 확인 후 추적 ID와 함께 접수")
+    void submit_ShouldAcceptAfterBrokerAcknowledgement() throws Exception {
+        // given
+        LogEntryRequest request = request();
+
+        // when
+        Optional<LogAcceptedResponse> accepted = logWriteBehindService.submit(request);
+
+        // then
+        assertTrue(accepted.isPresent());
+        assertEquals("accepted", accepted.get().getStatus());
+
+        ArgumentCaptor<LogEventDto> eventCaptor = ArgumentCaptor.forClass(LogEventDto.class);
+        ArgumentCaptor<String> trackingIdCaptor = ArgumentCaptor.forClass(String.class);
+        verify(logProducerService).sendLogEventAndWait(eventCaptor.capture(), trackingIdCaptor.capture());
+        assertEquals(accepted.get().getTrackingId(), trackingIdCaptor.getValue());
+        assertEquals("api-server", eventCaptor.getValue().getSource());
+        assertEquals("INFO", eventCaptor.getValue().getLogLevel(), "레벨이 없으면 INFO로 설정");
+        assertNotNull(eventCaptor.getValue().getTimestamp());
+    }
+
+    @Test
+    @DisplayName("write-behind - 전송 실패 시 빈 값을 반환하여 동기 처리로 대체")
+    void submit_ShouldFallBackOnSendFailure() throws Exception {
+        // given
+        doThrow(new ExecutionException("브로커 연결 실패", new RuntimeException()))
+                .when(logProducerService).sendLogEventAndWait(any(LogEventDto.class), anyString());
+
+        // when
+        Optional<LogAcceptedResponse> accepted = logWriteBehindService.submit(request());
+
+        // then
+        assertTrue(accepted.isEmpty());
+    }
+
+    @Test
+    @DisplayName("write-behind - 확인 응답 시간 초과 시 로컬 스풀에 기록된 경우에만 접수")
+    void submit_ShouldSpoolOnAckTimeout() throws Exception {
+        // given
+        doThrow(new TimeoutException("확인 응답 시간 초과"))
+                .when(logProducerService).sendLogEventAndWait(any(LogEventDto.class), anyString());
+        when(logSpoolService.spoolEvents(anyList())).thenReturn(true);
+
+        // when
+        Optional<LogAcceptedResponse> accepted = logWriteBehindService.submit(request());
+
+        // then
+        assertTrue(accepted.isPresent());
+        assertEquals("spooled", accepted.get().getStatus());
+        assertNotNull(accepted.get().getTrackingId());
+        verify(logProducerService, never()).alertUnsent(anyList());
+    }
+
+    @Test
+    @DisplayName("write-behind - 확인 응답 시간 초과 후 스풀에도 기록하지 못하면 동기 처리로 대체")
+    void submit_ShouldFallBackWhenAckTimesOutAndSpoolRejects() throws Exception {
+        // given
+        doThrow(new TimeoutException("확인 응답 시간 초과"))
+                .when(logProducerService).sendLogEventAndWait(any(LogEventDto.class), anyString());
+        when(logSpoolService.spoolEvents(anyList())).thenReturn(false);
+
+        // when
+        Optional<LogAcceptedResponse> accepted = logWriteBehindService.submit(request());
+
+        // then
+        assertTrue(accepted.isEmpty());
+    }
+
+    @Test
+    @DisplayName("write-behind - Kafka 장애 중에는 전송을 기다리지 않고 바로 스풀에 기록")
+    void submit_ShouldSpoolWithoutSendingWhileKafkaUnavailable() throws Exception {
+        // given
+        when(logSpoolService.isKafkaUnavailable()).thenReturn(true);
+        when(logSpoolService.spoolEvents(anyList())).thenReturn(true);
+
+        // when
+        Optional<LogAcceptedResponse> accepted = logWriteBehindService.submit(request());
+
+        // then
+        assertEquals("spooled", accepted.orElseThrow().getStatus());
+        verify(logProducerService, never()).sendLogEventAndWait(any(LogEventDto.class), anyString());
+        verify(logProducerService).alertUnsent(anyList());
+    }
+
+    private LogEntryRequest request() {
+        return LogEntryRequest.builder()
+                .source("api-server")
+                .content("write-behind 로그")
+                .build();
+    }
+}
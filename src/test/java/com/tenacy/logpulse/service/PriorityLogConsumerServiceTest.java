@@ -0,0 +1,98 @@
+package com.tenacy.logpulse.service;
+
+import com.tenacy.logpulse.api.dto.LogEventDto;
+import com.tenacy.logpulse.domain.LogEntry;
+import com.tenacy.logpulse.pattern.LogPatternDetector;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+public class PriorityLogConsumerServiceTest {
+
+    @Mock
+    private RealTimeErrorMonitorService errorMonitorService;
+    @Mock
+    private LogPatternDetector patternDetector;
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PriorityLogConsumerService consumerService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        consumerService = new PriorityLogConsumerService(errorMonitorService, patternDetector, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("우선순위 이벤트를 오류 모니터링과 패턴 감지에 전달하고 수집-알림 지연 기록")
+    void consume_ShouldMonitorAndRecordLatency() {
+        // given
+        long producedAt = System.currentTimeMillis() - 150;
+        LogEventDto event = LogEventDto.builder()
+                .source("payment-service")
+                .content("결제 승인 실패: timeout")
+                .logLevel("ERROR")
+                .timestamp(LocalDateTime.now())
+                .build();
+        ConsumerRecord<String, LogEventDto> record = new ConsumerRecord<>("raw-logs-priority", 0, 0L,
+                producedAt, TimestampType.CREATE_TIME, 0, 0, "payment-service", event,
+                new RecordHeaders(), Optional.empty());
+
+        // when
+        consumerService.consumePriorityLogEvents(List.of(record), acknowledgment);
+
+        // then
+        verify(errorMonitorService).monitorLog(event);
+        ArgumentCaptor<LogEntry> captor = ArgumentCaptor.forClass(LogEntry.class);
+        verify(patternDetector).processLog(captor.capture());
+        assertEquals("결제 승인 실패: timeout", captor.getValue().getContent());
+        assertFalse(captor.getValue().getCompressed());
+        verify(acknowledgment).acknowledge();
+
+        Timer timer = meterRegistry.find("logpulse.alert.ingest.latency").tag("lane", "priority").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 150);
+    }
+
+    @Test
+    @DisplayName("처리 실패와 역직렬화 실패 레코드가 있어도 배치 커밋")
+    void consume_ShouldAcknowledgeDespiteFailures() {
+        // given
+        LogEventDto event = LogEventDto.builder().source("api").content("WARN 로그").logLevel("WARN").build();
+        doThrow(new RuntimeException("pattern failure")).when(patternDetector).processLog(any());
+
+        // when
+        consumerService.consumePriorityLogEvents(List.of(
+                new ConsumerRecord<>("raw-logs-priority", 0, 0L, "api", null),
+                new ConsumerRecord<>("raw-logs-priority", 0, 1L, "api", event)), acknowledgment);
+
+        // then
+        verify(errorMonitorService, times(1)).monitorLog(event);
+        verify(acknowledgment).acknowledge();
+    }
+}
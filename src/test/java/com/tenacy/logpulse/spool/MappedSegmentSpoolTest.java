@@ -0,0 +1,125 @@
+package com.tenacy.logpulse.spool;
+
+import com.tenacy.logpulse.domain.ContentCodec;
+import com.tenacy.logpulse.domain.LogEntry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedSegmentSpoolTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("세그먼트를 넘겨 기록하고 확인한 위치까지 읽은 세그먼트는 삭제")
+    void appendAndAcknowledge_ShouldRollAndDeleteSegments() throws Exception {
+        // given - 세그먼트 1KB, 레코드 108바이트 (세그먼트당 9개)
+        MappedSegmentSpool spool = new MappedSegmentSpool(directory, 1024, 4);
+
+        // when
+        assertTrue(spool.appendAll(records(0, 20)));
+        MappedSegmentSpool.Batch first = spool.peek(15);
+        spool.acknowledge(first);
+
+        // then
+        assertEquals(15, first.getRecords().size());
+        assertEquals("record-0", text(first.getRecords().get(0)));
+        assertEquals("record-14", text(first.getRecords().get(14)));
+        assertEquals(5, spool.getPendingRecords());
+        assertEquals(2, spool.getSegmentCount(), "다 읽은 첫 세그먼트는 삭제되어야 함");
+        assertEquals(2, segmentFiles());
+        assertEquals("record-15", text(spool.peek(1).getRecords().get(0)));
+    }
+
+    @Test
+    @DisplayName("최대 세그먼트 수를 넘는 기록은 전부 거부")
+    void appendAll_ShouldRejectWhenFull() throws Exception {
+        // given
+        MappedSegmentSpool spool = new MappedSegmentSpool(directory, 1024, 2);
+        assertTrue(spool.appendAll(records(0, 15)));
+
+        // when
+        boolean accepted = spool.appendAll(records(15, 5));
+
+        // then
+        assertFalse(accepted);
+        assertEquals(15, spool.getPendingRecords(), "거부된 배치는 일부도 기록되지 않아야 함");
+        assertTrue(spool.appendAll(records(15, 3)));
+    }
+
+    @Test
+    @DisplayName("재시작하면 확인된 커서 이후의 레코드부터 다시 읽음")
+    void recover_ShouldResumeFromCursor() throws Exception {
+        // given
+        MappedSegmentSpool spool = new MappedSegmentSpool(directory, 1024, 4);
+        spool.appendAll(records(0, 12));
+        spool.acknowledge(spool.peek(5));
+        spool.peek(3); // 확인하지 않은 읽기
+        spool.close();
+
+        // when
+        MappedSegmentSpool recovered = new MappedSegmentSpool(directory, 1024, 4);
+        recovered.appendAll(records(12, 2));
+        MappedSegmentSpool.Batch batch = recovered.peek(100);
+
+        // then
+        assertEquals(9, recovered.getPendingRecords());
+        assertEquals(9, batch.getRecords().size());
+        assertEquals("record-5", text(batch.getRecords().get(0)));
+        assertEquals("record-13", text(batch.getRecords().get(8)));
+    }
+
+    @Test
+    @DisplayName("JDBC 스풀 레코드 - 압축 내용과 null 필드를 포함한 LogEntry 복원")
+    void logEntryCodec_ShouldRoundTrip() {
+        // given
+        LogEntry entry = LogEntry.builder()
+                .source("api-server")
+                .contentBlob(new byte[]{0x28, (byte) 0xb5, 0x2f, (byte) 0xfd})
+                .codec(ContentCodec.ZSTD_DICT.getId())
+                .dictionaryId(7L)
+                .logLevel("ERROR")
+                .createdAt(LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_456_789))
+                .compressed(true)
+                .originalSize(120)
+                .build();
+
+        // when
+        LogEntry decoded = LogEntrySpoolCodec.decode(LogEntrySpoolCodec.encode(entry));
+
+        // then
+        assertEquals(entry, decoded);
+        assertNull(decoded.getContent());
+        assertNull(decoded.getCompressedSize());
+    }
+
+    private List<byte[]> records(int from, int count) {
+        List<byte[]> records = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            String text = "record-" + i;
+            records.add((text + " ".repeat(100 - text.length())).getBytes(StandardCharsets.UTF_8));
+        }
+        return records;
+    }
+
+    private String text(byte[] record) {
+        return new String(record, StandardCharsets.UTF_8).trim();
+    }
+
+    private long segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.toString().endsWith(".seg")).count();
+        }
+    }
+}